@@ -62,6 +62,10 @@ public final class ColumnarRow implements InternalRow, DataSetters, Serializable
         this.rowId = rowId;
     }
 
+    public VectorizedColumnBatch batch() {
+        return vectorizedColumnBatch;
+    }
+
     @Override
     public RowKind getRowKind() {
         return rowKind;
@@ -19,6 +19,7 @@
 package org.apache.flink.table.store.data.columnar;
 
 import org.apache.flink.table.store.data.InternalRow;
+import org.apache.flink.table.store.reader.FileRecordIterator;
 import org.apache.flink.table.store.reader.RecordReader;
 import org.apache.flink.table.store.utils.RecyclableIterator;
 
@@ -28,31 +29,73 @@ import javax.annotation.Nullable;
  * A {@link RecordReader.RecordIterator} that returns {@link InternalRow}s. The next row is set by
  * {@link ColumnarRow#setRowId}.
  */
-public class ColumnarRowIterator extends RecyclableIterator<InternalRow> {
+public class ColumnarRowIterator extends RecyclableIterator<InternalRow>
+        implements FileRecordIterator<InternalRow> {
 
     private final ColumnarRow rowData;
 
     private int num;
     private int pos;
 
+    // position in the file of the first row of the batch
+    private long firstPosition;
+
+    // positions of the rows to return, null if all rows are returned
+    @Nullable private int[] selected;
+
     public ColumnarRowIterator(ColumnarRow rowData, @Nullable Runnable recycler) {
         super(recycler);
         this.rowData = rowData;
     }
 
-    public void set(int num) {
+    public void set(int num, long firstPosition) {
+        set(num, null, firstPosition);
+    }
+
+    /** Only returns the rows at the first {@code num} positions of {@code selected}. */
+    public void set(int num, @Nullable int[] selected, long firstPosition) {
         this.num = num;
         this.pos = 0;
+        this.selected = selected;
+        this.firstPosition = firstPosition;
+    }
+
+    /** Shifts the positions of the rows of the current batch in the file by the given offset. */
+    public ColumnarRowIterator shiftPositions(long offset) {
+        this.firstPosition += offset;
+        return this;
+    }
+
+    /** The batch of the rows, only the rows at the positions of {@link #selected} are returned. */
+    public VectorizedColumnBatch batch() {
+        return rowData.batch();
+    }
+
+    /** Number of rows returned from the batch. */
+    public int numRows() {
+        return num;
+    }
+
+    /** Positions of the returned rows in the batch, null if the first {@link #numRows} rows. */
+    @Nullable
+    public int[] selected() {
+        return selected;
     }
 
     @Nullable
     @Override
     public InternalRow next() {
         if (pos < num) {
-            rowData.setRowId(pos++);
+            rowData.setRowId(selected == null ? pos : selected[pos]);
+            pos++;
             return rowData;
         } else {
             return null;
         }
     }
+
+    @Override
+    public long returnedPosition() {
+        return firstPosition + (selected == null ? pos - 1 : selected[pos - 1]);
+    }
 }
@@ -18,6 +18,7 @@
 
 package org.apache.flink.table.store.file.predicate;
 
+import org.apache.flink.table.store.data.columnar.VectorizedColumnBatch;
 import org.apache.flink.table.store.format.FieldStats;
 
 import java.util.ArrayList;
@@ -43,6 +44,21 @@ public class And extends CompoundPredicate.Function {
         return true;
     }
 
+    @Override
+    public int test(
+            VectorizedColumnBatch batch,
+            int[] selected,
+            int numSelected,
+            List<Predicate> children) {
+        for (Predicate child : children) {
+            if (numSelected == 0) {
+                break;
+            }
+            numSelected = child.test(batch, selected, numSelected);
+        }
+        return numSelected;
+    }
+
     @Override
     public boolean test(long rowCount, FieldStats[] fieldStats, List<Predicate> children) {
         for (Predicate child : children) {
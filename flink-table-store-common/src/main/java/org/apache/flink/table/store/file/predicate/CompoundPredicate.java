@@ -18,6 +18,7 @@
 
 package org.apache.flink.table.store.file.predicate;
 
+import org.apache.flink.table.store.data.columnar.VectorizedColumnBatch;
 import org.apache.flink.table.store.format.FieldStats;
 
 import java.io.Serializable;
@@ -52,6 +53,11 @@ public class CompoundPredicate implements Predicate {
         return function.test(values, children);
     }
 
+    @Override
+    public int test(VectorizedColumnBatch batch, int[] selected, int numSelected) {
+        return function.test(batch, selected, numSelected, children);
+    }
+
     @Override
     public boolean test(long rowCount, FieldStats[] fieldStats) {
         return function.test(rowCount, fieldStats, children);
@@ -81,6 +87,12 @@ public class CompoundPredicate implements Predicate {
 
         public abstract boolean test(Object[] values, List<Predicate> children);
 
+        public abstract int test(
+                VectorizedColumnBatch batch,
+                int[] selected,
+                int numSelected,
+                List<Predicate> children);
+
         public abstract boolean test(
                 long rowCount, FieldStats[] fieldStats, List<Predicate> children);
 
@@ -26,16 +26,16 @@ import java.util.Optional;
 
 import static org.apache.flink.table.store.file.predicate.CompareUtils.compareLiteral;
 
-/** A {@link NullFalseLeafBinaryFunction} to eval equal. */
-public class Equal extends NullFalseLeafBinaryFunction {
+/** A {@link LeafCompareFunction} to eval equal. */
+public class Equal extends LeafCompareFunction {
 
     public static final Equal INSTANCE = new Equal();
 
     private Equal() {}
 
     @Override
-    public boolean test(DataType type, Object field, Object literal) {
-        return compareLiteral(type, literal, field) == 0;
+    public boolean testCompareResult(int literalComparedToField) {
+        return literalComparedToField == 0;
     }
 
     @Override
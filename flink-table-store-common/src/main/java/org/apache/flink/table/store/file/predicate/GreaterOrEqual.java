@@ -26,16 +26,16 @@ import java.util.Optional;
 
 import static org.apache.flink.table.store.file.predicate.CompareUtils.compareLiteral;
 
-/** A {@link NullFalseLeafBinaryFunction} to eval greater or equal. */
-public class GreaterOrEqual extends NullFalseLeafBinaryFunction {
+/** A {@link LeafCompareFunction} to eval greater or equal. */
+public class GreaterOrEqual extends LeafCompareFunction {
 
     public static final GreaterOrEqual INSTANCE = new GreaterOrEqual();
 
     private GreaterOrEqual() {}
 
     @Override
-    public boolean test(DataType type, Object field, Object literal) {
-        return compareLiteral(type, literal, field) <= 0;
+    public boolean testCompareResult(int literalComparedToField) {
+        return literalComparedToField <= 0;
     }
 
     @Override
@@ -27,15 +27,15 @@ import java.util.Optional;
 import static org.apache.flink.table.store.file.predicate.CompareUtils.compareLiteral;
 
 /** A {@link LeafFunction} to eval greater. */
-public class GreaterThan extends NullFalseLeafBinaryFunction {
+public class GreaterThan extends LeafCompareFunction {
 
     public static final GreaterThan INSTANCE = new GreaterThan();
 
     private GreaterThan() {}
 
     @Override
-    public boolean test(DataType type, Object field, Object literal) {
-        return compareLiteral(type, literal, field) < 0;
+    public boolean testCompareResult(int literalComparedToField) {
+        return literalComparedToField < 0;
     }
 
     @Override
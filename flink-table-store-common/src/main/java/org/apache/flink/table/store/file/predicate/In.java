@@ -18,10 +18,14 @@
 
 package org.apache.flink.table.store.file.predicate;
 
+import org.apache.flink.table.store.data.columnar.ColumnVector;
+import org.apache.flink.table.store.data.columnar.IntColumnVector;
+import org.apache.flink.table.store.data.columnar.LongColumnVector;
 import org.apache.flink.table.store.format.FieldStats;
 import org.apache.flink.table.store.types.DataType;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import static org.apache.flink.table.store.file.predicate.CompareUtils.compareLiteral;
@@ -48,6 +52,72 @@ public class In extends LeafFunction {
         return false;
     }
 
+    @Override
+    public int test(
+            DataType type,
+            ColumnVector vector,
+            int[] selected,
+            int numSelected,
+            List<Object> literals) {
+        switch (type.getTypeRoot()) {
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+                if (vector instanceof IntColumnVector) {
+                    return testInts((IntColumnVector) vector, selected, numSelected, literals);
+                }
+                break;
+            case BIGINT:
+                if (vector instanceof LongColumnVector) {
+                    return testLongs((LongColumnVector) vector, selected, numSelected, literals);
+                }
+                break;
+            default:
+        }
+        return super.test(type, vector, selected, numSelected, literals);
+    }
+
+    private int testInts(
+            IntColumnVector vector, int[] selected, int numSelected, List<Object> literals) {
+        int[] values = literals.stream().filter(Objects::nonNull).mapToInt(v -> (int) v).toArray();
+        int count = 0;
+        for (int i = 0; i < numSelected; i++) {
+            int pos = selected[i];
+            if (vector.isNullAt(pos)) {
+                continue;
+            }
+            int field = vector.getInt(pos);
+            for (int value : values) {
+                if (field == value) {
+                    selected[count++] = pos;
+                    break;
+                }
+            }
+        }
+        return count;
+    }
+
+    private int testLongs(
+            LongColumnVector vector, int[] selected, int numSelected, List<Object> literals) {
+        long[] values =
+                literals.stream().filter(Objects::nonNull).mapToLong(v -> (long) v).toArray();
+        int count = 0;
+        for (int i = 0; i < numSelected; i++) {
+            int pos = selected[i];
+            if (vector.isNullAt(pos)) {
+                continue;
+            }
+            long field = vector.getLong(pos);
+            for (long value : values) {
+                if (field == value) {
+                    selected[count++] = pos;
+                    break;
+                }
+            }
+        }
+        return count;
+    }
+
     @Override
     public boolean test(
             DataType type, long rowCount, FieldStats fieldStats, List<Object> literals) {
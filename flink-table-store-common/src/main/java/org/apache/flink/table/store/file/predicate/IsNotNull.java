@@ -18,6 +18,7 @@
 
 package org.apache.flink.table.store.file.predicate;
 
+import org.apache.flink.table.store.data.columnar.ColumnVector;
 import org.apache.flink.table.store.format.FieldStats;
 import org.apache.flink.table.store.types.DataType;
 
@@ -42,6 +43,23 @@ public class IsNotNull extends LeafUnaryFunction {
         return nullCount == null || nullCount < rowCount;
     }
 
+    @Override
+    public int test(
+            DataType type,
+            ColumnVector vector,
+            int[] selected,
+            int numSelected,
+            List<Object> literals) {
+        int count = 0;
+        for (int i = 0; i < numSelected; i++) {
+            int pos = selected[i];
+            if (!vector.isNullAt(pos)) {
+                selected[count++] = pos;
+            }
+        }
+        return count;
+    }
+
     @Override
     public Optional<LeafFunction> negate() {
         return Optional.of(IsNull.INSTANCE);
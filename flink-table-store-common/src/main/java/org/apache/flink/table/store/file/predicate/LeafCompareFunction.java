@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.predicate;
+
+import org.apache.flink.table.store.data.BinaryString;
+import org.apache.flink.table.store.data.columnar.ByteColumnVector;
+import org.apache.flink.table.store.data.columnar.BytesColumnVector;
+import org.apache.flink.table.store.data.columnar.ColumnVector;
+import org.apache.flink.table.store.data.columnar.DoubleColumnVector;
+import org.apache.flink.table.store.data.columnar.FloatColumnVector;
+import org.apache.flink.table.store.data.columnar.IntColumnVector;
+import org.apache.flink.table.store.data.columnar.LongColumnVector;
+import org.apache.flink.table.store.data.columnar.ShortColumnVector;
+import org.apache.flink.table.store.types.DataType;
+
+import java.util.List;
+
+import static org.apache.flink.table.store.file.predicate.CompareUtils.compareLiteral;
+
+/**
+ * A {@link NullFalseLeafBinaryFunction} whose result only depends on the result of comparing the
+ * literal to the field. Column vectors of primitive and string types are tested without boxing
+ * their values.
+ */
+public abstract class LeafCompareFunction extends NullFalseLeafBinaryFunction {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Test the result of comparing the literal to the field, negative if the literal is less than
+     * the field.
+     */
+    public abstract boolean testCompareResult(int literalComparedToField);
+
+    @Override
+    public boolean test(DataType type, Object field, Object literal) {
+        return testCompareResult(compareLiteral(type, literal, field));
+    }
+
+    @Override
+    public int test(
+            DataType type,
+            ColumnVector vector,
+            int[] selected,
+            int numSelected,
+            List<Object> literals) {
+        Object literal = literals.get(0);
+        if (literal == null) {
+            return 0;
+        }
+
+        switch (type.getTypeRoot()) {
+            case TINYINT:
+                if (vector instanceof ByteColumnVector) {
+                    return testBytes(
+                            (ByteColumnVector) vector, selected, numSelected, (Byte) literal);
+                }
+                break;
+            case SMALLINT:
+                if (vector instanceof ShortColumnVector) {
+                    return testShorts(
+                            (ShortColumnVector) vector, selected, numSelected, (Short) literal);
+                }
+                break;
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+                if (vector instanceof IntColumnVector) {
+                    return testInts(
+                            (IntColumnVector) vector, selected, numSelected, (Integer) literal);
+                }
+                break;
+            case BIGINT:
+                if (vector instanceof LongColumnVector) {
+                    return testLongs(
+                            (LongColumnVector) vector, selected, numSelected, (Long) literal);
+                }
+                break;
+            case FLOAT:
+                if (vector instanceof FloatColumnVector) {
+                    return testFloats(
+                            (FloatColumnVector) vector, selected, numSelected, (Float) literal);
+                }
+                break;
+            case DOUBLE:
+                if (vector instanceof DoubleColumnVector) {
+                    return testDoubles(
+                            (DoubleColumnVector) vector, selected, numSelected, (Double) literal);
+                }
+                break;
+            case CHAR:
+            case VARCHAR:
+                if (vector instanceof BytesColumnVector) {
+                    return testStrings(
+                            (BytesColumnVector) vector,
+                            selected,
+                            numSelected,
+                            (BinaryString) literal);
+                }
+                break;
+            default:
+        }
+        return super.test(type, vector, selected, numSelected, literals);
+    }
+
+    private int testBytes(ByteColumnVector vector, int[] selected, int numSelected, byte literal) {
+        int count = 0;
+        for (int i = 0; i < numSelected; i++) {
+            int pos = selected[i];
+            if (!vector.isNullAt(pos)
+                    && testCompareResult(Byte.compare(literal, vector.getByte(pos)))) {
+                selected[count++] = pos;
+            }
+        }
+        return count;
+    }
+
+    private int testShorts(
+            ShortColumnVector vector, int[] selected, int numSelected, short literal) {
+        int count = 0;
+        for (int i = 0; i < numSelected; i++) {
+            int pos = selected[i];
+            if (!vector.isNullAt(pos)
+                    && testCompareResult(Short.compare(literal, vector.getShort(pos)))) {
+                selected[count++] = pos;
+            }
+        }
+        return count;
+    }
+
+    private int testInts(IntColumnVector vector, int[] selected, int numSelected, int literal) {
+        int count = 0;
+        for (int i = 0; i < numSelected; i++) {
+            int pos = selected[i];
+            if (!vector.isNullAt(pos)
+                    && testCompareResult(Integer.compare(literal, vector.getInt(pos)))) {
+                selected[count++] = pos;
+            }
+        }
+        return count;
+    }
+
+    private int testLongs(LongColumnVector vector, int[] selected, int numSelected, long literal) {
+        int count = 0;
+        for (int i = 0; i < numSelected; i++) {
+            int pos = selected[i];
+            if (!vector.isNullAt(pos)
+                    && testCompareResult(Long.compare(literal, vector.getLong(pos)))) {
+                selected[count++] = pos;
+            }
+        }
+        return count;
+    }
+
+    private int testFloats(
+            FloatColumnVector vector, int[] selected, int numSelected, float literal) {
+        int count = 0;
+        for (int i = 0; i < numSelected; i++) {
+            int pos = selected[i];
+            if (!vector.isNullAt(pos)
+                    && testCompareResult(Float.compare(literal, vector.getFloat(pos)))) {
+                selected[count++] = pos;
+            }
+        }
+        return count;
+    }
+
+    private int testDoubles(
+            DoubleColumnVector vector, int[] selected, int numSelected, double literal) {
+        int count = 0;
+        for (int i = 0; i < numSelected; i++) {
+            int pos = selected[i];
+            if (!vector.isNullAt(pos)
+                    && testCompareResult(Double.compare(literal, vector.getDouble(pos)))) {
+                selected[count++] = pos;
+            }
+        }
+        return count;
+    }
+
+    private int testStrings(
+            BytesColumnVector vector, int[] selected, int numSelected, BinaryString literal) {
+        byte[] literalBytes = literal.toBytes();
+        int count = 0;
+        for (int i = 0; i < numSelected; i++) {
+            int pos = selected[i];
+            if (!vector.isNullAt(pos)
+                    && testCompareResult(compareBytes(literalBytes, vector.getBytes(pos)))) {
+                selected[count++] = pos;
+            }
+        }
+        return count;
+    }
+
+    /** Compares bytes as unsigned bytes like {@link BinaryString#compareTo}. */
+    static int compareBytes(byte[] literal, BytesColumnVector.Bytes field) {
+        int len = Math.min(literal.length, field.len);
+        for (int i = 0; i < len; i++) {
+            int res = (literal[i] & 0xFF) - (field.data[field.offset + i] & 0xFF);
+            if (res != 0) {
+                return res;
+            }
+        }
+        return literal.length - field.len;
+    }
+}
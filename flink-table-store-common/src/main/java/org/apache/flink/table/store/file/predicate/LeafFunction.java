@@ -18,6 +18,10 @@
 
 package org.apache.flink.table.store.file.predicate;
 
+import org.apache.flink.table.store.data.InternalRow;
+import org.apache.flink.table.store.data.columnar.ColumnVector;
+import org.apache.flink.table.store.data.columnar.ColumnarRow;
+import org.apache.flink.table.store.data.columnar.VectorizedColumnBatch;
 import org.apache.flink.table.store.format.FieldStats;
 import org.apache.flink.table.store.types.DataType;
 
@@ -33,6 +37,30 @@ public abstract class LeafFunction implements Serializable {
     public abstract boolean test(
             DataType type, long rowCount, FieldStats fieldStats, List<Object> literals);
 
+    /**
+     * Test the selected rows of a column vector, see {@link Predicate#test(VectorizedColumnBatch,
+     * int[], int)}. By default fields are read as objects and tested one by one, subclasses can
+     * override it to test primitive values of vectors directly.
+     */
+    public int test(
+            DataType type,
+            ColumnVector vector,
+            int[] selected,
+            int numSelected,
+            List<Object> literals) {
+        ColumnarRow row = new ColumnarRow(new VectorizedColumnBatch(new ColumnVector[] {vector}));
+        InternalRow.FieldGetter getter = InternalRow.createFieldGetter(type, 0);
+        int count = 0;
+        for (int i = 0; i < numSelected; i++) {
+            int pos = selected[i];
+            row.setRowId(pos);
+            if (test(type, getter.getFieldOrNull(row), literals)) {
+                selected[count++] = pos;
+            }
+        }
+        return count;
+    }
+
     public abstract Optional<LeafFunction> negate();
 
     @Override
@@ -18,6 +18,7 @@
 
 package org.apache.flink.table.store.file.predicate;
 
+import org.apache.flink.table.store.data.columnar.VectorizedColumnBatch;
 import org.apache.flink.table.store.data.serializer.InternalSerializers;
 import org.apache.flink.table.store.data.serializer.ListSerializer;
 import org.apache.flink.table.store.data.serializer.NullableSerializer;
@@ -87,6 +88,11 @@ public class LeafPredicate implements Predicate {
         return function.test(type, values[fieldIndex], literals);
     }
 
+    @Override
+    public int test(VectorizedColumnBatch batch, int[] selected, int numSelected) {
+        return function.test(type, batch.columns[fieldIndex], selected, numSelected, literals);
+    }
+
     @Override
     public boolean test(long rowCount, FieldStats[] fieldStats) {
         FieldStats stats = fieldStats[fieldIndex];
@@ -26,16 +26,16 @@ import java.util.Optional;
 
 import static org.apache.flink.table.store.file.predicate.CompareUtils.compareLiteral;
 
-/** A {@link NullFalseLeafBinaryFunction} to eval less or equal. */
-public class LessOrEqual extends NullFalseLeafBinaryFunction {
+/** A {@link LeafCompareFunction} to eval less or equal. */
+public class LessOrEqual extends LeafCompareFunction {
 
     public static final LessOrEqual INSTANCE = new LessOrEqual();
 
     private LessOrEqual() {}
 
     @Override
-    public boolean test(DataType type, Object field, Object literal) {
-        return compareLiteral(type, literal, field) >= 0;
+    public boolean testCompareResult(int literalComparedToField) {
+        return literalComparedToField >= 0;
     }
 
     @Override
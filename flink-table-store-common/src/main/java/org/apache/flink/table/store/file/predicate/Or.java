@@ -18,9 +18,11 @@
 
 package org.apache.flink.table.store.file.predicate;
 
+import org.apache.flink.table.store.data.columnar.VectorizedColumnBatch;
 import org.apache.flink.table.store.format.FieldStats;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,6 +45,47 @@ public class Or extends CompoundPredicate.Function {
         return false;
     }
 
+    @Override
+    public int test(
+            VectorizedColumnBatch batch,
+            int[] selected,
+            int numSelected,
+            List<Predicate> children) {
+        if (numSelected == 0) {
+            return 0;
+        }
+        boolean[] hit = new boolean[selected[numSelected - 1] + 1];
+        // each child only tests the rows not hit by previous children
+        int[] remaining = Arrays.copyOf(selected, numSelected);
+        int numRemaining = numSelected;
+        int[] candidates = new int[numSelected];
+        for (Predicate child : children) {
+            System.arraycopy(remaining, 0, candidates, 0, numRemaining);
+            int numHit = child.test(batch, candidates, numRemaining);
+            for (int i = 0; i < numHit; i++) {
+                hit[candidates[i]] = true;
+            }
+            int count = 0;
+            for (int i = 0; i < numRemaining; i++) {
+                if (!hit[remaining[i]]) {
+                    remaining[count++] = remaining[i];
+                }
+            }
+            numRemaining = count;
+            if (numRemaining == 0) {
+                break;
+            }
+        }
+
+        int count = 0;
+        for (int i = 0; i < numSelected; i++) {
+            if (hit[selected[i]]) {
+                selected[count++] = selected[i];
+            }
+        }
+        return count;
+    }
+
     @Override
     public boolean test(long rowCount, FieldStats[] fieldStats, List<Predicate> children) {
         for (Predicate child : children) {
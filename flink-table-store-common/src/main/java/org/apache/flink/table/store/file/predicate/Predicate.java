@@ -19,6 +19,9 @@
 package org.apache.flink.table.store.file.predicate;
 
 import org.apache.flink.table.store.annotation.Experimental;
+import org.apache.flink.table.store.data.InternalRow;
+import org.apache.flink.table.store.data.columnar.ColumnarRow;
+import org.apache.flink.table.store.data.columnar.VectorizedColumnBatch;
 import org.apache.flink.table.store.format.FieldStats;
 
 import java.io.Serializable;
@@ -40,6 +43,52 @@ public interface Predicate extends Serializable {
      */
     boolean test(Object[] values);
 
+    /**
+     * Test the rows of a batch whose positions are the first {@code numSelected} elements of {@code
+     * selected}, positions must be in ascending order. Positions of hit rows are kept in order at
+     * the beginning of {@code selected}.
+     *
+     * <p>By default the fields referenced by leaf predicates are read from a {@link ColumnarRow}
+     * and each row is tested by {@link #test(Object[])}.
+     *
+     * @return the number of hit rows.
+     */
+    default int test(VectorizedColumnBatch batch, int[] selected, int numSelected) {
+        InternalRow.FieldGetter[] getters = new InternalRow.FieldGetter[batch.getArity()];
+        visit(
+                new PredicateVisitor<Void>() {
+                    @Override
+                    public Void visit(LeafPredicate predicate) {
+                        getters[predicate.index()] =
+                                InternalRow.createFieldGetter(predicate.type(), predicate.index());
+                        return null;
+                    }
+
+                    @Override
+                    public Void visit(CompoundPredicate predicate) {
+                        predicate.children().forEach(child -> child.visit(this));
+                        return null;
+                    }
+                });
+
+        ColumnarRow row = new ColumnarRow(batch);
+        Object[] values = new Object[getters.length];
+        int count = 0;
+        for (int i = 0; i < numSelected; i++) {
+            int pos = selected[i];
+            row.setRowId(pos);
+            for (int j = 0; j < getters.length; j++) {
+                if (getters[j] != null) {
+                    values[j] = getters[j].getFieldOrNull(row);
+                }
+            }
+            if (test(values)) {
+                selected[count++] = pos;
+            }
+        }
+        return count;
+    }
+
     /**
      * Test based on the statistical information to determine whether a hit is possible.
      *
@@ -19,6 +19,8 @@
 package org.apache.flink.table.store.file.predicate;
 
 import org.apache.flink.table.store.data.BinaryString;
+import org.apache.flink.table.store.data.columnar.BytesColumnVector;
+import org.apache.flink.table.store.data.columnar.ColumnVector;
 import org.apache.flink.table.store.format.FieldStats;
 import org.apache.flink.table.store.types.DataType;
 
@@ -51,6 +53,45 @@ public class StartsWith extends NullFalseLeafBinaryFunction {
                 && (max.startsWith(pattern) || max.compareTo(pattern) >= 0);
     }
 
+    @Override
+    public int test(
+            DataType type,
+            ColumnVector vector,
+            int[] selected,
+            int numSelected,
+            List<Object> literals) {
+        Object patternLiteral = literals.get(0);
+        if (patternLiteral == null) {
+            return 0;
+        }
+        if (!(vector instanceof BytesColumnVector)) {
+            return super.test(type, vector, selected, numSelected, literals);
+        }
+
+        BytesColumnVector bytesVector = (BytesColumnVector) vector;
+        byte[] pattern = ((BinaryString) patternLiteral).toBytes();
+        int count = 0;
+        for (int i = 0; i < numSelected; i++) {
+            int pos = selected[i];
+            if (!bytesVector.isNullAt(pos) && startsWith(bytesVector.getBytes(pos), pattern)) {
+                selected[count++] = pos;
+            }
+        }
+        return count;
+    }
+
+    private static boolean startsWith(BytesColumnVector.Bytes field, byte[] pattern) {
+        if (field.len < pattern.length) {
+            return false;
+        }
+        for (int i = 0; i < pattern.length; i++) {
+            if (field.data[field.offset + i] != pattern[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public Optional<LeafFunction> negate() {
         return Optional.empty();
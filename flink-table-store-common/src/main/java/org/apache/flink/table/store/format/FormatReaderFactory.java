@@ -21,6 +21,7 @@ package org.apache.flink.table.store.format;
 import org.apache.flink.table.store.data.InternalRow;
 import org.apache.flink.table.store.fs.FileIO;
 import org.apache.flink.table.store.fs.Path;
+import org.apache.flink.table.store.reader.FileRecordIterator;
 import org.apache.flink.table.store.reader.RecordReader;
 
 import java.io.IOException;
@@ -30,4 +31,17 @@ import java.io.Serializable;
 public interface FormatReaderFactory extends Serializable {
 
     RecordReader<InternalRow> createReader(FileIO fileIO, Path file) throws IOException;
+
+    /**
+     * Creates a reader which starts from the row at the given position of the file. Only formats
+     * whose readers return {@link FileRecordIterator}s support positions greater than 0.
+     */
+    default RecordReader<InternalRow> createReader(FileIO fileIO, Path file, long startPosition)
+            throws IOException {
+        if (startPosition == 0) {
+            return createReader(fileIO, file);
+        }
+        throw new UnsupportedOperationException(
+                getClass().getName() + " does not support reading from a position.");
+    }
 }
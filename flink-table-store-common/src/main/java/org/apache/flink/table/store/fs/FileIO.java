@@ -33,8 +33,11 @@ import java.io.OutputStreamWriter;
 import java.io.Serializable;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.UUID;
@@ -132,18 +135,44 @@ public interface FileIO extends Serializable {
     //                            utils
     // -------------------------------------------------------------------------
 
-    default void deleteQuietly(Path file) {
+    /**
+     * Deletes the given file quietly.
+     *
+     * @return <code>true</code> if the file was deleted by this call, <code>false</code> if it
+     *     failed to delete or did not exist
+     */
+    default boolean deleteQuietly(Path file) {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Ready to delete " + file.toString());
         }
 
         try {
-            if (!delete(file, false) && exists(file)) {
+            if (delete(file, false)) {
+                return true;
+            }
+            if (exists(file)) {
                 LOG.warn("Failed to delete file " + file);
             }
         } catch (IOException e) {
             LOG.warn("Exception occurs when deleting file " + file, e);
         }
+        return false;
+    }
+
+    /**
+     * Deletes the given files quietly. File systems supporting multi-object delete can override it
+     * to delete the files with fewer requests.
+     *
+     * @return the files deleted by this call
+     */
+    default List<Path> deleteFilesQuietly(Collection<Path> files) {
+        List<Path> deleted = new ArrayList<>(files.size());
+        for (Path file : files) {
+            if (deleteQuietly(file)) {
+                deleted.add(file);
+            }
+        }
+        return deleted;
     }
 
     default void deleteDirectoryQuietly(Path directory) {
@@ -18,6 +18,11 @@
 
 package org.apache.flink.table.store.lookup;
 
+import org.apache.flink.table.store.memory.MemorySegment;
+import org.apache.flink.table.store.memory.MemorySlice;
+
+import javax.annotation.Nullable;
+
 import java.io.Closeable;
 import java.io.IOException;
 
@@ -26,4 +31,20 @@ public interface LookupStoreReader extends Closeable {
 
     /** Lookup value by key. */
     byte[] lookup(byte[] key) throws IOException;
+
+    /**
+     * Lookup value by key bytes in {@link MemorySegment}. If found, {@code reuse} points to the
+     * value bytes and is returned, otherwise returns null. Implementations may point {@code reuse}
+     * to their own memory instead of copying, so the value should be consumed before the reader is
+     * closed.
+     */
+    @Nullable
+    default MemorySlice lookup(
+            MemorySegment keySegment, int keyOffset, int keyLength, MemorySlice reuse)
+            throws IOException {
+        byte[] key = new byte[keyLength];
+        keySegment.get(keyOffset, key, 0, keyLength);
+        byte[] value = lookup(key);
+        return value == null ? null : reuse.pointTo(MemorySegment.wrap(value), 0, value.length);
+    }
 }
@@ -21,6 +21,8 @@ package org.apache.flink.table.store.lookup.hash;
 import org.apache.flink.table.store.io.cache.CacheManager;
 import org.apache.flink.table.store.lookup.LookupStoreFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.File;
 import java.io.IOException;
 
@@ -29,19 +31,37 @@ public class HashLookupStoreFactory implements LookupStoreFactory {
 
     private final CacheManager cacheManager;
     private final double loadFactor;
+    private final boolean mmap;
+    @Nullable private final Double bloomFilterFpp;
 
     public HashLookupStoreFactory(CacheManager cacheManager, double loadFactor) {
+        this(cacheManager, loadFactor, false, null);
+    }
+
+    /**
+     * Creates a factory, if {@code mmap} is true, readers memory map the files and lookup keys in
+     * place instead of reading pages through the {@link CacheManager}. If {@code bloomFilterFpp} is
+     * not null, writers store a bloom filter of keys with this false positive probability, so
+     * readers can reject absent keys without probing the index.
+     */
+    public HashLookupStoreFactory(
+            CacheManager cacheManager,
+            double loadFactor,
+            boolean mmap,
+            @Nullable Double bloomFilterFpp) {
         this.cacheManager = cacheManager;
         this.loadFactor = loadFactor;
+        this.mmap = mmap;
+        this.bloomFilterFpp = bloomFilterFpp;
     }
 
     @Override
     public HashLookupStoreWriter createWriter(File file) throws IOException {
-        return new HashLookupStoreWriter(loadFactor, file);
+        return new HashLookupStoreWriter(loadFactor, file, bloomFilterFpp);
     }
 
     @Override
     public HashLookupStoreReader createReader(File file) throws IOException {
-        return new HashLookupStoreReader(cacheManager, file);
+        return new HashLookupStoreReader(cacheManager, file, mmap);
     }
 }
@@ -25,18 +25,27 @@ package org.apache.flink.table.store.lookup.hash;
 import org.apache.flink.table.store.io.cache.CacheManager;
 import org.apache.flink.table.store.io.cache.CachedRandomInputView;
 import org.apache.flink.table.store.lookup.LookupStoreReader;
+import org.apache.flink.table.store.memory.MemorySegment;
+import org.apache.flink.table.store.memory.MemorySlice;
+import org.apache.flink.table.store.memory.MemoryUtils;
+import org.apache.flink.table.store.utils.BloomFilter;
 import org.apache.flink.table.store.utils.MurmurHashUtils;
 import org.apache.flink.table.store.utils.VarLengthIntUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
@@ -61,12 +70,17 @@ public class HashLookupStoreReader
     private final int[] indexOffsets;
     // Offset of the data for different key length
     private final long[] dataOffsets;
-    // File input view
-    private CachedRandomInputView inputView;
+    // Bloom filter of keys, null if the store is written without bloom filter
+    @Nullable private final BloomFilter bloomFilter;
+    // File input view, null if the file is memory mapped
+    @Nullable private CachedRandomInputView inputView;
+    // Memory mapped file, null if the file is read through the input view
+    @Nullable private MappedByteBuffer mappedBuffer;
+    @Nullable private MemorySegment mappedSegment;
     // Buffers
     private final byte[] slotBuffer;
 
-    HashLookupStoreReader(CacheManager cacheManager, File file) throws IOException {
+    HashLookupStoreReader(CacheManager cacheManager, File file, boolean mmap) throws IOException {
         // File path
         if (!file.exists()) {
             throw new FileNotFoundException("File " + file.getAbsolutePath() + " not found");
@@ -114,6 +128,18 @@ public class HashLookupStoreReader
 
             slotBuffer = new byte[maxSlotSize];
 
+            // Read bloom filter
+            int bloomFilterLength = dataInputStream.readInt();
+            if (bloomFilterLength > 0) {
+                int numHashFunctions = dataInputStream.readInt();
+                byte[] bloomFilterBytes = new byte[bloomFilterLength];
+                dataInputStream.readFully(bloomFilterBytes);
+                bloomFilter =
+                        new BloomFilter(MemorySegment.wrap(bloomFilterBytes), numHashFunctions);
+            } else {
+                bloomFilter = null;
+            }
+
             // Read index offset to resign indexOffsets
             indexOffset = dataInputStream.readInt();
             for (int i = 0; i < indexOffsets.length; i++) {
@@ -130,8 +156,18 @@ public class HashLookupStoreReader
             inputStream.close();
         }
 
-        // Create Mapped file in read-only mode
-        inputView = new CachedRandomInputView(file, cacheManager);
+        if (mmap && file.length() <= Integer.MAX_VALUE) {
+            // Map the whole file in read-only mode, probing and values are read in place
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+                mappedBuffer =
+                        randomAccessFile
+                                .getChannel()
+                                .map(FileChannel.MapMode.READ_ONLY, 0, file.length());
+                mappedSegment = MemorySegment.wrapOffHeapMemory(mappedBuffer);
+            }
+        } else {
+            inputView = new CachedRandomInputView(file, cacheManager);
+        }
 
         // logging
         DecimalFormat integerFormat = new DecimalFormat("#,##0.00");
@@ -158,11 +194,19 @@ public class HashLookupStoreReader
 
     @Override
     public byte[] lookup(byte[] key) throws IOException {
+        if (mappedSegment != null) {
+            MemorySlice value = lookup(MemorySegment.wrap(key), 0, key.length, new MemorySlice());
+            return value == null ? null : value.copyBytes();
+        }
+
         int keyLength = key.length;
         if (keyLength >= slots.length || keyCounts[keyLength] == 0) {
             return null;
         }
         int hash = MurmurHashUtils.hashBytesPositive(key);
+        if (bloomFilter != null && !bloomFilter.testHash(hash)) {
+            return null;
+        }
         int numSlots = slots[keyLength];
         int slotSize = slotSizes[keyLength];
         int indexOffset = indexOffsets[keyLength];
@@ -170,8 +214,7 @@ public class HashLookupStoreReader
 
         for (int probe = 0; probe < numSlots; probe++) {
             long slot = (hash + probe) % numSlots;
-            inputView.setReadPosition(indexOffset + slot * slotSize);
-            inputView.readFully(slotBuffer, 0, slotSize);
+            readSlot(indexOffset + slot * slotSize, slotBuffer, slotSize);
 
             long offset = VarLengthIntUtils.decodeLong(slotBuffer, keyLength);
             if (offset == 0) {
@@ -184,6 +227,77 @@ public class HashLookupStoreReader
         return null;
     }
 
+    @Nullable
+    @Override
+    public MemorySlice lookup(
+            MemorySegment keySegment, int keyOffset, int keyLength, MemorySlice reuse)
+            throws IOException {
+        MemorySegment segment = mappedSegment;
+        if (segment == null) {
+            return LookupStoreReader.super.lookup(keySegment, keyOffset, keyLength, reuse);
+        }
+
+        if (keyLength >= slots.length || keyCounts[keyLength] == 0) {
+            return null;
+        }
+        int hash = MurmurHashUtils.hashBytes(keySegment, keyOffset, keyLength) & 0x7fffffff;
+        if (bloomFilter != null && !bloomFilter.testHash(hash)) {
+            return null;
+        }
+        int numSlots = slots[keyLength];
+        int slotSize = slotSizes[keyLength];
+        int indexOffset = indexOffsets[keyLength];
+        long dataOffset = dataOffsets[keyLength];
+
+        for (int probe = 0; probe < numSlots; probe++) {
+            long slot = (hash + probe) % numSlots;
+            int slotOffset = (int) (indexOffset + slot * slotSize);
+
+            long offset = decodeLong(segment, slotOffset + keyLength);
+            if (offset == 0) {
+                return null;
+            }
+            if (segment.equalTo(keySegment, slotOffset, keyOffset, keyLength)) {
+                return pointToValue(segment, (int) (dataOffset + offset), reuse);
+            }
+        }
+        return null;
+    }
+
+    private static MemorySlice pointToValue(MemorySegment segment, int offset, MemorySlice reuse) {
+        // Decode var length size of data
+        int size = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = segment.get(offset++);
+            size |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+        }
+        return reuse.pointTo(segment, offset, size);
+    }
+
+    private static long decodeLong(MemorySegment segment, int index) {
+        long result = 0;
+        for (int offset = 0; offset < 64; offset += 7) {
+            long b = segment.get(index++);
+            result |= (b & 0x7F) << offset;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new Error("Malformed long.");
+    }
+
+    private void readSlot(long position, byte[] buffer, int length) throws IOException {
+        if (mappedSegment != null) {
+            mappedSegment.get((int) position, buffer, 0, length);
+        } else {
+            inputView.setReadPosition(position);
+            inputView.readFully(buffer, 0, length);
+        }
+    }
+
     private boolean isKey(byte[] slotBuffer, byte[] key) {
         for (int i = 0; i < key.length; i++) {
             if (slotBuffer[i] != key[i]) {
@@ -194,6 +308,10 @@ public class HashLookupStoreReader
     }
 
     private byte[] getValue(long offset) throws IOException {
+        if (mappedSegment != null) {
+            return pointToValue(mappedSegment, (int) offset, new MemorySlice()).copyBytes();
+        }
+
         inputView.setReadPosition(offset);
 
         // Get size of data
@@ -214,8 +332,17 @@ public class HashLookupStoreReader
 
     @Override
     public void close() throws IOException {
-        inputView.close();
-        inputView = null;
+        if (inputView != null) {
+            inputView.close();
+            inputView = null;
+        }
+        if (mappedBuffer != null) {
+            // unmap at once, otherwise the disk space of a deleted file is only freed when the
+            // buffer is garbage collected
+            mappedSegment = null;
+            MemoryUtils.freeDirectBuffer(mappedBuffer);
+            mappedBuffer = null;
+        }
     }
 
     @Override
@@ -265,11 +392,9 @@ public class HashLookupStoreReader
         @Override
         public FastEntry next() {
             try {
-                inputView.setReadPosition(currentIndexOffset);
-
                 long offset = 0;
                 while (offset == 0) {
-                    inputView.readFully(currentSlotBuffer);
+                    readSlot(currentIndexOffset, currentSlotBuffer, currentSlotBuffer.length);
                     offset = VarLengthIntUtils.decodeLong(currentSlotBuffer, currentKeyLength);
                     currentIndexOffset += currentSlotBuffer.length;
                 }
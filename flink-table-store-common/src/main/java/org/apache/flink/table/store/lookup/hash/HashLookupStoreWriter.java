@@ -23,12 +23,15 @@
 package org.apache.flink.table.store.lookup.hash;
 
 import org.apache.flink.table.store.lookup.LookupStoreWriter;
+import org.apache.flink.table.store.utils.BloomFilter;
 import org.apache.flink.table.store.utils.MurmurHashUtils;
 import org.apache.flink.table.store.utils.VarLengthIntUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.DataInputStream;
@@ -55,6 +58,8 @@ public class HashLookupStoreWriter implements LookupStoreWriter {
 
     // load factor of hash map, default 0.75
     private final double loadFactor;
+    // false positive probability of the bloom filter of keys, null if no bloom filter
+    @Nullable private final Double bloomFilterFpp;
     // Output
     private final File tempFolder;
     private final OutputStream outputStream;
@@ -80,9 +85,13 @@ public class HashLookupStoreWriter implements LookupStoreWriter {
     private int valueCount;
     // Number of collisions
     private int collisions;
+    // Bloom filter of keys, built with the index
+    @Nullable private BloomFilter bloomFilter;
 
-    HashLookupStoreWriter(double loadFactor, File file) throws IOException {
+    HashLookupStoreWriter(double loadFactor, File file, @Nullable Double bloomFilterFpp)
+            throws IOException {
         this.loadFactor = loadFactor;
+        this.bloomFilterFpp = bloomFilterFpp;
         if (loadFactor <= 0.0 || loadFactor >= 1.0) {
             throw new IllegalArgumentException(
                     "Illegal load factor = " + loadFactor + ", should be between 0.0 and 1.0.");
@@ -174,7 +183,17 @@ public class HashLookupStoreWriter implements LookupStoreWriter {
 
         try {
 
-            // Write metadata file
+            // Build index file, the bloom filter is filled by the hashes of the index
+            if (bloomFilterFpp != null) {
+                bloomFilter = BloomFilter.create(keyCount, bloomFilterFpp);
+            }
+            for (int i = 0; i < indexFiles.length; i++) {
+                if (indexFiles[i] != null) {
+                    filesToMerge.add(buildIndex(i));
+                }
+            }
+
+            // Write metadata file, it is the head of the store
             File metadataFile = new File(tempFolder, "metadata.dat");
             metadataFile.deleteOnExit();
             FileOutputStream metadataOututStream = new FileOutputStream(metadataFile);
@@ -182,14 +201,7 @@ public class HashLookupStoreWriter implements LookupStoreWriter {
             writeMetadata(metadataDataOutputStream);
             metadataDataOutputStream.close();
             metadataOututStream.close();
-            filesToMerge.add(metadataFile);
-
-            // Build index file
-            for (int i = 0; i < indexFiles.length; i++) {
-                if (indexFiles[i] != null) {
-                    filesToMerge.add(buildIndex(i));
-                }
-            }
+            filesToMerge.add(0, metadataFile);
 
             // Stats collisions
             LOG.info("Number of collisions: {}", collisions);
@@ -259,6 +271,16 @@ public class HashLookupStoreWriter implements LookupStoreWriter {
             }
         }
 
+        // Write the bloom filter, zero length means there is no bloom filter
+        if (bloomFilter == null) {
+            dataOutputStream.writeInt(0);
+        } else {
+            byte[] bloomFilterBytes = bloomFilter.segment().getArray();
+            dataOutputStream.writeInt(bloomFilterBytes.length);
+            dataOutputStream.writeInt(bloomFilter.numHashFunctions());
+            dataOutputStream.write(bloomFilterBytes);
+        }
+
         // Write the position of the index and the data
         int indexOffset =
                 dataOutputStream.size() + (Integer.SIZE / Byte.SIZE) + (Long.SIZE / Byte.SIZE);
@@ -300,6 +322,9 @@ public class HashLookupStoreWriter implements LookupStoreWriter {
 
                     // Hash
                     long hash = MurmurHashUtils.hashBytesPositive(keyBuffer);
+                    if (bloomFilter != null) {
+                        bloomFilter.addHash((int) hash);
+                    }
 
                     boolean collision = false;
                     for (int probe = 0; probe < count; probe++) {
@@ -57,15 +57,28 @@ public final class MemorySegment {
 
     private final int size;
 
+    // whether the memory is unsafe memory which must be freed by this segment
+    private final boolean unsafeMemory;
+
     private MemorySegment(
             @Nullable byte[] heapMemory,
             @Nullable ByteBuffer offHeapBuffer,
             long address,
             int size) {
+        this(heapMemory, offHeapBuffer, address, size, false);
+    }
+
+    private MemorySegment(
+            @Nullable byte[] heapMemory,
+            @Nullable ByteBuffer offHeapBuffer,
+            long address,
+            int size,
+            boolean unsafeMemory) {
         this.heapMemory = heapMemory;
         this.offHeapBuffer = offHeapBuffer;
         this.address = address;
         this.size = size;
+        this.unsafeMemory = unsafeMemory;
     }
 
     public static MemorySegment wrap(byte[] buffer) {
@@ -84,13 +97,28 @@ public final class MemorySegment {
         return wrapOffHeapMemory(ByteBuffer.allocateDirect(size));
     }
 
+    /**
+     * Allocates off-heap unsafe memory. Unlike {@link #allocateOffHeapMemory}, the memory is not
+     * released by the garbage collector, it must be released by {@link #free}.
+     */
+    public static MemorySegment allocateOffHeapUnsafeMemory(int size) {
+        long address = MemoryUtils.allocateUnsafe(size);
+        ByteBuffer buffer = MemoryUtils.wrapUnsafeMemoryWithByteBuffer(address, size);
+        return new MemorySegment(null, buffer, address, size, true);
+    }
+
     public int size() {
         return size;
     }
 
+    /**
+     * Frees this segment, it must not be used afterwards. Only the memory of {@link
+     * #allocateOffHeapUnsafeMemory} is released immediately, other memory is released by the
+     * garbage collector.
+     */
     public void free() {
-        if (this.heapMemory == null) {
-            UNSAFE.freeMemory(this.address);
+        if (unsafeMemory && address != 0) {
+            MemoryUtils.freeUnsafe(address);
         }
         this.heapMemory = null;
         this.offHeapBuffer = null;
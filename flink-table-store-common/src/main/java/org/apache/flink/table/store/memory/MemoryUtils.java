@@ -20,7 +20,10 @@ package org.apache.flink.table.store.memory;
 
 import org.apache.flink.table.store.utils.Preconditions;
 
+import javax.annotation.Nullable;
+
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -38,6 +41,15 @@ public class MemoryUtils {
     private static final long BUFFER_ADDRESS_FIELD_OFFSET =
             getClassFieldOffset(Buffer.class, "address");
 
+    private static final long BUFFER_CAPACITY_FIELD_OFFSET =
+            getClassFieldOffset(Buffer.class, "capacity");
+
+    private static final Class<?> DIRECT_BYTE_BUFFER_CLASS =
+            getClassByName("java.nio.DirectByteBuffer");
+
+    /** {@code Unsafe.invokeCleaner(ByteBuffer)} since Java 9, null before. */
+    @Nullable private static final Method INVOKE_CLEANER_METHOD = getInvokeCleanerMethod();
+
     @SuppressWarnings("restriction")
     private static sun.misc.Unsafe getUnsafe() {
         try {
@@ -85,6 +97,15 @@ public class MemoryUtils {
                 + "' for unsafe operations";
     }
 
+    @Nullable
+    private static Method getInvokeCleanerMethod() {
+        try {
+            return UNSAFE.getClass().getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
     private static Class<?> getClassByName(
             @SuppressWarnings("SameParameterValue") String className) {
         try {
@@ -123,6 +144,73 @@ public class MemoryUtils {
         return offHeapAddress;
     }
 
+    /**
+     * Allocates unsafe native memory, it is not released by the garbage collector and must be freed
+     * with {@link #freeUnsafe}.
+     *
+     * @param size size of the unsafe memory to allocate.
+     * @return address of the allocated unsafe memory
+     */
+    static long allocateUnsafe(long size) {
+        return UNSAFE.allocateMemory(Math.max(1L, size));
+    }
+
+    /** Frees unsafe native memory allocated by {@link #allocateUnsafe}. */
+    static void freeUnsafe(long address) {
+        UNSAFE.freeMemory(address);
+    }
+
+    /**
+     * Wraps the unsafe native memory with a {@link ByteBuffer}. The buffer has no cleaner, the
+     * memory is not freed when the buffer is garbage collected.
+     *
+     * @param address address of the unsafe memory to wrap
+     * @param size size of the unsafe memory to wrap
+     * @return a {@link ByteBuffer} which is a view of the given unsafe memory
+     */
+    static ByteBuffer wrapUnsafeMemoryWithByteBuffer(long address, int size) {
+        try {
+            ByteBuffer buffer = (ByteBuffer) UNSAFE.allocateInstance(DIRECT_BYTE_BUFFER_CLASS);
+            UNSAFE.putLong(buffer, BUFFER_ADDRESS_FIELD_OFFSET, address);
+            UNSAFE.putInt(buffer, BUFFER_CAPACITY_FIELD_OFFSET, size);
+            buffer.clear();
+            return buffer;
+        } catch (Throwable t) {
+            throw new Error("Failed to wrap unsafe off-heap memory with ByteBuffer", t);
+        }
+    }
+
+    /**
+     * Releases the memory of a direct or memory mapped {@link ByteBuffer} at once instead of when
+     * the buffer is garbage collected. A memory mapped file is unmapped, so the disk space of a
+     * deleted file is freed. The buffer and all memory segments wrapping it must not be accessed
+     * afterwards. If the memory can not be released explicitly, it is left to the garbage
+     * collector.
+     *
+     * @param buffer the direct or memory mapped buffer to release
+     */
+    public static void freeDirectBuffer(ByteBuffer buffer) {
+        if (!buffer.isDirect()) {
+            return;
+        }
+        try {
+            if (INVOKE_CLEANER_METHOD != null) {
+                INVOKE_CLEANER_METHOD.invoke(UNSAFE, buffer);
+            } else {
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    Method cleanMethod = cleaner.getClass().getMethod("clean");
+                    cleanMethod.setAccessible(true);
+                    cleanMethod.invoke(cleaner);
+                }
+            }
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            // released by the garbage collector
+        }
+    }
+
     /** Should not be instantiated. */
     private MemoryUtils() {}
 }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.utils;
+
+import org.apache.flink.table.store.memory.MemorySegment;
+import org.apache.flink.table.store.memory.MemorySegmentUtils;
+
+import static org.apache.flink.table.store.utils.Preconditions.checkArgument;
+
+/**
+ * Bloom filter based on one {@link MemorySegment}, the input is the hash code of the value, so the
+ * hashing of the value can be shared with other structures.
+ *
+ * <p>The bits of the filter are all bits of the segment. A hash code is set or tested with {@code
+ * k} bit positions computed by double hashing, {@code hash1 + i * hash2} for i in [1, k], like
+ * Guava's BloomFilter. {@code hash1} and {@code hash2} are the two halves of a 64-bit mix of the
+ * given hash code, so that they are independent of each other even if the given hash codes only
+ * differ in a few bits.
+ *
+ * <p>The filter has no false negatives, and its false positive probability is about the {@code fpp}
+ * passed to {@link #create} if no more than the expected number of entries are added.
+ */
+public class BloomFilter {
+
+    private final MemorySegment segment;
+    private final int numBits;
+    private final int numHashFunctions;
+
+    public BloomFilter(MemorySegment segment, int numHashFunctions) {
+        checkArgument(segment.size() > 0, "Bloom filter should have at least one byte.");
+        checkArgument(numHashFunctions > 0, "Number of hash functions should be positive.");
+        this.segment = segment;
+        this.numBits = segment.size() << 3;
+        this.numHashFunctions = numHashFunctions;
+    }
+
+    /** Creates an empty filter for the expected number of entries and false positive rate. */
+    public static BloomFilter create(long expectedEntries, double fpp) {
+        checkArgument(fpp > 0.0 && fpp < 1.0, "False positive probability should be in (0, 1).");
+        long entries = Math.max(expectedEntries, 1);
+        int numBytes = Math.max(1, (int) Math.ceil(optimalNumOfBits(entries, fpp) / 8D));
+        int numHashFunctions = optimalNumOfHashFunctions(entries, (long) numBytes << 3);
+        return new BloomFilter(MemorySegment.wrap(new byte[numBytes]), numHashFunctions);
+    }
+
+    /**
+     * Compute optimal bits number for given input entries and expected false positive probability.
+     */
+    public static int optimalNumOfBits(long inputEntries, double fpp) {
+        return (int) (-inputEntries * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+    }
+
+    /** Compute the optimal hash function number with given input entries and bits size. */
+    public static int optimalNumOfHashFunctions(long expectEntries, long bitSize) {
+        return Math.max(1, (int) Math.round((double) bitSize / expectEntries * Math.log(2)));
+    }
+
+    public void addHash(int hash) {
+        long hash64 = mix(hash);
+        int hash1 = (int) hash64;
+        int hash2 = (int) (hash64 >>> 32);
+        for (int i = 1; i <= numHashFunctions; i++) {
+            MemorySegmentUtils.bitSet(segment, 0, bitIndex(hash1 + i * hash2));
+        }
+    }
+
+    public boolean testHash(int hash) {
+        long hash64 = mix(hash);
+        int hash1 = (int) hash64;
+        int hash2 = (int) (hash64 >>> 32);
+        for (int i = 1; i <= numHashFunctions; i++) {
+            if (!MemorySegmentUtils.bitGet(segment, 0, bitIndex(hash1 + i * hash2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Spreads the hash code to 64 bits with the finalizer of SplitMix64. */
+    private static long mix(int hash) {
+        long z = hash + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private int bitIndex(int combinedHash) {
+        // hashcode should be positive, flip all the bits if it's negative
+        if (combinedHash < 0) {
+            combinedHash = ~combinedHash;
+        }
+        return combinedHash % numBits;
+    }
+
+    public MemorySegment segment() {
+        return segment;
+    }
+
+    public int numHashFunctions() {
+        return numHashFunctions;
+    }
+}
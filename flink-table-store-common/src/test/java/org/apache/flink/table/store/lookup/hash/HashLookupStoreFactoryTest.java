@@ -24,6 +24,8 @@ package org.apache.flink.table.store.lookup.hash;
 
 import org.apache.flink.table.store.io.DataOutputSerializer;
 import org.apache.flink.table.store.io.cache.CacheManager;
+import org.apache.flink.table.store.memory.MemorySegment;
+import org.apache.flink.table.store.memory.MemorySlice;
 import org.apache.flink.table.store.options.MemorySize;
 import org.apache.flink.table.store.utils.MathUtils;
 import org.apache.flink.table.store.utils.VarLengthIntUtils;
@@ -36,6 +38,7 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -47,6 +50,7 @@ import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /** Test for {@link HashLookupStoreFactory}. */
 public class HashLookupStoreFactoryTest {
@@ -286,6 +290,91 @@ public class HashLookupStoreFactoryTest {
         }
     }
 
+    @Test
+    public void testMemoryMapped() throws IOException {
+        String[] keys = generateStringKeys(100);
+        String[] values = generateStringData(keys.length, 12);
+
+        // Write
+        writeStore(file, keys, values);
+
+        // Read
+        factory =
+                new HashLookupStoreFactory(
+                        new CacheManager(1024, MemorySize.ofMebiBytes(1)), 0.75d, true, null);
+        HashLookupStoreReader reader = factory.createReader(file);
+        MemorySlice reuse = new MemorySlice();
+        for (int i = 0; i < keys.length; i++) {
+            byte[] key = toBytes(keys[i]);
+            assertThat(reader.lookup(key)).isEqualTo(toBytes(values[i]));
+
+            // lookup a key in the middle of a segment
+            MemorySegment segment = MemorySegment.allocateOffHeapMemory(key.length + 8);
+            segment.put(4, key);
+            MemorySlice value = reader.lookup(segment, 4, key.length, reuse);
+            assertThat(value).isSameAs(reuse);
+            assertThat(value.copyBytes()).isEqualTo(toBytes(values[i]));
+        }
+        assertThat(reader.lookup(toBytes("not-exist"))).isNull();
+        assertThat(reader.lookup(MemorySegment.wrap(toBytes("not-exist")), 0, 9, reuse)).isNull();
+
+        // Iterate
+        Set<String> valuesSet = new HashSet<>();
+        for (Map.Entry<byte[], byte[]> entry : reader) {
+            valuesSet.add(new String(entry.getValue(), StandardCharsets.UTF_8));
+        }
+        assertThat(valuesSet).containsExactlyInAnyOrder(values);
+        reader.close();
+    }
+
+    @Test
+    public void testMemoryMappedUnmappedOnClose() throws IOException {
+        File maps = new File("/proc/self/maps");
+        assumeTrue(maps.exists(), "Mapped files can only be listed on Linux.");
+
+        writeStore(file, new Object[] {1, 2}, new Object[] {"foo", "bar"});
+        factory =
+                new HashLookupStoreFactory(
+                        new CacheManager(1024, MemorySize.ofMebiBytes(1)), 0.75d, true, null);
+        HashLookupStoreReader reader = factory.createReader(file);
+        assertThat(reader.lookup(toBytes(1))).isEqualTo(toBytes("foo"));
+        assertThat(readMappedFiles(maps)).contains(file.getAbsolutePath());
+
+        // the disk space of a deleted file is freed at once
+        reader.close();
+        assertThat(readMappedFiles(maps)).doesNotContain(file.getAbsolutePath());
+    }
+
+    private static String readMappedFiles(File maps) throws IOException {
+        return new String(Files.readAllBytes(maps.toPath()), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testBloomFilter() throws IOException {
+        factory =
+                new HashLookupStoreFactory(
+                        new CacheManager(1024, MemorySize.ofMebiBytes(1)), 0.75d, false, 0.01);
+        Integer[] keys = generateIntKeys(1000);
+        String[] values = generateStringData(keys.length, 12);
+
+        // Write
+        writeStore(file, keys, values);
+
+        // Read
+        Set<Integer> keySet = new HashSet<>(Arrays.asList(keys));
+        HashLookupStoreReader reader = factory.createReader(file);
+        for (int i = 0; i < keys.length; i++) {
+            assertThat(reader.lookup(toBytes(keys[i]))).isEqualTo(toBytes(values[i]));
+        }
+        for (int i = 0; i < 1000; i++) {
+            int key = random.nextInt(0, Integer.MAX_VALUE);
+            if (!keySet.contains(key)) {
+                assertThat(reader.lookup(toBytes(key))).isNull();
+            }
+        }
+        reader.close();
+    }
+
     @Test
     public void testIterate() throws IOException {
         Integer[] keys = generateIntKeys(100);
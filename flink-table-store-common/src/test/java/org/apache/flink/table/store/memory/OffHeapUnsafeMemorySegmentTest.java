@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.memory;
+
+import org.apache.flink.table.store.testutils.junit.parameterized.ParameterizedTestExtension;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Tests for the {@link MemorySegment} in off-heap mode using unsafe memory. */
+@ExtendWith(ParameterizedTestExtension.class)
+public class OffHeapUnsafeMemorySegmentTest extends MemorySegmentTestBase {
+
+    public OffHeapUnsafeMemorySegmentTest(int pageSize) {
+        super(pageSize);
+    }
+
+    @Override
+    MemorySegment createSegment(int size) {
+        return MemorySegment.allocateOffHeapUnsafeMemory(size);
+    }
+
+    @TestTemplate
+    public void testUnsafeSegmentSpecifics() {
+        final int bufSize = 411;
+        MemorySegment seg = createSegment(bufSize);
+
+        assertTrue(seg.isOffHeap());
+        assertEquals(bufSize, seg.size());
+
+        seg.putLong(0, 42L);
+        ByteBuffer buf = seg.wrap(0, 8);
+        assertTrue(buf.isDirect());
+        assertEquals(42L, buf.order(ByteOrder.nativeOrder()).getLong());
+
+        seg.free();
+        // freeing twice must not free the memory again
+        seg.free();
+    }
+}
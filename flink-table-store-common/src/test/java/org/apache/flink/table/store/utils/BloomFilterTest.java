@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.utils;
+
+import org.apache.flink.table.store.memory.MemorySegment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link BloomFilter}. */
+public class BloomFilterTest {
+
+    @Test
+    public void testAddAndTest() {
+        BloomFilter filter = BloomFilter.create(10000, 0.01);
+        Random random = new Random(42);
+        Set<Integer> hashes = new HashSet<>();
+        for (int i = 0; i < 10000; i++) {
+            int hash = random.nextInt();
+            hashes.add(hash);
+            filter.addHash(hash);
+        }
+
+        for (int hash : hashes) {
+            assertThat(filter.testHash(hash)).isTrue();
+        }
+
+        int falsePositives = 0;
+        int tests = 0;
+        while (tests < 10000) {
+            int hash = random.nextInt();
+            if (!hashes.contains(hash)) {
+                tests++;
+                if (filter.testHash(hash)) {
+                    falsePositives++;
+                }
+            }
+        }
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    public void testSequentialHashes() {
+        // positive hash codes only differing in low bits, like the hash codes of similar keys
+        BloomFilter filter = BloomFilter.create(10000, 0.01);
+        for (int hash = 0; hash < 10000; hash++) {
+            filter.addHash(hash);
+        }
+        for (int hash = 0; hash < 10000; hash++) {
+            assertThat(filter.testHash(hash)).isTrue();
+        }
+
+        int falsePositives = 0;
+        for (int hash = 10000; hash < 20000; hash++) {
+            if (filter.testHash(hash)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    public void testRestore() {
+        BloomFilter filter = BloomFilter.create(100, 0.05);
+        filter.addHash(1);
+        filter.addHash(-100);
+
+        BloomFilter restored =
+                new BloomFilter(
+                        MemorySegment.wrap(filter.segment().getArray().clone()),
+                        filter.numHashFunctions());
+        assertThat(restored.testHash(1)).isTrue();
+        assertThat(restored.testHash(-100)).isTrue();
+    }
+
+    @Test
+    public void testEmpty() {
+        BloomFilter filter = BloomFilter.create(0, 0.05);
+        assertThat(filter.testHash(1)).isFalse();
+        filter.addHash(1);
+        assertThat(filter.testHash(1)).isTrue();
+    }
+}
@@ -99,6 +99,15 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Define the default false positive probability for bloom filters.");
 
+    public static final ConfigOption<Boolean> PARQUET_LATE_MATERIALIZATION_ENABLED =
+            key("parquet.read.late-materialization.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to evaluate pushed filters on their columns first when reading"
+                                    + " parquet files, and only decode the other columns of batches with"
+                                    + " selected rows. Only selected rows are returned.");
+
     public static final ConfigOption<Map<String, String>> FILE_COMPRESSION_PER_LEVEL =
             key("file.compression.per.level")
                     .mapType()
@@ -121,6 +130,24 @@ public class CoreOptions implements Serializable {
                     .defaultValue(MemorySize.ofMebiBytes(8))
                     .withDescription("Suggested file size of a manifest file.");
 
+    public static final ConfigOption<MemorySize> MANIFEST_CACHE_MAX_MEMORY_SIZE =
+            key("manifest.cache.max-memory-size")
+                    .memoryType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Max memory size of the cache of decoded manifest entries, which is shared "
+                                    + "by all tables in the same JVM with the same max memory size. "
+                                    + "Manifest entries are not cached if it is not set.");
+
+    public static final ConfigOption<Boolean> MANIFEST_PARTITION_INDEX_ENABLED =
+            key("manifest.partition-index.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to write a partition index with each snapshot, recording the distinct "
+                                    + "partitions of every data manifest file. Scans with a partition filter use it "
+                                    + "to skip manifest files that contain no matching partition.");
+
     public static final ConfigOption<Integer> MANIFEST_MERGE_MIN_COUNT =
             key("manifest.merge-min-count")
                     .intType()
@@ -129,6 +156,17 @@ public class CoreOptions implements Serializable {
                             "To avoid frequent manifest merges, this parameter specifies the minimum number "
                                     + "of ManifestFileMeta to merge.");
 
+    public static final ConfigOption<Boolean> MANIFEST_MERGE_ASYNC =
+            key("manifest.merge-async")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to merge manifest files asynchronously. If true, commits only"
+                                    + " append new manifest files, manifest files are merged by a"
+                                    + " background thread of the committer and the merged ones are"
+                                    + " used by the next commit. It is suitable for jobs committing"
+                                    + " continuously, like streaming jobs.");
+
     public static final ConfigOption<String> PARTITION_DEFAULT_NAME =
             key("partition.default-name")
                     .stringType()
@@ -155,6 +193,15 @@ public class CoreOptions implements Serializable {
                     .defaultValue(Duration.ofHours(1))
                     .withDescription("The maximum time of completed snapshots to retain.");
 
+    public static final ConfigOption<Integer> SNAPSHOT_EXPIRE_DELETE_THREADS =
+            key("snapshot.expire.delete-threads")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "Number of threads to delete the files of expired snapshots. Files"
+                                    + " are deleted in batches, so that file systems supporting"
+                                    + " multi-object delete can delete a batch with one request.");
+
     public static final ConfigOption<Duration> CONTINUOUS_DISCOVERY_INTERVAL =
             key("continuous.discovery-interval")
                     .durationType()
@@ -218,6 +265,36 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Whether the write buffer can be spillable. Enabled by default when using object storage.");
 
+    public static final ConfigOption<Boolean> WRITE_BUFFER_ASYNC_FLUSH =
+            key("write-buffer-async-flush")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to flush full write buffers of changelog mode table in a"
+                                    + " background thread. If enabled, the write buffer of each"
+                                    + " bucket is split into two halves, records are written into"
+                                    + " one half while the other half is being flushed.");
+
+    public static final ConfigOption<Boolean> WRITE_BUFFER_OFF_HEAP =
+            key("write-buffer-off-heap")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to allocate write buffer memory off-heap instead of from the"
+                                    + " JVM heap, so that the pages are not scanned by the garbage"
+                                    + " collector. The memory is freed when the writer is closed,"
+                                    + " it is not limited by the max direct memory of the JVM, so"
+                                    + " the off-heap memory of the task manager should be large"
+                                    + " enough to hold 'write-buffer-size'.");
+
+    public static final ConfigOption<WriteBufferPreemptPolicy> WRITE_BUFFER_PREEMPT_POLICY =
+            key("write-buffer-preempt-policy")
+                    .enumType(WriteBufferPreemptPolicy.class)
+                    .defaultValue(WriteBufferPreemptPolicy.LARGEST)
+                    .withDescription(
+                            "Specify which write buffer is flushed when a writer runs out of"
+                                    + " write buffer memory.");
+
     public static final ConfigOption<Integer> LOCAL_SORT_MAX_NUM_FILE_HANDLES =
             key("local-sort.max-num-file-handles")
                     .intType()
@@ -255,6 +332,15 @@ public class CoreOptions implements Serializable {
                             "The number of sorted runs that trigger the stopping of writes,"
                                     + " the default value is 'num-sorted-run.compaction-trigger' + 1.");
 
+    public static final ConfigOption<SortEngine> SORT_ENGINE =
+            key("sort-engine")
+                    .enumType(SortEngine.class)
+                    .defaultValue(SortEngine.WINNER_TREE)
+                    .withDescription(
+                            "Specify the sort engine for table with primary key. The default"
+                                    + " winner-tree compares normalized keys first and is faster"
+                                    + " than min-heap when merging a few sorted runs.");
+
     public static final ConfigOption<Integer> NUM_LEVELS =
             key("num-levels")
                     .intType()
@@ -313,6 +399,24 @@ public class CoreOptions implements Serializable {
                                     + "This value avoids merging too much sorted runs at the same time during compaction, "
                                     + "which may lead to OutOfMemoryError.");
 
+    public static final ConfigOption<Integer> COMPACTION_THREADS =
+            key("compaction.threads")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "Number of threads to compact the buckets of a writer. Buckets"
+                                    + " closer to 'num-sorted-run.stop-trigger' are compacted"
+                                    + " first.");
+
+    public static final ConfigOption<Boolean> COMPACTION_SHARED_EXECUTOR =
+            key("compaction.shared-executor")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether all writers in the same JVM (e.g. a task manager) share"
+                                    + " compaction thread pools. Writers with the same"
+                                    + " 'compaction.threads' share one pool.");
+
     public static final ConfigOption<ChangelogProducer> CHANGELOG_PRODUCER =
             key("changelog-producer")
                     .enumType(ChangelogProducer.class)
@@ -480,6 +584,28 @@ public class CoreOptions implements Serializable {
                                                     + " avoid the disorder reading for partitions, you can open this option.")
                                     .build());
 
+    public static final ConfigOption<Boolean> SCAN_BUCKET_PRESERVING =
+            key("scan.bucket-preserving")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            Description.builder()
+                                    .text(
+                                            "Whether all data of a bucket is read by the same task in batch reading.")
+                                    .linebreak()
+                                    .text(
+                                            "Flink assigns all splits of a bucket to the subtask bucket % parallelism,"
+                                                    + " and Spark reads each bucket in one input partition and reports the"
+                                                    + " data as clustered by the bucket keys. This allows joins and aggregations"
+                                                    + " by the bucket keys without a shuffle, but limits the read parallelism"
+                                                    + " to the bucket number.")
+                                    .linebreak()
+                                    .text(
+                                            "If some partitions were written with another bucket number, for example"
+                                                    + " after rescaling the table, the data is read as without this option."
+                                                    + " Spark 3.1 and Spark 3.3 ignore this option with a warning.")
+                                    .build());
+
     @Immutable
     public static final ConfigOption<String> PRIMARY_KEY =
             key("primary-key")
@@ -502,6 +628,36 @@ public class CoreOptions implements Serializable {
                     .defaultValue(0.75F)
                     .withDescription("The index load factor for lookup.");
 
+    public static final ConfigOption<Boolean> LOOKUP_HASH_MMAP_ENABLED =
+            key("lookup.hash-mmap.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to memory map the local lookup files. If enabled, keys are"
+                                    + " compared and values are read in place in the mapped files"
+                                    + " instead of being copied through the lookup cache, files"
+                                    + " larger than 2 GB are still read through the cache.");
+
+    public static final ConfigOption<Boolean> LOOKUP_BLOOM_FILTER_ENABLED =
+            key("lookup.bloom-filter.enabled")
+                    .booleanType()
+                    .defaultValue(true)
+                    .withDescription(
+                            "Whether to build bloom filters of keys for lookups. If the changelog"
+                                    + " producer is lookup, a bloom filter is written next to each"
+                                    + " data file and tested before the local lookup file of the"
+                                    + " data file is built, so absent keys do not need the lookup"
+                                    + " file. Local lookup files also store a bloom filter, which"
+                                    + " is used to skip probing the index for absent keys.");
+
+    public static final ConfigOption<Double> LOOKUP_BLOOM_FILTER_FPP =
+            key("lookup.bloom-filter.fpp")
+                    .doubleType()
+                    .defaultValue(0.05)
+                    .withDescription(
+                            "Expected false positive probability of the bloom filters of keys for"
+                                    + " lookups.");
+
     public static final ConfigOption<Duration> LOOKUP_CACHE_FILE_RETENTION =
             key("lookup.cache-file-retention")
                     .durationType()
@@ -524,6 +680,29 @@ public class CoreOptions implements Serializable {
                     .defaultValue(MemorySize.parse("256 mb"))
                     .withDescription("Max memory size for lookup cache.");
 
+    public static final ConfigOption<Integer> LOOKUP_CACHE_LOADER_THREADS =
+            key("lookup.cache-loader-threads")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "Number of threads to build local lookup files in advance. If it is"
+                                    + " positive, when a bucket is restored, the lookup files of"
+                                    + " its files above level 0 are built in parallel by a loader"
+                                    + " pool shared by the writer. If it is 0, lookup files are"
+                                    + " only built when they are first looked up.");
+
+    public static final ConfigOption<Boolean> LOOKUP_REMOTE_FILE_ENABLED =
+            key("lookup.remote-file.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to persist the lookup files of compacted files next to the"
+                                    + " data files. Persisted lookup files are fetched with one"
+                                    + " sequential read instead of being rebuilt from data files"
+                                    + " after restarts, at the cost of extra storage. Compactions"
+                                    + " wait for the lookup files of their results to be"
+                                    + " uploaded.");
+
     private final Options options;
 
     public CoreOptions(Map<String, String> options) {
@@ -570,6 +749,18 @@ public class CoreOptions implements Serializable {
         return options.get(MANIFEST_TARGET_FILE_SIZE);
     }
 
+    public boolean manifestMergeAsync() {
+        return options.get(MANIFEST_MERGE_ASYNC);
+    }
+
+    public MemorySize manifestCacheMaxMemorySize() {
+        return options.get(MANIFEST_CACHE_MAX_MEMORY_SIZE);
+    }
+
+    public boolean manifestPartitionIndexEnabled() {
+        return options.get(MANIFEST_PARTITION_INDEX_ENABLED);
+    }
+
     public String partitionDefaultName() {
         return options.get(PARTITION_DEFAULT_NAME);
     }
@@ -592,6 +783,10 @@ public class CoreOptions implements Serializable {
         return options.get(SNAPSHOT_TIME_RETAINED);
     }
 
+    public int snapshotExpireDeleteThreads() {
+        return options.get(SNAPSHOT_EXPIRE_DELETE_THREADS);
+    }
+
     public int manifestMergeMinCount() {
         return options.get(MANIFEST_MERGE_MIN_COUNT);
     }
@@ -684,10 +879,38 @@ public class CoreOptions implements Serializable {
         return options.get(CHANGELOG_PRODUCER);
     }
 
+    public SortEngine sortEngine() {
+        return options.get(SORT_ENGINE);
+    }
+
+    public boolean writeBufferOffHeap() {
+        return options.get(WRITE_BUFFER_OFF_HEAP);
+    }
+
+    public WriteBufferPreemptPolicy writeBufferPreemptPolicy() {
+        return options.get(WRITE_BUFFER_PREEMPT_POLICY);
+    }
+
+    public boolean writeBufferAsyncFlush() {
+        return options.get(WRITE_BUFFER_ASYNC_FLUSH);
+    }
+
+    public int compactionThreads() {
+        return options.get(COMPACTION_THREADS);
+    }
+
+    public boolean compactionSharedExecutor() {
+        return options.get(COMPACTION_SHARED_EXECUTOR);
+    }
+
     public boolean scanPlanSortPartition() {
         return options.get(SCAN_PLAN_SORT_PARTITION);
     }
 
+    public boolean scanBucketPreserving() {
+        return options.get(SCAN_BUCKET_PRESERVING);
+    }
+
     public StartupMode startupMode() {
         return startupMode(options);
     }
@@ -938,6 +1161,61 @@ public class CoreOptions implements Serializable {
         }
     }
 
+    /** Specifies the sort engine for table with primary key. */
+    public enum SortEngine implements DescribedEnum {
+        MIN_HEAP("min-heap", "Use min-heap for multiway sorting."),
+        WINNER_TREE(
+                "winner-tree",
+                "Use winner-tree for multiway sorting. Records of the same key are popped without extra key comparisons.");
+
+        private final String value;
+        private final String description;
+
+        SortEngine(String value, String description) {
+            this.value = value;
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+
+        @Override
+        public InlineElement getDescription() {
+            return text(description);
+        }
+    }
+
+    /** Specifies the policy to choose the write buffer to flush when memory is preempted. */
+    public enum WriteBufferPreemptPolicy implements DescribedEnum {
+        LARGEST("largest", "Flush the write buffer with the largest memory occupancy."),
+        LEAST_RECENTLY_ALLOCATED(
+                "least-recently-allocated",
+                "Flush the write buffer which allocated a memory page least recently. Buckets"
+                        + " receiving few records allocate pages rarely and are usually flushed"
+                        + " before hot ones, so hot buckets keep accumulating records and"
+                        + " produce fewer small files.");
+
+        private final String value;
+        private final String description;
+
+        WriteBufferPreemptPolicy(String value, String description) {
+            this.value = value;
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+
+        @Override
+        public InlineElement getDescription() {
+            return text(description);
+        }
+    }
+
     /**
      * Set the default values of the {@link CoreOptions} via the given {@link Options}.
      *
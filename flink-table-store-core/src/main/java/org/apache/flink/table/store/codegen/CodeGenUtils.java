@@ -39,10 +39,14 @@ public class CodeGenUtils {
                 .newInstance(CodeGenUtils.class.getClassLoader());
     }
 
+    public static GeneratedClass<NormalizedKeyComputer> generateNormalizedKeyComputer(
+            List<DataType> fieldTypes, String name) {
+        return CodeGenLoader.getCodeGenerator().generateNormalizedKeyComputer(fieldTypes, name);
+    }
+
     public static NormalizedKeyComputer newNormalizedKeyComputer(
             List<DataType> fieldTypes, String name) {
-        return CodeGenLoader.getCodeGenerator()
-                .generateNormalizedKeyComputer(fieldTypes, name)
+        return generateNormalizedKeyComputer(fieldTypes, name)
                 .newInstance(CodeGenUtils.class.getClassLoader());
     }
 
@@ -21,8 +21,10 @@ package org.apache.flink.table.store.file;
 import org.apache.flink.table.store.CoreOptions;
 import org.apache.flink.table.store.annotation.VisibleForTesting;
 import org.apache.flink.table.store.data.InternalRow;
+import org.apache.flink.table.store.file.manifest.ManifestEntryCache;
 import org.apache.flink.table.store.file.manifest.ManifestFile;
 import org.apache.flink.table.store.file.manifest.ManifestList;
+import org.apache.flink.table.store.file.manifest.PartitionIndexFile;
 import org.apache.flink.table.store.file.operation.FileStoreCommitImpl;
 import org.apache.flink.table.store.file.operation.FileStoreExpireImpl;
 import org.apache.flink.table.store.file.operation.PartitionExpire;
@@ -30,8 +32,11 @@ import org.apache.flink.table.store.file.schema.SchemaManager;
 import org.apache.flink.table.store.file.utils.FileStorePathFactory;
 import org.apache.flink.table.store.file.utils.SnapshotManager;
 import org.apache.flink.table.store.fs.FileIO;
+import org.apache.flink.table.store.options.MemorySize;
 import org.apache.flink.table.store.types.RowType;
 
+import javax.annotation.Nullable;
+
 import java.time.Duration;
 import java.util.Comparator;
 
@@ -47,6 +52,8 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
     protected final long schemaId;
     protected final CoreOptions options;
     protected final RowType partitionType;
+    // shared by all operations of this store, so that they share the cached snapshots
+    private final SnapshotManager snapshotManager;
 
     public AbstractFileStore(
             FileIO fileIO,
@@ -59,6 +66,7 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
         this.schemaId = schemaId;
         this.options = options;
         this.partitionType = partitionType;
+        this.snapshotManager = new SnapshotManager(fileIO, options.path());
     }
 
     public FileStorePathFactory pathFactory() {
@@ -71,7 +79,7 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
 
     @Override
     public SnapshotManager snapshotManager() {
-        return new SnapshotManager(fileIO, options.path());
+        return snapshotManager;
     }
 
     @VisibleForTesting
@@ -82,7 +90,14 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
                 partitionType,
                 options.manifestFormat(),
                 pathFactory(),
-                options.manifestTargetSize().getBytes());
+                options.manifestTargetSize().getBytes(),
+                manifestEntryCache());
+    }
+
+    @Nullable
+    private ManifestEntryCache manifestEntryCache() {
+        MemorySize maxMemorySize = options.manifestCacheMaxMemorySize();
+        return maxMemorySize == null ? null : ManifestEntryCache.getOrCreate(maxMemorySize);
     }
 
     @VisibleForTesting
@@ -91,6 +106,10 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
                 fileIO, partitionType, options.manifestFormat(), pathFactory());
     }
 
+    public PartitionIndexFile.Factory partitionIndexFileFactory() {
+        return new PartitionIndexFile.Factory(fileIO, options.manifestFormat(), pathFactory());
+    }
+
     @Override
     public RowType partitionType() {
         return partitionType;
@@ -112,10 +131,12 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
                 snapshotManager(),
                 manifestFileFactory(),
                 manifestListFactory(),
+                options.manifestPartitionIndexEnabled() ? partitionIndexFileFactory() : null,
                 newScan(),
                 options.bucket(),
                 options.manifestTargetSize(),
                 options.manifestMergeMinCount(),
+                options.manifestMergeAsync(),
                 newKeyComparator());
     }
 
@@ -126,6 +147,7 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
                 options.snapshotNumRetainMin(),
                 options.snapshotNumRetainMax(),
                 options.snapshotTimeRetain().toMillis(),
+                options.snapshotExpireDeleteThreads(),
                 pathFactory(),
                 snapshotManager(),
                 manifestFileFactory(),
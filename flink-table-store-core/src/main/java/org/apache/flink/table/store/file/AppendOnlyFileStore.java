@@ -89,6 +89,7 @@ public class AppendOnlyFileStore extends AbstractFileStore<InternalRow> {
                 schemaId,
                 manifestFileFactory(),
                 manifestListFactory(),
+                partitionIndexFileFactory(),
                 options.bucket(),
                 checkNumOfBuckets);
     }
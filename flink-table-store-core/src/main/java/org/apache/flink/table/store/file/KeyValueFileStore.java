@@ -83,7 +83,8 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
                 mfFactory,
                 FileFormatDiscover.of(options),
                 pathFactory(),
-                keyValueFieldsExtractor);
+                keyValueFieldsExtractor,
+                options.sortEngine());
     }
 
     @Override
@@ -115,6 +116,7 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
                 keyValueFieldsExtractor,
                 manifestFileFactory(),
                 manifestListFactory(),
+                partitionIndexFileFactory(),
                 options.bucket(),
                 checkNumOfBuckets);
     }
@@ -83,6 +83,7 @@ public class Snapshot {
     private static final String FIELD_DELTA_RECORD_COUNT = "deltaRecordCount";
     private static final String FIELD_CHANGELOG_RECORD_COUNT = "changelogRecordCount";
     private static final String FILED_WATERMARK = "watermark";
+    private static final String FIELD_PARTITION_INDEX = "partitionIndex";
 
     // version of snapshot
     // null for table store <= 0.2
@@ -159,6 +160,12 @@ public class Snapshot {
     @Nullable
     private final Long watermark;
 
+    // a partition index of all data manifests in this snapshot
+    // null if partition index is disabled, or for table store <= 0.3
+    @JsonProperty(FIELD_PARTITION_INDEX)
+    @Nullable
+    private final String partitionIndex;
+
     public Snapshot(
             long id,
             long schemaId,
@@ -173,7 +180,8 @@ public class Snapshot {
             @Nullable Long totalRecordCount,
             @Nullable Long deltaRecordCount,
             @Nullable Long changelogRecordCount,
-            @Nullable Long watermark) {
+            @Nullable Long watermark,
+            @Nullable String partitionIndex) {
         this(
                 CURRENT_VERSION,
                 id,
@@ -189,7 +197,8 @@ public class Snapshot {
                 totalRecordCount,
                 deltaRecordCount,
                 changelogRecordCount,
-                watermark);
+                watermark,
+                partitionIndex);
     }
 
     @JsonCreator
@@ -208,7 +217,8 @@ public class Snapshot {
             @JsonProperty(FIELD_TOTAL_RECORD_COUNT) Long totalRecordCount,
             @JsonProperty(FIELD_DELTA_RECORD_COUNT) Long deltaRecordCount,
             @JsonProperty(FIELD_CHANGELOG_RECORD_COUNT) Long changelogRecordCount,
-            @JsonProperty(FILED_WATERMARK) Long watermark) {
+            @JsonProperty(FILED_WATERMARK) Long watermark,
+            @JsonProperty(FIELD_PARTITION_INDEX) String partitionIndex) {
         this.version = version;
         this.id = id;
         this.schemaId = schemaId;
@@ -224,6 +234,7 @@ public class Snapshot {
         this.deltaRecordCount = deltaRecordCount;
         this.changelogRecordCount = changelogRecordCount;
         this.watermark = watermark;
+        this.partitionIndex = partitionIndex;
     }
 
     @JsonGetter(FIELD_VERSION)
@@ -307,6 +318,12 @@ public class Snapshot {
         return watermark;
     }
 
+    @JsonGetter(FIELD_PARTITION_INDEX)
+    @Nullable
+    public String partitionIndex() {
+        return partitionIndex;
+    }
+
     /**
      * Return all {@link ManifestFileMeta} instances for either data or changelog manifests in this
      * snapshot.
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.compact;
+
+import org.apache.flink.table.store.annotation.VisibleForTesting;
+import org.apache.flink.table.store.file.utils.ExecutorThreadFactory;
+import org.apache.flink.table.store.metrics.MetricGroup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Thread pool running {@link CompactTask}s of writers. Queued tasks with higher {@link
+ * CompactTask#priority()} run first, tasks with the same priority run in submission order. As each
+ * bucket has at most one compaction in flight, buckets are served fairly.
+ *
+ * <p>A pool can be owned by one writer, or shared by all writers of the JVM with the same number of
+ * threads (see {@link #acquireShared}) so that the buckets of all writers in a task manager compact
+ * concurrently with a bounded number of threads.
+ */
+public class CompactExecutor extends ThreadPoolExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CompactExecutor.class);
+
+    private static final Map<Integer, CompactExecutor> SHARED_INSTANCES = new HashMap<>();
+
+    private final boolean shared;
+    private int sharedReferences;
+    private final AtomicLong sequence = new AtomicLong();
+    private final ThreadLocal<Long> startNanos = new ThreadLocal<>();
+
+    // metrics
+    private final AtomicLong totalRunningNanos = new AtomicLong();
+    private final AtomicLong maxRunningNanos = new AtomicLong();
+
+    @VisibleForTesting
+    CompactExecutor(int threads, String threadName, boolean shared) {
+        super(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(),
+                new ExecutorThreadFactory(threadName));
+        this.shared = shared;
+    }
+
+    /** Creates a pool owned by a writer, it is shut down when the writer releases it. */
+    public static CompactExecutor create(int threads, String threadName) {
+        return new CompactExecutor(threads, threadName, false);
+    }
+
+    /**
+     * Returns the pool with {@code threads} threads shared in this JVM, it is shut down when all
+     * callers have released it. Callers asking for different numbers of threads get different
+     * pools.
+     */
+    public static synchronized CompactExecutor acquireShared(int threads) {
+        CompactExecutor executor =
+                SHARED_INSTANCES.computeIfAbsent(
+                        threads,
+                        t -> {
+                            LOG.info("Creating shared compaction executor with {} threads.", t);
+                            return new CompactExecutor(t, "shared-compaction-" + t, true);
+                        });
+        executor.sharedReferences++;
+        return executor;
+    }
+
+    /** Releases the pool, running and queued tasks are cancelled if nobody else is using it. */
+    public void release() {
+        if (!shared) {
+            shutdownNow();
+            return;
+        }
+        synchronized (CompactExecutor.class) {
+            if (--sharedReferences == 0) {
+                LOG.info(
+                        "Shutting down shared compaction executor with {} threads.",
+                        getCorePoolSize());
+                shutdownNow();
+                SHARED_INSTANCES.remove(getCorePoolSize());
+            }
+        }
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        int priority = callable instanceof CompactTask ? ((CompactTask) callable).priority() : 0;
+        return new PrioritizedTask<>(callable, priority, sequence.getAndIncrement());
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new PrioritizedTask<>(runnable, value, 0, sequence.getAndIncrement());
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        // the priority queue can only hold comparable tasks
+        super.execute(command instanceof PrioritizedTask ? command : newTaskFor(command, null));
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        super.beforeExecute(t, r);
+        startNanos.set(System.nanoTime());
+    }
+
+    @Override
+    protected void afterExecute(Runnable r, Throwable t) {
+        super.afterExecute(r, t);
+        long nanos = System.nanoTime() - startNanos.get();
+        totalRunningNanos.addAndGet(nanos);
+        maxRunningNanos.accumulateAndGet(nanos, Math::max);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(
+                    "Compaction task finished in {}ms, {} tasks are waiting in queue.",
+                    TimeUnit.NANOSECONDS.toMillis(nanos),
+                    queueDepth());
+        }
+    }
+
+    /** Number of submitted tasks waiting for a thread. */
+    public int queueDepth() {
+        return getQueue().size();
+    }
+
+    public long totalRunningTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalRunningNanos.get());
+    }
+
+    public long maxRunningTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxRunningNanos.get());
+    }
+
+    /**
+     * Registers the metrics of the given executor, it may be null when no compaction has been
+     * submitted yet.
+     */
+    public static void registerMetrics(
+            MetricGroup metricGroup, Supplier<CompactExecutor> executor) {
+        metricGroup.gauge(
+                "queueDepth", () -> getOrZero(executor.get(), e -> (long) e.queueDepth()));
+        metricGroup.gauge(
+                "totalRunningTimeMillis",
+                () -> getOrZero(executor.get(), CompactExecutor::totalRunningTimeMillis));
+        metricGroup.gauge(
+                "maxRunningTimeMillis",
+                () -> getOrZero(executor.get(), CompactExecutor::maxRunningTimeMillis));
+    }
+
+    private static long getOrZero(
+            @Nullable CompactExecutor executor, ToLongFunction<CompactExecutor> metric) {
+        return executor == null ? 0L : metric.applyAsLong(executor);
+    }
+
+    /** A {@link FutureTask} ordered by priority and then by submission order. */
+    private static class PrioritizedTask<T> extends FutureTask<T>
+            implements Comparable<PrioritizedTask<?>> {
+
+        private final int priority;
+        private final long sequence;
+
+        private PrioritizedTask(Callable<T> callable, int priority, long sequence) {
+            super(callable);
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        private PrioritizedTask(Runnable runnable, T value, int priority, long sequence) {
+            super(runnable, value);
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask<?> o) {
+            int result = Integer.compare(o.priority, priority);
+            return result != 0 ? result : Long.compare(sequence, o.sequence);
+        }
+    }
+}
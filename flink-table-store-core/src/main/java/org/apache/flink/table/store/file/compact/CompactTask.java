@@ -32,9 +32,23 @@ public abstract class CompactTask implements Callable<CompactResult> {
     private static final Logger LOG = LoggerFactory.getLogger(CompactTask.class);
 
     private final List<DataFileMeta> inputs;
+    private final int priority;
 
     public CompactTask(List<DataFileMeta> inputs) {
+        this(inputs, 0);
+    }
+
+    public CompactTask(List<DataFileMeta> inputs, int priority) {
         this.inputs = inputs;
+        this.priority = priority;
+    }
+
+    /**
+     * Priority of this task in {@link CompactExecutor}, queued tasks with higher priority run
+     * first.
+     */
+    public int priority() {
+        return priority;
     }
 
     @Override
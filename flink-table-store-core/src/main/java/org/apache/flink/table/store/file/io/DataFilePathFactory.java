@@ -34,6 +34,10 @@ public class DataFilePathFactory {
 
     public static final String CHANGELOG_FILE_PREFIX = "changelog-";
 
+    public static final String LOOKUP_FILE_PREFIX = "lookup-";
+
+    public static final String BLOOM_FILTER_FILE_PREFIX = "bloom-filter-";
+
     private final Path bucketDir;
     private final String uuid;
 
@@ -56,6 +60,17 @@ public class DataFilePathFactory {
         return newPath(CHANGELOG_FILE_PREFIX);
     }
 
+    public Path newLookupPath() {
+        return new Path(
+                bucketDir, LOOKUP_FILE_PREFIX + uuid + "-" + pathCount.getAndIncrement() + ".hash");
+    }
+
+    public Path newBloomFilterPath() {
+        return new Path(
+                bucketDir,
+                BLOOM_FILTER_FILE_PREFIX + uuid + "-" + pathCount.getAndIncrement() + ".bloom");
+    }
+
     private Path newPath(String prefix) {
         String name = prefix + uuid + "-" + pathCount.getAndIncrement() + "." + formatIdentifier;
         return new Path(bucketDir, name);
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.io;
+
+import org.apache.flink.table.store.data.BinaryRow;
+import org.apache.flink.table.store.fs.FileIO;
+import org.apache.flink.table.store.fs.Path;
+import org.apache.flink.table.store.memory.MemorySegment;
+import org.apache.flink.table.store.utils.BloomFilter;
+
+import javax.annotation.Nullable;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.apache.flink.table.store.file.io.DataFilePathFactory.BLOOM_FILTER_FILE_PREFIX;
+
+/**
+ * A bloom filter of the keys of a data file, persisted as an extra file of the data file. Lookups
+ * test the filter before building the local lookup file of the data file, so absent keys do not
+ * need the lookup file.
+ *
+ * <p>The file starts with a version byte, followed by the number of hash functions, the number of
+ * bytes and the bytes of the filter. Keys are hashed by {@link BinaryRow#hashCode()}.
+ */
+public class KeyBloomFilterFile {
+
+    /** Version of bloom filter files, bump it if the format or the hashing of keys changes. */
+    public static final byte VERSION = 1;
+
+    public static int hash(BinaryRow key) {
+        return key.hashCode();
+    }
+
+    /** Returns the name of the bloom filter file of the data file, null if there is none. */
+    @Nullable
+    public static String bloomFilterFile(DataFileMeta file) {
+        for (String extraFile : file.extraFiles()) {
+            if (extraFile.startsWith(BLOOM_FILTER_FILE_PREFIX)) {
+                return extraFile;
+            }
+        }
+        return null;
+    }
+
+    public static void write(FileIO fileIO, Path path, BloomFilter filter) throws IOException {
+        byte[] bytes = filter.segment().getArray();
+        try (DataOutputStream out = new DataOutputStream(fileIO.newOutputStream(path, false))) {
+            out.writeByte(VERSION);
+            out.writeInt(filter.numHashFunctions());
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    /** Reads a bloom filter file, throws {@link IOException} if it is not of {@link #VERSION}. */
+    public static BloomFilter read(FileIO fileIO, Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(fileIO.newInputStream(path))) {
+            int version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException(
+                        String.format(
+                                "Unsupported version %s of bloom filter file %s, expected %s.",
+                                version, path, VERSION));
+            }
+            int numHashFunctions = in.readInt();
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            return new BloomFilter(MemorySegment.wrap(bytes), numHashFunctions);
+        }
+    }
+
+    /**
+     * Collects the hashes of keys while a data file is written, the filter is sized by the number
+     * of keys when it is built.
+     */
+    public static class Builder {
+
+        private int[] hashes = new int[1024];
+        private int size = 0;
+
+        public void add(BinaryRow key) {
+            if (size == hashes.length) {
+                hashes = Arrays.copyOf(hashes, hashes.length * 2);
+            }
+            hashes[size++] = hash(key);
+        }
+
+        public BloomFilter build(double fpp) {
+            BloomFilter filter = BloomFilter.create(size, fpp);
+            for (int i = 0; i < size; i++) {
+                filter.addHash(hashes[i]);
+            }
+            return filter;
+        }
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.flink.table.store.file.io;
 
 import org.apache.flink.table.store.data.BinaryRow;
 import org.apache.flink.table.store.data.InternalRow;
+import org.apache.flink.table.store.data.Timestamp;
 import org.apache.flink.table.store.data.serializer.InternalRowSerializer;
 import org.apache.flink.table.store.file.KeyValue;
 import org.apache.flink.table.store.file.stats.BinaryTableStats;
@@ -38,6 +39,7 @@ import javax.annotation.Nullable;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.function.Function;
 
 /**
@@ -61,6 +63,11 @@ public class KeyValueDataFileWriter
     private final FieldStatsArraySerializer valueStatsConverter;
     private final InternalRowSerializer keySerializer;
 
+    // bloom filter of keys written as an extra file, null if there is no bloom filter
+    @Nullable private final Path bloomFilterPath;
+    private final double bloomFilterFpp;
+    @Nullable private final KeyBloomFilterFile.Builder bloomFilterBuilder;
+
     private BinaryRow minKey = null;
     private InternalRow maxKey = null;
     private long minSeqNumber = Long.MAX_VALUE;
@@ -77,6 +84,39 @@ public class KeyValueDataFileWriter
             long schemaId,
             int level,
             String compression) {
+        this(
+                fileIO,
+                factory,
+                path,
+                converter,
+                keyType,
+                valueType,
+                fileStatsExtractor,
+                schemaId,
+                level,
+                compression,
+                null,
+                0);
+    }
+
+    /**
+     * Creates a writer, if {@code bloomFilterPath} is not null, a bloom filter of the keys with the
+     * false positive probability {@code bloomFilterFpp} is written to this path as an extra file of
+     * the data file.
+     */
+    public KeyValueDataFileWriter(
+            FileIO fileIO,
+            FormatWriterFactory factory,
+            Path path,
+            Function<KeyValue, InternalRow> converter,
+            RowType keyType,
+            RowType valueType,
+            @Nullable FileStatsExtractor fileStatsExtractor,
+            long schemaId,
+            int level,
+            String compression,
+            @Nullable Path bloomFilterPath,
+            double bloomFilterFpp) {
         super(
                 fileIO,
                 factory,
@@ -94,6 +134,10 @@ public class KeyValueDataFileWriter
         this.keyStatsConverter = new FieldStatsArraySerializer(keyType);
         this.valueStatsConverter = new FieldStatsArraySerializer(valueType);
         this.keySerializer = new InternalRowSerializer(keyType);
+
+        this.bloomFilterPath = bloomFilterPath;
+        this.bloomFilterFpp = bloomFilterFpp;
+        this.bloomFilterBuilder = bloomFilterPath == null ? null : new KeyBloomFilterFile.Builder();
     }
 
     @Override
@@ -106,6 +150,10 @@ public class KeyValueDataFileWriter
         updateMinSeqNumber(kv);
         updateMaxSeqNumber(kv);
 
+        if (bloomFilterBuilder != null) {
+            bloomFilterBuilder.add(keySerializer.toBinaryRow(kv.key()));
+        }
+
         if (LOG.isDebugEnabled()) {
             LOG.debug("Write key value " + kv.toString(keyType, valueType));
         }
@@ -129,6 +177,32 @@ public class KeyValueDataFileWriter
         maxSeqNumber = Math.max(maxSeqNumber, kv.sequenceNumber());
     }
 
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        super.close();
+        if (bloomFilterBuilder != null && recordCount() > 0) {
+            try {
+                KeyBloomFilterFile.write(
+                        fileIO, bloomFilterPath, bloomFilterBuilder.build(bloomFilterFpp));
+            } catch (IOException e) {
+                abort();
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void abort() {
+        super.abort();
+        if (bloomFilterPath != null) {
+            fileIO.deleteQuietly(bloomFilterPath);
+        }
+    }
+
     @Override
     @Nullable
     public DataFileMeta result() throws IOException {
@@ -157,6 +231,10 @@ public class KeyValueDataFileWriter
                 minSeqNumber,
                 maxSeqNumber,
                 schemaId,
-                level);
+                level,
+                bloomFilterPath == null
+                        ? Collections.emptyList()
+                        : Collections.singletonList(bloomFilterPath.getName()),
+                Timestamp.now());
     }
 }
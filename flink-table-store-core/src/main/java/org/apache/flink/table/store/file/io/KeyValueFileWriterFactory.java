@@ -46,6 +46,7 @@ public class KeyValueFileWriterFactory {
     private final DataFilePathFactory pathFactory;
     private final long suggestedFileSize;
     private final Map<Integer, String> levelCompressions;
+    @Nullable private final Double bloomFilterFpp;
 
     private KeyValueFileWriterFactory(
             FileIO fileIO,
@@ -56,7 +57,8 @@ public class KeyValueFileWriterFactory {
             @Nullable FileStatsExtractor fileStatsExtractor,
             DataFilePathFactory pathFactory,
             long suggestedFileSize,
-            Map<Integer, String> levelCompressions) {
+            Map<Integer, String> levelCompressions,
+            @Nullable Double bloomFilterFpp) {
         this.fileIO = fileIO;
         this.schemaId = schemaId;
         this.keyType = keyType;
@@ -66,6 +68,7 @@ public class KeyValueFileWriterFactory {
         this.pathFactory = pathFactory;
         this.suggestedFileSize = suggestedFileSize;
         this.levelCompressions = levelCompressions;
+        this.bloomFilterFpp = bloomFilterFpp;
     }
 
     public RowType keyType() {
@@ -83,7 +86,12 @@ public class KeyValueFileWriterFactory {
 
     public RollingFileWriter<KeyValue, DataFileMeta> createRollingMergeTreeFileWriter(int level) {
         return new RollingFileWriter<>(
-                () -> createDataFileWriter(pathFactory.newPath(), level, getCompression(level)),
+                () ->
+                        createDataFileWriter(
+                                pathFactory.newPath(),
+                                level,
+                                getCompression(level),
+                                bloomFilterFpp != null),
                 suggestedFileSize);
     }
 
@@ -95,11 +103,15 @@ public class KeyValueFileWriterFactory {
         return new RollingFileWriter<>(
                 () ->
                         createDataFileWriter(
-                                pathFactory.newChangelogPath(), level, getCompression(level)),
+                                pathFactory.newChangelogPath(),
+                                level,
+                                getCompression(level),
+                                false),
                 suggestedFileSize);
     }
 
-    private KeyValueDataFileWriter createDataFileWriter(Path path, int level, String compression) {
+    private KeyValueDataFileWriter createDataFileWriter(
+            Path path, int level, String compression, boolean bloomFilter) {
         KeyValueSerializer kvSerializer = new KeyValueSerializer(keyType, valueType);
         return new KeyValueDataFileWriter(
                 fileIO,
@@ -111,13 +123,21 @@ public class KeyValueFileWriterFactory {
                 fileStatsExtractor,
                 schemaId,
                 level,
-                compression);
+                compression,
+                bloomFilter ? pathFactory.newBloomFilterPath() : null,
+                bloomFilter ? bloomFilterFpp : 0);
     }
 
     public void deleteFile(String filename) {
         fileIO.deleteQuietly(pathFactory.toPath(filename));
     }
 
+    /** Deletes the data file and its extra files. */
+    public void deleteFile(DataFileMeta file) {
+        deleteFile(file.fileName());
+        file.extraFiles().forEach(this::deleteFile);
+    }
+
     public static Builder builder(
             FileIO fileIO,
             long schemaId,
@@ -141,6 +161,8 @@ public class KeyValueFileWriterFactory {
         private final FileStorePathFactory pathFactory;
         private final long suggestedFileSize;
 
+        @Nullable private Double bloomFilterFpp;
+
         private Builder(
                 FileIO fileIO,
                 long schemaId,
@@ -158,6 +180,15 @@ public class KeyValueFileWriterFactory {
             this.suggestedFileSize = suggestedFileSize;
         }
 
+        /**
+         * Writes a bloom filter of the keys with the given false positive probability next to each
+         * merge tree file, see {@link KeyBloomFilterFile}.
+         */
+        public Builder withBloomFilter(double fpp) {
+            this.bloomFilterFpp = fpp;
+            return this;
+        }
+
         public KeyValueFileWriterFactory build(
                 BinaryRow partition, int bucket, Map<Integer, String> levelCompressions) {
             RowType recordType = KeyValue.schema(keyType, valueType);
@@ -170,7 +201,8 @@ public class KeyValueFileWriterFactory {
                     fileFormat.createStatsExtractor(recordType).orElse(null),
                     pathFactory.createDataFilePathFactory(partition, bucket),
                     suggestedFileSize,
-                    levelCompressions);
+                    levelCompressions,
+                    bloomFilterFpp);
         }
     }
 }
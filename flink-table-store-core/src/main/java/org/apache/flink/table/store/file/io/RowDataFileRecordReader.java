@@ -19,23 +19,30 @@
 package org.apache.flink.table.store.file.io;
 
 import org.apache.flink.table.store.data.InternalRow;
+import org.apache.flink.table.store.data.columnar.ColumnarRowIterator;
 import org.apache.flink.table.store.file.casting.CastFieldGetter;
 import org.apache.flink.table.store.file.utils.FileUtils;
 import org.apache.flink.table.store.format.FormatReaderFactory;
 import org.apache.flink.table.store.fs.FileIO;
 import org.apache.flink.table.store.fs.Path;
+import org.apache.flink.table.store.reader.FileRecordIterator;
 import org.apache.flink.table.store.reader.RecordReader;
 
 import javax.annotation.Nullable;
 
 import java.io.IOException;
 
-/** Reads {@link InternalRow} from data files. */
+/**
+ * Reads {@link InternalRow} from data files. If the format reader knows the positions of records,
+ * the returned iterators are {@link FileRecordIterator}s, whose positions are shifted by {@code
+ * positionOffset}.
+ */
 public class RowDataFileRecordReader implements RecordReader<InternalRow> {
 
     private final RecordReader<InternalRow> reader;
     @Nullable private final int[] indexMapping;
     @Nullable private final CastFieldGetter[] castMapping;
+    private final long positionOffset;
 
     public RowDataFileRecordReader(
             FileIO fileIO,
@@ -44,17 +51,44 @@ public class RowDataFileRecordReader implements RecordReader<InternalRow> {
             @Nullable int[] indexMapping,
             @Nullable CastFieldGetter[] castMapping)
             throws IOException {
-        this.reader = FileUtils.createFormatReader(fileIO, readerFactory, path);
+        this(fileIO, path, readerFactory, indexMapping, castMapping, 0, 0);
+    }
+
+    public RowDataFileRecordReader(
+            FileIO fileIO,
+            Path path,
+            FormatReaderFactory readerFactory,
+            @Nullable int[] indexMapping,
+            @Nullable CastFieldGetter[] castMapping,
+            long positionOffset,
+            long startPosition)
+            throws IOException {
+        this.reader = FileUtils.createFormatReader(fileIO, readerFactory, path, startPosition);
         this.indexMapping = indexMapping;
         this.castMapping = castMapping;
+        this.positionOffset = positionOffset;
     }
 
     @Nullable
     @Override
     public RecordReader.RecordIterator<InternalRow> readBatch() throws IOException {
         RecordIterator<InternalRow> iterator = reader.readBatch();
-        return iterator == null
-                ? null
+        if (iterator == null) {
+            return null;
+        }
+        if (iterator instanceof ColumnarRowIterator
+                && indexMapping == null
+                && castMapping == null) {
+            // nothing to map, returns the iterator of the format reader so that its columns can
+            // be read directly
+            return ((ColumnarRowIterator) iterator).shiftPositions(positionOffset);
+        }
+        return iterator instanceof FileRecordIterator
+                ? new PositionedRowDataFileRecordIterator(
+                        (FileRecordIterator<InternalRow>) iterator,
+                        indexMapping,
+                        castMapping,
+                        positionOffset)
                 : new RowDataFileRecordIterator(iterator, indexMapping, castMapping);
     }
 
@@ -87,4 +121,26 @@ public class RowDataFileRecordReader implements RecordReader<InternalRow> {
             iterator.releaseBatch();
         }
     }
+
+    private static class PositionedRowDataFileRecordIterator extends RowDataFileRecordIterator
+            implements FileRecordIterator<InternalRow> {
+
+        private final FileRecordIterator<InternalRow> iterator;
+        private final long positionOffset;
+
+        private PositionedRowDataFileRecordIterator(
+                FileRecordIterator<InternalRow> iterator,
+                @Nullable int[] indexMapping,
+                @Nullable CastFieldGetter[] castMapping,
+                long positionOffset) {
+            super(iterator, indexMapping, castMapping);
+            this.iterator = iterator;
+            this.positionOffset = positionOffset;
+        }
+
+        @Override
+        public long returnedPosition() {
+            return positionOffset + iterator.returnedPosition();
+        }
+    }
 }
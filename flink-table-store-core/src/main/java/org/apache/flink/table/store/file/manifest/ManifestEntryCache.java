@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.manifest;
+
+import org.apache.flink.table.store.annotation.VisibleForTesting;
+import org.apache.flink.table.store.file.io.DataFileMeta;
+import org.apache.flink.table.store.fs.Path;
+import org.apache.flink.table.store.metrics.MetricGroup;
+import org.apache.flink.table.store.options.MemorySize;
+
+import org.apache.flink.shaded.guava30.com.google.common.cache.Cache;
+import org.apache.flink.shaded.guava30.com.google.common.cache.CacheBuilder;
+import org.apache.flink.shaded.guava30.com.google.common.util.concurrent.UncheckedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Cache of decoded {@link ManifestEntry}s, keyed by the path of the manifest file. Manifest files
+ * are immutable and consecutive snapshots share most of them, so the entries can be reused by all
+ * scans and commits of the same JVM.
+ */
+public class ManifestEntryCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ManifestEntryCache.class);
+
+    /** Estimated bytes of the objects of an entry, excluding its binary rows. */
+    private static final int ENTRY_OVERHEAD = 512;
+
+    private static final Map<MemorySize, ManifestEntryCache> INSTANCES = new HashMap<>();
+
+    private final Cache<Path, List<ManifestEntry>> cache;
+
+    @VisibleForTesting
+    ManifestEntryCache(MemorySize maxMemorySize) {
+        this.cache =
+                CacheBuilder.newBuilder()
+                        .weigher(ManifestEntryCache::weigh)
+                        .maximumWeight(maxMemorySize.getBytes())
+                        .recordStats()
+                        .build();
+    }
+
+    /**
+     * Returns the cache with the given max memory size shared in this JVM. Tables configured with
+     * different memory sizes use different caches, so a table always gets the size it asks for.
+     */
+    public static synchronized ManifestEntryCache getOrCreate(MemorySize maxMemorySize) {
+        return INSTANCES.computeIfAbsent(
+                maxMemorySize,
+                size -> {
+                    LOG.info("Creating manifest entry cache with max memory size {}.", size);
+                    return new ManifestEntryCache(size);
+                });
+    }
+
+    /** Returns the cached entries of the manifest file, or reads and caches them if absent. */
+    public List<ManifestEntry> get(Path path, Supplier<List<ManifestEntry>> reader) {
+        try {
+            return cache.get(path, () -> Collections.unmodifiableList(reader.get()));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    public void invalidate(Path path) {
+        cache.invalidate(path);
+    }
+
+    public long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long missCount() {
+        return cache.stats().missCount();
+    }
+
+    public long evictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    /** Registers hit, miss and eviction counts and the number of cached manifest files. */
+    public void registerMetrics(MetricGroup metricGroup) {
+        metricGroup.gauge("hitCount", this::hitCount);
+        metricGroup.gauge("missCount", this::missCount);
+        metricGroup.gauge("evictionCount", this::evictionCount);
+        metricGroup.gauge("size", this::size);
+    }
+
+    @VisibleForTesting
+    static int weigh(Path path, List<ManifestEntry> entries) {
+        long weight = 0;
+        for (ManifestEntry entry : entries) {
+            DataFileMeta file = entry.file();
+            weight +=
+                    ENTRY_OVERHEAD
+                            + entry.partition().getSizeInBytes()
+                            + file.minKey().getSizeInBytes()
+                            + file.maxKey().getSizeInBytes()
+                            + file.keyStats().memorySize()
+                            + file.valueStats().memorySize();
+        }
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+}
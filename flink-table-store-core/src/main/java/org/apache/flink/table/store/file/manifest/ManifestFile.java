@@ -34,6 +34,8 @@ import org.apache.flink.table.store.fs.FileIO;
 import org.apache.flink.table.store.fs.Path;
 import org.apache.flink.table.store.types.RowType;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.List;
 
@@ -51,6 +53,7 @@ public class ManifestFile {
     private final FormatWriterFactory writerFactory;
     private final FileStorePathFactory pathFactory;
     private final long suggestedFileSize;
+    @Nullable private final ManifestEntryCache cache;
 
     private ManifestFile(
             FileIO fileIO,
@@ -60,7 +63,8 @@ public class ManifestFile {
             FormatReaderFactory readerFactory,
             FormatWriterFactory writerFactory,
             FileStorePathFactory pathFactory,
-            long suggestedFileSize) {
+            long suggestedFileSize,
+            @Nullable ManifestEntryCache cache) {
         this.fileIO = fileIO;
         this.schemaManager = schemaManager;
         this.partitionType = partitionType;
@@ -69,6 +73,7 @@ public class ManifestFile {
         this.writerFactory = writerFactory;
         this.pathFactory = pathFactory;
         this.suggestedFileSize = suggestedFileSize;
+        this.cache = cache;
     }
 
     @VisibleForTesting
@@ -76,12 +81,20 @@ public class ManifestFile {
         return suggestedFileSize;
     }
 
+    /**
+     * Read the {@link ManifestEntry}s of a manifest file. The returned list may be shared through
+     * the {@link ManifestEntryCache}, so it must not be modified.
+     */
     public List<ManifestEntry> read(String fileName) {
+        Path path = pathFactory.toManifestFilePath(fileName);
+        return cache == null ? read(path) : cache.get(path, () -> read(path));
+    }
+
+    private List<ManifestEntry> read(Path path) {
         try {
-            return FileUtils.readListFromFile(
-                    fileIO, pathFactory.toManifestFilePath(fileName), serializer, readerFactory);
+            return FileUtils.readListFromFile(fileIO, path, serializer, readerFactory);
         } catch (IOException e) {
-            throw new RuntimeException("Failed to read manifest file " + fileName, e);
+            throw new RuntimeException("Failed to read manifest file " + path.getName(), e);
         }
     }
 
@@ -104,8 +117,13 @@ public class ManifestFile {
         return writer.result();
     }
 
-    public void delete(String fileName) {
-        fileIO.deleteQuietly(pathFactory.toManifestFilePath(fileName));
+    /** Deletes the manifest file quietly, returns whether it was deleted by this call. */
+    public boolean delete(String fileName) {
+        Path path = pathFactory.toManifestFilePath(fileName);
+        if (cache != null) {
+            cache.invalidate(path);
+        }
+        return fileIO.deleteQuietly(path);
     }
 
     private class ManifestEntryWriter extends SingleFileWriter<ManifestEntry, ManifestFileMeta> {
@@ -166,6 +184,7 @@ public class ManifestFile {
         private final FileFormat fileFormat;
         private final FileStorePathFactory pathFactory;
         private final long suggestedFileSize;
+        @Nullable private final ManifestEntryCache cache;
 
         public Factory(
                 FileIO fileIO,
@@ -174,12 +193,31 @@ public class ManifestFile {
                 FileFormat fileFormat,
                 FileStorePathFactory pathFactory,
                 long suggestedFileSize) {
+            this(
+                    fileIO,
+                    schemaManager,
+                    partitionType,
+                    fileFormat,
+                    pathFactory,
+                    suggestedFileSize,
+                    null);
+        }
+
+        public Factory(
+                FileIO fileIO,
+                SchemaManager schemaManager,
+                RowType partitionType,
+                FileFormat fileFormat,
+                FileStorePathFactory pathFactory,
+                long suggestedFileSize,
+                @Nullable ManifestEntryCache cache) {
             this.fileIO = fileIO;
             this.schemaManager = schemaManager;
             this.partitionType = partitionType;
             this.fileFormat = fileFormat;
             this.pathFactory = pathFactory;
             this.suggestedFileSize = suggestedFileSize;
+            this.cache = cache;
         }
 
         public ManifestFile create() {
@@ -192,7 +230,8 @@ public class ManifestFile {
                     fileFormat.createReaderFactory(entryType),
                     fileFormat.createWriterFactory(entryType),
                     pathFactory,
-                    suggestedFileSize);
+                    suggestedFileSize,
+                    cache);
         }
     }
 }
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.manifest;
+
+import org.apache.flink.table.store.data.BinaryRow;
+import org.apache.flink.table.store.types.DataField;
+import org.apache.flink.table.store.types.RowType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.apache.flink.table.store.file.utils.SerializationUtils.newBytesType;
+import static org.apache.flink.table.store.file.utils.SerializationUtils.newStringType;
+
+/** Entry of a {@link PartitionIndexFile}, representing a partition contained in a manifest file. */
+public class PartitionIndexEntry {
+
+    private final String manifestFileName;
+    private final BinaryRow partition;
+
+    public PartitionIndexEntry(String manifestFileName, BinaryRow partition) {
+        this.manifestFileName = manifestFileName;
+        this.partition = partition;
+    }
+
+    public String manifestFileName() {
+        return manifestFileName;
+    }
+
+    public BinaryRow partition() {
+        return partition;
+    }
+
+    public static RowType schema() {
+        List<DataField> fields = new ArrayList<>();
+        fields.add(new DataField(0, "_MANIFEST_FILE_NAME", newStringType(false)));
+        fields.add(new DataField(1, "_PARTITION", newBytesType(false)));
+        return new RowType(fields);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof PartitionIndexEntry)) {
+            return false;
+        }
+        PartitionIndexEntry that = (PartitionIndexEntry) o;
+        return Objects.equals(manifestFileName, that.manifestFileName)
+                && Objects.equals(partition, that.partition);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(manifestFileName, partition);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("{%s, %s}", manifestFileName, partition);
+    }
+}
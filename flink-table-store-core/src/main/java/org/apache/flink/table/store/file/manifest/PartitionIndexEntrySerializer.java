@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.manifest;
+
+import org.apache.flink.table.store.data.BinaryString;
+import org.apache.flink.table.store.data.GenericRow;
+import org.apache.flink.table.store.data.InternalRow;
+import org.apache.flink.table.store.file.utils.VersionedObjectSerializer;
+
+import static org.apache.flink.table.store.file.utils.SerializationUtils.deserializeBinaryRow;
+import static org.apache.flink.table.store.file.utils.SerializationUtils.serializeBinaryRow;
+
+/** Serializer for {@link PartitionIndexEntry}. */
+public class PartitionIndexEntrySerializer extends VersionedObjectSerializer<PartitionIndexEntry> {
+
+    private static final long serialVersionUID = 1L;
+
+    public PartitionIndexEntrySerializer() {
+        super(PartitionIndexEntry.schema());
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @Override
+    public InternalRow convertTo(PartitionIndexEntry entry) {
+        return GenericRow.of(
+                BinaryString.fromString(entry.manifestFileName()),
+                serializeBinaryRow(entry.partition()));
+    }
+
+    @Override
+    public PartitionIndexEntry convertFrom(int version, InternalRow row) {
+        if (version != 1) {
+            throw new IllegalArgumentException("Unsupported version: " + version);
+        }
+        return new PartitionIndexEntry(
+                row.getString(0).toString(), deserializeBinaryRow(row.getBinary(1)));
+    }
+}
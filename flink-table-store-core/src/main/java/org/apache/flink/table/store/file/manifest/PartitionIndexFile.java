@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.manifest;
+
+import org.apache.flink.table.store.data.BinaryRow;
+import org.apache.flink.table.store.file.utils.FileStorePathFactory;
+import org.apache.flink.table.store.file.utils.FileUtils;
+import org.apache.flink.table.store.file.utils.VersionedObjectSerializer;
+import org.apache.flink.table.store.format.FileFormat;
+import org.apache.flink.table.store.format.FormatReaderFactory;
+import org.apache.flink.table.store.format.FormatWriter;
+import org.apache.flink.table.store.format.FormatWriterFactory;
+import org.apache.flink.table.store.fs.FileIO;
+import org.apache.flink.table.store.fs.Path;
+import org.apache.flink.table.store.fs.PositionOutputStream;
+import org.apache.flink.table.store.types.RowType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This file indexes the distinct partitions of each data manifest file of a snapshot, so that scans
+ * with a partition filter can skip manifest files which contain no matching partition, even if the
+ * partition stats of the manifest file cover the filter.
+ */
+public class PartitionIndexFile {
+
+    private final FileIO fileIO;
+    private final PartitionIndexEntrySerializer serializer;
+    private final FormatReaderFactory readerFactory;
+    private final FormatWriterFactory writerFactory;
+    private final FileStorePathFactory pathFactory;
+
+    private PartitionIndexFile(
+            FileIO fileIO,
+            PartitionIndexEntrySerializer serializer,
+            FormatReaderFactory readerFactory,
+            FormatWriterFactory writerFactory,
+            FileStorePathFactory pathFactory) {
+        this.fileIO = fileIO;
+        this.serializer = serializer;
+        this.readerFactory = readerFactory;
+        this.writerFactory = writerFactory;
+        this.pathFactory = pathFactory;
+    }
+
+    /** Read the index as a map from manifest file name to its distinct partitions. */
+    public Map<String, Set<BinaryRow>> read(String fileName) {
+        List<PartitionIndexEntry> entries;
+        try {
+            entries =
+                    FileUtils.readListFromFile(
+                            fileIO,
+                            pathFactory.toPartitionIndexPath(fileName),
+                            serializer,
+                            readerFactory);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read partition index " + fileName, e);
+        }
+
+        Map<String, Set<BinaryRow>> index = new HashMap<>();
+        for (PartitionIndexEntry entry : entries) {
+            index.computeIfAbsent(entry.manifestFileName(), k -> new LinkedHashSet<>())
+                    .add(entry.partition());
+        }
+        return index;
+    }
+
+    /**
+     * Write the distinct partitions of manifest files into a partition index.
+     *
+     * <p>NOTE: This method is atomic.
+     */
+    public String write(Map<String, Set<BinaryRow>> index) {
+        List<PartitionIndexEntry> entries = new ArrayList<>();
+        index.forEach(
+                (fileName, partitions) ->
+                        partitions.forEach(p -> entries.add(new PartitionIndexEntry(fileName, p))));
+
+        Path path = pathFactory.newPartitionIndex();
+        try {
+            return write(entries, path);
+        } catch (Throwable e) {
+            fileIO.deleteQuietly(path);
+            throw new RuntimeException(
+                    "Exception occurs when writing partition index " + path + ". Clean up.", e);
+        }
+    }
+
+    private String write(List<PartitionIndexEntry> entries, Path path) throws IOException {
+        try (PositionOutputStream out = fileIO.newOutputStream(path, false)) {
+            FormatWriter writer = writerFactory.create(out);
+            try {
+                for (PartitionIndexEntry entry : entries) {
+                    writer.addElement(serializer.toRow(entry));
+                }
+            } finally {
+                writer.flush();
+                writer.finish();
+            }
+        }
+        return path.getName();
+    }
+
+    public void delete(String fileName) {
+        fileIO.deleteQuietly(pathFactory.toPartitionIndexPath(fileName));
+    }
+
+    /** Creator of {@link PartitionIndexFile}. */
+    public static class Factory {
+
+        private final FileIO fileIO;
+        private final FileFormat fileFormat;
+        private final FileStorePathFactory pathFactory;
+
+        public Factory(FileIO fileIO, FileFormat fileFormat, FileStorePathFactory pathFactory) {
+            this.fileIO = fileIO;
+            this.fileFormat = fileFormat;
+            this.pathFactory = pathFactory;
+        }
+
+        public PartitionIndexFile create() {
+            RowType entryType = VersionedObjectSerializer.versionType(PartitionIndexEntry.schema());
+            return new PartitionIndexFile(
+                    fileIO,
+                    new PartitionIndexEntrySerializer(),
+                    fileFormat.createReaderFactory(entryType),
+                    fileFormat.createWriterFactory(entryType),
+                    pathFactory);
+        }
+    }
+}
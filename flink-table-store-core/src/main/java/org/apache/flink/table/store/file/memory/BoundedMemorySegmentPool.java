@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.memory;
+
+import org.apache.flink.table.store.memory.MemorySegment;
+
+import java.util.List;
+
+/** A {@link MemorySegmentPool} which allocates at most a number of pages from an inner pool. */
+public class BoundedMemorySegmentPool implements MemorySegmentPool {
+
+    private final MemorySegmentPool innerPool;
+    private final int maxPages;
+
+    private int allocatedPages;
+
+    public BoundedMemorySegmentPool(MemorySegmentPool innerPool, int maxPages) {
+        this.innerPool = innerPool;
+        this.maxPages = maxPages;
+        this.allocatedPages = 0;
+    }
+
+    @Override
+    public MemorySegment nextSegment() {
+        if (allocatedPages >= maxPages) {
+            return null;
+        }
+        MemorySegment segment = innerPool.nextSegment();
+        if (segment != null) {
+            allocatedPages++;
+        }
+        return segment;
+    }
+
+    @Override
+    public int pageSize() {
+        return innerPool.pageSize();
+    }
+
+    @Override
+    public void returnAll(List<MemorySegment> memory) {
+        allocatedPages -= memory.size();
+        innerPool.returnAll(memory);
+    }
+
+    @Override
+    public int freePages() {
+        return Math.min(innerPool.freePages(), maxPages - allocatedPages);
+    }
+}
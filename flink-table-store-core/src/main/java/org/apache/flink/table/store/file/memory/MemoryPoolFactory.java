@@ -18,24 +18,53 @@
 
 package org.apache.flink.table.store.file.memory;
 
+import org.apache.flink.table.store.CoreOptions.WriteBufferPreemptPolicy;
 import org.apache.flink.table.store.memory.MemorySegment;
+import org.apache.flink.table.store.metrics.MetricGroup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * A factory which creates {@link MemorySegmentPool} from {@link MemoryOwner}. The returned memory
- * pool will try to preempt memory when there is no memory left.
+ * pool will try to preempt memory when there is no memory left, the owner to flush is chosen by
+ * {@link WriteBufferPreemptPolicy}.
  */
 public class MemoryPoolFactory {
 
+    private static final Logger LOG = LoggerFactory.getLogger(MemoryPoolFactory.class);
+
     private final MemorySegmentPool innerPool;
     private final int totalPages;
     private final Iterable<MemoryOwner> owners;
+    private final WriteBufferPreemptPolicy preemptPolicy;
+
+    // logical time of the last memory allocation of each owner
+    private final Map<MemoryOwner, Long> lastAllocations;
+    private long allocationClock;
+
+    // metrics, only updated by the writer thread
+    private volatile long preemptCount;
+    private volatile long preemptedBytes;
 
     public MemoryPoolFactory(MemorySegmentPool innerPool, Iterable<MemoryOwner> owners) {
+        this(innerPool, owners, WriteBufferPreemptPolicy.LARGEST);
+    }
+
+    public MemoryPoolFactory(
+            MemorySegmentPool innerPool,
+            Iterable<MemoryOwner> owners,
+            WriteBufferPreemptPolicy preemptPolicy) {
         this.innerPool = innerPool;
         this.totalPages = innerPool.freePages();
         this.owners = owners;
+        this.preemptPolicy = preemptPolicy;
+        this.lastAllocations = new WeakHashMap<>();
+        this.allocationClock = 0;
     }
 
     public void notifyNewOwner(MemoryOwner owner) {
@@ -47,24 +76,74 @@ public class MemoryPoolFactory {
     }
 
     private void preemptMemory(MemoryOwner owner) {
-        long maxMemory = -1;
-        MemoryOwner max = null;
+        MemoryOwner selected = selectPreemptedOwner(owner);
+        if (selected != null) {
+            long bytes = selected.memoryOccupancy();
+            try {
+                selected.flushMemory();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+            preemptCount++;
+            preemptedBytes += bytes;
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(
+                        "Preempted {} bytes of write buffer with policy {}, "
+                                + "{} preemptions and {} bytes in total.",
+                        bytes,
+                        preemptPolicy,
+                        preemptCount,
+                        preemptedBytes);
+            }
+        }
+    }
+
+    private MemoryOwner selectPreemptedOwner(MemoryOwner owner) {
+        MemoryOwner selected = null;
+        long selectedValue = 0;
         for (MemoryOwner other : owners) {
             // Don't preempt yourself! Write and flush at the same time, which may lead to
             // inconsistent state
-            if (other != owner && other.memoryOccupancy() > maxMemory) {
-                maxMemory = other.memoryOccupancy();
-                max = other;
+            if (other == owner) {
+                continue;
             }
-        }
-
-        if (max != null) {
-            try {
-                max.flushMemory();
-            } catch (Exception e) {
-                throw new RuntimeException(e);
+            long occupancy = other.memoryOccupancy();
+            switch (preemptPolicy) {
+                case LARGEST:
+                    if (selected == null || occupancy > selectedValue) {
+                        selected = other;
+                        selectedValue = occupancy;
+                    }
+                    break;
+                case LEAST_RECENTLY_ALLOCATED:
+                    // owners without memory release nothing
+                    long lastAllocation = lastAllocations.getOrDefault(other, 0L);
+                    if (occupancy > 0 && (selected == null || lastAllocation < selectedValue)) {
+                        selected = other;
+                        selectedValue = lastAllocation;
+                    }
+                    break;
+                default:
+                    throw new UnsupportedOperationException(
+                            "Unsupported preempt policy: " + preemptPolicy);
             }
         }
+        return selected;
+    }
+
+    /** Number of times the memory of an owner is preempted. */
+    public long preemptCount() {
+        return preemptCount;
+    }
+
+    /** Total memory occupancy of the preempted owners before they are flushed. */
+    public long preemptedBytes() {
+        return preemptedBytes;
+    }
+
+    public void registerMetrics(MetricGroup metricGroup) {
+        metricGroup.gauge("preemptCount", this::preemptCount);
+        metricGroup.gauge("preemptedBytes", this::preemptedBytes);
     }
 
     private class OwnerMemoryPool implements MemorySegmentPool {
@@ -102,6 +181,7 @@ public class MemoryPoolFactory {
             }
             if (segment != null) {
                 allocatedPages++;
+                lastAllocations.put(owner, ++allocationClock);
             }
             return segment;
         }
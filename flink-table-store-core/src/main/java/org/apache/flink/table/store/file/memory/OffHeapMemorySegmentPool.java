@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.memory;
+
+import org.apache.flink.table.store.memory.MemorySegment;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MemorySegment pool from unsafe off-heap memory, pages are not scanned by the garbage collector.
+ * The memory of all pages is freed when the pool is closed, so the pages must no longer be used by
+ * then.
+ */
+public class OffHeapMemorySegmentPool extends AbstractMemorySegmentPool implements Closeable {
+
+    private final List<MemorySegment> allocatedSegments;
+
+    public OffHeapMemorySegmentPool(long maxMemory, int pageSize) {
+        super(maxMemory, pageSize);
+        this.allocatedSegments = new ArrayList<>();
+    }
+
+    @Override
+    protected MemorySegment allocateMemory() {
+        MemorySegment segment = MemorySegment.allocateOffHeapUnsafeMemory(pageSize);
+        allocatedSegments.add(segment);
+        return segment;
+    }
+
+    @Override
+    public void close() {
+        allocatedSegments.forEach(MemorySegment::free);
+        allocatedSegments.clear();
+    }
+}
@@ -24,14 +24,18 @@ import org.apache.flink.table.store.data.InternalRow;
 import org.apache.flink.table.store.data.serializer.InternalRowSerializer;
 import org.apache.flink.table.store.file.KeyValue;
 import org.apache.flink.table.store.file.io.DataFileMeta;
+import org.apache.flink.table.store.file.io.KeyBloomFilterFile;
 import org.apache.flink.table.store.io.DataOutputSerializer;
 import org.apache.flink.table.store.lookup.LookupStoreFactory;
 import org.apache.flink.table.store.lookup.LookupStoreReader;
 import org.apache.flink.table.store.lookup.LookupStoreWriter;
 import org.apache.flink.table.store.memory.MemorySegment;
+import org.apache.flink.table.store.memory.MemorySlice;
+import org.apache.flink.table.store.metrics.MetricGroup;
 import org.apache.flink.table.store.options.MemorySize;
 import org.apache.flink.table.store.reader.RecordReader;
 import org.apache.flink.table.store.types.RowKind;
+import org.apache.flink.table.store.utils.BloomFilter;
 import org.apache.flink.table.store.utils.FileIOUtils;
 import org.apache.flink.table.store.utils.IOFunction;
 
@@ -39,6 +43,9 @@ import org.apache.flink.shaded.guava30.com.google.common.cache.Cache;
 import org.apache.flink.shaded.guava30.com.google.common.cache.CacheBuilder;
 import org.apache.flink.shaded.guava30.com.google.common.cache.RemovalNotification;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.annotation.Nullable;
 
 import java.io.Closeable;
@@ -46,16 +53,32 @@ import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 import static org.apache.flink.table.store.options.ConfigOptions.key;
 
-/** Provide lookup by key. */
+/**
+ * Provide lookup by key. Local lookup files are built lazily when they are first looked up, or in
+ * advance by a loader executor if one is given.
+ */
 public class LookupLevels implements Levels.DropFileCallback, Closeable {
 
+    private static final Logger LOG = LoggerFactory.getLogger(LookupLevels.class);
+
+    // a lookup file can be evicted by insertions of the loader executor before it is used, it is
+    // loaded again at most this number of times
+    private static final int MAX_LOAD_ATTEMPTS = 10;
+
     private final Levels levels;
     private final Comparator<InternalRow> keyComparator;
     private final InternalRowSerializer keySerializer;
@@ -63,9 +86,25 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
     private final IOFunction<DataFileMeta, RecordReader<KeyValue>> fileReaderFactory;
     private final Supplier<File> localFileFactory;
     private final LookupStoreFactory lookupStoreFactory;
+    @Nullable private final RemoteLookupFileManager remoteLookupFileManager;
+    @Nullable private final IOFunction<String, BloomFilter> bloomFilterReader;
+    private final MemorySize maxDiskSize;
 
     private final Cache<String, LookupFile> lookupFiles;
 
+    // persisted bloom filters of data files, empty if the bloom filter file can not be read
+    private final Cache<String, Optional<BloomFilter>> bloomFilters;
+
+    private final MemorySlice reusedValue = new MemorySlice();
+
+    private final List<Future<?>> prefetches = new ArrayList<>();
+
+    // files whose prefetches are not finished, a prefetch finds its file removed from this map if
+    // the file is dropped in the meantime, so it invalidates the lookup file it may have loaded
+    private final Map<String, DataFileMeta> pendingPrefetches = new ConcurrentHashMap<>();
+
+    private final BuildMetrics buildMetrics;
+
     public LookupLevels(
             Levels levels,
             Comparator<InternalRow> keyComparator,
@@ -76,6 +115,46 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
             LookupStoreFactory lookupStoreFactory,
             Duration fileRetention,
             MemorySize maxDiskSize) {
+        this(
+                levels,
+                keyComparator,
+                keySerializer,
+                valueSerializer,
+                fileReaderFactory,
+                localFileFactory,
+                lookupStoreFactory,
+                fileRetention,
+                maxDiskSize,
+                null,
+                null,
+                null,
+                new BuildMetrics());
+    }
+
+    /**
+     * Creates lookup levels, if {@code loaderExecutor} is not null, the lookup files of all files
+     * except level 0 are built in parallel by the executor in advance. {@code fileReaderFactory}
+     * and {@code localFileFactory} must be thread safe in that case. If {@code
+     * remoteLookupFileManager} is not null, persisted lookup files are fetched instead of being
+     * rebuilt. If {@code bloomFilterReader} is not null, the bloom filters persisted with data
+     * files (see {@link KeyBloomFilterFile}) are read by it and tested before the lookup files are
+     * built, so absent keys do not need lookup files. Builds of lookup files are counted in {@code
+     * buildMetrics}, which may be shared by lookup levels of several buckets.
+     */
+    public LookupLevels(
+            Levels levels,
+            Comparator<InternalRow> keyComparator,
+            InternalRowSerializer keySerializer,
+            InternalRowSerializer valueSerializer,
+            IOFunction<DataFileMeta, RecordReader<KeyValue>> fileReaderFactory,
+            Supplier<File> localFileFactory,
+            LookupStoreFactory lookupStoreFactory,
+            Duration fileRetention,
+            MemorySize maxDiskSize,
+            @Nullable ExecutorService loaderExecutor,
+            @Nullable RemoteLookupFileManager remoteLookupFileManager,
+            @Nullable IOFunction<String, BloomFilter> bloomFilterReader,
+            BuildMetrics buildMetrics) {
         this.levels = levels;
         this.keyComparator = keyComparator;
         this.keySerializer = keySerializer;
@@ -83,14 +162,55 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
         this.fileReaderFactory = fileReaderFactory;
         this.localFileFactory = localFileFactory;
         this.lookupStoreFactory = lookupStoreFactory;
+        this.remoteLookupFileManager = remoteLookupFileManager;
+        this.bloomFilterReader = bloomFilterReader;
+        this.maxDiskSize = maxDiskSize;
+        this.buildMetrics = buildMetrics;
+        // one segment, otherwise the max weight is divided by segments and a lookup file larger
+        // than the weight of a segment is evicted at once
         this.lookupFiles =
                 CacheBuilder.newBuilder()
+                        .concurrencyLevel(1)
                         .expireAfterAccess(fileRetention)
                         .maximumWeight(maxDiskSize.getKibiBytes())
                         .weigher(this::fileWeigh)
                         .removalListener(this::removalCallback)
                         .build();
+        this.bloomFilters = CacheBuilder.newBuilder().expireAfterAccess(fileRetention).build();
         levels.addDropFileCallback(this);
+        if (loaderExecutor != null) {
+            prefetch(loaderExecutor);
+        }
+    }
+
+    private void prefetch(ExecutorService loaderExecutor) {
+        for (int i = 1; i < levels.numberOfLevels(); i++) {
+            for (DataFileMeta file : levels.runOfLevel(i).files()) {
+                pendingPrefetches.put(file.fileName(), file);
+                prefetches.add(loaderExecutor.submit(() -> prefetch(file)));
+            }
+        }
+    }
+
+    private void prefetch(DataFileMeta file) {
+        String fileName = file.fileName();
+        try {
+            if (pendingPrefetches.containsKey(fileName)) {
+                // loading of the same file is deduplicated by the cache
+                getOrCreateLookupFile(file);
+            }
+        } catch (IOException e) {
+            LOG.warn(
+                    "Failed to prefetch lookup file for {}, it will be built when it is looked up.",
+                    fileName,
+                    e);
+        } finally {
+            if (pendingPrefetches.remove(fileName) == null) {
+                // the file was dropped while it was loaded, the invalidation of the drop may have
+                // happened before the loaded lookup file was put into the cache
+                lookupFiles.invalidate(fileName);
+            }
+        }
     }
 
     @VisibleForTesting
@@ -100,7 +220,9 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
 
     @Override
     public void notifyDropFile(String file) {
+        pendingPrefetches.remove(file);
         lookupFiles.invalidate(file);
+        bloomFilters.invalidate(file);
     }
 
     @Nullable
@@ -158,25 +280,91 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
 
     @Nullable
     private KeyValue lookup(InternalRow key, DataFileMeta file) throws IOException {
-        LookupFile lookupFile;
+        BinaryRow keyRow = keySerializer.toBinaryRow(key);
+        BloomFilter bloomFilter = bloomFilter(file);
+        if (bloomFilter != null && !bloomFilter.testHash(KeyBloomFilterFile.hash(keyRow))) {
+            return null;
+        }
+
+        return withLookupFile(
+                file,
+                lookupFile -> {
+                    // the value may point to memory mapped by the reader, which is unmapped when
+                    // the file is closed, so it is copied before the lock is released
+                    MemorySlice valueSlice = lookupFile.get(keyRow, reusedValue);
+                    if (valueSlice == null) {
+                        return null;
+                    }
+                    byte[] valueBytes = valueSlice.copyBytes();
+                    MemorySegment memorySegment = MemorySegment.wrap(valueBytes);
+                    long sequenceNumber = memorySegment.getLong(0);
+                    RowKind rowKind = RowKind.fromByteValue(memorySegment.get(8));
+                    BinaryRow value = new BinaryRow(valueSerializer.getArity());
+                    value.pointTo(memorySegment, 9, valueBytes.length - 9);
+                    return new KeyValue()
+                            .replace(key, sequenceNumber, rowKind, value)
+                            .setLevel(lookupFile.remoteFile().level());
+                });
+    }
+
+    /**
+     * Applies the action to the lookup file of the data file while holding its lock. The lookup
+     * file may be evicted concurrently by an insertion of the loader executor, then it is loaded
+     * again, at most {@link #MAX_LOAD_ATTEMPTS} times.
+     */
+    @Nullable
+    private <T> T withLookupFile(DataFileMeta file, IOFunction<LookupFile, T> action)
+            throws IOException {
+        for (int i = 0; i < MAX_LOAD_ATTEMPTS; i++) {
+            LookupFile lookupFile = getOrCreateLookupFile(file);
+            synchronized (lookupFile) {
+                if (!lookupFile.isClosed()) {
+                    return action.apply(lookupFile);
+                }
+            }
+        }
+        throw new IOException(
+                String.format(
+                        "Lookup file of %s was evicted %s times before it could be used, "
+                                + "'lookup.cache-max-disk-size' %s may be too small.",
+                        file.fileName(), MAX_LOAD_ATTEMPTS, maxDiskSize));
+    }
+
+    @Nullable
+    private BloomFilter bloomFilter(DataFileMeta file) throws IOException {
+        String bloomFilterFile =
+                bloomFilterReader == null ? null : KeyBloomFilterFile.bloomFilterFile(file);
+        if (bloomFilterFile == null) {
+            return null;
+        }
+
         try {
-            lookupFile = lookupFiles.get(file.fileName(), () -> createLookupFile(file));
+            return bloomFilters
+                    .get(file.fileName(), () -> readBloomFilter(bloomFilterFile))
+                    .orElse(null);
         } catch (ExecutionException e) {
             throw new IOException(e);
         }
-        byte[] keyBytes = keySerializer.toBinaryRow(key).toBytes();
-        byte[] valueBytes = lookupFile.get(keyBytes);
-        if (valueBytes == null) {
-            return null;
+    }
+
+    private Optional<BloomFilter> readBloomFilter(String bloomFilterFile) {
+        try {
+            return Optional.of(bloomFilterReader.apply(bloomFilterFile));
+        } catch (IOException e) {
+            LOG.warn(
+                    "Failed to read bloom filter file {}, keys are looked up without it.",
+                    bloomFilterFile,
+                    e);
+            return Optional.empty();
+        }
+    }
+
+    private LookupFile getOrCreateLookupFile(DataFileMeta file) throws IOException {
+        try {
+            return lookupFiles.get(file.fileName(), () -> createLookupFile(file));
+        } catch (ExecutionException e) {
+            throw new IOException(e);
         }
-        MemorySegment memorySegment = MemorySegment.wrap(valueBytes);
-        long sequenceNumber = memorySegment.getLong(0);
-        RowKind rowKind = RowKind.fromByteValue(valueBytes[8]);
-        BinaryRow value = new BinaryRow(valueSerializer.getArity());
-        value.pointTo(memorySegment, 9, valueBytes.length - 9);
-        return new KeyValue()
-                .replace(key, sequenceNumber, rowKind, value)
-                .setLevel(lookupFile.remoteFile().level());
     }
 
     private int fileWeigh(String file, LookupFile lookupFile) {
@@ -194,11 +382,88 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
         }
     }
 
+    /**
+     * Persists the lookup files of the given files above level 0 next to them, returns the files
+     * referencing their lookup files. Files are returned as is if lookup files are not persisted.
+     *
+     * <p>This is called by compactions, which wait for the lookup files to be built and uploaded.
+     * Lookups of the following compactions need these lookup files anyway, so the extra cost of a
+     * compaction is one sequential write of each lookup file to the file system.
+     */
+    public List<DataFileMeta> persistLookupFiles(List<DataFileMeta> files) throws IOException {
+        if (remoteLookupFileManager == null) {
+            return files;
+        }
+
+        List<DataFileMeta> result = new ArrayList<>(files.size());
+        for (DataFileMeta file : files) {
+            if (file.level() == 0 || remoteLookupFileManager.remoteLookupFile(file) != null) {
+                result.add(file);
+                continue;
+            }
+
+            // the lookup file is kept in cache, it will be used by the following lookups
+            result.add(
+                    withLookupFile(
+                            file,
+                            lookupFile ->
+                                    remoteLookupFileManager.upload(file, lookupFile.localFile)));
+        }
+        return result;
+    }
+
     private LookupFile createLookupFile(DataFileMeta file) throws IOException {
         File localFile = localFileFactory.get();
         if (!localFile.createNewFile()) {
             throw new IOException("Can not create new file: " + localFile);
         }
+
+        String remoteLookupFile =
+                remoteLookupFileManager == null
+                        ? null
+                        : remoteLookupFileManager.remoteLookupFile(file);
+        if (remoteLookupFile != null) {
+            try {
+                remoteLookupFileManager.download(remoteLookupFile, localFile);
+                checkFileSize(file, localFile);
+                return new LookupFile(localFile, file, lookupStoreFactory.createReader(localFile));
+            } catch (IOException e) {
+                LOG.warn(
+                        "Failed to fetch persisted lookup file {} of {}, it will be rebuilt.",
+                        remoteLookupFile,
+                        file.fileName(),
+                        e);
+            }
+        }
+
+        buildLookupFile(file, localFile);
+        checkFileSize(file, localFile);
+        return new LookupFile(localFile, file, lookupStoreFactory.createReader(localFile));
+    }
+
+    /**
+     * A lookup file larger than the cache would be evicted at once after it is loaded, so it is
+     * rejected instead of being loaded again and again.
+     */
+    private void checkFileSize(DataFileMeta file, File localFile) throws IOException {
+        if (localFile.length() >> 10 > maxDiskSize.getKibiBytes()) {
+            long size = localFile.length();
+            FileIOUtils.deleteFileOrDirectory(localFile);
+            throw new RuntimeException(
+                    String.format(
+                            "Lookup file of %s is %s, which is larger than"
+                                    + " 'lookup.cache-max-disk-size' %s, please increase it.",
+                            file.fileName(), new MemorySize(size), maxDiskSize));
+        }
+    }
+
+    private void buildLookupFile(DataFileMeta file, File localFile) throws IOException {
+        long startMillis = System.currentTimeMillis();
+        // serializers reuse rows, duplicate them as files may be built by the loader executor
+        InternalRowSerializer keySerializer =
+                (InternalRowSerializer) this.keySerializer.duplicate();
+        InternalRowSerializer valueSerializer =
+                (InternalRowSerializer) this.valueSerializer.duplicate();
         try (LookupStoreWriter kvWriter = lookupStoreFactory.createWriter(localFile);
                 RecordReader<KeyValue> reader = fileReaderFactory.apply(file)) {
             DataOutputSerializer valueOut = new DataOutputSerializer(32);
@@ -221,12 +486,63 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
             throw e;
         }
 
-        return new LookupFile(localFile, file, lookupStoreFactory.createReader(localFile));
+        long millis = System.currentTimeMillis() - startMillis;
+        buildMetrics.buildCount.incrementAndGet();
+        buildMetrics.buildMillis.addAndGet(millis);
+        buildMetrics.buildBytes.addAndGet(localFile.length());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(
+                    "Built lookup file for {} in {}ms, remote file size = {}, local file size = {}",
+                    file.fileName(),
+                    millis,
+                    file.fileSize(),
+                    localFile.length());
+        }
+    }
+
+    /** Number of local lookup files built. */
+    public long buildCount() {
+        return buildMetrics.buildCount.get();
+    }
+
+    /** Total time in milliseconds spent on building local lookup files. */
+    public long buildMillis() {
+        return buildMetrics.buildMillis.get();
+    }
+
+    /** Total bytes of local lookup files built. */
+    public long buildBytes() {
+        return buildMetrics.buildBytes.get();
+    }
+
+    @VisibleForTesting
+    void waitPrefetches() throws Exception {
+        for (Future<?> prefetch : prefetches) {
+            prefetch.get();
+        }
     }
 
     @Override
     public void close() throws IOException {
+        prefetches.forEach(prefetch -> prefetch.cancel(true));
+        prefetches.clear();
+        pendingPrefetches.clear();
         lookupFiles.invalidateAll();
+        bloomFilters.invalidateAll();
+    }
+
+    /** Metrics of building local lookup files. */
+    public static class BuildMetrics {
+
+        private final AtomicLong buildCount = new AtomicLong();
+        private final AtomicLong buildMillis = new AtomicLong();
+        private final AtomicLong buildBytes = new AtomicLong();
+
+        public void register(MetricGroup metricGroup) {
+            metricGroup.gauge("buildCount", buildCount::get);
+            metricGroup.gauge("buildTimeMillis", buildMillis::get);
+            metricGroup.gauge("buildBytes", buildBytes::get);
+        }
     }
 
     private static class LookupFile implements Closeable {
@@ -235,6 +551,8 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
         private final DataFileMeta remoteFile;
         private final LookupStoreReader reader;
 
+        private boolean closed = false;
+
         public LookupFile(File localFile, DataFileMeta remoteFile, LookupStoreReader reader) {
             this.localFile = localFile;
             this.remoteFile = remoteFile;
@@ -242,8 +560,13 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
         }
 
         @Nullable
-        public byte[] get(byte[] key) throws IOException {
-            return reader.lookup(key);
+        public MemorySlice get(BinaryRow key, MemorySlice reuse) throws IOException {
+            MemorySegment[] segments = key.getSegments();
+            if (segments.length == 1) {
+                return reader.lookup(segments[0], key.getOffset(), key.getSizeInBytes(), reuse);
+            }
+            byte[] keyBytes = key.toBytes();
+            return reader.lookup(MemorySegment.wrap(keyBytes), 0, keyBytes.length, reuse);
         }
 
         public int fileKibiBytes() {
@@ -259,8 +582,13 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
             return remoteFile;
         }
 
+        public synchronized boolean isClosed() {
+            return closed;
+        }
+
         @Override
-        public void close() throws IOException {
+        public synchronized void close() throws IOException {
+            closed = true;
             reader.close();
             FileIOUtils.deleteFileOrDirectory(localFile);
         }
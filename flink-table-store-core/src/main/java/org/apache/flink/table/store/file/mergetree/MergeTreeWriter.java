@@ -30,24 +30,43 @@ import org.apache.flink.table.store.file.io.DataFileMeta;
 import org.apache.flink.table.store.file.io.KeyValueFileWriterFactory;
 import org.apache.flink.table.store.file.io.NewFilesIncrement;
 import org.apache.flink.table.store.file.io.RollingFileWriter;
+import org.apache.flink.table.store.file.memory.BoundedMemorySegmentPool;
 import org.apache.flink.table.store.file.memory.MemoryOwner;
 import org.apache.flink.table.store.file.memory.MemorySegmentPool;
 import org.apache.flink.table.store.file.mergetree.compact.MergeFunction;
 import org.apache.flink.table.store.file.utils.RecordWriter;
 import org.apache.flink.table.store.types.RowType;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
-/** A {@link RecordWriter} to write records and generate {@link CompactIncrement}. */
+/**
+ * A {@link RecordWriter} to write records and generate {@link CompactIncrement}.
+ *
+ * <p>If a flush executor is given, the writer is double buffered: when the write buffer is full, it
+ * is flushed by the flush executor while records are written into a second buffer, and writing only
+ * blocks when the second buffer is also full before the flush finishes. Each buffer can use half of
+ * the memory pool.
+ */
 public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
+    private static final Logger LOG = LoggerFactory.getLogger(MergeTreeWriter.class);
+
     private final boolean writeBufferSpillable;
     private final int sortMaxFan;
     private final IOManager ioManager;
@@ -60,6 +79,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
     private final KeyValueFileWriterFactory writerFactory;
     private final boolean commitForceCompact;
     private final ChangelogProducer changelogProducer;
+    @Nullable private final ExecutorService flushExecutor;
 
     private final LinkedHashSet<DataFileMeta> newFiles;
     private final LinkedHashSet<DataFileMeta> newFilesChangelog;
@@ -70,6 +90,10 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
     private long newSequenceNumber;
     private WriteBuffer writeBuffer;
 
+    // spare buffer for async flush, null if flush is synchronous
+    @Nullable private WriteBuffer spareBuffer;
+    @Nullable private Future<FlushResult> flushFuture;
+
     public MergeTreeWriter(
             boolean writeBufferSpillable,
             int sortMaxFan,
@@ -80,7 +104,8 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
             MergeFunction<KeyValue> mergeFunction,
             KeyValueFileWriterFactory writerFactory,
             boolean commitForceCompact,
-            ChangelogProducer changelogProducer) {
+            ChangelogProducer changelogProducer,
+            @Nullable ExecutorService flushExecutor) {
         this.writeBufferSpillable = writeBufferSpillable;
         this.sortMaxFan = sortMaxFan;
         this.ioManager = ioManager;
@@ -93,6 +118,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         this.writerFactory = writerFactory;
         this.commitForceCompact = commitForceCompact;
         this.changelogProducer = changelogProducer;
+        this.flushExecutor = flushExecutor;
 
         this.newFiles = new LinkedHashSet<>();
         this.newFilesChangelog = new LinkedHashSet<>();
@@ -112,14 +138,21 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public void setMemoryPool(MemorySegmentPool memoryPool) {
-        this.writeBuffer =
-                new SortBufferWriteBuffer(
-                        keyType,
-                        valueType,
-                        memoryPool,
-                        writeBufferSpillable,
-                        sortMaxFan,
-                        ioManager);
+        // each buffer requires at least 3 pages
+        if (flushExecutor != null && memoryPool.freePages() >= 6) {
+            int maxPages = memoryPool.freePages() / 2;
+            this.writeBuffer =
+                    createWriteBuffer(new BoundedMemorySegmentPool(memoryPool, maxPages));
+            this.spareBuffer =
+                    createWriteBuffer(new BoundedMemorySegmentPool(memoryPool, maxPages));
+        } else {
+            this.writeBuffer = createWriteBuffer(memoryPool);
+        }
+    }
+
+    private WriteBuffer createWriteBuffer(MemorySegmentPool memoryPool) {
+        return new SortBufferWriteBuffer(
+                keyType, valueType, memoryPool, writeBufferSpillable, sortMaxFan, ioManager);
     }
 
     @Override
@@ -128,9 +161,16 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
                 kv.sequenceNumber() == KeyValue.UNKNOWN_SEQUENCE
                         ? newSequenceNumber()
                         : kv.sequenceNumber();
+        if (flushFuture != null && flushFuture.isDone()) {
+            finishAsyncFlush();
+        }
         boolean success = writeBuffer.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
         if (!success) {
-            flushWriteBuffer(false, false);
+            if (spareBuffer != null) {
+                asyncFlushWriteBuffer();
+            } else {
+                flushWriteBuffer(false, false);
+            }
             success = writeBuffer.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
             if (!success) {
                 throw new RuntimeException("Mem table is too small to hold a single element.");
@@ -150,11 +190,20 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public long memoryOccupancy() {
-        return writeBuffer.memoryOccupancy();
+        long occupancy = writeBuffer.memoryOccupancy();
+        if (spareBuffer != null) {
+            occupancy += spareBuffer.memoryOccupancy();
+        }
+        return occupancy;
     }
 
     @Override
     public void flushMemory() throws Exception {
+        if (flushFuture != null) {
+            // the memory of the flushing buffer is released after the flush
+            finishAsyncFlush();
+            return;
+        }
         boolean success = writeBuffer.flushMemory();
         if (!success) {
             flushWriteBuffer(false, false);
@@ -163,45 +212,103 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     private void flushWriteBuffer(boolean waitForLatestCompaction, boolean forcedFullCompaction)
             throws Exception {
+        // files of the previous buffer must be added before files of the current buffer
+        finishAsyncFlush();
         if (writeBuffer.size() > 0) {
             if (compactManager.shouldWaitCompaction()) {
                 waitForLatestCompaction = true;
             }
 
-            final RollingFileWriter<KeyValue, DataFileMeta> changelogWriter =
-                    changelogProducer == ChangelogProducer.INPUT
-                            ? writerFactory.createRollingChangelogFileWriter(0)
-                            : null;
-            final RollingFileWriter<KeyValue, DataFileMeta> dataWriter =
-                    writerFactory.createRollingMergeTreeFileWriter(0);
+            addFlushResult(flush(writeBuffer));
+            writeBuffer.clear();
+        }
 
-            try {
-                writeBuffer.forEach(
-                        keyComparator,
-                        mergeFunction,
-                        changelogWriter == null ? null : changelogWriter::write,
-                        dataWriter::write);
-            } finally {
-                if (changelogWriter != null) {
-                    changelogWriter.close();
-                }
-                dataWriter.close();
-            }
+        trySyncLatestCompaction(waitForLatestCompaction);
+        compactManager.triggerCompaction(forcedFullCompaction);
+    }
 
+    /**
+     * Flushes the full write buffer with the flush executor and switches to the spare buffer. Waits
+     * for the previous flush if it is still running.
+     *
+     * <p>The memory pool is not thread safe, so the full buffer is prepared in the writer thread
+     * before the handoff: the flush executor never allocates or releases memory.
+     */
+    private void asyncFlushWriteBuffer() throws Exception {
+        finishAsyncFlush();
+        WriteBuffer fullBuffer = writeBuffer;
+        fullBuffer.prepareForEach();
+        writeBuffer = spareBuffer;
+        spareBuffer = fullBuffer;
+        flushFuture = flushExecutor.submit(() -> flush(fullBuffer));
+    }
+
+    /** Waits for the running async flush and triggers compaction for its files. */
+    private void finishAsyncFlush() throws Exception {
+        if (waitAsyncFlush()) {
+            trySyncLatestCompaction(compactManager.shouldWaitCompaction());
+            compactManager.triggerCompaction(false);
+        }
+    }
+
+    /**
+     * Waits for the running async flush, then adds its files and releases the memory of its buffer
+     * in the writer thread, because the memory pool is not thread safe.
+     *
+     * @return true if there was a running async flush.
+     */
+    private boolean waitAsyncFlush() throws Exception {
+        if (flushFuture == null) {
+            return false;
+        }
+
+        FlushResult result;
+        try {
+            result = flushFuture.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : new RuntimeException(cause);
+        } finally {
+            flushFuture = null;
+            spareBuffer.clear();
+        }
+
+        addFlushResult(result);
+        return true;
+    }
+
+    private FlushResult flush(WriteBuffer buffer) throws Exception {
+        final RollingFileWriter<KeyValue, DataFileMeta> changelogWriter =
+                changelogProducer == ChangelogProducer.INPUT
+                        ? writerFactory.createRollingChangelogFileWriter(0)
+                        : null;
+        final RollingFileWriter<KeyValue, DataFileMeta> dataWriter =
+                writerFactory.createRollingMergeTreeFileWriter(0);
+
+        try {
+            buffer.forEach(
+                    keyComparator,
+                    mergeFunction,
+                    changelogWriter == null ? null : changelogWriter::write,
+                    dataWriter::write);
+        } finally {
             if (changelogWriter != null) {
-                newFilesChangelog.addAll(changelogWriter.result());
+                changelogWriter.close();
             }
+            dataWriter.close();
+        }
 
-            for (DataFileMeta fileMeta : dataWriter.result()) {
-                newFiles.add(fileMeta);
-                compactManager.addNewFile(fileMeta);
-            }
+        return new FlushResult(
+                dataWriter.result(),
+                changelogWriter == null ? Collections.emptyList() : changelogWriter.result());
+    }
 
-            writeBuffer.clear();
+    private void addFlushResult(FlushResult result) {
+        newFilesChangelog.addAll(result.changelogFiles);
+        for (DataFileMeta fileMeta : result.dataFiles) {
+            newFiles.add(fileMeta);
+            compactManager.addNewFile(fileMeta);
         }
-
-        trySyncLatestCompaction(waitForLatestCompaction);
-        compactManager.triggerCompaction(forcedFullCompaction);
     }
 
     @Override
@@ -257,7 +364,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
                 // 2. This file is not the input of upgraded.
                 if (!compactBefore.containsKey(file.fileName())
                         && !afterFiles.contains(file.fileName())) {
-                    writerFactory.deleteFile(file.fileName());
+                    writerFactory.deleteFile(file);
                 }
             } else {
                 compactBefore.put(file.fileName(), file);
@@ -274,6 +381,16 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public void close() throws Exception {
+        if (flushFuture != null) {
+            // wait for the running flush so that its files can be deleted, but do not start a
+            // compaction which is cancelled right away
+            try {
+                waitAsyncFlush();
+            } catch (Exception e) {
+                LOG.warn("Async flush of write buffer failed when closing the writer.", e);
+            }
+        }
+
         // cancel compaction so that it does not block job cancelling
         compactManager.cancelCompaction();
         sync();
@@ -304,7 +421,19 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         compactChangelog.clear();
 
         for (DataFileMeta file : delete) {
-            writerFactory.deleteFile(file.fileName());
+            writerFactory.deleteFile(file);
+        }
+    }
+
+    /** Files written by flushing a write buffer. */
+    private static class FlushResult {
+
+        private final List<DataFileMeta> dataFiles;
+        private final List<DataFileMeta> changelogFiles;
+
+        private FlushResult(List<DataFileMeta> dataFiles, List<DataFileMeta> changelogFiles) {
+            this.dataFiles = dataFiles;
+            this.changelogFiles = changelogFiles;
         }
     }
 }
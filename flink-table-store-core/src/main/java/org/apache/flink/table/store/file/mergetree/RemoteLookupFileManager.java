@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.mergetree;
+
+import org.apache.flink.table.store.file.io.DataFileMeta;
+import org.apache.flink.table.store.file.io.DataFilePathFactory;
+import org.apache.flink.table.store.fs.FileIO;
+import org.apache.flink.table.store.fs.Path;
+import org.apache.flink.table.store.utils.IOUtils;
+
+import javax.annotation.Nullable;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.flink.table.store.file.io.DataFilePathFactory.LOOKUP_FILE_PREFIX;
+
+/**
+ * Manages lookup files persisted next to data files. A persisted lookup file is referenced by the
+ * extra files of its {@link DataFileMeta}, so it can be fetched with one sequential read instead of
+ * being rebuilt from the data file, and is deleted together with the data file.
+ *
+ * <p>A persisted lookup file starts with a version byte. A file of another version is rejected when
+ * it is fetched, so the lookup file is rebuilt from the data file instead.
+ */
+public class RemoteLookupFileManager {
+
+    /** Version of persisted lookup files, bump it if the format of lookup files changes. */
+    public static final byte VERSION = 1;
+
+    private final FileIO fileIO;
+    private final DataFilePathFactory pathFactory;
+
+    public RemoteLookupFileManager(FileIO fileIO, DataFilePathFactory pathFactory) {
+        this.fileIO = fileIO;
+        this.pathFactory = pathFactory;
+    }
+
+    /**
+     * Uploads the local lookup file of a data file, returns the data file referencing it. The
+     * upload is synchronous, it costs one sequential write of the lookup file for the caller.
+     */
+    public DataFileMeta upload(DataFileMeta file, File localFile) throws IOException {
+        Path remotePath = pathFactory.newLookupPath();
+        try {
+            OutputStream out = fileIO.newOutputStream(remotePath, false);
+            out.write(VERSION);
+            IOUtils.copyBytes(new FileInputStream(localFile), out);
+        } catch (IOException e) {
+            fileIO.deleteQuietly(remotePath);
+            throw e;
+        }
+
+        List<String> extraFiles = new ArrayList<>(file.extraFiles());
+        extraFiles.add(remotePath.getName());
+        return file.copy(extraFiles);
+    }
+
+    /** Returns the name of the persisted lookup file of the data file, null if there is none. */
+    @Nullable
+    public String remoteLookupFile(DataFileMeta file) {
+        for (String extraFile : file.extraFiles()) {
+            if (extraFile.startsWith(LOOKUP_FILE_PREFIX)) {
+                return extraFile;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Downloads a persisted lookup file, throws {@link IOException} if the file is not of the
+     * current {@link #VERSION}.
+     */
+    public void download(String remoteFile, File localFile) throws IOException {
+        InputStream in = fileIO.newInputStream(pathFactory.toPath(remoteFile));
+        int version = in.read();
+        if (version != VERSION) {
+            in.close();
+            throw new IOException(
+                    String.format(
+                            "Unsupported version %s of persisted lookup file %s, expected %s.",
+                            version, remoteFile, VERSION));
+        }
+        IOUtils.copyBytes(in, new FileOutputStream(localFile));
+    }
+}
@@ -137,6 +137,11 @@ public class SortBufferWriteBuffer implements WriteBuffer {
         }
     }
 
+    @Override
+    public void prepareForEach() throws IOException {
+        buffer.prepareSortedIterator();
+    }
+
     @Override
     public void clear() {
         buffer.clear();
@@ -65,6 +65,12 @@ public interface WriteBuffer {
             KvConsumer mergedConsumer)
             throws IOException;
 
+    /**
+     * Does the work of {@link #forEach} which allocates or releases memory, so that {@link
+     * #forEach} can be called by a thread not owning the memory pool.
+     */
+    void prepareForEach() throws IOException;
+
     /** Removes all records from this table. The table will be empty after this call returns. */
     void clear();
 
@@ -18,8 +18,10 @@
 
 package org.apache.flink.table.store.file.mergetree.compact;
 
+import org.apache.flink.table.store.CoreOptions.SortEngine;
 import org.apache.flink.table.store.data.InternalRow;
 import org.apache.flink.table.store.file.KeyValue;
+import org.apache.flink.table.store.file.compact.CompactResult;
 import org.apache.flink.table.store.file.io.DataFileMeta;
 import org.apache.flink.table.store.file.io.KeyValueFileReaderFactory;
 import org.apache.flink.table.store.file.io.KeyValueFileWriterFactory;
@@ -28,8 +30,11 @@ import org.apache.flink.table.store.file.mergetree.SortedRun;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * A {@link MergeTreeCompactRewriter} which produces changelog files by lookup for the compaction
@@ -44,11 +49,44 @@ public class LookupMergeTreeCompactRewriter extends ChangelogMergeTreeRewriter {
             KeyValueFileReaderFactory readerFactory,
             KeyValueFileWriterFactory writerFactory,
             Comparator<InternalRow> keyComparator,
-            MergeFunctionFactory<KeyValue> mfFactory) {
-        super(readerFactory, writerFactory, keyComparator, mfFactory);
+            MergeFunctionFactory<KeyValue> mfFactory,
+            SortEngine sortEngine) {
+        super(readerFactory, writerFactory, keyComparator, mfFactory, sortEngine);
         this.lookupLevels = lookupLevels;
     }
 
+    @Override
+    public CompactResult rewrite(
+            int outputLevel, boolean dropDelete, List<List<SortedRun>> sections) throws Exception {
+        return persistLookupFiles(super.rewrite(outputLevel, dropDelete, sections));
+    }
+
+    @Override
+    public CompactResult upgrade(int outputLevel, DataFileMeta file) throws Exception {
+        return persistLookupFiles(super.upgrade(outputLevel, file));
+    }
+
+    private CompactResult persistLookupFiles(CompactResult result) throws IOException {
+        // only new files can reference persisted lookup files, upgraded files are kept as is
+        Set<String> before =
+                result.before().stream().map(DataFileMeta::fileName).collect(Collectors.toSet());
+        List<DataFileMeta> after = new ArrayList<>(result.after().size());
+        List<DataFileMeta> newFiles = new ArrayList<>();
+        for (DataFileMeta file : result.after()) {
+            if (before.contains(file.fileName())) {
+                after.add(file);
+            } else {
+                newFiles.add(file);
+            }
+        }
+        if (newFiles.isEmpty()) {
+            return result;
+        }
+
+        after.addAll(lookupLevels.persistLookupFiles(newFiles));
+        return new CompactResult(result.before(), after, result.changelog());
+    }
+
     @Override
     protected boolean rewriteChangelog(
             int outputLevel, boolean dropDelete, List<List<SortedRun>> sections) {
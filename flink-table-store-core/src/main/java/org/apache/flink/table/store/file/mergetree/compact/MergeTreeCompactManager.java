@@ -142,6 +142,15 @@ public class MergeTreeCompactManager extends CompactFutureManager {
                 });
     }
 
+    /**
+     * Buckets closer to {@link #numSortedRunStopTrigger} compact first, because their writers will
+     * be stopped to wait for compaction. The priority is the percentage of sorted runs relative to
+     * the stop trigger.
+     */
+    private int priority() {
+        return (int) (levels.numberOfSortedRuns() * 100L / numSortedRunStopTrigger);
+    }
+
     @VisibleForTesting
     public Levels levels() {
         return levels;
@@ -149,7 +158,8 @@ public class MergeTreeCompactManager extends CompactFutureManager {
 
     private void submitCompaction(CompactUnit unit, boolean dropDelete) {
         MergeTreeCompactTask task =
-                new MergeTreeCompactTask(keyComparator, minFileSize, rewriter, unit, dropDelete);
+                new MergeTreeCompactTask(
+                        keyComparator, minFileSize, rewriter, unit, dropDelete, priority());
         if (LOG.isDebugEnabled()) {
             LOG.debug(
                     "Pick these files (name, level, size) for compaction: {}",
@@ -50,8 +50,9 @@ public class MergeTreeCompactTask extends CompactTask {
             long minFileSize,
             CompactRewriter rewriter,
             CompactUnit unit,
-            boolean dropDelete) {
-        super(unit.files());
+            boolean dropDelete,
+            int priority) {
+        super(unit.files(), priority);
         this.minFileSize = minFileSize;
         this.rewriter = rewriter;
         this.outputLevel = unit.outputLevel();
@@ -0,0 +1,352 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.mergetree.compact;
+
+import org.apache.flink.table.store.codegen.NormalizedKeyComputer;
+import org.apache.flink.table.store.data.InternalRow;
+import org.apache.flink.table.store.file.KeyValue;
+import org.apache.flink.table.store.file.utils.NormalizedKeyComparator;
+import org.apache.flink.table.store.memory.MemorySegment;
+import org.apache.flink.table.store.reader.RecordReader;
+import org.apache.flink.table.store.utils.Preconditions;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * {@link SortMergeReader} implemented with a winner tree. Each internal node keeps the winner of
+ * the match between its two subtrees, so after the record of a leaf changes, the new winner is
+ * found by replaying the single path from that leaf to the root, costing about log(k) comparisons.
+ *
+ * <p>A loser tree, which keeps the loser at each node, only supports replaying the path of the
+ * current winner. This reader pops all records of a key before it advances their leaves, so the
+ * advanced leaves are not winners any more, and a winner tree is used instead.
+ *
+ * <p>Each internal node also remembers whether the winners of its two subtrees have the same key.
+ * When the winner is popped, the remaining records with the same key are found along its path
+ * without comparing keys, so equal keys from many runs are merged without extra key comparisons.
+ *
+ * <p>If the key comparator is a {@link NormalizedKeyComparator}, the normalized key of each leaf is
+ * put once when its record changes, and keys are compared by normalized keys first. The full
+ * comparator is only used when normalized keys are equal and do not fully determine the order.
+ */
+public class SortMergeReaderWithWinnerTree<T> implements SortMergeReader<T> {
+
+    private final Comparator<InternalRow> userKeyComparator;
+    private final MergeFunctionWrapper<T> mergeFunctionWrapper;
+
+    private final int size;
+    private final RecordReader<KeyValue>[] readers;
+    private final RecordIterator<KeyValue>[] iterators;
+
+    // current record of each leaf, null if the leaf has been popped or reaches end of batch
+    private final KeyValue[] kvs;
+
+    // normalized keys of leaves, leaf i starts at offset (i * numKeyBytes)
+    @Nullable private final NormalizedKeyComputer normalizedKeyComputer;
+    private final MemorySegment normalizedKeys;
+    private final int numKeyBytes;
+    private final boolean keyFullyDetermines;
+
+    // tree[1] is the winner, tree[n] is the winner of node n, leaf i is node (i + size)
+    private final int[] tree;
+
+    // whether the winners of the two children of node n have the same key
+    private final boolean[] sameKey;
+    private boolean initialized;
+
+    private final int[] polled;
+    private int numPolled;
+    private final int[] nextBatchLeaves;
+    private int numNextBatchLeaves;
+
+    @SuppressWarnings("unchecked")
+    public SortMergeReaderWithWinnerTree(
+            List<RecordReader<KeyValue>> readers,
+            Comparator<InternalRow> userKeyComparator,
+            MergeFunctionWrapper<T> mergeFunctionWrapper) {
+        this.userKeyComparator = userKeyComparator;
+        this.mergeFunctionWrapper = mergeFunctionWrapper;
+
+        this.size = readers.size();
+        this.readers = readers.toArray(new RecordReader[0]);
+        this.iterators = new RecordIterator[size];
+        this.kvs = new KeyValue[size];
+        if (userKeyComparator instanceof NormalizedKeyComparator) {
+            this.normalizedKeyComputer =
+                    ((NormalizedKeyComparator) userKeyComparator).normalizedKeyComputer();
+            this.numKeyBytes = normalizedKeyComputer.getNumKeyBytes();
+            this.keyFullyDetermines = normalizedKeyComputer.isKeyFullyDetermines();
+        } else {
+            this.normalizedKeyComputer = null;
+            this.numKeyBytes = 0;
+            this.keyFullyDetermines = false;
+        }
+        this.normalizedKeys = MemorySegment.wrap(new byte[size * numKeyBytes]);
+        this.tree = new int[2 * size];
+        this.sameKey = new boolean[size];
+        this.initialized = false;
+
+        this.polled = new int[size];
+        this.numPolled = 0;
+        this.nextBatchLeaves = new int[size];
+        for (int i = 0; i < size; i++) {
+            tree[i + size] = i;
+            nextBatchLeaves[i] = i;
+        }
+        this.numNextBatchLeaves = size;
+    }
+
+    @Nullable
+    @Override
+    public RecordIterator<T> readBatch() throws IOException {
+        for (int i = 0; i < numNextBatchLeaves; i++) {
+            int leaf = nextBatchLeaves[i];
+            while (true) {
+                RecordIterator<KeyValue> iterator = readers[leaf].readBatch();
+                if (iterator == null) {
+                    // no more batches, permanently remove this reader
+                    readers[leaf].close();
+                    readers[leaf] = null;
+                    break;
+                }
+                KeyValue kv = iterator.next();
+                if (kv == null) {
+                    // empty iterator, clean up and try next batch
+                    iterator.releaseBatch();
+                } else {
+                    // found next kv
+                    iterators[leaf] = iterator;
+                    setKeyValue(leaf, kv);
+                    break;
+                }
+            }
+        }
+
+        if (!initialized) {
+            for (int node = size - 1; node > 0; node--) {
+                tree[node] = compete(node);
+            }
+            initialized = true;
+        } else {
+            for (int i = 0; i < numNextBatchLeaves; i++) {
+                adjust(nextBatchLeaves[i]);
+            }
+        }
+        numNextBatchLeaves = 0;
+
+        return size > 0 && kvs[winner()] != null ? new SortMergeIterator() : null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (int i = 0; i < size; i++) {
+            if (iterators[i] != null) {
+                iterators[i].releaseBatch();
+                iterators[i] = null;
+            }
+            if (readers[i] != null) {
+                readers[i].close();
+                readers[i] = null;
+            }
+        }
+    }
+
+    private int winner() {
+        // there is no internal node if there is only one leaf
+        return size == 1 ? 0 : tree[1];
+    }
+
+    private void setKeyValue(int leaf, KeyValue kv) {
+        kvs[leaf] = kv;
+        if (normalizedKeyComputer != null) {
+            normalizedKeyComputer.putKey(kv.key(), normalizedKeys, leaf * numKeyBytes);
+        }
+    }
+
+    private int compareKey(int leaf1, int leaf2) {
+        if (normalizedKeyComputer != null) {
+            int result =
+                    normalizedKeyComputer.compareKey(
+                            normalizedKeys,
+                            leaf1 * numKeyBytes,
+                            normalizedKeys,
+                            leaf2 * numKeyBytes);
+            if (result != 0 || keyFullyDetermines) {
+                return result;
+            }
+        }
+        return userKeyComparator.compare(kvs[leaf1].key(), kvs[leaf2].key());
+    }
+
+    /** Replays the path from the leaf to the root after the record of the leaf is changed. */
+    private void adjust(int leaf) {
+        for (int node = (leaf + size) >>> 1; node > 0; node >>>= 1) {
+            tree[node] = compete(node);
+        }
+    }
+
+    /**
+     * Compares the winners of the two children of the node by key and sequence number, returns the
+     * winner and records whether they have the same key. A popped or ended leaf always loses.
+     */
+    private int compete(int node) {
+        int left = tree[2 * node];
+        int right = tree[2 * node + 1];
+        if (kvs[right] == null) {
+            sameKey[node] = false;
+            return left;
+        }
+        if (kvs[left] == null) {
+            sameKey[node] = false;
+            return right;
+        }
+        int result = compareKey(left, right);
+        sameKey[node] = result == 0;
+        if (result == 0) {
+            return kvs[left].sequenceNumber() <= kvs[right].sequenceNumber() ? left : right;
+        }
+        return result < 0 ? left : right;
+    }
+
+    /** Returns whether any other record in the tree may have the same key as the winner. */
+    private boolean winnerHasSameKey() {
+        for (int node = (winner() + size) >>> 1; node > 0; node >>>= 1) {
+            if (sameKey[node]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Pops the winner and replays its path, returns whether the new winner has the same key as the
+     * popped one. The popped winner was the winner of every node on its path, so whether the winner
+     * of the sibling subtree has the popped key is known from {@link #sameKey}, and keys only need
+     * to be compared when neither side has the popped key.
+     */
+    private boolean popWinner() {
+        int popped = winner();
+        kvs[popped] = null;
+
+        int candidate = popped;
+        // whether the candidate has the popped key
+        boolean candidateSame = false;
+        int child = popped + size;
+        for (int node = child >>> 1; node > 0; child = node, node >>>= 1) {
+            int sibling = tree[child ^ 1];
+            boolean siblingSame = sameKey[node];
+            if (kvs[sibling] == null) {
+                // keep candidate
+            } else if (kvs[candidate] == null) {
+                candidate = sibling;
+                candidateSame = siblingSame;
+            } else if (candidateSame) {
+                if (siblingSame
+                        && kvs[sibling].sequenceNumber() < kvs[candidate].sequenceNumber()) {
+                    candidate = sibling;
+                }
+                sameKey[node] = siblingSame;
+            } else if (siblingSame) {
+                candidate = sibling;
+                candidateSame = true;
+                sameKey[node] = false;
+            } else {
+                candidate = compete(node);
+            }
+            tree[node] = candidate;
+        }
+        return kvs[candidate] != null && candidateSame;
+    }
+
+    /** The iterator iterates on {@link SortMergeReaderWithWinnerTree}. */
+    private class SortMergeIterator implements RecordIterator<T> {
+
+        private boolean released = false;
+
+        @Override
+        public T next() throws IOException {
+            while (true) {
+                boolean hasMore = nextImpl();
+                if (!hasMore) {
+                    return null;
+                }
+                T result = mergeFunctionWrapper.getResult();
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+
+        private boolean nextImpl() throws IOException {
+            Preconditions.checkState(
+                    !released, "SortMergeIterator#advanceNext is called after release");
+            Preconditions.checkState(
+                    numNextBatchLeaves == 0,
+                    "SortMergeIterator#advanceNext is called even if the last call returns null. "
+                            + "This is a bug.");
+
+            // advance previously polled leaves, the merge function has consumed their records
+            for (int i = 0; i < numPolled; i++) {
+                int leaf = polled[i];
+                KeyValue kv = iterators[leaf].next();
+                if (kv == null) {
+                    // reach end of batch, clean up
+                    iterators[leaf].releaseBatch();
+                    iterators[leaf] = null;
+                    kvs[leaf] = null;
+                    nextBatchLeaves[numNextBatchLeaves++] = leaf;
+                } else {
+                    setKeyValue(leaf, kv);
+                    adjust(leaf);
+                }
+            }
+            numPolled = 0;
+
+            // there are readers reaching end of batch, so we end current batch
+            if (numNextBatchLeaves > 0) {
+                return false;
+            }
+
+            Preconditions.checkState(kvs[winner()] != null, "Tree is empty. This is a bug.");
+
+            // pop all records with the same key
+            // note that the same iterator should not produce the same keys, so this code is correct
+            // the last record of the key stays in the tree, its path is replayed only once when its
+            // leaf is advanced
+            mergeFunctionWrapper.reset();
+            boolean hasSameKey;
+            do {
+                int winner = winner();
+                mergeFunctionWrapper.add(kvs[winner]);
+                polled[numPolled++] = winner;
+                hasSameKey = winnerHasSameKey() && popWinner();
+            } while (hasSameKey);
+            return true;
+        }
+
+        @Override
+        public void releaseBatch() {
+            released = true;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.flink.table.store.file.manifest.ManifestEntry;
 import org.apache.flink.table.store.file.manifest.ManifestFile;
 import org.apache.flink.table.store.file.manifest.ManifestFileMeta;
 import org.apache.flink.table.store.file.manifest.ManifestList;
+import org.apache.flink.table.store.file.manifest.PartitionIndexFile;
 import org.apache.flink.table.store.file.predicate.BucketSelector;
 import org.apache.flink.table.store.file.predicate.Predicate;
 import org.apache.flink.table.store.file.predicate.PredicateBuilder;
@@ -43,6 +44,8 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
@@ -58,6 +61,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     private final SnapshotManager snapshotManager;
     private final ManifestFile.Factory manifestFileFactory;
     private final ManifestList manifestList;
+    private final PartitionIndexFile partitionIndexFile;
     private final int numOfBuckets;
     private final boolean checkNumOfBuckets;
 
@@ -82,6 +86,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
             long schemaId,
             ManifestFile.Factory manifestFileFactory,
             ManifestList.Factory manifestListFactory,
+            PartitionIndexFile.Factory partitionIndexFileFactory,
             int numOfBuckets,
             boolean checkNumOfBuckets) {
         this.partitionStatsConverter = new FieldStatsArraySerializer(partitionType);
@@ -94,6 +99,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         this.schemaId = schemaId;
         this.manifestFileFactory = manifestFileFactory;
         this.manifestList = manifestListFactory.create();
+        this.partitionIndexFile = partitionIndexFileFactory.create();
         this.numOfBuckets = numOfBuckets;
         this.checkNumOfBuckets = checkNumOfBuckets;
         this.tableSchemas = new ConcurrentHashMap<>();
@@ -183,7 +189,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
                 manifests = Collections.emptyList();
             } else {
                 Snapshot snapshot = snapshotManager.snapshot(snapshotId);
-                manifests = readManifests(snapshot);
+                manifests = filterByPartitionIndex(snapshot, readManifests(snapshot));
             }
         }
 
@@ -275,6 +281,32 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         }
     }
 
+    /**
+     * Skip data manifest files which contain no partition matching the partition filter according
+     * to the partition index of the snapshot. Manifest files absent from the index are kept.
+     */
+    private List<ManifestFileMeta> filterByPartitionIndex(
+            Snapshot snapshot, List<ManifestFileMeta> manifests) {
+        if (partitionFilter == null
+                || scanKind == ScanKind.CHANGELOG
+                || snapshot.partitionIndex() == null) {
+            return manifests;
+        }
+
+        Map<String, Set<BinaryRow>> partitionIndex =
+                partitionIndexFile.read(snapshot.partitionIndex());
+        List<ManifestFileMeta> result = new ArrayList<>();
+        for (ManifestFileMeta manifest : manifests) {
+            Set<BinaryRow> partitions = partitionIndex.get(manifest.fileName());
+            if (partitions == null
+                    || partitions.stream()
+                            .anyMatch(p -> partitionFilter.test(partitionConverter.convert(p)))) {
+                result.add(manifest);
+            }
+        }
+        return result;
+    }
+
     // ------------------------------------------------------------------------
     // Start Thread Safe Methods: The following methods need to be thread safe because they will be
     // called by multiple threads
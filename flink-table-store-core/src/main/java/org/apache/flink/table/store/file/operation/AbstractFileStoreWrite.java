@@ -18,15 +18,19 @@
 
 package org.apache.flink.table.store.file.operation;
 
+import org.apache.flink.table.store.CoreOptions;
 import org.apache.flink.table.store.annotation.VisibleForTesting;
 import org.apache.flink.table.store.data.BinaryRow;
 import org.apache.flink.table.store.file.Snapshot;
+import org.apache.flink.table.store.file.compact.CompactExecutor;
 import org.apache.flink.table.store.file.disk.IOManager;
 import org.apache.flink.table.store.file.io.DataFileMeta;
 import org.apache.flink.table.store.file.manifest.ManifestEntry;
-import org.apache.flink.table.store.file.utils.ExecutorThreadFactory;
+import org.apache.flink.table.store.file.manifest.ManifestEntryCache;
 import org.apache.flink.table.store.file.utils.RecordWriter;
 import org.apache.flink.table.store.file.utils.SnapshotManager;
+import org.apache.flink.table.store.metrics.MetricGroup;
+import org.apache.flink.table.store.options.MemorySize;
 import org.apache.flink.table.store.table.sink.CommitMessage;
 import org.apache.flink.table.store.table.sink.CommitMessageImpl;
 
@@ -43,7 +47,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * Base {@link FileStoreWrite} implementation.
@@ -62,14 +65,23 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
 
     protected final Map<BinaryRow, Map<Integer, WriterContainer<T>>> writers;
 
-    private ExecutorService lazyCompactExecutor;
+    private final int compactionThreads;
+    private final boolean sharedCompactExecutor;
+    @Nullable private final MemorySize manifestCacheMaxMemorySize;
+    private volatile CompactExecutor lazyCompactExecutor;
     private boolean overwrite = false;
 
     protected AbstractFileStoreWrite(
-            String commitUser, SnapshotManager snapshotManager, FileStoreScan scan) {
+            String commitUser,
+            SnapshotManager snapshotManager,
+            FileStoreScan scan,
+            CoreOptions options) {
         this.commitUser = commitUser;
         this.snapshotManager = snapshotManager;
         this.scan = scan;
+        this.compactionThreads = options.compactionThreads();
+        this.sharedCompactExecutor = options.compactionSharedExecutor();
+        this.manifestCacheMaxMemorySize = options.manifestCacheMaxMemorySize();
 
         this.writers = new HashMap<>();
     }
@@ -77,9 +89,11 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
     private ExecutorService compactExecutor() {
         if (lazyCompactExecutor == null) {
             lazyCompactExecutor =
-                    Executors.newSingleThreadScheduledExecutor(
-                            new ExecutorThreadFactory(
-                                    Thread.currentThread().getName() + "-compaction"));
+                    sharedCompactExecutor
+                            ? CompactExecutor.acquireShared(compactionThreads)
+                            : CompactExecutor.create(
+                                    compactionThreads,
+                                    Thread.currentThread().getName() + "-compaction");
         }
         return lazyCompactExecutor;
     }
@@ -90,6 +104,17 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
         return this;
     }
 
+    @Override
+    public FileStoreWrite<T> withMetricGroup(MetricGroup metricGroup) {
+        if (manifestCacheMaxMemorySize != null) {
+            ManifestEntryCache.getOrCreate(manifestCacheMaxMemorySize)
+                    .registerMetrics(metricGroup.addGroup("manifestCache"));
+        }
+        CompactExecutor.registerMetrics(
+                metricGroup.addGroup("compaction"), () -> lazyCompactExecutor);
+        return this;
+    }
+
     protected List<DataFileMeta> scanExistingFileMetas(
             Long snapshotId, BinaryRow partition, int bucket) {
         List<DataFileMeta> existingFileMetas = new ArrayList<>();
@@ -228,7 +253,8 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
         }
         writers.clear();
         if (lazyCompactExecutor != null) {
-            lazyCompactExecutor.shutdownNow();
+            lazyCompactExecutor.release();
+            lazyCompactExecutor = null;
         }
     }
 
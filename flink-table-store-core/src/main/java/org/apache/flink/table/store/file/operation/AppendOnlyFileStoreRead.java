@@ -94,10 +94,26 @@ public class AppendOnlyFileStoreRead implements FileStoreRead<InternalRow> {
 
     @Override
     public RecordReader<InternalRow> createReader(DataSplit split) throws IOException {
+        return createReader(split, 0);
+    }
+
+    /**
+     * Creates a reader which starts from the row at the given position of the split. Files of the
+     * split are read one after another, so the position of a row in the split is its position in
+     * its file plus the row counts of the files before. Files before the position are not opened.
+     */
+    public RecordReader<InternalRow> createReader(DataSplit split, long startPosition)
+            throws IOException {
         DataFilePathFactory dataFilePathFactory =
                 pathFactory.createDataFilePathFactory(split.partition(), split.bucket());
         List<ConcatRecordReader.ReaderSupplier<InternalRow>> suppliers = new ArrayList<>();
+        long positionOffset = 0;
         for (DataFileMeta file : split.files()) {
+            if (positionOffset + file.rowCount() <= startPosition) {
+                positionOffset += file.rowCount();
+                continue;
+            }
+
             String formatIdentifier = DataFilePathFactory.formatIdentifier(file.fileName());
             BulkFormatMapping bulkFormatMapping =
                     bulkFormatMappings.computeIfAbsent(
@@ -132,6 +148,8 @@ public class AppendOnlyFileStoreRead implements FileStoreRead<InternalRow> {
                                                 .createReaderFactory(
                                                         rowType, dataProjection, dataFilters));
                             });
+            long fileOffset = positionOffset;
+            long fileStartPosition = Math.max(0, startPosition - positionOffset);
             suppliers.add(
                     () ->
                             new RowDataFileRecordReader(
@@ -139,7 +157,10 @@ public class AppendOnlyFileStoreRead implements FileStoreRead<InternalRow> {
                                     dataFilePathFactory.toPath(file.fileName()),
                                     bulkFormatMapping.getReaderFactory(),
                                     bulkFormatMapping.getIndexMapping(),
-                                    bulkFormatMapping.getCastMapping()));
+                                    bulkFormatMapping.getCastMapping(),
+                                    fileOffset,
+                                    fileStartPosition));
+            positionOffset += file.rowCount();
         }
 
         return ConcatRecordReader.create(suppliers);
@@ -21,6 +21,7 @@ package org.apache.flink.table.store.file.operation;
 import org.apache.flink.table.store.file.manifest.ManifestEntry;
 import org.apache.flink.table.store.file.manifest.ManifestFile;
 import org.apache.flink.table.store.file.manifest.ManifestList;
+import org.apache.flink.table.store.file.manifest.PartitionIndexFile;
 import org.apache.flink.table.store.file.predicate.Predicate;
 import org.apache.flink.table.store.file.schema.SchemaManager;
 import org.apache.flink.table.store.file.stats.FieldStatsConverters;
@@ -50,6 +51,7 @@ public class AppendOnlyFileStoreScan extends AbstractFileStoreScan {
             long schemaId,
             ManifestFile.Factory manifestFileFactory,
             ManifestList.Factory manifestListFactory,
+            PartitionIndexFile.Factory partitionIndexFileFactory,
             int numOfBuckets,
             boolean checkNumOfBuckets) {
         super(
@@ -60,6 +62,7 @@ public class AppendOnlyFileStoreScan extends AbstractFileStoreScan {
                 schemaId,
                 manifestFileFactory,
                 manifestListFactory,
+                partitionIndexFileFactory,
                 numOfBuckets,
                 checkNumOfBuckets);
         this.rowType = rowType;
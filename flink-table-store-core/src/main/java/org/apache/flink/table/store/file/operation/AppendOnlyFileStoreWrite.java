@@ -59,6 +59,7 @@ public class AppendOnlyFileStoreWrite extends AbstractFileStoreWrite<InternalRow
     private final int compactionMaxFileNum;
     private final boolean commitForceCompact;
     private final boolean skipCompaction;
+    private final int numBuckets;
 
     public AppendOnlyFileStoreWrite(
             FileIO fileIO,
@@ -70,7 +71,7 @@ public class AppendOnlyFileStoreWrite extends AbstractFileStoreWrite<InternalRow
             SnapshotManager snapshotManager,
             FileStoreScan scan,
             CoreOptions options) {
-        super(commitUser, snapshotManager, scan);
+        super(commitUser, snapshotManager, scan, options);
         this.fileIO = fileIO;
         this.read = read;
         this.schemaId = schemaId;
@@ -82,6 +83,7 @@ public class AppendOnlyFileStoreWrite extends AbstractFileStoreWrite<InternalRow
         this.compactionMaxFileNum = options.compactionMaxFileNum();
         this.commitForceCompact = options.commitForceCompact();
         this.skipCompaction = options.writeOnly();
+        this.numBuckets = options.bucket();
     }
 
     @Override
@@ -161,6 +163,7 @@ public class AppendOnlyFileStoreWrite extends AbstractFileStoreWrite<InternalRow
                                             0L /* unused */,
                                             partition,
                                             bucket,
+                                            numBuckets,
                                             toCompact,
                                             false))));
             rewriter.close();
@@ -72,4 +72,7 @@ public interface FileStoreCommit {
             List<Map<String, String>> partitions,
             ManifestCommittable committable,
             Map<String, String> properties);
+
+    /** Close the commit and release the resources of background tasks. */
+    void close();
 }
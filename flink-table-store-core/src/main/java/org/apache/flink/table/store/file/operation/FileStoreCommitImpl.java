@@ -28,9 +28,11 @@ import org.apache.flink.table.store.file.manifest.ManifestEntry;
 import org.apache.flink.table.store.file.manifest.ManifestFile;
 import org.apache.flink.table.store.file.manifest.ManifestFileMeta;
 import org.apache.flink.table.store.file.manifest.ManifestList;
+import org.apache.flink.table.store.file.manifest.PartitionIndexFile;
 import org.apache.flink.table.store.file.predicate.Predicate;
 import org.apache.flink.table.store.file.predicate.PredicateBuilder;
 import org.apache.flink.table.store.file.schema.SchemaManager;
+import org.apache.flink.table.store.file.utils.ExecutorThreadFactory;
 import org.apache.flink.table.store.file.utils.FileStorePathFactory;
 import org.apache.flink.table.store.file.utils.SnapshotManager;
 import org.apache.flink.table.store.fs.FileIO;
@@ -39,6 +41,7 @@ import org.apache.flink.table.store.options.MemorySize;
 import org.apache.flink.table.store.table.sink.CommitMessage;
 import org.apache.flink.table.store.table.sink.CommitMessageImpl;
 import org.apache.flink.table.store.types.RowType;
+import org.apache.flink.table.store.utils.ExceptionUtils;
 import org.apache.flink.table.store.utils.RowDataToObjectArrayConverter;
 
 import org.slf4j.Logger;
@@ -46,6 +49,7 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 
+import java.io.FileNotFoundException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -59,6 +63,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -77,6 +84,14 @@ import java.util.stream.Collectors;
  *   <li>If atomic rename fails it tries again after reading the latest snapshot from step 2.
  * </ol>
  *
+ * <p>The entries of the changed partitions which have been checked for conflicts are kept across
+ * retries. When other jobs commit in the meantime, only the delta manifests of their snapshots are
+ * merged into these entries, see {@link CheckedEntries}.
+ *
+ * <p>If manifests are merged asynchronously, the data manifests of a new snapshot are merged by a
+ * background thread, and the next commit replaces them with the merged manifests if they are still
+ * the leading data manifests of the latest snapshot, see {@link MergedManifests}.
+ *
  * <p>NOTE: If you want to modify this class, any exception during commit MUST NOT BE IGNORED. They
  * must be thrown to restart the job. It is recommended to run FileStoreCommitTest thousands of
  * times to make sure that your changes is correct.
@@ -92,14 +107,20 @@ public class FileStoreCommitImpl implements FileStoreCommit {
     private final RowDataToObjectArrayConverter partitionObjectConverter;
     private final FileStorePathFactory pathFactory;
     private final SnapshotManager snapshotManager;
+    private final ManifestFile.Factory manifestFileFactory;
     private final ManifestFile manifestFile;
     private final ManifestList manifestList;
+    @Nullable private final PartitionIndexFile partitionIndexFile;
     private final FileStoreScan scan;
     private final int numBucket;
     private final MemorySize manifestTargetSize;
     private final int manifestMergeMinCount;
+    private final boolean manifestMergeAsync;
     @Nullable private final Comparator<InternalRow> keyComparator;
 
+    @Nullable private ExecutorService manifestMergeExecutor;
+    @Nullable private Future<MergedManifests> manifestMergeFuture;
+
     @Nullable private Lock lock;
     private boolean ignoreEmptyCommit;
 
@@ -112,10 +133,12 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             SnapshotManager snapshotManager,
             ManifestFile.Factory manifestFileFactory,
             ManifestList.Factory manifestListFactory,
+            @Nullable PartitionIndexFile.Factory partitionIndexFileFactory,
             FileStoreScan scan,
             int numBucket,
             MemorySize manifestTargetSize,
             int manifestMergeMinCount,
+            boolean manifestMergeAsync,
             @Nullable Comparator<InternalRow> keyComparator) {
         this.fileIO = fileIO;
         this.schemaManager = schemaManager;
@@ -124,12 +147,16 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         this.partitionObjectConverter = new RowDataToObjectArrayConverter(partitionType);
         this.pathFactory = pathFactory;
         this.snapshotManager = snapshotManager;
+        this.manifestFileFactory = manifestFileFactory;
         this.manifestFile = manifestFileFactory.create();
         this.manifestList = manifestListFactory.create();
+        this.partitionIndexFile =
+                partitionIndexFileFactory == null ? null : partitionIndexFileFactory.create();
         this.scan = scan;
         this.numBucket = numBucket;
         this.manifestTargetSize = manifestTargetSize;
         this.manifestMergeMinCount = manifestMergeMinCount;
+        this.manifestMergeAsync = manifestMergeAsync;
         this.keyComparator = keyComparator;
 
         this.lock = null;
@@ -177,8 +204,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             LOG.debug("Ready to commit\n" + committable.toString());
         }
 
-        Long safeLatestSnapshotId = null;
-        List<ManifestEntry> baseEntries = new ArrayList<>();
+        CheckedEntries checkedEntries = null;
+        Long appendSnapshotId = null;
 
         List<ManifestEntry> appendTableFiles = new ArrayList<>();
         List<ManifestEntry> appendChangelog = new ArrayList<>();
@@ -202,21 +229,28 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             if (latestSnapshotId != null) {
                 // it is possible that some partitions only have compact changes,
                 // so we need to contain all changes
-                baseEntries.addAll(
-                        readAllEntriesFromChangedPartitions(
-                                latestSnapshotId, appendTableFiles, compactTableFiles));
-                noConflictsOrFail(baseEntries, appendTableFiles);
-                safeLatestSnapshotId = latestSnapshotId;
+                checkedEntries =
+                        new CheckedEntries(
+                                latestSnapshotId,
+                                changedPartitions(appendTableFiles, compactTableFiles));
+                noConflictsOrFail(checkedEntries.entries, appendTableFiles);
             }
 
-            tryCommit(
-                    appendTableFiles,
-                    appendChangelog,
-                    committable.identifier(),
-                    committable.watermark(),
-                    committable.logOffsets(),
-                    Snapshot.CommitKind.APPEND,
-                    safeLatestSnapshotId);
+            appendSnapshotId =
+                    tryCommit(
+                            appendTableFiles,
+                            appendChangelog,
+                            committable.identifier(),
+                            committable.watermark(),
+                            committable.logOffsets(),
+                            Snapshot.CommitKind.APPEND,
+                            checkedEntries);
+
+            // if the append commit follows just after the checked snapshot, its changes can be
+            // added to the checked entries directly
+            if (checkedEntries != null && checkedEntries.snapshotId + 1 == appendSnapshotId) {
+                checkedEntries.add(appendSnapshotId, appendTableFiles);
+            }
         }
 
         if (!compactTableFiles.isEmpty() || !compactChangelog.isEmpty()) {
@@ -226,11 +260,10 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             // If there are no other jobs committing at the same time,
             // we can skip conflict checking in tryCommit method.
             // This optimization is mainly used to decrease the number of times we read from files.
-            if (safeLatestSnapshotId != null) {
-                baseEntries.addAll(appendTableFiles);
-                noConflictsOrFail(baseEntries, compactTableFiles);
-                // assume this compact commit follows just after the append commit created above
-                safeLatestSnapshotId += 1;
+            // assume this compact commit follows just after the append commit created above,
+            // otherwise the new snapshots are merged and checked in tryCommit method
+            if (checkedEntries != null && appendSnapshotId.equals(checkedEntries.snapshotId)) {
+                noConflictsOrFail(checkedEntries.entries, compactTableFiles);
             }
 
             tryCommit(
@@ -240,7 +273,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                     committable.watermark(),
                     committable.logOffsets(),
                     Snapshot.CommitKind.COMPACT,
-                    safeLatestSnapshotId);
+                    checkedEntries);
         }
     }
 
@@ -375,16 +408,34 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                 kind, commitMessage.partition(), commitMessage.bucket(), numBucket, file);
     }
 
-    private void tryCommit(
+    /**
+     * Commits the changes until success and returns the id of the new snapshot. The changes are
+     * checked for conflicts against the latest snapshot unless they have been checked against it in
+     * {@code checkedEntries}.
+     */
+    private long tryCommit(
             List<ManifestEntry> tableFiles,
             List<ManifestEntry> changelogFiles,
             long identifier,
             @Nullable Long watermark,
             Map<Integer, Long> logOffsets,
             Snapshot.CommitKind commitKind,
-            Long safeLatestSnapshotId) {
+            @Nullable CheckedEntries checkedEntries) {
         while (true) {
             Long latestSnapshotId = snapshotManager.latestSnapshotId();
+            if (latestSnapshotId != null) {
+                if (checkedEntries == null) {
+                    checkedEntries =
+                            new CheckedEntries(latestSnapshotId, changedPartitions(tableFiles));
+                    noConflictsOrFail(checkedEntries.entries, tableFiles);
+                } else if (checkedEntries.snapshotId != latestSnapshotId) {
+                    // latestSnapshotId is different from the snapshot id we've checked for
+                    // conflicts, so we have to check again
+                    checkedEntries.advance(latestSnapshotId);
+                    noConflictsOrFail(checkedEntries.entries, tableFiles);
+                }
+            }
+
             if (tryCommitOnce(
                     tableFiles,
                     changelogFiles,
@@ -392,9 +443,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                     watermark,
                     logOffsets,
                     commitKind,
-                    latestSnapshotId,
-                    safeLatestSnapshotId)) {
-                break;
+                    latestSnapshotId)) {
+                return latestSnapshotId == null ? Snapshot.FIRST_SNAPSHOT_ID : latestSnapshotId + 1;
             }
         }
     }
@@ -427,6 +477,13 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             }
             changesWithOverwrite.addAll(changes);
 
+            if (latestSnapshotId != null) {
+                noConflictsOrFail(
+                        readAllEntriesFromChangedPartitions(
+                                latestSnapshotId, changedPartitions(changesWithOverwrite)),
+                        changesWithOverwrite);
+            }
+
             if (tryCommitOnce(
                     changesWithOverwrite,
                     Collections.emptyList(),
@@ -434,8 +491,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                     watermark,
                     logOffsets,
                     Snapshot.CommitKind.OVERWRITE,
-                    latestSnapshotId,
-                    null)) {
+                    latestSnapshotId)) {
                 break;
             }
         }
@@ -448,8 +504,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             @Nullable Long watermark,
             Map<Integer, Long> logOffsets,
             Snapshot.CommitKind commitKind,
-            Long latestSnapshotId,
-            Long safeLatestSnapshotId) {
+            @Nullable Long latestSnapshotId) {
         long newSnapshotId =
                 latestSnapshotId == null ? Snapshot.FIRST_SNAPSHOT_ID : latestSnapshotId + 1;
         Path newSnapshotPath = snapshotManager.snapshotPath(newSnapshotId);
@@ -467,11 +522,6 @@ public class FileStoreCommitImpl implements FileStoreCommit {
 
         Snapshot latestSnapshot = null;
         if (latestSnapshotId != null) {
-            if (!latestSnapshotId.equals(safeLatestSnapshotId)) {
-                // latestSnapshotId is different from the snapshot id we've checked for conflicts,
-                // so we have to check again
-                noConflictsOrFail(latestSnapshotId, tableFiles);
-            }
             latestSnapshot = snapshotManager.snapshot(latestSnapshotId);
         }
 
@@ -479,6 +529,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         String previousChangesListName = null;
         String newChangesListName = null;
         String changelogListName = null;
+        String partitionIndexName = null;
         List<ManifestFileMeta> oldMetas = new ArrayList<>();
         List<ManifestFileMeta> newMetas = new ArrayList<>();
         List<ManifestFileMeta> changelogMetas = new ArrayList<>();
@@ -503,12 +554,16 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                 }
             }
             // merge manifest files with changes
-            newMetas.addAll(
-                    ManifestFileMeta.merge(
-                            oldMetas,
-                            manifestFile,
-                            manifestTargetSize.getBytes(),
-                            manifestMergeMinCount));
+            if (manifestMergeAsync) {
+                newMetas.addAll(applyMergedManifests(oldMetas));
+            } else {
+                newMetas.addAll(
+                        ManifestFileMeta.merge(
+                                oldMetas,
+                                manifestFile,
+                                manifestTargetSize.getBytes(),
+                                manifestMergeMinCount));
+            }
             previousChangesListName = manifestList.write(newMetas);
 
             // write new changes into manifest files
@@ -523,6 +578,14 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                 changelogListName = manifestList.write(changelogMetas);
             }
 
+            // write partition index of all data manifest files
+            if (partitionIndexFile != null) {
+                partitionIndexName =
+                        partitionIndexFile.write(
+                                partitionIndex(
+                                        latestSnapshot, newMetas, newChangesManifests, tableFiles));
+            }
+
             // prepare snapshot file
             newSnapshot =
                     new Snapshot(
@@ -539,13 +602,15 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                             previousTotalRecordCount + deltaRecordCount,
                             deltaRecordCount,
                             Snapshot.recordCount(changelogFiles),
-                            currentWatermark);
+                            currentWatermark,
+                            partitionIndexName);
         } catch (Throwable e) {
             // fails when preparing for commit, we should clean up
             cleanUpTmpManifests(
                     previousChangesListName,
                     newChangesListName,
                     changelogListName,
+                    partitionIndexName,
                     oldMetas,
                     newMetas,
                     changelogMetas);
@@ -613,6 +678,9 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                                 identifier,
                                 commitKind.name()));
             }
+            if (manifestMergeAsync) {
+                mergeManifestsAsync(newMetas);
+            }
             return true;
         }
 
@@ -627,23 +695,104 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                 previousChangesListName,
                 newChangesListName,
                 changelogListName,
+                partitionIndexName,
                 oldMetas,
                 newMetas,
                 changelogMetas);
         return false;
     }
 
+    /**
+     * Replaces the leading data manifests with the manifests merged in background if they are
+     * ready. Merged manifests which cannot be applied any more are deleted.
+     */
+    private List<ManifestFileMeta> applyMergedManifests(List<ManifestFileMeta> dataManifests) {
+        if (manifestMergeFuture == null || !manifestMergeFuture.isDone()) {
+            return dataManifests;
+        }
+
+        MergedManifests merged;
+        try {
+            merged = manifestMergeFuture.get();
+        } catch (Exception e) {
+            LOG.warn("Failed to merge manifests asynchronously.", e);
+            return dataManifests;
+        } finally {
+            manifestMergeFuture = null;
+        }
+
+        if (merged == null) {
+            return dataManifests;
+        }
+
+        int numInputs = merged.inputs.size();
+        if (dataManifests.size() < numInputs
+                || !dataManifests.subList(0, numInputs).equals(merged.inputs)) {
+            // manifests have been changed by other jobs
+            Set<ManifestFileMeta> inputs = new HashSet<>(merged.inputs);
+            for (ManifestFileMeta manifest : merged.outputs) {
+                if (!inputs.contains(manifest)) {
+                    manifestFile.delete(manifest.fileName());
+                }
+            }
+            return dataManifests;
+        }
+
+        List<ManifestFileMeta> result = new ArrayList<>(merged.outputs);
+        result.addAll(dataManifests.subList(numInputs, dataManifests.size()));
+        return result;
+    }
+
+    /** Merges the data manifests of the new snapshot in background if no merge is running. */
+    private void mergeManifestsAsync(List<ManifestFileMeta> dataManifests) {
+        if (manifestMergeFuture != null) {
+            return;
+        }
+
+        if (manifestMergeExecutor == null) {
+            manifestMergeExecutor =
+                    Executors.newSingleThreadExecutor(
+                            new ExecutorThreadFactory("manifest-merge-thread"));
+        }
+        List<ManifestFileMeta> inputs = new ArrayList<>(dataManifests);
+        // manifest files are not thread safe, use a new one
+        ManifestFile mergeManifestFile = manifestFileFactory.create();
+        manifestMergeFuture =
+                manifestMergeExecutor.submit(
+                        () -> {
+                            List<ManifestFileMeta> outputs =
+                                    ManifestFileMeta.merge(
+                                            inputs,
+                                            mergeManifestFile,
+                                            manifestTargetSize.getBytes(),
+                                            manifestMergeMinCount);
+                            return outputs.equals(inputs)
+                                    ? null
+                                    : new MergedManifests(inputs, outputs);
+                        });
+    }
+
+    @Override
+    public void close() {
+        if (manifestMergeExecutor != null) {
+            manifestMergeExecutor.shutdownNow();
+        }
+    }
+
     @SafeVarargs
-    private final List<ManifestEntry> readAllEntriesFromChangedPartitions(
-            long snapshotId, List<ManifestEntry>... changes) {
-        List<BinaryRow> changedPartitions =
-                Arrays.stream(changes)
-                        .flatMap(Collection::stream)
-                        .map(ManifestEntry::partition)
-                        .distinct()
-                        .collect(Collectors.toList());
+    private static List<BinaryRow> changedPartitions(List<ManifestEntry>... changes) {
+        return Arrays.stream(changes)
+                .flatMap(Collection::stream)
+                .map(ManifestEntry::partition)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private List<ManifestEntry> readAllEntriesFromChangedPartitions(
+            long snapshotId, List<BinaryRow> changedPartitions) {
         try {
-            return scan.withSnapshot(snapshotId)
+            return scan.withKind(ScanKind.ALL)
+                    .withSnapshot(snapshotId)
                     .withPartitionFilter(changedPartitions)
                     .plan()
                     .files();
@@ -652,8 +801,17 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         }
     }
 
-    private void noConflictsOrFail(long snapshotId, List<ManifestEntry> changes) {
-        noConflictsOrFail(readAllEntriesFromChangedPartitions(snapshotId, changes), changes);
+    private List<ManifestEntry> readDeltaEntriesFromChangedPartitions(
+            long snapshotId, List<BinaryRow> changedPartitions) {
+        try {
+            return scan.withKind(ScanKind.DELTA)
+                    .withSnapshot(snapshotId)
+                    .withPartitionFilter(changedPartitions)
+                    .plan()
+                    .files();
+        } finally {
+            scan.withKind(ScanKind.ALL);
+        }
     }
 
     private void noConflictsOrFail(List<ManifestEntry> baseEntries, List<ManifestEntry> changes) {
@@ -743,6 +901,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             String previousChangesListName,
             String newChangesListName,
             String changelogListName,
+            String partitionIndexName,
             List<ManifestFileMeta> oldMetas,
             List<ManifestFileMeta> newMetas,
             List<ManifestFileMeta> changelogMetas) {
@@ -756,6 +915,9 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         if (changelogListName != null) {
             manifestList.delete(changelogListName);
         }
+        if (partitionIndexName != null && partitionIndexFile != null) {
+            partitionIndexFile.delete(partitionIndexName);
+        }
         // clean up newly merged manifest files
         Set<ManifestFileMeta> oldMetaSet = new HashSet<>(oldMetas); // for faster searching
         for (ManifestFileMeta suspect : newMetas) {
@@ -769,6 +931,106 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         }
     }
 
+    /**
+     * Computes the distinct partitions of each data manifest file of the new snapshot. Partitions
+     * of manifest files from the latest snapshot are taken from its partition index, only manifest
+     * files which are not indexed yet are read.
+     */
+    private Map<String, Set<BinaryRow>> partitionIndex(
+            @Nullable Snapshot latestSnapshot,
+            List<ManifestFileMeta> dataManifests,
+            List<ManifestFileMeta> newChangesManifests,
+            List<ManifestEntry> tableFiles) {
+        Map<String, Set<BinaryRow>> previous =
+                latestSnapshot == null || latestSnapshot.partitionIndex() == null
+                        ? Collections.emptyMap()
+                        : partitionIndexFile.read(latestSnapshot.partitionIndex());
+
+        Map<String, Set<BinaryRow>> index = new HashMap<>();
+        for (ManifestFileMeta manifest : dataManifests) {
+            Set<BinaryRow> partitions = previous.get(manifest.fileName());
+            if (partitions == null) {
+                // new changes are written into one manifest file in most cases, its partitions
+                // are known without reading it back
+                List<ManifestEntry> entries =
+                        newChangesManifests.size() == 1
+                                        && newChangesManifests.get(0).equals(manifest)
+                                ? tableFiles
+                                : manifestFile.read(manifest.fileName());
+                partitions = new HashSet<>();
+                for (ManifestEntry entry : entries) {
+                    partitions.add(entry.partition());
+                }
+            }
+            index.put(manifest.fileName(), partitions);
+        }
+        return index;
+    }
+
+    /**
+     * Entries of the changed partitions at a snapshot, the changes to commit have been checked for
+     * conflicts against them. When the latest snapshot changes, only the delta manifests of the new
+     * snapshots are merged into the entries, so the cost of checking again does not scale with the
+     * size of the changed partitions.
+     */
+    private class CheckedEntries {
+
+        private final List<BinaryRow> partitions;
+
+        private long snapshotId;
+        private List<ManifestEntry> entries;
+
+        private CheckedEntries(long snapshotId, List<BinaryRow> partitions) {
+            this.partitions = partitions;
+            this.snapshotId = snapshotId;
+            this.entries = readAllEntriesFromChangedPartitions(snapshotId, partitions);
+        }
+
+        /** Adds the changes committed by ourselves in the next snapshot. */
+        private void add(long nextSnapshotId, List<ManifestEntry> changes) {
+            List<ManifestEntry> allEntries = new ArrayList<>(entries);
+            allEntries.addAll(changes);
+            entries = new ArrayList<>(ManifestEntry.mergeEntries(allEntries));
+            snapshotId = nextSnapshotId;
+        }
+
+        /** Merges the delta manifests of the snapshots committed after the checked snapshot. */
+        private void advance(long latestSnapshotId) {
+            List<ManifestEntry> allEntries = new ArrayList<>(entries);
+            try {
+                for (long id = snapshotId + 1; id <= latestSnapshotId; id++) {
+                    allEntries.addAll(readDeltaEntriesFromChangedPartitions(id, partitions));
+                }
+                entries = new ArrayList<>(ManifestEntry.mergeEntries(allEntries));
+            } catch (RuntimeException e) {
+                // snapshots might be expired in the meantime, read all entries of the latest one
+                if (!ExceptionUtils.findThrowable(e, FileNotFoundException.class).isPresent()) {
+                    throw e;
+                }
+                LOG.warn(
+                        "Failed to read delta manifests from snapshot #{} to #{}, "
+                                + "read all entries from changed partitions instead.",
+                        snapshotId + 1,
+                        latestSnapshotId,
+                        e);
+                entries = readAllEntriesFromChangedPartitions(latestSnapshotId, partitions);
+            }
+            snapshotId = latestSnapshotId;
+        }
+    }
+
+    /** Data manifests merged in background, outputs are equivalent to inputs. */
+    private static class MergedManifests {
+
+        private final List<ManifestFileMeta> inputs;
+        private final List<ManifestFileMeta> outputs;
+
+        private MergedManifests(List<ManifestFileMeta> inputs, List<ManifestFileMeta> outputs) {
+            this.inputs = inputs;
+            this.outputs = outputs;
+        }
+    }
+
     private static class LevelIdentifier {
 
         private final BinaryRow partition;
@@ -18,12 +18,17 @@
 
 package org.apache.flink.table.store.file.operation;
 
+import org.apache.flink.table.store.metrics.MetricGroup;
+
 /** Expire operation which provides snapshots expire. */
 public interface FileStoreExpire {
 
     /** With global lock. */
     FileStoreExpire withLock(Lock lock);
 
+    /** Registers metrics of expiration to the given metric group. */
+    FileStoreExpire withMetricGroup(MetricGroup metricGroup);
+
     /** Expire snapshots. */
     void expire();
 }
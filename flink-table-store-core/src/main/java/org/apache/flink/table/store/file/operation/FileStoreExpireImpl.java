@@ -24,12 +24,15 @@ import org.apache.flink.table.store.file.manifest.ManifestEntry;
 import org.apache.flink.table.store.file.manifest.ManifestFile;
 import org.apache.flink.table.store.file.manifest.ManifestFileMeta;
 import org.apache.flink.table.store.file.manifest.ManifestList;
+import org.apache.flink.table.store.file.utils.ExecutorThreadFactory;
 import org.apache.flink.table.store.file.utils.FileStorePathFactory;
 import org.apache.flink.table.store.file.utils.SnapshotManager;
 import org.apache.flink.table.store.fs.FileIO;
 import org.apache.flink.table.store.fs.Path;
+import org.apache.flink.table.store.metrics.MetricGroup;
 
 import org.apache.flink.shaded.guava30.com.google.common.collect.Iterables;
+import org.apache.flink.shaded.guava30.com.google.common.collect.Lists;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,12 +42,19 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -54,17 +64,28 @@ import java.util.stream.Collectors;
  * <p>NOTE: This implementation will keep at least one snapshot so that users will not accidentally
  * clear all snapshots.
  *
+ * <p>Snapshots are expired one by one in id order. For each snapshot, the files only used by it are
+ * deleted in batches by {@link FileIO#deleteFilesQuietly}, and then its snapshot file is deleted.
+ * If more than one delete thread is configured, the batches of a snapshot are deleted in parallel.
+ * Files still used by the next snapshot are never deleted, so a job killed during expiration can
+ * only leave the earliest remaining snapshot with missing files, and that snapshot is expired again
+ * by the next expiration.
+ *
  * <p>TODO: add concurrent tests.
  */
 public class FileStoreExpireImpl implements FileStoreExpire {
 
     private static final Logger LOG = LoggerFactory.getLogger(FileStoreExpireImpl.class);
 
+    // object stores usually limit a multi-object delete request to 1000 objects
+    private static final int DELETE_BATCH_SIZE = 1000;
+
     private final FileIO fileIO;
     private final int numRetainedMin;
     // snapshots exceeding any constraint will be expired
     private final int numRetainedMax;
     private final long millisRetained;
+    private final int deleteThreads;
 
     private final FileStorePathFactory pathFactory;
     private final SnapshotManager snapshotManager;
@@ -73,11 +94,19 @@ public class FileStoreExpireImpl implements FileStoreExpire {
 
     private Lock lock;
 
+    // only set during expiration if more than one delete thread is configured
+    private ExecutorService deleteExecutor;
+
+    // metrics of deleted files
+    private final AtomicLong deletedFiles = new AtomicLong();
+    private final AtomicLong deletedBytes = new AtomicLong();
+
     public FileStoreExpireImpl(
             FileIO fileIO,
             int numRetainedMin,
             int numRetainedMax,
             long millisRetained,
+            int deleteThreads,
             FileStorePathFactory pathFactory,
             SnapshotManager snapshotManager,
             ManifestFile.Factory manifestFileFactory,
@@ -86,6 +115,7 @@ public class FileStoreExpireImpl implements FileStoreExpire {
         this.numRetainedMin = numRetainedMin;
         this.numRetainedMax = numRetainedMax;
         this.millisRetained = millisRetained;
+        this.deleteThreads = deleteThreads;
         this.pathFactory = pathFactory;
         this.snapshotManager = snapshotManager;
         this.manifestFile = manifestFileFactory.create();
@@ -98,6 +128,13 @@ public class FileStoreExpireImpl implements FileStoreExpire {
         return this;
     }
 
+    @Override
+    public FileStoreExpire withMetricGroup(MetricGroup metricGroup) {
+        metricGroup.gauge("deletedFiles", this::deletedFiles);
+        metricGroup.gauge("deletedBytes", this::deletedBytes);
+        return this;
+    }
+
     @Override
     public void expire() {
         Long latestSnapshotId = snapshotManager.latestSnapshotId();
@@ -131,6 +168,20 @@ public class FileStoreExpireImpl implements FileStoreExpire {
         expireUntil(earliest, latestSnapshotId - numRetainedMin + 1);
     }
 
+    /** Number of files deleted by expiration, files failed to delete are not counted. */
+    public long deletedFiles() {
+        return deletedFiles.get();
+    }
+
+    /**
+     * Total bytes of data files, changelog files and manifests deleted by expiration. Sizes of
+     * manifest lists and snapshots are not known without extra requests, so they are not counted,
+     * neither are files failed to delete.
+     */
+    public long deletedBytes() {
+        return deletedBytes.get();
+    }
+
     private void expireUntil(long earliestId, long endExclusiveId) {
         if (endExclusiveId <= earliestId) {
             // No expire happens:
@@ -159,96 +210,123 @@ public class FileStoreExpireImpl implements FileStoreExpire {
                     "Snapshot expire range is [" + beginInclusiveId + ", " + endExclusiveId + ")");
         }
 
-        // delete merge tree files
-        // deleted merge tree files in a snapshot are not used by the next snapshot, so the range of
-        // id should be (beginInclusiveId, endExclusiveId]
-        for (long id = beginInclusiveId + 1; id <= endExclusiveId; id++) {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Ready to delete merge tree files not used by snapshot #" + id);
-            }
-            Snapshot snapshot = snapshotManager.snapshot(id);
-            expireMergeTreeFiles(snapshot.deltaManifestList());
+        if (deleteThreads > 1) {
+            deleteExecutor =
+                    Executors.newFixedThreadPool(
+                            deleteThreads, new ExecutorThreadFactory("expire-delete-thread"));
         }
-
-        // delete changelog files
-        for (long id = beginInclusiveId; id < endExclusiveId; id++) {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Ready to delete changelog files from snapshot #" + id);
-            }
-            Snapshot snapshot = snapshotManager.snapshot(id);
-            if (snapshot.changelogManifestList() != null) {
-                expireChangelogFiles(snapshot.changelogManifestList());
+        try {
+            expireFiles(beginInclusiveId, endExclusiveId);
+        } finally {
+            if (deleteExecutor != null) {
+                deleteExecutor.shutdownNow();
+                deleteExecutor = null;
             }
         }
 
-        // delete manifests
-        Snapshot exclusiveSnapshot = snapshotManager.snapshot(endExclusiveId);
-        Set<ManifestFileMeta> manifestsInUse =
-                new HashSet<>(exclusiveSnapshot.dataManifests(manifestList));
-        // to avoid deleting twice
-        Set<ManifestFileMeta> deletedManifests = new HashSet<>();
+        writeEarliestHint(endExclusiveId);
+    }
+
+    private void expireFiles(long beginInclusiveId, long endExclusiveId) {
+        long filesBefore = deletedFiles.get();
+        long bytesBefore = deletedBytes.get();
+
+        // data manifests of the snapshot to expire
+        List<ManifestFileMeta> currentManifests =
+                readDataManifests(snapshotManager.snapshot(beginInclusiveId));
+        // manifests of the retained snapshot are never deleted
+        Set<ManifestFileMeta> retainedManifests =
+                new HashSet<>(snapshotManager.snapshot(endExclusiveId).dataManifests(manifestList));
         for (long id = beginInclusiveId; id < endExclusiveId; id++) {
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Ready to delete manifests in snapshot #" + id);
+                LOG.debug("Ready to expire snapshot #" + id);
             }
-
             Snapshot toExpire = snapshotManager.snapshot(id);
-            // cannot call `toExpire.dataManifests` directly, it is possible that a job is
-            // killed during expiration, so some manifest files may have been deleted
-            List<ManifestFileMeta> toExpireManifests = new ArrayList<>();
-            toExpireManifests.addAll(tryReadManifestList(toExpire.baseManifestList()));
-            toExpireManifests.addAll(tryReadManifestList(toExpire.deltaManifestList()));
-
-            // delete manifest
-            for (ManifestFileMeta manifest : toExpireManifests) {
-                if (!manifestsInUse.contains(manifest) && !deletedManifests.contains(manifest)) {
-                    manifestFile.delete(manifest.fileName());
-                    deletedManifests.add(manifest);
+            Snapshot next = snapshotManager.snapshot(id + 1);
+            Map<Path, Long> files = new LinkedHashMap<>();
+
+            // delete merge tree files
+            // deleted merge tree files in the next snapshot are not used by it, so they are only
+            // used by this snapshot
+            collectMergeTreeFiles(
+                    getManifestEntriesFromManifestList(next.deltaManifestList()), files);
+
+            // delete changelog files
+            if (toExpire.changelogManifestList() != null) {
+                collectChangelogFiles(toExpire.changelogManifestList(), files);
+            }
+            deleteFiles(files);
+
+            // delete manifests
+            List<ManifestFileMeta> nextManifests =
+                    id + 1 == endExclusiveId
+                            ? new ArrayList<>(retainedManifests)
+                            : readDataManifests(next);
+            Set<ManifestFileMeta> manifestsInUse = new HashSet<>(nextManifests);
+            manifestsInUse.addAll(retainedManifests);
+            List<ManifestFileMeta> manifests = new ArrayList<>();
+            for (ManifestFileMeta manifest : currentManifests) {
+                // add to manifestsInUse to avoid deleting twice
+                if (manifestsInUse.add(manifest)) {
+                    manifests.add(manifest);
                 }
             }
             if (toExpire.changelogManifestList() != null) {
-                for (ManifestFileMeta manifest :
-                        tryReadManifestList(toExpire.changelogManifestList())) {
-                    manifestFile.delete(manifest.fileName());
-                }
+                manifests.addAll(tryReadManifestList(toExpire.changelogManifestList()));
             }
+            forEachBatch(manifests, this::deleteManifests);
+            currentManifests = nextManifests;
 
             // delete manifest lists
-            manifestList.delete(toExpire.baseManifestList());
-            manifestList.delete(toExpire.deltaManifestList());
+            files.clear();
+            files.put(pathFactory.toManifestListPath(toExpire.baseManifestList()), 0L);
+            files.put(pathFactory.toManifestListPath(toExpire.deltaManifestList()), 0L);
             if (toExpire.changelogManifestList() != null) {
-                manifestList.delete(toExpire.changelogManifestList());
+                files.put(pathFactory.toManifestListPath(toExpire.changelogManifestList()), 0L);
+            }
+            if (toExpire.partitionIndex() != null) {
+                files.put(pathFactory.toPartitionIndexPath(toExpire.partitionIndex()), 0L);
             }
+            deleteFiles(files);
 
-            // delete snapshot
-            fileIO.deleteQuietly(snapshotManager.snapshotPath(id));
+            // delete snapshot after all its files, so that the remaining snapshots are always
+            // continuous
+            if (snapshotManager.deleteSnapshot(id)) {
+                deletedFiles.incrementAndGet();
+            }
         }
 
-        writeEarliestHint(endExclusiveId);
-    }
-
-    private void expireMergeTreeFiles(String manifestListName) {
-        expireMergeTreeFiles(getManifestEntriesFromManifestList(manifestListName));
+        LOG.info(
+                "Expired snapshots [{}, {}), deleted {} files of {} bytes.",
+                beginInclusiveId,
+                endExclusiveId,
+                deletedFiles.get() - filesBefore,
+                deletedBytes.get() - bytesBefore);
     }
 
     @VisibleForTesting
     void expireMergeTreeFiles(Iterable<ManifestEntry> dataFileLog) {
+        Map<Path, Long> files = new LinkedHashMap<>();
+        collectMergeTreeFiles(dataFileLog, files);
+        deleteFiles(files);
+    }
+
+    private void collectMergeTreeFiles(
+            Iterable<ManifestEntry> dataFileLog, Map<Path, Long> toDelete) {
         // we cannot delete a data file directly when we meet a DELETE entry, because that
         // file might be upgraded
-        Map<Path, List<Path>> dataFileToDelete = new HashMap<>();
+        Map<Path, ManifestEntry> dataFileToDelete = new HashMap<>();
         for (ManifestEntry entry : dataFileLog) {
-            Path bucketPath = pathFactory.bucketPath(entry.partition(), entry.bucket());
-            Path dataFilePath = new Path(bucketPath, entry.file().fileName());
+            Path dataFilePath =
+                    new Path(
+                            pathFactory.bucketPath(entry.partition(), entry.bucket()),
+                            entry.file().fileName());
             switch (entry.kind()) {
                 case ADD:
                     dataFileToDelete.remove(dataFilePath);
                     break;
                 case DELETE:
-                    List<Path> extraFiles = new ArrayList<>(entry.file().extraFiles().size());
-                    for (String file : entry.file().extraFiles()) {
-                        extraFiles.add(new Path(bucketPath, file));
-                    }
-                    dataFileToDelete.put(dataFilePath, extraFiles);
+                    dataFileToDelete.put(dataFilePath, entry);
                     break;
                 default:
                     throw new UnsupportedOperationException(
@@ -256,19 +334,80 @@ public class FileStoreExpireImpl implements FileStoreExpire {
             }
         }
         dataFileToDelete.forEach(
-                (path, extraFiles) -> {
-                    fileIO.deleteQuietly(path);
-                    extraFiles.forEach(fileIO::deleteQuietly);
+                (path, entry) -> {
+                    toDelete.put(path, entry.file().fileSize());
+                    for (String file : entry.file().extraFiles()) {
+                        toDelete.put(new Path(path.getParent(), file), 0L);
+                    }
                 });
     }
 
-    private void expireChangelogFiles(String manifestListName) {
+    private void collectChangelogFiles(String manifestListName, Map<Path, Long> toDelete) {
         for (ManifestEntry changelogEntry : getManifestEntriesFromManifestList(manifestListName)) {
-            fileIO.deleteQuietly(
+            toDelete.put(
                     new Path(
                             pathFactory.bucketPath(
                                     changelogEntry.partition(), changelogEntry.bucket()),
-                            changelogEntry.file().fileName()));
+                            changelogEntry.file().fileName()),
+                    changelogEntry.file().fileSize());
+        }
+    }
+
+    /** Deletes the files and counts the deleted ones, values of the map are file sizes. */
+    private void deleteFiles(Map<Path, Long> files) {
+        forEachBatch(
+                new ArrayList<>(files.keySet()),
+                batch -> {
+                    for (Path deleted : fileIO.deleteFilesQuietly(batch)) {
+                        deletedFiles.incrementAndGet();
+                        deletedBytes.addAndGet(files.get(deleted));
+                    }
+                });
+    }
+
+    private void deleteManifests(List<ManifestFileMeta> manifests) {
+        for (ManifestFileMeta manifest : manifests) {
+            if (manifestFile.delete(manifest.fileName())) {
+                deletedFiles.incrementAndGet();
+                deletedBytes.addAndGet(manifest.fileSize());
+            }
+        }
+    }
+
+    /**
+     * Applies the action to batches of the items, batches are processed in parallel if possible.
+     */
+    private <T> void forEachBatch(List<T> items, Consumer<List<T>> action) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        // spread items over all threads, but never exceed the size of a multi-object delete
+        int batchSize =
+                deleteExecutor == null
+                        ? DELETE_BATCH_SIZE
+                        : Math.min(
+                                DELETE_BATCH_SIZE,
+                                (items.size() + deleteThreads - 1) / deleteThreads);
+        List<List<T>> batches = Lists.partition(items, batchSize);
+        if (deleteExecutor == null || batches.size() == 1) {
+            batches.forEach(action);
+            return;
+        }
+
+        List<Future<?>> futures = new ArrayList<>(batches.size());
+        for (List<T> batch : batches) {
+            futures.add(deleteExecutor.submit(() -> action.accept(batch)));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
         }
     }
 
@@ -300,6 +439,15 @@ public class FileStoreExpireImpl implements FileStoreExpire {
                                 });
     }
 
+    private List<ManifestFileMeta> readDataManifests(Snapshot snapshot) {
+        // cannot call `snapshot.dataManifests` directly, it is possible that a job is killed
+        // during expiration, so some manifest lists may have been deleted
+        List<ManifestFileMeta> manifests = new ArrayList<>();
+        manifests.addAll(tryReadManifestList(snapshot.baseManifestList()));
+        manifests.addAll(tryReadManifestList(snapshot.deltaManifestList()));
+        return manifests;
+    }
+
     private List<ManifestFileMeta> tryReadManifestList(String manifestListName) {
         try {
             return manifestList.read(manifestListName);
@@ -29,6 +29,7 @@ import org.apache.flink.table.store.utils.Filter;
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -83,5 +84,17 @@ public interface FileStoreScan {
             }
             return groupBy;
         }
+
+        /**
+         * Return a map from partition to its number of buckets, all files of a partition are
+         * written with the same number of buckets.
+         */
+        static Map<BinaryRow, Integer> totalBucketsByPartition(List<ManifestEntry> files) {
+            Map<BinaryRow, Integer> totalBuckets = new HashMap<>();
+            for (ManifestEntry entry : files) {
+                totalBuckets.put(entry.partition(), entry.totalBuckets());
+            }
+            return totalBuckets;
+        }
     }
 }
@@ -23,6 +23,7 @@ import org.apache.flink.table.store.file.FileStore;
 import org.apache.flink.table.store.file.disk.IOManager;
 import org.apache.flink.table.store.file.io.DataFileMeta;
 import org.apache.flink.table.store.file.utils.RecordWriter;
+import org.apache.flink.table.store.metrics.MetricGroup;
 import org.apache.flink.table.store.table.sink.CommitMessage;
 import org.apache.flink.table.store.table.sink.SinkRecord;
 
@@ -38,6 +39,9 @@ public interface FileStoreWrite<T> {
 
     FileStoreWrite<T> withIOManager(IOManager ioManager);
 
+    /** Registers metrics of this write, such as metrics of compaction, to the given group. */
+    FileStoreWrite<T> withMetricGroup(MetricGroup metricGroup);
+
     /**
      * If overwrite is true, the writer will overwrite the store, otherwise it won't.
      *
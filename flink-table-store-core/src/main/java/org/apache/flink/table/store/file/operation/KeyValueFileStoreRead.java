@@ -18,6 +18,7 @@
 
 package org.apache.flink.table.store.file.operation;
 
+import org.apache.flink.table.store.CoreOptions.SortEngine;
 import org.apache.flink.table.store.data.InternalRow;
 import org.apache.flink.table.store.file.KeyValue;
 import org.apache.flink.table.store.file.io.DataFileMeta;
@@ -67,6 +68,7 @@ public class KeyValueFileStoreRead implements FileStoreRead<KeyValue> {
     private final Comparator<InternalRow> keyComparator;
     private final MergeFunctionFactory<KeyValue> mfFactory;
     private final boolean valueCountMode;
+    private final SortEngine sortEngine;
 
     @Nullable private int[][] keyProjectedFields;
 
@@ -86,7 +88,8 @@ public class KeyValueFileStoreRead implements FileStoreRead<KeyValue> {
             MergeFunctionFactory<KeyValue> mfFactory,
             FileFormatDiscover formatDiscover,
             FileStorePathFactory pathFactory,
-            KeyValueFieldsExtractor extractor) {
+            KeyValueFieldsExtractor extractor,
+            SortEngine sortEngine) {
         this.tableSchema = schemaManager.schema(schemaId);
         this.readerFactoryBuilder =
                 KeyValueFileReaderFactory.builder(
@@ -101,6 +104,7 @@ public class KeyValueFileStoreRead implements FileStoreRead<KeyValue> {
         this.keyComparator = keyComparator;
         this.mfFactory = mfFactory;
         this.valueCountMode = tableSchema.trimmedPrimaryKeys().isEmpty();
+        this.sortEngine = sortEngine;
     }
 
     public KeyValueFileStoreRead withKeyProjection(int[][] projectedFields) {
@@ -198,7 +202,8 @@ public class KeyValueFileStoreRead implements FileStoreRead<KeyValue> {
                                                 ? overlappedSectionFactory
                                                 : nonOverlappedSectionFactory,
                                         keyComparator,
-                                        mergeFuncWrapper));
+                                        mergeFuncWrapper,
+                                        sortEngine));
             }
             DropDeleteReader reader =
                     new DropDeleteReader(ConcatRecordReader.create(sectionReaders));
@@ -21,6 +21,7 @@ package org.apache.flink.table.store.file.operation;
 import org.apache.flink.table.store.file.manifest.ManifestEntry;
 import org.apache.flink.table.store.file.manifest.ManifestFile;
 import org.apache.flink.table.store.file.manifest.ManifestList;
+import org.apache.flink.table.store.file.manifest.PartitionIndexFile;
 import org.apache.flink.table.store.file.predicate.Predicate;
 import org.apache.flink.table.store.file.schema.KeyValueFieldsExtractor;
 import org.apache.flink.table.store.file.schema.SchemaManager;
@@ -52,6 +53,7 @@ public class KeyValueFileStoreScan extends AbstractFileStoreScan {
             KeyValueFieldsExtractor keyValueFieldsExtractor,
             ManifestFile.Factory manifestFileFactory,
             ManifestList.Factory manifestListFactory,
+            PartitionIndexFile.Factory partitionIndexFileFactory,
             int numOfBuckets,
             boolean checkNumOfBuckets) {
         super(
@@ -62,6 +64,7 @@ public class KeyValueFileStoreScan extends AbstractFileStoreScan {
                 schemaId,
                 manifestFileFactory,
                 manifestListFactory,
+                partitionIndexFileFactory,
                 numOfBuckets,
                 checkNumOfBuckets);
         this.fieldStatsConverters =
@@ -27,11 +27,13 @@ import org.apache.flink.table.store.file.KeyValue;
 import org.apache.flink.table.store.file.compact.CompactManager;
 import org.apache.flink.table.store.file.compact.NoopCompactManager;
 import org.apache.flink.table.store.file.io.DataFileMeta;
+import org.apache.flink.table.store.file.io.KeyBloomFilterFile;
 import org.apache.flink.table.store.file.io.KeyValueFileReaderFactory;
 import org.apache.flink.table.store.file.io.KeyValueFileWriterFactory;
 import org.apache.flink.table.store.file.mergetree.Levels;
 import org.apache.flink.table.store.file.mergetree.LookupLevels;
 import org.apache.flink.table.store.file.mergetree.MergeTreeWriter;
+import org.apache.flink.table.store.file.mergetree.RemoteLookupFileManager;
 import org.apache.flink.table.store.file.mergetree.compact.CompactRewriter;
 import org.apache.flink.table.store.file.mergetree.compact.CompactStrategy;
 import org.apache.flink.table.store.file.mergetree.compact.FullChangelogMergeTreeCompactRewriter;
@@ -43,21 +45,27 @@ import org.apache.flink.table.store.file.mergetree.compact.MergeTreeCompactRewri
 import org.apache.flink.table.store.file.mergetree.compact.UniversalCompaction;
 import org.apache.flink.table.store.file.schema.KeyValueFieldsExtractor;
 import org.apache.flink.table.store.file.schema.SchemaManager;
+import org.apache.flink.table.store.file.utils.ExecutorThreadFactory;
 import org.apache.flink.table.store.file.utils.FileStorePathFactory;
 import org.apache.flink.table.store.file.utils.RecordWriter;
 import org.apache.flink.table.store.file.utils.SnapshotManager;
 import org.apache.flink.table.store.format.FileFormatDiscover;
 import org.apache.flink.table.store.fs.FileIO;
 import org.apache.flink.table.store.lookup.hash.HashLookupStoreFactory;
+import org.apache.flink.table.store.metrics.MetricGroup;
+import org.apache.flink.table.store.options.Options;
 import org.apache.flink.table.store.types.RowType;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 
 import static org.apache.flink.table.store.file.io.DataFileMeta.getMaxSequenceNumber;
@@ -76,6 +84,11 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
     private final RowType keyType;
     private final RowType valueType;
 
+    private final LookupLevels.BuildMetrics lookupBuildMetrics = new LookupLevels.BuildMetrics();
+
+    @Nullable private ExecutorService lazyLookupLoaderExecutor;
+    @Nullable private ExecutorService lazyFlushExecutor;
+
     public KeyValueFileStoreWrite(
             FileIO fileIO,
             SchemaManager schemaManager,
@@ -113,11 +126,23 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                         options.fileFormat(),
                         pathFactory,
                         options.targetFileSize());
+        Options conf = options.toConfiguration();
+        if (options.changelogProducer() == ChangelogProducer.LOOKUP
+                && conf.get(CoreOptions.LOOKUP_BLOOM_FILTER_ENABLED)) {
+            writerFactoryBuilder.withBloomFilter(conf.get(CoreOptions.LOOKUP_BLOOM_FILTER_FPP));
+        }
         this.keyComparatorSupplier = keyComparatorSupplier;
         this.mfFactory = mfFactory;
         this.options = options;
     }
 
+    @Override
+    public FileStoreWrite<KeyValue> withMetricGroup(MetricGroup metricGroup) {
+        super.withMetricGroup(metricGroup);
+        lookupBuildMetrics.register(metricGroup.addGroup("lookup"));
+        return this;
+    }
+
     @Override
     public WriterContainer<KeyValue> createWriterContainer(
             BinaryRow partition, int bucket, ExecutorService compactExecutor) {
@@ -179,7 +204,21 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                 mfFactory.create(),
                 writerFactory,
                 options.commitForceCompact(),
-                options.changelogProducer());
+                options.changelogProducer(),
+                flushExecutor());
+    }
+
+    @Nullable
+    private ExecutorService flushExecutor() {
+        if (!options.writeBufferAsyncFlush()) {
+            return null;
+        }
+        if (lazyFlushExecutor == null) {
+            lazyFlushExecutor =
+                    Executors.newSingleThreadExecutor(
+                            new ExecutorThreadFactory(Thread.currentThread().getName() + "-flush"));
+        }
+        return lazyFlushExecutor;
     }
 
     private boolean bufferSpillable() {
@@ -220,23 +259,37 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                         readerFactory,
                         writerFactory,
                         keyComparator,
-                        mfFactory);
+                        mfFactory,
+                        options.sortEngine());
             case LOOKUP:
-                LookupLevels lookupLevels = createLookupLevels(levels, readerFactory);
+                LookupLevels lookupLevels =
+                        createLookupLevels(levels, readerFactory, writerFactory);
                 return new LookupMergeTreeCompactRewriter(
-                        lookupLevels, readerFactory, writerFactory, keyComparator, mfFactory);
+                        lookupLevels,
+                        readerFactory,
+                        writerFactory,
+                        keyComparator,
+                        mfFactory,
+                        options.sortEngine());
             default:
                 return new MergeTreeCompactRewriter(
-                        readerFactory, writerFactory, keyComparator, mfFactory);
+                        readerFactory,
+                        writerFactory,
+                        keyComparator,
+                        mfFactory,
+                        options.sortEngine());
         }
     }
 
     private LookupLevels createLookupLevels(
-            Levels levels, KeyValueFileReaderFactory readerFactory) {
+            Levels levels,
+            KeyValueFileReaderFactory readerFactory,
+            KeyValueFileWriterFactory writerFactory) {
         if (ioManager == null) {
             throw new RuntimeException(
                     "Can not use lookup, there is no temp disk directory to use.");
         }
+        Options conf = options.toConfiguration();
         return new LookupLevels(
                 levels,
                 keyComparatorSupplier.get(),
@@ -248,8 +301,47 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                 () -> ioManager.createChannel().getPathFile(),
                 new HashLookupStoreFactory(
                         cacheManager,
-                        options.toConfiguration().get(CoreOptions.LOOKUP_HASH_LOAD_FACTOR)),
-                options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_FILE_RETENTION),
-                options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE));
+                        conf.get(CoreOptions.LOOKUP_HASH_LOAD_FACTOR),
+                        conf.get(CoreOptions.LOOKUP_HASH_MMAP_ENABLED),
+                        conf.get(CoreOptions.LOOKUP_BLOOM_FILTER_ENABLED)
+                                ? conf.get(CoreOptions.LOOKUP_BLOOM_FILTER_FPP)
+                                : null),
+                conf.get(CoreOptions.LOOKUP_CACHE_FILE_RETENTION),
+                conf.get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE),
+                lookupLoaderExecutor(),
+                conf.get(CoreOptions.LOOKUP_REMOTE_FILE_ENABLED)
+                        ? new RemoteLookupFileManager(fileIO, writerFactory.pathFactory())
+                        : null,
+                bloomFilterFile ->
+                        KeyBloomFilterFile.read(
+                                fileIO, writerFactory.pathFactory().toPath(bloomFilterFile)),
+                lookupBuildMetrics);
+    }
+
+    @Nullable
+    private ExecutorService lookupLoaderExecutor() {
+        int threads = options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_LOADER_THREADS);
+        if (threads <= 0) {
+            return null;
+        }
+        if (lazyLookupLoaderExecutor == null) {
+            lazyLookupLoaderExecutor =
+                    Executors.newFixedThreadPool(
+                            threads,
+                            new ExecutorThreadFactory(
+                                    Thread.currentThread().getName() + "-lookup-loader"));
+        }
+        return lazyLookupLoaderExecutor;
+    }
+
+    @Override
+    public void close() throws Exception {
+        super.close();
+        if (lazyLookupLoaderExecutor != null) {
+            lazyLookupLoaderExecutor.shutdownNow();
+        }
+        if (lazyFlushExecutor != null) {
+            lazyFlushExecutor.shutdownNow();
+        }
     }
 }
@@ -22,12 +22,17 @@ import org.apache.flink.table.store.CoreOptions;
 import org.apache.flink.table.store.file.memory.HeapMemorySegmentPool;
 import org.apache.flink.table.store.file.memory.MemoryOwner;
 import org.apache.flink.table.store.file.memory.MemoryPoolFactory;
+import org.apache.flink.table.store.file.memory.MemorySegmentPool;
+import org.apache.flink.table.store.file.memory.OffHeapMemorySegmentPool;
 import org.apache.flink.table.store.file.utils.RecordWriter;
 import org.apache.flink.table.store.file.utils.SnapshotManager;
 import org.apache.flink.table.store.io.cache.CacheManager;
+import org.apache.flink.table.store.metrics.MetricGroup;
 
 import org.apache.flink.shaded.guava30.com.google.common.collect.Iterators;
 
+import javax.annotation.Nullable;
+
 import java.util.Iterator;
 import java.util.Map;
 
@@ -42,6 +47,8 @@ import static org.apache.flink.table.store.CoreOptions.LOOKUP_CACHE_MAX_MEMORY_S
 public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T> {
 
     private final MemoryPoolFactory writeBufferPool;
+    // freed explicitly when closing, null if write buffers are on heap
+    @Nullable private final OffHeapMemorySegmentPool offHeapPool;
     protected final CacheManager cacheManager;
 
     public MemoryFileStoreWrite(
@@ -49,10 +56,19 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
             SnapshotManager snapshotManager,
             FileStoreScan scan,
             CoreOptions options) {
-        super(commitUser, snapshotManager, scan);
-        HeapMemorySegmentPool memoryPool =
-                new HeapMemorySegmentPool(options.writeBufferSize(), options.pageSize());
-        this.writeBufferPool = new MemoryPoolFactory(memoryPool, this::memoryOwners);
+        super(commitUser, snapshotManager, scan, options);
+        this.offHeapPool =
+                options.writeBufferOffHeap()
+                        ? new OffHeapMemorySegmentPool(
+                                options.writeBufferSize(), options.pageSize())
+                        : null;
+        MemorySegmentPool memoryPool =
+                offHeapPool != null
+                        ? offHeapPool
+                        : new HeapMemorySegmentPool(options.writeBufferSize(), options.pageSize());
+        this.writeBufferPool =
+                new MemoryPoolFactory(
+                        memoryPool, this::memoryOwners, options.writeBufferPreemptPolicy());
         this.cacheManager =
                 new CacheManager(
                         options.pageSize(),
@@ -80,6 +96,22 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
                 });
     }
 
+    @Override
+    public FileStoreWrite<T> withMetricGroup(MetricGroup metricGroup) {
+        super.withMetricGroup(metricGroup);
+        writeBufferPool.registerMetrics(metricGroup.addGroup("writeBuffer"));
+        return this;
+    }
+
+    @Override
+    public void close() throws Exception {
+        super.close();
+        if (offHeapPool != null) {
+            // all writers are closed and no longer use their write buffers
+            offHeapPool.close();
+        }
+    }
+
     @Override
     protected void notifyNewWriter(RecordWriter<T> writer) {
         if (!(writer instanceof MemoryOwner)) {
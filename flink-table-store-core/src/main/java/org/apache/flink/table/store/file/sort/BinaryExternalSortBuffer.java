@@ -148,6 +148,14 @@ public class BinaryExternalSortBuffer implements SortBuffer {
         return spilledIterator();
     }
 
+    @Override
+    public void prepareSortedIterator() throws IOException {
+        if (!spillChannelIDs.isEmpty()) {
+            // records in memory are merged with the spilled ones, spill them and release memory
+            spill();
+        }
+    }
+
     private MutableObjectIterator<BinaryRow> spilledIterator() throws IOException {
         spill();
 
@@ -256,4 +256,9 @@ public class BinaryInMemorySortBuffer extends BinaryIndexedSortable implements S
         new QuickSort().sort(this);
         return iterator();
     }
+
+    @Override
+    public void prepareSortedIterator() {
+        // sorting in place requires no memory
+    }
 }
@@ -41,4 +41,10 @@ public interface SortBuffer {
 
     /** @return iterator with sorting. */
     MutableObjectIterator<BinaryRow> sortedIterator() throws IOException;
+
+    /**
+     * Does the work of {@link #sortedIterator} which allocates or releases memory, so that the
+     * iterator can be created and consumed by a thread not owning the memory pool.
+     */
+    void prepareSortedIterator() throws IOException;
 }
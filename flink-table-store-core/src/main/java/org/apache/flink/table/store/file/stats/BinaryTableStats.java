@@ -102,6 +102,14 @@ public class BinaryTableStats {
         return cacheNullCounts;
     }
 
+    /** Estimated bytes of the min values, max values and null counts, excluding object headers. */
+    public long memorySize() {
+        if (row != null) {
+            return row.getBinary(0).length + row.getBinary(1).length + 8L * row.getArray(2).size();
+        }
+        return min().getSizeInBytes() + max().getSizeInBytes() + 8L * nullCounts().length;
+    }
+
     public InternalRow toRowData() {
         return row == null
                 ? GenericRow.of(
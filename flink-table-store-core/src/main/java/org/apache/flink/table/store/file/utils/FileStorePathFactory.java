@@ -53,6 +53,7 @@ public class FileStorePathFactory {
 
     private final AtomicInteger manifestFileCount;
     private final AtomicInteger manifestListCount;
+    private final AtomicInteger partitionIndexCount;
 
     public FileStorePathFactory(Path root) {
         this(
@@ -73,6 +74,7 @@ public class FileStorePathFactory {
 
         this.manifestFileCount = new AtomicInteger(0);
         this.manifestListCount = new AtomicInteger(0);
+        this.partitionIndexCount = new AtomicInteger(0);
     }
 
     public Path root() {
@@ -100,6 +102,15 @@ public class FileStorePathFactory {
                         + manifestListCount.getAndIncrement());
     }
 
+    public Path newPartitionIndex() {
+        return new Path(
+                root
+                        + "/manifest/partition-index-"
+                        + uuid
+                        + "-"
+                        + partitionIndexCount.getAndIncrement());
+    }
+
     public Path toManifestFilePath(String manifestFileName) {
         return new Path(root + "/manifest/" + manifestFileName);
     }
@@ -108,6 +119,10 @@ public class FileStorePathFactory {
         return new Path(root + "/manifest/" + manifestListName);
     }
 
+    public Path toPartitionIndexPath(String partitionIndexName) {
+        return new Path(root + "/manifest/" + partitionIndexName);
+    }
+
     public DataFilePathFactory createDataFilePathFactory(BinaryRow partition, int bucket) {
         return new DataFilePathFactory(
                 root, getPartitionString(partition), bucket, formatIdentifier);
@@ -94,6 +94,12 @@ public class FileUtils {
 
     public static RecordReader<InternalRow> createFormatReader(
             FileIO fileIO, FormatReaderFactory format, Path file) throws IOException {
+        return createFormatReader(fileIO, format, file, 0);
+    }
+
+    public static RecordReader<InternalRow> createFormatReader(
+            FileIO fileIO, FormatReaderFactory format, Path file, long startPosition)
+            throws IOException {
         if (!fileIO.exists(file)) {
             throw new FileNotFoundException(
                     String.format(
@@ -105,6 +111,6 @@ public class FileUtils {
                             file));
         }
 
-        return format.createReader(fileIO, file);
+        return format.createReader(fileIO, file, startPosition);
     }
 }
@@ -20,6 +20,7 @@ package org.apache.flink.table.store.file.utils;
 
 import org.apache.flink.table.store.codegen.CodeGenUtils;
 import org.apache.flink.table.store.codegen.GeneratedClass;
+import org.apache.flink.table.store.codegen.NormalizedKeyComputer;
 import org.apache.flink.table.store.codegen.RecordComparator;
 import org.apache.flink.table.store.data.InternalRow;
 import org.apache.flink.table.store.types.RowType;
@@ -33,14 +34,24 @@ public class KeyComparatorSupplier implements SerializableSupplier<Comparator<In
     private static final long serialVersionUID = 1L;
 
     private final GeneratedClass<RecordComparator> genRecordComparator;
+    private final GeneratedClass<NormalizedKeyComputer> genNormalizedKeyComputer;
 
     public KeyComparatorSupplier(RowType keyType) {
         genRecordComparator =
                 CodeGenUtils.generateRecordComparator(keyType.getFieldTypes(), "KeyComparator");
+        genNormalizedKeyComputer =
+                CodeGenUtils.generateNormalizedKeyComputer(
+                        keyType.getFieldTypes(), "KeyNormalizedKeyComputer");
     }
 
     @Override
     public RecordComparator get() {
-        return genRecordComparator.newInstance(KeyComparatorSupplier.class.getClassLoader());
+        NormalizedKeyComparator comparator =
+                new NormalizedKeyComparator(genRecordComparator, genNormalizedKeyComputer);
+        // normalized key is useless if the first field can not be normalized
+        if (comparator.normalizedKeyComputer().getNumKeyBytes() == 0) {
+            return genRecordComparator.newInstance(KeyComparatorSupplier.class.getClassLoader());
+        }
+        return comparator;
     }
 }
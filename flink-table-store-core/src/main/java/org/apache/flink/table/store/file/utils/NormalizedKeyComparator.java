@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.utils;
+
+import org.apache.flink.table.store.codegen.GeneratedClass;
+import org.apache.flink.table.store.codegen.NormalizedKeyComputer;
+import org.apache.flink.table.store.codegen.RecordComparator;
+import org.apache.flink.table.store.data.InternalRow;
+
+/**
+ * A {@link RecordComparator} of keys which also provides the {@link NormalizedKeyComputer} of the
+ * same order. Readers comparing each key many times, such as sort merge readers, can put the
+ * fixed-width normalized key once per record, compare the normalized keys first, and only fall back
+ * to the full comparison when they are equal and do not fully determine the order.
+ *
+ * <p>Instances of generated classes can not be deserialized, so this comparator only serializes the
+ * generated classes and instantiates them lazily.
+ */
+public class NormalizedKeyComparator implements RecordComparator {
+
+    private static final long serialVersionUID = 1L;
+
+    private final GeneratedClass<RecordComparator> genComparator;
+    private final GeneratedClass<NormalizedKeyComputer> genNormalizedKeyComputer;
+
+    private transient RecordComparator comparator;
+    private transient NormalizedKeyComputer normalizedKeyComputer;
+
+    public NormalizedKeyComparator(
+            GeneratedClass<RecordComparator> genComparator,
+            GeneratedClass<NormalizedKeyComputer> genNormalizedKeyComputer) {
+        this.genComparator = genComparator;
+        this.genNormalizedKeyComputer = genNormalizedKeyComputer;
+    }
+
+    @Override
+    public int compare(InternalRow o1, InternalRow o2) {
+        if (comparator == null) {
+            comparator = genComparator.newInstance(NormalizedKeyComparator.class.getClassLoader());
+        }
+        return comparator.compare(o1, o2);
+    }
+
+    public NormalizedKeyComputer normalizedKeyComputer() {
+        if (normalizedKeyComputer == null) {
+            normalizedKeyComputer =
+                    genNormalizedKeyComputer.newInstance(
+                            NormalizedKeyComparator.class.getClassLoader());
+        }
+        return normalizedKeyComputer;
+    }
+}
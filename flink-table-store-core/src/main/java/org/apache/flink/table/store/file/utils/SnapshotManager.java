@@ -23,6 +23,9 @@ import org.apache.flink.table.store.fs.FileIO;
 import org.apache.flink.table.store.fs.Path;
 import org.apache.flink.table.store.utils.Preconditions;
 
+import org.apache.flink.shaded.guava30.com.google.common.cache.Cache;
+import org.apache.flink.shaded.guava30.com.google.common.cache.CacheBuilder;
+
 import javax.annotation.Nullable;
 
 import java.io.IOException;
@@ -31,10 +34,17 @@ import java.util.Iterator;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BinaryOperator;
+import java.util.function.LongPredicate;
 
 import static org.apache.flink.table.store.file.utils.FileUtils.listVersionedFiles;
 
-/** Manager for {@link Snapshot}, providing utility methods related to paths and snapshot hints. */
+/**
+ * Manager for {@link Snapshot}, providing utility methods related to paths and snapshot hints.
+ *
+ * <p>A snapshot file is never modified after it is committed, so parsed snapshots are cached by id.
+ * Snapshots deleted by {@link #deleteSnapshot} are evicted from the cache. Commit time increases
+ * with snapshot id, so snapshots are looked up by time with a binary search.
+ */
 public class SnapshotManager implements Serializable {
 
     private static final long serialVersionUID = 1L;
@@ -44,10 +54,13 @@ public class SnapshotManager implements Serializable {
     public static final String LATEST = "LATEST";
     private static final int READ_HINT_RETRY_NUM = 3;
     private static final int READ_HINT_RETRY_INTERVAL = 1;
+    private static final int SNAPSHOT_CACHE_SIZE = 1000;
 
     private final FileIO fileIO;
     private final Path tablePath;
 
+    private transient volatile Cache<Long, Snapshot> snapshotCache;
+
     public SnapshotManager(FileIO fileIO, Path tablePath) {
         this.fileIO = fileIO;
         this.tablePath = tablePath;
@@ -62,7 +75,34 @@ public class SnapshotManager implements Serializable {
     }
 
     public Snapshot snapshot(long snapshotId) {
-        return Snapshot.fromPath(fileIO, snapshotPath(snapshotId));
+        Cache<Long, Snapshot> cache = snapshotCache();
+        Snapshot snapshot = cache.getIfPresent(snapshotId);
+        if (snapshot == null) {
+            snapshot = Snapshot.fromPath(fileIO, snapshotPath(snapshotId));
+            cache.put(snapshotId, snapshot);
+        }
+        return snapshot;
+    }
+
+    private Cache<Long, Snapshot> snapshotCache() {
+        if (snapshotCache == null) {
+            synchronized (this) {
+                if (snapshotCache == null) {
+                    snapshotCache =
+                            CacheBuilder.newBuilder().maximumSize(SNAPSHOT_CACHE_SIZE).build();
+                }
+            }
+        }
+        return snapshotCache;
+    }
+
+    /**
+     * Deletes the snapshot file quietly and evicts it from the cache, returns whether it was
+     * deleted by this call.
+     */
+    public boolean deleteSnapshot(long snapshotId) {
+        snapshotCache().invalidate(snapshotId);
+        return fileIO.deleteQuietly(snapshotPath(snapshotId));
     }
 
     public boolean snapshotExists(long snapshotId) {
@@ -127,13 +167,8 @@ public class SnapshotManager implements Serializable {
             return null;
         }
 
-        for (long i = latest; i >= earliest; i--) {
-            long commitTime = snapshot(i).timeMillis();
-            if (commitTime < timestampMills) {
-                return i;
-            }
-        }
-        return earliest - 1;
+        return latestSnapshotIdSatisfying(
+                earliest, latest, id -> snapshot(id).timeMillis() < timestampMills);
     }
 
     /** Returns a snapshot earlier than or equals to the timestamp mills. */
@@ -144,13 +179,29 @@ public class SnapshotManager implements Serializable {
             return null;
         }
 
-        for (long i = latest; i >= earliest; i--) {
-            long commitTime = snapshot(i).timeMillis();
-            if (commitTime <= timestampMills) {
-                return i;
+        long id =
+                latestSnapshotIdSatisfying(
+                        earliest, latest, i -> snapshot(i).timeMillis() <= timestampMills);
+        return id < earliest ? null : id;
+    }
+
+    /**
+     * Binary searches the latest snapshot id in [earliest, latest] satisfying the predicate, which
+     * must hold for all snapshots before a satisfying one. Returns {@code earliest - 1} if no
+     * snapshot satisfies it.
+     */
+    private long latestSnapshotIdSatisfying(long earliest, long latest, LongPredicate predicate) {
+        long low = earliest;
+        long high = latest;
+        while (low <= high) {
+            long mid = low + (high - low) / 2;
+            if (predicate.test(mid)) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
             }
         }
-        return null;
+        return high;
     }
 
     public long snapshotCount() throws IOException {
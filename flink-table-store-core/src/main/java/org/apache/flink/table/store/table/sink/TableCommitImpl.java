@@ -23,6 +23,7 @@ import org.apache.flink.table.store.file.operation.FileStoreCommit;
 import org.apache.flink.table.store.file.operation.FileStoreExpire;
 import org.apache.flink.table.store.file.operation.Lock;
 import org.apache.flink.table.store.file.operation.PartitionExpire;
+import org.apache.flink.table.store.metrics.MetricGroup;
 
 import javax.annotation.Nullable;
 
@@ -80,6 +81,13 @@ public class TableCommitImpl implements InnerTableCommit {
         return this;
     }
 
+    public TableCommitImpl withMetricGroup(MetricGroup metricGroup) {
+        if (expire != null) {
+            expire.withMetricGroup(metricGroup.addGroup("expire"));
+        }
+        return this;
+    }
+
     @Override
     public TableCommitImpl ignoreEmptyCommit(boolean ignoreEmptyCommit) {
         commit.ignoreEmptyCommit(ignoreEmptyCommit);
@@ -146,6 +154,7 @@ public class TableCommitImpl implements InnerTableCommit {
 
     @Override
     public void close() throws Exception {
+        commit.close();
         if (lock != null) {
             lock.close();
         }
@@ -23,6 +23,7 @@ import org.apache.flink.table.store.data.InternalRow;
 import org.apache.flink.table.store.file.disk.IOManager;
 import org.apache.flink.table.store.file.io.DataFileMeta;
 import org.apache.flink.table.store.file.operation.FileStoreWrite;
+import org.apache.flink.table.store.metrics.MetricGroup;
 
 import java.util.List;
 
@@ -62,6 +63,11 @@ public class TableWriteImpl<T> implements InnerTableWrite {
         return this;
     }
 
+    public TableWriteImpl<T> withMetricGroup(MetricGroup metricGroup) {
+        write.withMetricGroup(metricGroup);
+        return this;
+    }
+
     @Override
     public BinaryRow getPartition(InternalRow row) {
         return recordConverter.partition(row);
@@ -27,6 +27,7 @@ import org.apache.flink.table.store.io.DataInputViewStreamWrapper;
 import org.apache.flink.table.store.io.DataOutputView;
 import org.apache.flink.table.store.io.DataOutputViewStreamWrapper;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
@@ -39,9 +40,14 @@ public class DataSplit implements Split {
 
     private static final long serialVersionUID = 2L;
 
+    /** Total buckets of splits which were serialized before the total buckets were recorded. */
+    public static final int UNKNOWN_TOTAL_BUCKETS = -1;
+
     private long snapshotId;
     private BinaryRow partition;
     private int bucket;
+    // number of buckets of the partition when the files were written
+    private int totalBuckets;
     private List<DataFileMeta> files;
     private boolean isIncremental;
 
@@ -53,31 +59,37 @@ public class DataSplit implements Split {
             long snapshotId,
             BinaryRow partition,
             int bucket,
+            int totalBuckets,
             List<DataFileMeta> files,
             boolean isIncremental) {
-        init(snapshotId, partition, bucket, files, isIncremental, false);
+        init(snapshotId, partition, bucket, totalBuckets, files, isIncremental, false);
     }
 
     public DataSplit(
             long snapshotId,
             BinaryRow partition,
             int bucket,
+            int totalBuckets,
             List<DataFileMeta> files,
             boolean isIncremental,
             boolean reverseRowKind) {
-        init(snapshotId, partition, bucket, files, isIncremental, reverseRowKind);
+        init(snapshotId, partition, bucket, totalBuckets, files, isIncremental, reverseRowKind);
     }
 
+    private DataSplit() {}
+
     private void init(
             long snapshotId,
             BinaryRow partition,
             int bucket,
+            int totalBuckets,
             List<DataFileMeta> files,
             boolean isIncremental,
             boolean reverseRowKind) {
         this.snapshotId = snapshotId;
         this.partition = partition;
         this.bucket = bucket;
+        this.totalBuckets = totalBuckets;
         this.files = files;
         this.isIncremental = isIncremental;
         this.reverseRowKind = reverseRowKind;
@@ -95,6 +107,15 @@ public class DataSplit implements Split {
         return bucket;
     }
 
+    /**
+     * Number of buckets of the partition when the files were written. It differs from the bucket
+     * number of the table if the partition has not been rewritten after the bucket number changed.
+     * It is {@link #UNKNOWN_TOTAL_BUCKETS} for splits restored from an older version.
+     */
+    public int totalBuckets() {
+        return totalBuckets;
+    }
+
     public List<DataFileMeta> files() {
         return files;
     }
@@ -126,6 +147,7 @@ public class DataSplit implements Split {
         }
         DataSplit split = (DataSplit) o;
         return bucket == split.bucket
+                && totalBuckets == split.totalBuckets
                 && Objects.equals(partition, split.partition)
                 && Objects.equals(files, split.files)
                 && isIncremental == split.isIncremental
@@ -134,7 +156,7 @@ public class DataSplit implements Split {
 
     @Override
     public int hashCode() {
-        return Objects.hash(partition, bucket, files, isIncremental, reverseRowKind);
+        return Objects.hash(partition, bucket, totalBuckets, files, isIncremental, reverseRowKind);
     }
 
     private void writeObject(ObjectOutputStream out) throws IOException {
@@ -142,14 +164,14 @@ public class DataSplit implements Split {
     }
 
     private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
-        DataSplit split = DataSplit.deserialize(new DataInputViewStreamWrapper(in));
-        init(
-                split.snapshotId,
-                split.partition,
-                split.bucket,
-                split.files,
-                split.isIncremental,
-                split.reverseRowKind);
+        DataInputViewStreamWrapper view = new DataInputViewStreamWrapper(in);
+        readFieldsWithoutTotalBuckets(view);
+        try {
+            this.totalBuckets = view.readInt();
+        } catch (EOFException e) {
+            // splits of older versions, e.g. from checkpoints, end before the total buckets
+            this.totalBuckets = UNKNOWN_TOTAL_BUCKETS;
+        }
     }
 
     public void serialize(DataOutputView out) throws IOException {
@@ -163,19 +185,29 @@ public class DataSplit implements Split {
         }
         out.writeBoolean(isIncremental);
         out.writeBoolean(reverseRowKind);
+        // appended to keep splits of older versions readable
+        out.writeInt(totalBuckets);
     }
 
     public static DataSplit deserialize(DataInputView in) throws IOException {
-        long snapshotId = in.readLong();
-        BinaryRow partition = SerializationUtils.deserializeBinaryRow(in);
-        int bucket = in.readInt();
+        DataSplit split = new DataSplit();
+        split.readFieldsWithoutTotalBuckets(in);
+        split.totalBuckets = in.readInt();
+        return split;
+    }
+
+    private void readFieldsWithoutTotalBuckets(DataInputView in) throws IOException {
+        this.snapshotId = in.readLong();
+        this.partition = SerializationUtils.deserializeBinaryRow(in);
+        this.bucket = in.readInt();
         int fileNumber = in.readInt();
         List<DataFileMeta> files = new ArrayList<>(fileNumber);
         DataFileMetaSerializer dataFileSer = new DataFileMetaSerializer();
         for (int i = 0; i < fileNumber; i++) {
             files.add(dataFileSer.deserialize(in));
         }
-        return new DataSplit(
-                snapshotId, partition, bucket, files, in.readBoolean(), in.readBoolean());
+        this.files = files;
+        this.isIncremental = in.readBoolean();
+        this.reverseRowKind = in.readBoolean();
     }
 }
@@ -22,6 +22,7 @@ import org.apache.flink.table.store.annotation.Experimental;
 import org.apache.flink.table.store.data.InternalRow;
 import org.apache.flink.table.store.file.mergetree.compact.ConcatRecordReader;
 import org.apache.flink.table.store.file.operation.FileStoreRead;
+import org.apache.flink.table.store.reader.FileRecordIterator;
 import org.apache.flink.table.store.reader.RecordReader;
 
 import java.io.IOException;
@@ -38,6 +39,20 @@ public interface TableRead {
 
     RecordReader<InternalRow> createReader(Split split) throws IOException;
 
+    /**
+     * Creates a reader which starts from the given position of the split. The position is the one
+     * returned by {@link FileRecordIterator#returnedPosition} of a reader of the same split, plus
+     * one. Only reads whose iterators are {@link FileRecordIterator}s support positions.
+     */
+    default RecordReader<InternalRow> createReader(Split split, long startPosition)
+            throws IOException {
+        if (startPosition == 0) {
+            return createReader(split);
+        }
+        throw new UnsupportedOperationException(
+                getClass().getName() + " does not support reading from a position.");
+    }
+
     default RecordReader<InternalRow> createReader(List<Split> splits) throws IOException {
         List<ConcatRecordReader.ReaderSupplier<InternalRow>> readers = new ArrayList<>();
         for (Split split : splits) {
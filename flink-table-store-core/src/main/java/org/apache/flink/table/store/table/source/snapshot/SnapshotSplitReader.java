@@ -55,12 +55,14 @@ public interface SnapshotSplitReader {
             boolean isIncremental,
             boolean reverseRowKind,
             SplitGenerator splitGenerator,
-            Map<BinaryRow, Map<Integer, List<DataFileMeta>>> groupedDataFiles) {
+            Map<BinaryRow, Map<Integer, List<DataFileMeta>>> groupedDataFiles,
+            Map<BinaryRow, Integer> totalBuckets) {
         List<DataSplit> splits = new ArrayList<>();
         for (Map.Entry<BinaryRow, Map<Integer, List<DataFileMeta>>> entry :
                 groupedDataFiles.entrySet()) {
             BinaryRow partition = entry.getKey();
             Map<Integer, List<DataFileMeta>> buckets = entry.getValue();
+            int partitionTotalBuckets = totalBuckets.get(partition);
             for (Map.Entry<Integer, List<DataFileMeta>> bucketEntry : buckets.entrySet()) {
                 int bucket = bucketEntry.getKey();
                 if (isIncremental) {
@@ -70,6 +72,7 @@ public interface SnapshotSplitReader {
                                     snapshotId,
                                     partition,
                                     bucket,
+                                    partitionTotalBuckets,
                                     bucketEntry.getValue(),
                                     true,
                                     reverseRowKind));
@@ -81,6 +84,7 @@ public interface SnapshotSplitReader {
                                                     snapshotId,
                                                     partition,
                                                     bucket,
+                                                    partitionTotalBuckets,
                                                     files,
                                                     false,
                                                     reverseRowKind))
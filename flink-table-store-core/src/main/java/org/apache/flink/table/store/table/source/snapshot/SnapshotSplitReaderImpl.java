@@ -25,6 +25,7 @@ import org.apache.flink.table.store.data.BinaryRow;
 import org.apache.flink.table.store.file.Snapshot;
 import org.apache.flink.table.store.file.io.DataFileMeta;
 import org.apache.flink.table.store.file.manifest.FileKind;
+import org.apache.flink.table.store.file.manifest.ManifestEntry;
 import org.apache.flink.table.store.file.operation.FileStoreScan;
 import org.apache.flink.table.store.file.operation.ScanKind;
 import org.apache.flink.table.store.file.predicate.Predicate;
@@ -132,8 +133,9 @@ public class SnapshotSplitReaderImpl implements SnapshotSplitReader {
         FileStoreScan.Plan plan = scan.plan();
         Long snapshotId = plan.snapshotId();
 
+        List<ManifestEntry> entries = plan.files(FileKind.ADD);
         Map<BinaryRow, Map<Integer, List<DataFileMeta>>> files =
-                FileStoreScan.Plan.groupByPartFiles(plan.files(FileKind.ADD));
+                FileStoreScan.Plan.groupByPartFiles(entries);
         if (options.scanPlanSortPartition()) {
             Map<BinaryRow, Map<Integer, List<DataFileMeta>>> newFiles = new LinkedHashMap<>();
             files.entrySet().stream()
@@ -146,7 +148,8 @@ public class SnapshotSplitReaderImpl implements SnapshotSplitReader {
                 scanKind != ScanKind.ALL,
                 false,
                 splitGenerator,
-                files);
+                files,
+                FileStoreScan.Plan.totalBucketsByPartition(entries));
     }
 
     /**
@@ -167,21 +170,25 @@ public class SnapshotSplitReaderImpl implements SnapshotSplitReader {
 
         List<DataSplit> splits = new ArrayList<>();
 
+        List<ManifestEntry> deleted = plan.files(FileKind.DELETE);
         splits.addAll(
                 generateSplits(
                         snapshotId,
                         true,
                         true,
                         splitGenerator,
-                        FileStoreScan.Plan.groupByPartFiles(plan.files(FileKind.DELETE))));
+                        FileStoreScan.Plan.groupByPartFiles(deleted),
+                        FileStoreScan.Plan.totalBucketsByPartition(deleted)));
 
+        List<ManifestEntry> added = plan.files(FileKind.ADD);
         splits.addAll(
                 generateSplits(
                         snapshotId,
                         true,
                         false,
                         splitGenerator,
-                        FileStoreScan.Plan.groupByPartFiles(plan.files(FileKind.ADD))));
+                        FileStoreScan.Plan.groupByPartFiles(added),
+                        FileStoreScan.Plan.totalBucketsByPartition(added)));
         return splits;
     }
 
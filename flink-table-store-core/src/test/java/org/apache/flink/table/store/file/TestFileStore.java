@@ -125,11 +125,17 @@ public class TestFileStore extends KeyValueFileStore {
 
     public FileStoreExpireImpl newExpire(
             int numRetainedMin, int numRetainedMax, long millisRetained) {
+        return newExpire(numRetainedMin, numRetainedMax, millisRetained, 1);
+    }
+
+    public FileStoreExpireImpl newExpire(
+            int numRetainedMin, int numRetainedMax, long millisRetained, int deleteThreads) {
         return new FileStoreExpireImpl(
                 fileIO,
                 numRetainedMin,
                 numRetainedMax,
                 millisRetained,
+                deleteThreads,
                 pathFactory(),
                 snapshotManager(),
                 manifestFileFactory(),
@@ -342,6 +348,7 @@ public class TestFileStore extends KeyValueFileStore {
                                                 0L /* unused */,
                                                 entryWithPartition.getKey(),
                                                 entryWithBucket.getKey(),
+                                                options.bucket(),
                                                 entryWithBucket.getValue(),
                                                 isIncremental)));
                 while (iterator.hasNext()) {
@@ -504,6 +511,8 @@ public class TestFileStore extends KeyValueFileStore {
         private final MergeFunctionFactory<KeyValue> mfFactory;
 
         private CoreOptions.ChangelogProducer changelogProducer;
+        private boolean partitionIndexEnabled;
+        private boolean manifestMergeAsync;
 
         public Builder(
                 String format,
@@ -524,6 +533,8 @@ public class TestFileStore extends KeyValueFileStore {
             this.mfFactory = mfFactory;
 
             this.changelogProducer = CoreOptions.ChangelogProducer.NONE;
+            this.partitionIndexEnabled = false;
+            this.manifestMergeAsync = false;
         }
 
         public Builder changelogProducer(CoreOptions.ChangelogProducer changelogProducer) {
@@ -531,6 +542,16 @@ public class TestFileStore extends KeyValueFileStore {
             return this;
         }
 
+        public Builder partitionIndexEnabled(boolean partitionIndexEnabled) {
+            this.partitionIndexEnabled = partitionIndexEnabled;
+            return this;
+        }
+
+        public Builder manifestMergeAsync(boolean manifestMergeAsync) {
+            this.manifestMergeAsync = manifestMergeAsync;
+            return this;
+        }
+
         public TestFileStore build() {
             Options conf = new Options();
 
@@ -538,9 +559,13 @@ public class TestFileStore extends KeyValueFileStore {
             conf.set(CoreOptions.PAGE_SIZE, PAGE_SIZE);
             conf.set(CoreOptions.TARGET_FILE_SIZE, MemorySize.parse("1 kb"));
 
-            conf.set(
-                    CoreOptions.MANIFEST_TARGET_FILE_SIZE,
-                    MemorySize.parse((ThreadLocalRandom.current().nextInt(16) + 1) + "kb"));
+            // manifests written by a commit may exceed a small random target size, then they are
+            // never merged, so async merging is tested with the default target size
+            if (!manifestMergeAsync) {
+                conf.set(
+                        CoreOptions.MANIFEST_TARGET_FILE_SIZE,
+                        MemorySize.parse((ThreadLocalRandom.current().nextInt(16) + 1) + "kb"));
+            }
 
             conf.set(CoreOptions.FILE_FORMAT, format);
             conf.set(CoreOptions.MANIFEST_FORMAT, format);
@@ -548,6 +573,8 @@ public class TestFileStore extends KeyValueFileStore {
             conf.set(CoreOptions.BUCKET, numBuckets);
 
             conf.set(CoreOptions.CHANGELOG_PRODUCER, changelogProducer);
+            conf.set(CoreOptions.MANIFEST_PARTITION_INDEX_ENABLED, partitionIndexEnabled);
+            conf.set(CoreOptions.MANIFEST_MERGE_ASYNC, manifestMergeAsync);
 
             return new TestFileStore(
                     root,
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.compact;
+
+import org.apache.flink.table.store.file.io.DataFileMeta;
+import org.apache.flink.table.store.metrics.Gauge;
+import org.apache.flink.table.store.metrics.TestMetricGroup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link CompactExecutor}. */
+public class CompactExecutorTest {
+
+    @Test
+    public void testPriority() throws Exception {
+        CompactExecutor executor = CompactExecutor.create(1, "test-compaction");
+        CountDownLatch blocker = new CountDownLatch(1);
+        List<Integer> finished = Collections.synchronizedList(new ArrayList<>());
+        // occupy the only thread so that the following tasks are queued
+        Future<?> blocking =
+                executor.submit(
+                        () -> {
+                            blocker.await();
+                            return null;
+                        });
+
+        List<Future<CompactResult>> futures = new ArrayList<>();
+        int[] priorities = {10, 50, 10, 100, 0};
+        for (int i = 0; i < priorities.length; i++) {
+            futures.add(executor.submit(new TestTask(i, priorities[i], finished)));
+        }
+        assertThat(executor.queueDepth()).isEqualTo(priorities.length);
+
+        blocker.countDown();
+        blocking.get();
+        for (Future<CompactResult> future : futures) {
+            future.get();
+        }
+        assertThat(finished).containsExactly(3, 1, 0, 2, 4);
+        assertThat(executor.queueDepth()).isEqualTo(0);
+
+        executor.release();
+        assertThat(executor.isShutdown()).isTrue();
+    }
+
+    @Test
+    public void testShared() {
+        CompactExecutor executor1 = CompactExecutor.acquireShared(2);
+        CompactExecutor executor2 = CompactExecutor.acquireShared(2);
+        CompactExecutor executor3 = CompactExecutor.acquireShared(4);
+        assertThat(executor2).isSameAs(executor1);
+        assertThat(executor3).isNotSameAs(executor1);
+        assertThat(executor1.getCorePoolSize()).isEqualTo(2);
+        assertThat(executor3.getCorePoolSize()).isEqualTo(4);
+
+        executor1.release();
+        assertThat(executor2.isShutdown()).isFalse();
+        executor2.release();
+        assertThat(executor2.isShutdown()).isTrue();
+        assertThat(executor3.isShutdown()).isFalse();
+        executor3.release();
+        assertThat(executor3.isShutdown()).isTrue();
+
+        CompactExecutor executor4 = CompactExecutor.acquireShared(2);
+        assertThat(executor4).isNotSameAs(executor1);
+        executor4.release();
+    }
+
+    @Test
+    public void testMetrics() throws Exception {
+        CompactExecutor executor = CompactExecutor.create(1, "test-compaction");
+        Map<String, Gauge<?>> gauges = new HashMap<>();
+        CompactExecutor.registerMetrics(new TestMetricGroup(gauges), () -> executor);
+        assertThat(gauges.get("queueDepth").getValue()).isEqualTo(0L);
+
+        executor.submit(new TestTask(0, 0, new ArrayList<>())).get();
+        assertThat((Long) gauges.get("maxRunningTimeMillis").getValue())
+                .isLessThanOrEqualTo((Long) gauges.get("totalRunningTimeMillis").getValue());
+        executor.release();
+
+        gauges.clear();
+        CompactExecutor.registerMetrics(new TestMetricGroup(gauges), () -> null);
+        assertThat(gauges.get("queueDepth").getValue()).isEqualTo(0L);
+    }
+
+    private static class TestTask extends CompactTask {
+
+        private final int id;
+        private final List<Integer> finished;
+
+        private TestTask(int id, int priority, List<Integer> finished) {
+            super(Collections.<DataFileMeta>emptyList(), priority);
+            this.id = id;
+            this.finished = finished;
+        }
+
+        @Override
+        protected CompactResult doCompact(List<DataFileMeta> inputs) {
+            finished.add(id);
+            return new CompactResult();
+        }
+    }
+}
@@ -28,11 +28,15 @@ import org.apache.flink.table.store.fs.FileIO;
 import org.apache.flink.table.store.fs.FileIOFinder;
 import org.apache.flink.table.store.fs.Path;
 import org.apache.flink.table.store.fs.local.LocalFileIO;
+import org.apache.flink.table.store.options.MemorySize;
 import org.apache.flink.table.store.options.Options;
 
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -66,6 +70,48 @@ public class ManifestFileTest {
         assertThat(actualEntries).isEqualTo(entries);
     }
 
+    @Test
+    public void testReadWithCache() {
+        List<ManifestEntry> entries = generateData();
+        ManifestEntryCache cache = new ManifestEntryCache(MemorySize.ofMebiBytes(10));
+        ManifestFile manifestFile = createManifestFile(tempDir.toString(), cache);
+
+        List<ManifestFileMeta> metas = manifestFile.write(entries);
+        List<ManifestEntry> actualEntries = new ArrayList<>();
+        for (ManifestFileMeta meta : metas) {
+            List<ManifestEntry> read = manifestFile.read(meta.fileName());
+            assertThat(manifestFile.read(meta.fileName())).isSameAs(read);
+            actualEntries.addAll(read);
+        }
+        assertThat(actualEntries).isEqualTo(entries);
+        assertThat(cache.missCount()).isEqualTo(metas.size());
+        assertThat(cache.hitCount()).isEqualTo(metas.size());
+        assertThat(cache.size()).isEqualTo(metas.size());
+
+        metas.forEach(meta -> manifestFile.delete(meta.fileName()));
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testSharedCache() {
+        ManifestEntryCache cache = ManifestEntryCache.getOrCreate(MemorySize.ofMebiBytes(1));
+        assertThat(ManifestEntryCache.getOrCreate(MemorySize.ofMebiBytes(1))).isSameAs(cache);
+        assertThat(ManifestEntryCache.getOrCreate(MemorySize.ofMebiBytes(2))).isNotSameAs(cache);
+    }
+
+    @Test
+    public void testCacheWeighsStats() {
+        List<ManifestEntry> entries = generateData();
+        long statsBytes = 0;
+        for (ManifestEntry entry : entries) {
+            statsBytes +=
+                    entry.file().keyStats().memorySize() + entry.file().valueStats().memorySize();
+        }
+        assertThat(statsBytes).isGreaterThan(0);
+        assertThat((long) ManifestEntryCache.weigh(new Path(tempDir.toString()), entries))
+                .isGreaterThan(statsBytes);
+    }
+
     @RepeatedTest(10)
     public void testCleanUpForException() throws IOException {
         String failingName = UUID.randomUUID().toString();
@@ -92,6 +138,10 @@ public class ManifestFileTest {
     }
 
     private ManifestFile createManifestFile(String pathStr) {
+        return createManifestFile(pathStr, null);
+    }
+
+    private ManifestFile createManifestFile(String pathStr, @Nullable ManifestEntryCache cache) {
         Path path = new Path(pathStr);
         FileStorePathFactory pathFactory =
                 new FileStorePathFactory(
@@ -104,7 +154,8 @@ public class ManifestFileTest {
                         DEFAULT_PART_TYPE,
                         avro,
                         pathFactory,
-                        suggestedFileSize)
+                        suggestedFileSize,
+                        cache)
                 .create();
     }
 
@@ -18,9 +18,14 @@
 
 package org.apache.flink.table.store.file.memory;
 
+import org.apache.flink.table.store.CoreOptions.WriteBufferPreemptPolicy;
+import org.apache.flink.table.store.memory.MemorySegment;
+
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -42,16 +47,81 @@ public class MemoryPoolFactoryTest {
         assertThat(pool2.freePages()).isEqualTo(8);
     }
 
+    @Test
+    public void testPreemptLargest() {
+        TestMemoryOwner cold = new TestMemoryOwner();
+        TestMemoryOwner large = new TestMemoryOwner();
+        TestMemoryOwner writer = new TestMemoryOwner();
+        MemoryPoolFactory factory =
+                allocateAndPreempt(WriteBufferPreemptPolicy.LARGEST, cold, large, writer);
+
+        assertThat(cold.flushCount).isEqualTo(0);
+        assertThat(large.flushCount).isEqualTo(1);
+        assertThat(factory.preemptCount()).isEqualTo(1);
+        assertThat(factory.preemptedBytes()).isEqualTo(3 * 1024);
+    }
+
+    @Test
+    public void testPreemptLeastRecentlyAllocated() {
+        TestMemoryOwner cold = new TestMemoryOwner();
+        TestMemoryOwner large = new TestMemoryOwner();
+        TestMemoryOwner writer = new TestMemoryOwner();
+        MemoryPoolFactory factory =
+                allocateAndPreempt(
+                        WriteBufferPreemptPolicy.LEAST_RECENTLY_ALLOCATED, cold, large, writer);
+
+        assertThat(cold.flushCount).isEqualTo(1);
+        assertThat(large.flushCount).isEqualTo(0);
+        assertThat(factory.preemptCount()).isEqualTo(1);
+        assertThat(factory.preemptedBytes()).isEqualTo(2 * 1024);
+    }
+
+    /**
+     * The cold owner allocates 2 pages first, then the large owner allocates 3 pages, the writer
+     * takes the remaining pages and then preempts memory.
+     */
+    private MemoryPoolFactory allocateAndPreempt(
+            WriteBufferPreemptPolicy policy,
+            TestMemoryOwner cold,
+            TestMemoryOwner large,
+            TestMemoryOwner writer) {
+        List<MemoryOwner> owners = Arrays.asList(cold, large, writer);
+        MemoryPoolFactory factory =
+                new MemoryPoolFactory(new HeapMemorySegmentPool(1024 * 6, 1024), owners, policy);
+        owners.forEach(factory::notifyNewOwner);
+
+        cold.allocate(2);
+        large.allocate(3);
+        writer.allocate(1);
+        assertThat(writer.pool.nextSegment()).isNull();
+        return factory;
+    }
+
     private static class TestMemoryOwner implements MemoryOwner {
+
+        private MemorySegmentPool pool;
+        private final List<MemorySegment> segments = new ArrayList<>();
+        private int flushCount = 0;
+
+        private void allocate(int pages) {
+            for (int i = 0; i < pages; i++) {
+                segments.add(pool.nextSegment());
+            }
+        }
+
         @Override
-        public void setMemoryPool(MemorySegmentPool memoryPool) {}
+        public void setMemoryPool(MemorySegmentPool memoryPool) {
+            this.pool = memoryPool;
+        }
 
         @Override
         public long memoryOccupancy() {
-            return 0;
+            return segments.size() * 1024L;
         }
 
         @Override
-        public void flushMemory() {}
+        public void flushMemory() {
+            flushCount++;
+        }
     }
 }
@@ -25,6 +25,8 @@ import org.apache.flink.table.store.data.serializer.InternalRowSerializer;
 import org.apache.flink.table.store.file.KeyValue;
 import org.apache.flink.table.store.file.format.FlushingFileFormat;
 import org.apache.flink.table.store.file.io.DataFileMeta;
+import org.apache.flink.table.store.file.io.DataFilePathFactory;
+import org.apache.flink.table.store.file.io.KeyBloomFilterFile;
 import org.apache.flink.table.store.file.io.KeyValueFileReaderFactory;
 import org.apache.flink.table.store.file.io.KeyValueFileWriterFactory;
 import org.apache.flink.table.store.file.io.RollingFileWriter;
@@ -48,6 +50,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -57,10 +60,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.apache.flink.table.store.CoreOptions.TARGET_FILE_SIZE;
 import static org.apache.flink.table.store.file.io.DataFileTestUtils.row;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Test {@link LookupLevels}. */
 public class LookupLevelsTest {
@@ -114,6 +121,257 @@ public class LookupLevelsTest {
         assertThat(lookupLevels.lookupFiles().size()).isEqualTo(0);
     }
 
+    @Test
+    public void testMemoryMapped() throws IOException {
+        Levels levels =
+                new Levels(
+                        comparator,
+                        Arrays.asList(
+                                newFile(1, kv(1, 11), kv(3, 33), kv(5, 5)),
+                                newFile(2, kv(2, 22), kv(5, 55))),
+                        3);
+        LookupLevels lookupLevels = createLookupLevels(levels, MemorySize.ofMebiBytes(10), true);
+
+        KeyValue kv = lookupLevels.lookup(row(2), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.level()).isEqualTo(2);
+        assertThat(kv.value().getInt(1)).isEqualTo(22);
+
+        kv = lookupLevels.lookup(row(5), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.level()).isEqualTo(1);
+        assertThat(kv.value().getInt(1)).isEqualTo(5);
+
+        assertThat(lookupLevels.lookup(row(4), 1)).isNull();
+
+        // the returned value is still readable after the lookup file is dropped
+        lookupLevels.close();
+        assertThat(lookupLevels.lookupFiles().size()).isEqualTo(0);
+        assertThat(kv.value().getInt(1)).isEqualTo(5);
+    }
+
+    @Test
+    public void testPrefetch() throws Exception {
+        Levels levels =
+                new Levels(
+                        comparator,
+                        Arrays.asList(
+                                newFile(1, kv(1, 11), kv(3, 33)),
+                                newFile(1, kv(5, 5), kv(7, 7)),
+                                newFile(2, kv(2, 22), kv(5, 55))),
+                        3);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            LookupLevels lookupLevels =
+                    new LookupLevels(
+                            levels,
+                            comparator,
+                            new InternalRowSerializer(keyType),
+                            new InternalRowSerializer(rowType),
+                            file ->
+                                    createReaderFactory()
+                                            .createRecordReader(0, file.fileName(), file.level()),
+                            () ->
+                                    new File(
+                                            tempDir.toFile(),
+                                            LOOKUP_FILE_PREFIX + UUID.randomUUID()),
+                            new HashLookupStoreFactory(
+                                    new CacheManager(2048, MemorySize.ofMebiBytes(1)), 0.75),
+                            Duration.ofHours(1),
+                            MemorySize.ofMebiBytes(10),
+                            executor,
+                            null,
+                            null,
+                            new LookupLevels.BuildMetrics());
+            lookupLevels.waitPrefetches();
+            assertThat(lookupLevels.lookupFiles().size()).isEqualTo(3);
+            assertThat(lookupLevels.buildCount()).isEqualTo(3);
+            assertThat(lookupLevels.buildBytes()).isGreaterThan(0);
+
+            KeyValue kv = lookupLevels.lookup(row(5), 1);
+            assertThat(kv).isNotNull();
+            assertThat(kv.level()).isEqualTo(1);
+            assertThat(kv.value().getInt(1)).isEqualTo(5);
+
+            kv = lookupLevels.lookup(row(2), 1);
+            assertThat(kv).isNotNull();
+            assertThat(kv.value().getInt(1)).isEqualTo(22);
+
+            // no more files are built
+            assertThat(lookupLevels.buildCount()).isEqualTo(3);
+
+            lookupLevels.close();
+            assertThat(lookupLevels.lookupFiles().size()).isEqualTo(0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDropFileDuringPrefetch() throws Exception {
+        DataFileMeta file = newFile(1, kv(1, 11), kv(3, 33));
+        Levels levels = new Levels(comparator, Collections.singletonList(file), 2);
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch dropped = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            LookupLevels lookupLevels =
+                    new LookupLevels(
+                            levels,
+                            comparator,
+                            new InternalRowSerializer(keyType),
+                            new InternalRowSerializer(rowType),
+                            f -> {
+                                building.countDown();
+                                try {
+                                    dropped.await();
+                                } catch (InterruptedException e) {
+                                    throw new RuntimeException(e);
+                                }
+                                return createReaderFactory()
+                                        .createRecordReader(0, f.fileName(), f.level());
+                            },
+                            () ->
+                                    new File(
+                                            tempDir.toFile(),
+                                            LOOKUP_FILE_PREFIX + UUID.randomUUID()),
+                            new HashLookupStoreFactory(
+                                    new CacheManager(2048, MemorySize.ofMebiBytes(1)), 0.75),
+                            Duration.ofHours(1),
+                            MemorySize.ofMebiBytes(10),
+                            executor,
+                            null,
+                            null,
+                            new LookupLevels.BuildMetrics());
+
+            // the file is dropped by a compaction while its lookup file is built
+            building.await();
+            lookupLevels.notifyDropFile(file.fileName());
+            dropped.countDown();
+            lookupLevels.waitPrefetches();
+
+            assertThat(lookupLevels.buildCount()).isEqualTo(1);
+            assertThat(lookupLevels.lookupFiles().size()).isEqualTo(0);
+            assertThat(tempDir.toFile().list((dir, name) -> name.startsWith(LOOKUP_FILE_PREFIX)))
+                    .isEmpty();
+            lookupLevels.close();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRemoteLookupFile() throws IOException {
+        DataFileMeta file = newFile(1, kv(1, 11), kv(3, 33), kv(5, 5));
+        Path path = new Path(tempDir.toUri().toString());
+        RemoteLookupFileManager remoteLookupFileManager =
+                new RemoteLookupFileManager(
+                        FileIOFinder.find(path), createWriterFactory().pathFactory());
+
+        LookupLevels lookupLevels =
+                createLookupLevels(
+                        new Levels(comparator, Collections.singletonList(file), 3),
+                        remoteLookupFileManager);
+        List<DataFileMeta> persisted =
+                lookupLevels.persistLookupFiles(Collections.singletonList(file));
+        assertThat(lookupLevels.buildCount()).isEqualTo(1);
+        lookupLevels.close();
+
+        assertThat(persisted).hasSize(1);
+        DataFileMeta persistedFile = persisted.get(0);
+        String remoteLookupFile = remoteLookupFileManager.remoteLookupFile(persistedFile);
+        assertThat(remoteLookupFile).isNotNull();
+        assertThat(persistedFile.extraFiles()).containsExactly(remoteLookupFile);
+        assertThat(new File(tempDir.toFile(), "bucket-0/" + remoteLookupFile)).exists();
+
+        // persisted lookup file is fetched instead of being rebuilt
+        lookupLevels =
+                createLookupLevels(
+                        new Levels(comparator, Collections.singletonList(persistedFile), 2),
+                        remoteLookupFileManager);
+        KeyValue kv = lookupLevels.lookup(row(3), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.level()).isEqualTo(1);
+        assertThat(kv.value().getInt(1)).isEqualTo(33);
+        assertThat(lookupLevels.lookup(row(4), 1)).isNull();
+        assertThat(lookupLevels.buildCount()).isEqualTo(0);
+        lookupLevels.close();
+
+        // persisted lookup file of another version is rebuilt
+        File remoteFile = new File(tempDir.toFile(), "bucket-0/" + remoteLookupFile);
+        byte[] bytes = Files.readAllBytes(remoteFile.toPath());
+        bytes[0] = RemoteLookupFileManager.VERSION + 1;
+        Files.write(remoteFile.toPath(), bytes);
+        lookupLevels =
+                createLookupLevels(
+                        new Levels(comparator, Collections.singletonList(persistedFile), 2),
+                        remoteLookupFileManager);
+        kv = lookupLevels.lookup(row(3), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.value().getInt(1)).isEqualTo(33);
+        assertThat(lookupLevels.buildCount()).isEqualTo(1);
+        lookupLevels.close();
+    }
+
+    @Test
+    public void testPersistedBloomFilter() throws IOException {
+        KeyValueFileWriterFactory writerFactory = createWriterFactory(0.01);
+        KeyValue[] records = new KeyValue[100];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = kv(i * 2, i);
+        }
+        DataFileMeta file = newFile(writerFactory, 1, records);
+        String bloomFilterFile = KeyBloomFilterFile.bloomFilterFile(file);
+        assertThat(bloomFilterFile).isNotNull();
+        assertThat(file.extraFiles()).containsExactly(bloomFilterFile);
+        assertThat(new File(tempDir.toFile(), "bucket-0/" + bloomFilterFile)).exists();
+
+        // absent keys are rejected by the persisted bloom filter without building the lookup file
+        LookupLevels lookupLevels =
+                createLookupLevelsWithBloomFilter(
+                        new Levels(comparator, Collections.singletonList(file), 2));
+        for (int i = 1; i < 50; i += 2) {
+            assertThat(lookupLevels.lookup(row(i), 1)).isNull();
+        }
+        assertThat(lookupLevels.buildCount()).isEqualTo(0);
+        assertThat(lookupLevels.lookupFiles().size()).isEqualTo(0);
+
+        KeyValue kv = lookupLevels.lookup(row(6), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.value().getInt(1)).isEqualTo(3);
+        assertThat(lookupLevels.buildCount()).isEqualTo(1);
+        lookupLevels.close();
+
+        // a bloom filter file of another version is ignored
+        File file0 = new File(tempDir.toFile(), "bucket-0/" + bloomFilterFile);
+        byte[] bytes = Files.readAllBytes(file0.toPath());
+        bytes[0] = KeyBloomFilterFile.VERSION + 1;
+        Files.write(file0.toPath(), bytes);
+        lookupLevels =
+                createLookupLevelsWithBloomFilter(
+                        new Levels(comparator, Collections.singletonList(file), 2));
+        assertThat(lookupLevels.lookup(row(1), 1)).isNull();
+        assertThat(lookupLevels.buildCount()).isEqualTo(1);
+        kv = lookupLevels.lookup(row(10), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.value().getInt(1)).isEqualTo(5);
+        lookupLevels.close();
+
+        // aborted files delete their bloom filter files
+        RollingFileWriter<KeyValue, DataFileMeta> writer =
+                writerFactory.createRollingMergeTreeFileWriter(1);
+        writer.write(kv(7, 77));
+        writer.close();
+        DataFileMeta aborted = writer.result().get(0);
+        writer.abort();
+        assertThat(new File(tempDir.toFile(), "bucket-0/" + aborted.fileName())).doesNotExist();
+        assertThat(
+                        new File(
+                                tempDir.toFile(),
+                                "bucket-0/" + KeyBloomFilterFile.bloomFilterFile(aborted)))
+                .doesNotExist();
+    }
+
     @Test
     public void testMultiFiles() throws IOException {
         Levels levels =
@@ -157,6 +415,28 @@ public class LookupLevelsTest {
         assertThat(lookupLevels.lookupFiles().size()).isEqualTo(0);
     }
 
+    @Test
+    public void testFileLargerThanMaxDiskSize() throws IOException {
+        KeyValue[] records = new KeyValue[1000];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = kv(i, i);
+        }
+        DataFileMeta file = newFile(1, records);
+        LookupLevels lookupLevels =
+                createLookupLevels(
+                        new Levels(comparator, Collections.singletonList(file), 2),
+                        MemorySize.ofKibiBytes(1));
+
+        // fails instead of loading the lookup file again and again
+        assertThatThrownBy(() -> lookupLevels.lookup(row(1), 1))
+                .hasStackTraceContaining("Lookup file of " + file.fileName())
+                .hasStackTraceContaining("larger than 'lookup.cache-max-disk-size' 1 kb");
+        assertThat(lookupLevels.buildCount()).isEqualTo(1);
+        assertThat(tempDir.toFile().list((dir, name) -> name.startsWith(LOOKUP_FILE_PREFIX)))
+                .isEmpty();
+        lookupLevels.close();
+    }
+
     @Test
     public void testMaxDiskSize() throws IOException {
         List<DataFileMeta> files = new ArrayList<>();
@@ -191,7 +471,8 @@ public class LookupLevelsTest {
         assertThat(lookupLevels.lookupFiles().size()).isEqualTo(0);
     }
 
-    private LookupLevels createLookupLevels(Levels levels, MemorySize maxDiskSize) {
+    private LookupLevels createLookupLevels(
+            Levels levels, RemoteLookupFileManager remoteLookupFileManager) {
         return new LookupLevels(
                 levels,
                 comparator,
@@ -201,6 +482,47 @@ public class LookupLevelsTest {
                 () -> new File(tempDir.toFile(), LOOKUP_FILE_PREFIX + UUID.randomUUID()),
                 new HashLookupStoreFactory(new CacheManager(2048, MemorySize.ofMebiBytes(1)), 0.75),
                 Duration.ofHours(1),
+                MemorySize.ofMebiBytes(10),
+                null,
+                remoteLookupFileManager,
+                null,
+                new LookupLevels.BuildMetrics());
+    }
+
+    private LookupLevels createLookupLevelsWithBloomFilter(Levels levels) {
+        Path path = new Path(tempDir.toUri().toString());
+        DataFilePathFactory pathFactory = createWriterFactory().pathFactory();
+        return new LookupLevels(
+                levels,
+                comparator,
+                new InternalRowSerializer(keyType),
+                new InternalRowSerializer(rowType),
+                file -> createReaderFactory().createRecordReader(0, file.fileName(), file.level()),
+                () -> new File(tempDir.toFile(), LOOKUP_FILE_PREFIX + UUID.randomUUID()),
+                new HashLookupStoreFactory(new CacheManager(2048, MemorySize.ofMebiBytes(1)), 0.75),
+                Duration.ofHours(1),
+                MemorySize.ofMebiBytes(10),
+                null,
+                null,
+                file -> KeyBloomFilterFile.read(FileIOFinder.find(path), pathFactory.toPath(file)),
+                new LookupLevels.BuildMetrics());
+    }
+
+    private LookupLevels createLookupLevels(Levels levels, MemorySize maxDiskSize) {
+        return createLookupLevels(levels, maxDiskSize, false);
+    }
+
+    private LookupLevels createLookupLevels(Levels levels, MemorySize maxDiskSize, boolean mmap) {
+        return new LookupLevels(
+                levels,
+                comparator,
+                new InternalRowSerializer(keyType),
+                new InternalRowSerializer(rowType),
+                file -> createReaderFactory().createRecordReader(0, file.fileName(), file.level()),
+                () -> new File(tempDir.toFile(), LOOKUP_FILE_PREFIX + UUID.randomUUID()),
+                new HashLookupStoreFactory(
+                        new CacheManager(2048, MemorySize.ofMebiBytes(1)), 0.75, mmap, 0.05),
+                Duration.ofHours(1),
                 maxDiskSize);
     }
 
@@ -210,8 +532,14 @@ public class LookupLevelsTest {
     }
 
     private DataFileMeta newFile(int level, KeyValue... records) throws IOException {
+        return newFile(createWriterFactory(), level, records);
+    }
+
+    private DataFileMeta newFile(
+            KeyValueFileWriterFactory writerFactory, int level, KeyValue... records)
+            throws IOException {
         RollingFileWriter<KeyValue, DataFileMeta> writer =
-                createWriterFactory().createRollingMergeTreeFileWriter(level);
+                writerFactory.createRollingMergeTreeFileWriter(level);
         for (KeyValue kv : records) {
             writer.write(kv);
         }
@@ -220,16 +548,25 @@ public class LookupLevelsTest {
     }
 
     private KeyValueFileWriterFactory createWriterFactory() {
+        return createWriterBuilder().build(BinaryRow.EMPTY_ROW, 0, null);
+    }
+
+    private KeyValueFileWriterFactory createWriterFactory(double bloomFilterFpp) {
+        return createWriterBuilder()
+                .withBloomFilter(bloomFilterFpp)
+                .build(BinaryRow.EMPTY_ROW, 0, null);
+    }
+
+    private KeyValueFileWriterFactory.Builder createWriterBuilder() {
         Path path = new Path(tempDir.toUri().toString());
         return KeyValueFileWriterFactory.builder(
-                        FileIOFinder.find(path),
-                        0,
-                        keyType,
-                        rowType,
-                        new FlushingFileFormat("avro"),
-                        new FileStorePathFactory(path),
-                        TARGET_FILE_SIZE.defaultValue().getBytes())
-                .build(BinaryRow.EMPTY_ROW, 0, null);
+                FileIOFinder.find(path),
+                0,
+                keyType,
+                rowType,
+                new FlushingFileFormat("avro"),
+                new FileStorePathFactory(path),
+                TARGET_FILE_SIZE.defaultValue().getBytes());
     }
 
     private KeyValueFileReaderFactory createReaderFactory() {
@@ -64,6 +64,8 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -76,8 +78,11 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.singletonList;
@@ -88,6 +93,7 @@ public class MergeTreeTest {
 
     @TempDir java.nio.file.Path tempDir;
     private static ExecutorService service;
+    private static ExecutorService flushService;
     private Path path;
     private FileStorePathFactory pathFactory;
     private Comparator<InternalRow> comparator;
@@ -98,6 +104,7 @@ public class MergeTreeTest {
     private KeyValueFileWriterFactory writerFactory;
     private KeyValueFileWriterFactory compactWriterFactory;
     private RecordWriter<KeyValue> writer;
+    private boolean asyncFlush;
 
     @BeforeEach
     public void beforeEach() throws IOException {
@@ -127,7 +134,8 @@ public class MergeTreeTest {
 
     private void recreateMergeTree(long targetFileSize) {
         Options configuration = new Options();
-        configuration.set(CoreOptions.WRITE_BUFFER_SIZE, new MemorySize(4096 * 3));
+        configuration.set(
+                CoreOptions.WRITE_BUFFER_SIZE, new MemorySize(4096 * (asyncFlush ? 6 : 3)));
         configuration.set(CoreOptions.PAGE_SIZE, new MemorySize(4096));
         configuration.set(CoreOptions.TARGET_FILE_SIZE, new MemorySize(targetFileSize));
         options = new CoreOptions(configuration);
@@ -188,12 +196,15 @@ public class MergeTreeTest {
     @BeforeAll
     public static void before() {
         service = Executors.newSingleThreadExecutor();
+        flushService = Executors.newSingleThreadExecutor();
     }
 
     @AfterAll
     public static void after() {
         service.shutdownNow();
         service = null;
+        flushService.shutdownNow();
+        flushService = null;
     }
 
     @Test
@@ -267,6 +278,68 @@ public class MergeTreeTest {
         doTestWriteRead(3, 20_000);
     }
 
+    @Test
+    public void testWriteManyWithAsyncFlush() throws Exception {
+        asyncFlush = true;
+        recreateMergeTree(1024 * 1024);
+        doTestWriteRead(3, 20_000);
+    }
+
+    @Test
+    public void testCloseWithRunningAsyncFlush() throws Exception {
+        asyncFlush = true;
+        recreateMergeTree(1024 * 1024);
+        writer.close();
+
+        AtomicInteger triggeredCompactions = new AtomicInteger();
+        MergeTreeCompactManager compactManager =
+                new MergeTreeCompactManager(
+                        service,
+                        new Levels(comparator, Collections.emptyList(), options.numLevels()),
+                        createCompactStrategy(),
+                        comparator,
+                        options.targetFileSize(),
+                        options.numSortedRunStopTrigger(),
+                        new TestRewriter()) {
+                    @Override
+                    public void triggerCompaction(boolean fullCompaction) {
+                        triggeredCompactions.incrementAndGet();
+                        super.triggerCompaction(fullCompaction);
+                    }
+                };
+        ThreadPoolExecutor flushExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(1);
+        try {
+            // block the flush executor so that the flush is still running when closing
+            CountDownLatch flushBlocked = new CountDownLatch(1);
+            flushExecutor.submit(
+                    () -> {
+                        flushBlocked.await();
+                        return null;
+                    });
+            writer = createMergeTreeWriter(compactManager, -1, flushExecutor);
+            Random random = new Random();
+            while (flushExecutor.getTaskCount() < 2) {
+                writer.write(
+                        new KeyValue()
+                                .replace(
+                                        row(random.nextInt()),
+                                        RowKind.INSERT,
+                                        row(random.nextInt())));
+            }
+
+            int triggeredBeforeClose = triggeredCompactions.get();
+            flushBlocked.countDown();
+            writer.close();
+            assertThat(triggeredCompactions.get()).isEqualTo(triggeredBeforeClose);
+        } finally {
+            flushExecutor.shutdownNow();
+        }
+
+        // files of the flush are deleted
+        Path bucketDir = writerFactory.pathFactory().toPath("ignore").getParent();
+        assertThat(LocalFileIO.create().listStatus(bucketDir)).isEmpty();
+    }
+
     private void doTestWriteRead(int batchNumber) throws Exception {
         doTestWriteRead(batchNumber, 200);
     }
@@ -316,18 +389,29 @@ public class MergeTreeTest {
     private MergeTreeWriter createMergeTreeWriter(List<DataFileMeta> files) {
         long maxSequenceNumber =
                 files.stream().map(DataFileMeta::maxSequenceNumber).max(Long::compare).orElse(-1L);
+        return createMergeTreeWriter(
+                createCompactManager(service, files),
+                maxSequenceNumber,
+                asyncFlush ? flushService : null);
+    }
+
+    private MergeTreeWriter createMergeTreeWriter(
+            MergeTreeCompactManager compactManager,
+            long maxSequenceNumber,
+            @Nullable ExecutorService flushExecutor) {
         MergeTreeWriter writer =
                 new MergeTreeWriter(
                         false,
                         128,
                         null,
-                        createCompactManager(service, files),
+                        compactManager,
                         maxSequenceNumber,
                         comparator,
                         DeduplicateMergeFunction.factory().create(),
                         writerFactory,
                         options.commitForceCompact(),
-                        ChangelogProducer.NONE);
+                        ChangelogProducer.NONE,
+                        flushExecutor);
         writer.setMemoryPool(
                 new HeapMemorySegmentPool(options.writeBufferSize(), options.pageSize()));
         return writer;
@@ -335,22 +419,24 @@ public class MergeTreeTest {
 
     private MergeTreeCompactManager createCompactManager(
             ExecutorService compactExecutor, List<DataFileMeta> files) {
-        CompactStrategy strategy =
-                new UniversalCompaction(
-                        options.maxSizeAmplificationPercent(),
-                        options.sortedRunSizeRatio(),
-                        options.numSortedRunCompactionTrigger(),
-                        options.maxSortedRunNum());
         return new MergeTreeCompactManager(
                 compactExecutor,
                 new Levels(comparator, files, options.numLevels()),
-                strategy,
+                createCompactStrategy(),
                 comparator,
                 options.targetFileSize(),
                 options.numSortedRunStopTrigger(),
                 new TestRewriter());
     }
 
+    private CompactStrategy createCompactStrategy() {
+        return new UniversalCompaction(
+                options.maxSizeAmplificationPercent(),
+                options.sortedRunSizeRatio(),
+                options.numSortedRunCompactionTrigger(),
+                options.maxSortedRunNum());
+    }
+
     private void mergeCompacted(
             Set<String> newFileNames,
             List<DataFileMeta> compactedFiles,
@@ -427,7 +513,8 @@ public class MergeTreeTest {
                         dropDelete,
                         readerFactory,
                         comparator,
-                        DeduplicateMergeFunction.factory().create());
+                        DeduplicateMergeFunction.factory().create(),
+                        options.sortEngine());
         List<TestRecord> records = new ArrayList<>();
         try (RecordReaderIterator<KeyValue> iterator = new RecordReaderIterator<>(reader)) {
             while (iterator.hasNext()) {
@@ -470,7 +557,8 @@ public class MergeTreeTest {
                             dropDelete,
                             compactReaderFactory,
                             comparator,
-                            DeduplicateMergeFunction.factory().create());
+                            DeduplicateMergeFunction.factory().create(),
+                            options.sortEngine());
             writer.write(new RecordReaderIterator<>(sectionsReader));
             writer.close();
             return new CompactResult(extractFilesFromSections(sections), writer.result());
@@ -20,7 +20,9 @@ package org.apache.flink.table.store.file.mergetree;
 
 import org.apache.flink.table.store.codegen.RecordComparator;
 import org.apache.flink.table.store.file.KeyValue;
+import org.apache.flink.table.store.file.disk.IOManager;
 import org.apache.flink.table.store.file.memory.HeapMemorySegmentPool;
+import org.apache.flink.table.store.file.memory.MemorySegmentPool;
 import org.apache.flink.table.store.file.mergetree.compact.DeduplicateMergeFunction;
 import org.apache.flink.table.store.file.mergetree.compact.MergeFunction;
 import org.apache.flink.table.store.file.mergetree.compact.MergeFunctionTestUtils;
@@ -28,12 +30,14 @@ import org.apache.flink.table.store.file.mergetree.compact.ValueCountMergeFuncti
 import org.apache.flink.table.store.file.sort.BinaryInMemorySortBuffer;
 import org.apache.flink.table.store.file.utils.ReusingKeyValue;
 import org.apache.flink.table.store.file.utils.ReusingTestData;
+import org.apache.flink.table.store.memory.MemorySegment;
 import org.apache.flink.table.store.types.BigIntType;
 import org.apache.flink.table.store.types.DataField;
 import org.apache.flink.table.store.types.IntType;
 import org.apache.flink.table.store.types.RowType;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.EOFException;
 import java.io.IOException;
@@ -41,6 +45,10 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.apache.flink.table.store.utils.Preconditions.checkState;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -50,12 +58,17 @@ public abstract class SortBufferWriteBufferTestBase {
 
     private static final RecordComparator KEY_COMPARATOR =
             (a, b) -> Integer.compare(a.getInt(0), b.getInt(0));
+    private static final RowType KEY_TYPE =
+            new RowType(Collections.singletonList(new DataField(0, "key", new IntType())));
+    private static final RowType VALUE_TYPE =
+            new RowType(Collections.singletonList(new DataField(1, "value", new BigIntType())));
+
+    @TempDir java.nio.file.Path tempDir;
 
     protected final SortBufferWriteBuffer table =
             new SortBufferWriteBuffer(
-                    new RowType(Collections.singletonList(new DataField(0, "key", new IntType()))),
-                    new RowType(
-                            Collections.singletonList(new DataField(1, "value", new BigIntType()))),
+                    KEY_TYPE,
+                    VALUE_TYPE,
                     new HeapMemorySegmentPool(32 * 1024 * 3L, 32 * 1024),
                     false,
                     128,
@@ -94,6 +107,41 @@ public abstract class SortBufferWriteBufferTestBase {
         assertThat(numEof).isEqualTo(2);
     }
 
+    @Test
+    public void testForEachSpilledBufferInAnotherThread() throws Exception {
+        ThreadRecordingPool pool =
+                new ThreadRecordingPool(new HeapMemorySegmentPool(32 * 1024 * 3L, 32 * 1024));
+        ExecutorService flushExecutor = Executors.newSingleThreadExecutor();
+        try (IOManager ioManager = IOManager.create(tempDir.toString())) {
+            SortBufferWriteBuffer spillable =
+                    new SortBufferWriteBuffer(KEY_TYPE, VALUE_TYPE, pool, true, 128, ioManager);
+            List<ReusingTestData> input = ReusingTestData.generateData(100000, addOnly());
+            prepareTable(spillable, input);
+            assertThat(pool.returnedPages).isGreaterThan(0);
+            assertThat(spillable.memoryOccupancy()).isGreaterThan(0);
+
+            // like an async flush of the merge tree writer
+            spillable.prepareForEach();
+            Queue<ReusingTestData> expected = new LinkedList<>(getExpected(input));
+            flushExecutor
+                    .submit(
+                            () -> {
+                                spillable.forEach(
+                                        KEY_COMPARATOR,
+                                        createMergeFunction(),
+                                        null,
+                                        kv -> expected.poll().assertEquals(kv));
+                                return null;
+                            })
+                    .get();
+            assertThat(expected).isEmpty();
+            assertThat(pool.threads).containsExactly(Thread.currentThread());
+            spillable.clear();
+        } finally {
+            flushExecutor.shutdownNow();
+        }
+    }
+
     private void testRandom(int numRecords) throws IOException {
         List<ReusingTestData> input = ReusingTestData.generateData(numRecords, addOnly());
         runTest(input);
@@ -101,7 +149,7 @@ public abstract class SortBufferWriteBufferTestBase {
 
     protected void runTest(List<ReusingTestData> input) throws IOException {
         Queue<ReusingTestData> expected = new LinkedList<>(getExpected(input));
-        prepareTable(input);
+        prepareTable(table, input);
         table.forEach(
                 KEY_COMPARATOR,
                 createMergeFunction(),
@@ -110,7 +158,8 @@ public abstract class SortBufferWriteBufferTestBase {
         assertThat(expected).isEmpty();
     }
 
-    private void prepareTable(List<ReusingTestData> input) throws IOException {
+    private void prepareTable(SortBufferWriteBuffer table, List<ReusingTestData> input)
+            throws IOException {
         ReusingKeyValue reuse = new ReusingKeyValue();
         for (ReusingTestData data : input) {
             KeyValue keyValue = reuse.update(data);
@@ -127,6 +176,41 @@ public abstract class SortBufferWriteBufferTestBase {
         assertThat(table.size()).isEqualTo(input.size());
     }
 
+    /** A {@link MemorySegmentPool} recording the threads allocating and releasing memory. */
+    private static class ThreadRecordingPool implements MemorySegmentPool {
+
+        private final MemorySegmentPool pool;
+        private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        private int returnedPages;
+
+        private ThreadRecordingPool(MemorySegmentPool pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public int pageSize() {
+            return pool.pageSize();
+        }
+
+        @Override
+        public void returnAll(List<MemorySegment> memory) {
+            threads.add(Thread.currentThread());
+            returnedPages += memory.size();
+            pool.returnAll(memory);
+        }
+
+        @Override
+        public int freePages() {
+            return pool.freePages();
+        }
+
+        @Override
+        public MemorySegment nextSegment() {
+            threads.add(Thread.currentThread());
+            return pool.nextSegment();
+        }
+    }
+
     /** Test for {@link SortBufferWriteBuffer} with {@link DeduplicateMergeFunction}. */
     public static class WithDeduplicateMergeFunctionTest extends SortBufferWriteBufferTestBase {
 
@@ -18,28 +18,53 @@
 
 package org.apache.flink.table.store.file.mergetree.compact;
 
+import org.apache.flink.table.store.CoreOptions.SortEngine;
+import org.apache.flink.table.store.codegen.RecordComparator;
 import org.apache.flink.table.store.file.KeyValue;
+import org.apache.flink.table.store.file.utils.KeyComparatorSupplier;
 import org.apache.flink.table.store.file.utils.ReusingTestData;
 import org.apache.flink.table.store.file.utils.TestReusingRecordReader;
 import org.apache.flink.table.store.reader.RecordReader;
+import org.apache.flink.table.store.types.IntType;
+import org.apache.flink.table.store.types.RowType;
 
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /** Tests for {@link SortMergeReader}. */
 public abstract class SortMergeReaderTestBase extends CombiningRecordReaderTestBase {
 
+    private static final RecordComparator NORMALIZED_KEY_COMPARATOR =
+            new KeyComparatorSupplier(RowType.of(new IntType(false))).get();
+
+    private SortEngine sortEngine;
+    private RecordComparator keyComparator;
+
     protected abstract MergeFunction<KeyValue> createMergeFunction();
 
     @Override
     protected RecordReader<KeyValue> createRecordReader(List<TestReusingRecordReader> readers) {
-        return new SortMergeReader<>(
+        return SortMergeReader.createSortMergeReader(
                 new ArrayList<>(readers),
-                KEY_COMPARATOR,
-                new ReducerMergeFunctionWrapper(createMergeFunction()));
+                keyComparator,
+                new ReducerMergeFunctionWrapper(createMergeFunction()),
+                sortEngine);
+    }
+
+    @Override
+    protected void runTest(List<List<ReusingTestData>> readersData) throws IOException {
+        for (SortEngine engine : SortEngine.values()) {
+            for (RecordComparator comparator :
+                    Arrays.asList(KEY_COMPARATOR, NORMALIZED_KEY_COMPARATOR)) {
+                sortEngine = engine;
+                keyComparator = comparator;
+                super.runTest(readersData);
+            }
+        }
     }
 
     @Test
@@ -27,6 +27,8 @@ import org.apache.flink.table.store.file.manifest.ManifestEntry;
 import org.apache.flink.table.store.file.utils.SnapshotManager;
 import org.apache.flink.table.store.fs.Path;
 import org.apache.flink.table.store.fs.local.LocalFileIO;
+import org.apache.flink.table.store.metrics.Gauge;
+import org.apache.flink.table.store.metrics.TestMetricGroup;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -34,7 +36,10 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.apache.flink.table.store.data.BinaryRow.EMPTY_ROW;
@@ -91,6 +96,80 @@ public class CleanedFileStoreExpireTest extends FileStoreExpireTestBase {
         assertThat(fileIO.exists(myDataFile)).isFalse();
         assertThat(fileIO.exists(extra1)).isFalse();
         assertThat(fileIO.exists(extra2)).isFalse();
+        assertThat(expire.deletedFiles()).isEqualTo(3);
+        assertThat(expire.deletedBytes()).isEqualTo(dataFile.fileSize());
+    }
+
+    @Test
+    public void testDeletedFilesMetrics() throws Exception {
+        Map<String, Gauge<?>> gauges = new HashMap<>();
+        FileStoreExpireImpl expire = store.newExpire(1, 1, Long.MAX_VALUE);
+        expire.withMetricGroup(new TestMetricGroup(gauges));
+        assertThat(gauges.get("deletedFiles").getValue()).isEqualTo(0L);
+        assertThat(gauges.get("deletedBytes").getValue()).isEqualTo(0L);
+
+        List<KeyValue> allData = new ArrayList<>();
+        List<Integer> snapshotPositions = new ArrayList<>();
+        commit(5, allData, snapshotPositions);
+        expire.expire();
+
+        assertThat(expire.deletedFiles()).isGreaterThan(0);
+        assertThat(gauges.get("deletedFiles").getValue()).isEqualTo(expire.deletedFiles());
+        assertThat(gauges.get("deletedBytes").getValue()).isEqualTo(expire.deletedBytes());
+    }
+
+    @Test
+    public void testMissingFilesNotCounted() throws IOException {
+        FileStoreExpireImpl expire = store.newExpire(1, 3, Long.MAX_VALUE);
+
+        // only write the extra file, the data file is missing
+        BinaryRow partition = gen.getPartition(gen.next());
+        Path bucketPath = store.pathFactory().bucketPath(partition, 0);
+        Path extra = new Path(bucketPath, "extra");
+        fileIO.writeFileUtf8(extra, "1");
+
+        DataFileMeta dataFile =
+                new DataFileMeta(
+                        "missingDataFile",
+                        10,
+                        1,
+                        EMPTY_ROW,
+                        EMPTY_ROW,
+                        null,
+                        null,
+                        0,
+                        1,
+                        0,
+                        0,
+                        Collections.singletonList("extra"),
+                        Timestamp.now());
+        expire.expireMergeTreeFiles(
+                Collections.singletonList(
+                        new ManifestEntry(FileKind.DELETE, partition, 0, 1, dataFile)));
+
+        assertThat(fileIO.exists(extra)).isFalse();
+        assertThat(expire.deletedFiles()).isEqualTo(1);
+        assertThat(expire.deletedBytes()).isEqualTo(0);
+    }
+
+    @Test
+    public void testExpireWithParallelDeletion() throws Exception {
+        List<KeyValue> allData = new ArrayList<>();
+        List<Integer> snapshotPositions = new ArrayList<>();
+        commit(10, allData, snapshotPositions);
+        int latestSnapshotId = snapshotManager.latestSnapshotId().intValue();
+        FileStoreExpireImpl expire = store.newExpire(1, 3, Long.MAX_VALUE, 4);
+        expire.expire();
+
+        for (int i = 1; i <= latestSnapshotId; i++) {
+            if (i > latestSnapshotId - 3) {
+                assertThat(snapshotManager.snapshotExists(i)).isTrue();
+                assertSnapshot(i, allData, snapshotPositions);
+            } else {
+                assertThat(snapshotManager.snapshotExists(i)).isFalse();
+            }
+        }
+        assertThat(expire.deletedFiles()).isGreaterThan(latestSnapshotId - 3);
     }
 
     @Test
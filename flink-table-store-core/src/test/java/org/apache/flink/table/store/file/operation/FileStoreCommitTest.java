@@ -24,7 +24,11 @@ import org.apache.flink.table.store.file.KeyValue;
 import org.apache.flink.table.store.file.Snapshot;
 import org.apache.flink.table.store.file.TestFileStore;
 import org.apache.flink.table.store.file.TestKeyValueGenerator;
+import org.apache.flink.table.store.file.io.CompactIncrement;
+import org.apache.flink.table.store.file.io.NewFilesIncrement;
 import org.apache.flink.table.store.file.manifest.ManifestCommittable;
+import org.apache.flink.table.store.file.manifest.ManifestEntry;
+import org.apache.flink.table.store.file.manifest.ManifestList;
 import org.apache.flink.table.store.file.mergetree.compact.DeduplicateMergeFunction;
 import org.apache.flink.table.store.file.schema.Schema;
 import org.apache.flink.table.store.file.schema.SchemaManager;
@@ -34,6 +38,7 @@ import org.apache.flink.table.store.file.utils.SnapshotManager;
 import org.apache.flink.table.store.file.utils.TraceableFileIO;
 import org.apache.flink.table.store.fs.Path;
 import org.apache.flink.table.store.fs.local.LocalFileIO;
+import org.apache.flink.table.store.table.sink.CommitMessageImpl;
 import org.apache.flink.table.store.types.RowKind;
 
 import org.junit.jupiter.api.AfterEach;
@@ -53,6 +58,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -408,6 +414,42 @@ public class FileStoreCommitTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    public void testMergeManifestsAsync() throws Exception {
+        TestFileStore store = createStore(false, 1, CoreOptions.ChangelogProducer.NONE, true);
+        SnapshotManager snapshotManager = store.snapshotManager();
+        ManifestList manifestList = store.manifestListFactory().create();
+        FileStoreCommitImpl commit = store.newCommit();
+
+        List<KeyValue> allKvs = new ArrayList<>();
+        int maxNumManifests = 0;
+        boolean merged = false;
+        for (int i = 0; i < 100 && !merged; i++) {
+            List<KeyValue> kvs = generateDataList(10);
+            allKvs.addAll(kvs);
+            store.commitDataImpl(
+                    kvs,
+                    gen::getPartition,
+                    kv -> 0,
+                    false,
+                    null,
+                    null,
+                    (c, committable) -> commit.commit(committable, Collections.emptyMap()));
+
+            // commits only append manifests until the merged manifests are applied
+            int numManifests = snapshotManager.latestSnapshot().dataManifests(manifestList).size();
+            merged = numManifests < maxNumManifests;
+            maxNumManifests = Math.max(maxNumManifests, numManifests);
+        }
+        commit.close();
+        assertThat(merged).isTrue();
+
+        Map<BinaryRow, BinaryRow> expected = store.toKvMap(allKvs);
+        List<KeyValue> actualKvs = store.readKvsFromSnapshot(snapshotManager.latestSnapshotId());
+        gen.sort(actualKvs);
+        assertThat(store.toKvMap(actualKvs)).isEqualTo(expected);
+    }
+
     @Test
     public void testSnapshotAddLogOffset() throws Exception {
         TestFileStore store = createStore(false, 2);
@@ -547,6 +589,121 @@ public class FileStoreCommitTest {
         }
     }
 
+    @Test
+    public void testConflictBetweenRetries() throws Exception {
+        TestFileStore store = createStore(false);
+        List<ManifestEntry> entries = commitTwoFiles(store);
+        ManifestEntry entry = entries.get(0);
+
+        // another job compacts the same file while this commit is retrying
+        ConcurrentCommitLock lock = new ConcurrentCommitLock();
+        lock.beforeFirstCommit =
+                () -> commitUpgrade(store.newCommit(UUID.randomUUID().toString()), entry, 2);
+        FileStoreCommit commit = store.newCommit().withLock(lock);
+        RuntimeException e =
+                assertThrows(RuntimeException.class, () -> commitUpgrade(commit, entry, 1));
+        assertThat(e).hasMessageContaining("Give up committing.");
+        assertThat(fileLevels(store)).containsEntry(entry.file().fileName(), 2);
+    }
+
+    @Test
+    public void testNoConflictAfterConcurrentCommit() throws Exception {
+        TestFileStore store = createStore(false);
+        List<ManifestEntry> entries = commitTwoFiles(store);
+
+        // another job compacts the other file while this commit is retrying
+        ConcurrentCommitLock lock = new ConcurrentCommitLock();
+        lock.beforeFirstCommit =
+                () ->
+                        commitUpgrade(
+                                store.newCommit(UUID.randomUUID().toString()), entries.get(1), 2);
+        commitUpgrade(store.newCommit().withLock(lock), entries.get(0), 1);
+
+        Map<String, Integer> expected = new HashMap<>();
+        expected.put(entries.get(0).file().fileName(), 1);
+        expected.put(entries.get(1).file().fileName(), 2);
+        assertThat(fileLevels(store)).isEqualTo(expected);
+    }
+
+    @Test
+    public void testCheckAllEntriesAfterDeltaSnapshotsExpired() throws Exception {
+        TestFileStore store = createStore(false);
+        List<ManifestEntry> entries = commitTwoFiles(store);
+        ManifestEntry entry = entries.get(0);
+
+        // another job compacts the same file and expires the snapshots of the deltas, so the
+        // deltas cannot be read when checking again
+        ConcurrentCommitLock lock = new ConcurrentCommitLock();
+        lock.beforeFirstCommit =
+                () -> {
+                    FileStoreCommit other = store.newCommit(UUID.randomUUID().toString());
+                    commitUpgrade(other, entry, 2);
+                    commitUpgrade(other, entries.get(1), 3);
+                    store.newExpire(1, 1, Long.MAX_VALUE).expire();
+                };
+        FileStoreCommit commit = store.newCommit().withLock(lock);
+        RuntimeException e =
+                assertThrows(RuntimeException.class, () -> commitUpgrade(commit, entry, 1));
+        assertThat(e).hasMessageContaining("Give up committing.");
+    }
+
+    /** Commits two files into the same partition and bucket, returns their entries. */
+    private List<ManifestEntry> commitTwoFiles(TestFileStore store) throws Exception {
+        BinaryRow partition = gen.getPartition(gen.next());
+        store.commitData(generateDataList(10), kv -> partition, kv -> 0);
+        store.commitData(generateDataList(10), kv -> partition, kv -> 0);
+        List<ManifestEntry> entries = store.newScan().plan().files();
+        assertThat(entries).hasSize(2);
+        return entries;
+    }
+
+    /** Commits the upgrade of the file to a new level, as compaction does. */
+    private void commitUpgrade(FileStoreCommit commit, ManifestEntry entry, int newLevel) {
+        ManifestCommittable committable = new ManifestCommittable(Long.MAX_VALUE);
+        committable.addFileCommittable(
+                new CommitMessageImpl(
+                        entry.partition(),
+                        entry.bucket(),
+                        NewFilesIncrement.emptyIncrement(),
+                        new CompactIncrement(
+                                Collections.singletonList(entry.file()),
+                                Collections.singletonList(entry.file().upgrade(newLevel)),
+                                Collections.emptyList())));
+        commit.commit(committable, Collections.emptyMap());
+    }
+
+    private Map<String, Integer> fileLevels(TestFileStore store) {
+        Map<String, Integer> levels = new HashMap<>();
+        for (ManifestEntry entry : store.newScan().plan().files()) {
+            levels.put(entry.file().fileName(), entry.file().level());
+        }
+        return levels;
+    }
+
+    /**
+     * A {@link Lock} which runs an action instead of the first commit attempt and fails it, as if
+     * another job committed first, so that the commit retries.
+     */
+    private static class ConcurrentCommitLock implements Lock {
+
+        private Runnable beforeFirstCommit;
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> T runWithLock(Callable<T> callable) throws Exception {
+            if (beforeFirstCommit != null) {
+                Runnable action = beforeFirstCommit;
+                beforeFirstCommit = null;
+                action.run();
+                return (T) Boolean.FALSE;
+            }
+            return callable.call();
+        }
+
+        @Override
+        public void close() {}
+    }
+
     @Test
     public void testCommitWatermarkWithValue() throws Exception {
         TestFileStore store = createStore(false, 2);
@@ -594,6 +751,15 @@ public class FileStoreCommitTest {
     private TestFileStore createStore(
             boolean failing, int numBucket, CoreOptions.ChangelogProducer changelogProducer)
             throws Exception {
+        return createStore(failing, numBucket, changelogProducer, false);
+    }
+
+    private TestFileStore createStore(
+            boolean failing,
+            int numBucket,
+            CoreOptions.ChangelogProducer changelogProducer,
+            boolean manifestMergeAsync)
+            throws Exception {
         String root =
                 failing
                         ? FailingFileIO.getFailingPath(failingName, tempDir.toString())
@@ -618,6 +784,7 @@ public class FileStoreCommitTest {
                         TestKeyValueGenerator.TestKeyValueFieldsExtractor.EXTRACTOR,
                         DeduplicateMergeFunction.factory())
                 .changelogProducer(changelogProducer)
+                .manifestMergeAsync(manifestMergeAsync)
                 .build();
     }
 
@@ -239,6 +239,7 @@ public class KeyValueFileStoreReadTest {
                                     snapshotId,
                                     entry.getKey(),
                                     0,
+                                    entry.getValue().get(0).totalBuckets(),
                                     entry.getValue().stream()
                                             .map(ManifestEntry::file)
                                             .collect(Collectors.toList()),
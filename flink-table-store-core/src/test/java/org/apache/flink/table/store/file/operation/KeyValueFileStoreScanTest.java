@@ -122,6 +122,62 @@ public class KeyValueFileStoreScanTest {
         runTestExactMatch(scan, snapshot.id(), expected);
     }
 
+    @Test
+    public void testWithPartitionIndex() throws Exception {
+        store =
+                new TestFileStore.Builder(
+                                "avro",
+                                tempDir.toString(),
+                                NUM_BUCKETS,
+                                TestKeyValueGenerator.DEFAULT_PART_TYPE,
+                                TestKeyValueGenerator.KEY_TYPE,
+                                TestKeyValueGenerator.DEFAULT_ROW_TYPE,
+                                TestKeyValueGenerator.TestKeyValueFieldsExtractor.EXTRACTOR,
+                                DeduplicateMergeFunction.factory())
+                        .partitionIndexEnabled(true)
+                        .build();
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<KeyValue> allData = new ArrayList<>();
+        Snapshot snapshot = null;
+        for (int i = random.nextInt(5) + 2; i > 0; i--) {
+            List<KeyValue> data = generateData(random.nextInt(200) + 1);
+            snapshot = writeData(data);
+            allData.addAll(data);
+        }
+
+        // the index covers all data manifests of the snapshot
+        assertThat(snapshot.partitionIndex()).isNotNull();
+        Map<String, Set<BinaryRow>> partitionIndex =
+                store.partitionIndexFileFactory().create().read(snapshot.partitionIndex());
+        List<ManifestFileMeta> dataManifests =
+                snapshot.dataManifests(store.manifestListFactory().create());
+        assertThat(partitionIndex.keySet())
+                .containsExactlyInAnyOrderElementsOf(
+                        dataManifests.stream()
+                                .map(ManifestFileMeta::fileName)
+                                .collect(Collectors.toList()));
+        Set<BinaryRow> partitions =
+                allData.stream().map(kv -> gen.getPartition(kv)).collect(Collectors.toSet());
+        assertThat(
+                        partitionIndex.values().stream()
+                                .flatMap(Collection::stream)
+                                .collect(Collectors.toSet()))
+                .isEqualTo(partitions);
+
+        BinaryRow wantedPartition = gen.getPartition(allData.get(random.nextInt(allData.size())));
+        FileStoreScan scan = store.newScan();
+        scan.withSnapshot(snapshot.id());
+        scan.withPartitionFilter(Collections.singletonList(wantedPartition));
+
+        Map<BinaryRow, BinaryRow> expected =
+                store.toKvMap(
+                        allData.stream()
+                                .filter(kv -> gen.getPartition(kv).equals(wantedPartition))
+                                .collect(Collectors.toList()));
+        runTestExactMatch(scan, snapshot.id(), expected);
+    }
+
     @Test
     public void testWithKeyFilter() throws Exception {
         ThreadLocalRandom random = ThreadLocalRandom.current();
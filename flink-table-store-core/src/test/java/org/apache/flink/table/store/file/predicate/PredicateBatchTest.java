@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.predicate;
+
+import org.apache.flink.table.store.data.BinaryString;
+import org.apache.flink.table.store.data.columnar.ColumnVector;
+import org.apache.flink.table.store.data.columnar.ColumnarRow;
+import org.apache.flink.table.store.data.columnar.VectorizedColumnBatch;
+import org.apache.flink.table.store.data.columnar.heap.HeapBooleanVector;
+import org.apache.flink.table.store.data.columnar.heap.HeapBytesVector;
+import org.apache.flink.table.store.data.columnar.heap.HeapDoubleVector;
+import org.apache.flink.table.store.data.columnar.heap.HeapIntVector;
+import org.apache.flink.table.store.data.columnar.heap.HeapLongVector;
+import org.apache.flink.table.store.format.FieldStats;
+import org.apache.flink.table.store.types.BigIntType;
+import org.apache.flink.table.store.types.BooleanType;
+import org.apache.flink.table.store.types.DoubleType;
+import org.apache.flink.table.store.types.IntType;
+import org.apache.flink.table.store.types.RowType;
+import org.apache.flink.table.store.types.VarCharType;
+import org.apache.flink.table.store.utils.RowDataToObjectArrayConverter;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link Predicate#test(VectorizedColumnBatch, int[], int)}. */
+public class PredicateBatchTest {
+
+    private static final int NUM_ROWS = 1000;
+
+    private static final String[] STRINGS = {"", "a", "ab", "abc", "b", "é", "éa"};
+
+    private static final RowType ROW_TYPE =
+            RowType.of(
+                    new IntType(),
+                    new BigIntType(),
+                    new VarCharType(VarCharType.MAX_LENGTH),
+                    new DoubleType(),
+                    new BooleanType());
+
+    private static final PredicateBuilder BUILDER = new PredicateBuilder(ROW_TYPE);
+
+    @Test
+    public void testLeafPredicates() {
+        VectorizedColumnBatch batch = createBatch();
+        for (Predicate predicate : leafPredicates()) {
+            assertBatchResult(batch, predicate);
+        }
+    }
+
+    @Test
+    public void testCompoundPredicates() {
+        VectorizedColumnBatch batch = createBatch();
+        List<Predicate> leaves = leafPredicates();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 200; i++) {
+            Predicate p1 = leaves.get(random.nextInt(leaves.size()));
+            Predicate p2 = leaves.get(random.nextInt(leaves.size()));
+            Predicate p3 = leaves.get(random.nextInt(leaves.size()));
+            assertBatchResult(batch, PredicateBuilder.and(p1, p2));
+            assertBatchResult(batch, PredicateBuilder.or(p1, p2));
+            assertBatchResult(batch, PredicateBuilder.or(PredicateBuilder.and(p1, p2), p3));
+            assertBatchResult(batch, PredicateBuilder.and(PredicateBuilder.or(p1, p2), p3));
+        }
+    }
+
+    @Test
+    public void testPartialSelection() {
+        VectorizedColumnBatch batch = createBatch();
+        Predicate predicate = PredicateBuilder.or(BUILDER.lessThan(0, 0), BUILDER.isNull(1));
+        int[] selected = new int[NUM_ROWS];
+        int numSelected = 0;
+        for (int i = 0; i < NUM_ROWS; i += 3) {
+            selected[numSelected++] = i;
+        }
+
+        List<Integer> expected = new ArrayList<>();
+        ColumnarRow row = new ColumnarRow(batch);
+        RowDataToObjectArrayConverter converter = new RowDataToObjectArrayConverter(ROW_TYPE);
+        for (int i = 0; i < numSelected; i++) {
+            row.setRowId(selected[i]);
+            if (predicate.test(converter.convert(row))) {
+                expected.add(selected[i]);
+            }
+        }
+
+        int numHit = predicate.test(batch, selected, numSelected);
+        assertThat(toList(selected, numHit)).isEqualTo(expected);
+    }
+
+    @Test
+    public void testDefaultRowByRow() {
+        VectorizedColumnBatch batch = createBatch();
+        List<Predicate> leaves = leafPredicates();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 50; i++) {
+            Predicate p1 = leaves.get(random.nextInt(leaves.size()));
+            Predicate p2 = leaves.get(random.nextInt(leaves.size()));
+            assertBatchResult(batch, new RowByRowPredicate(p1));
+            assertBatchResult(batch, new RowByRowPredicate(PredicateBuilder.or(p1, p2)));
+        }
+    }
+
+    private List<Predicate> leafPredicates() {
+        List<Predicate> predicates = new ArrayList<>();
+        Object[][] literals = {
+            {0, -50, 50, null},
+            {0L, -50L, 50L, null},
+            {
+                BinaryString.fromString("ab"),
+                BinaryString.fromString("é"),
+                BinaryString.fromString(""),
+                null
+            },
+            {0.0, -50.5, 50.5, null},
+            {true, false, null}
+        };
+        for (int i = 0; i < literals.length; i++) {
+            for (Object literal : literals[i]) {
+                predicates.add(BUILDER.equal(i, literal));
+                predicates.add(BUILDER.notEqual(i, literal));
+                predicates.add(BUILDER.lessThan(i, literal));
+                predicates.add(BUILDER.lessOrEqual(i, literal));
+                predicates.add(BUILDER.greaterThan(i, literal));
+                predicates.add(BUILDER.greaterOrEqual(i, literal));
+            }
+            predicates.add(BUILDER.isNull(i));
+            predicates.add(BUILDER.isNotNull(i));
+            predicates.add(BUILDER.in(i, Arrays.asList(literals[i])));
+            predicates.add(BUILDER.notIn(i, Arrays.asList(literals[i][0], literals[i][1])));
+        }
+        predicates.add(BUILDER.startsWith(2, BinaryString.fromString("a")));
+        predicates.add(BUILDER.startsWith(2, BinaryString.fromString("é")));
+        predicates.add(BUILDER.startsWith(2, BinaryString.fromString("")));
+        return predicates;
+    }
+
+    private void assertBatchResult(VectorizedColumnBatch batch, Predicate predicate) {
+        List<Integer> expected = new ArrayList<>();
+        ColumnarRow row = new ColumnarRow(batch);
+        RowDataToObjectArrayConverter converter = new RowDataToObjectArrayConverter(ROW_TYPE);
+        for (int i = 0; i < NUM_ROWS; i++) {
+            row.setRowId(i);
+            if (predicate.test(converter.convert(row))) {
+                expected.add(i);
+            }
+        }
+
+        int[] selected = new int[NUM_ROWS];
+        for (int i = 0; i < NUM_ROWS; i++) {
+            selected[i] = i;
+        }
+        int numHit = predicate.test(batch, selected, NUM_ROWS);
+        assertThat(toList(selected, numHit)).as(predicate.toString()).isEqualTo(expected);
+    }
+
+    private List<Integer> toList(int[] selected, int num) {
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < num; i++) {
+            result.add(selected[i]);
+        }
+        return result;
+    }
+
+    private VectorizedColumnBatch createBatch() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HeapIntVector ints = new HeapIntVector(NUM_ROWS);
+        HeapLongVector longs = new HeapLongVector(NUM_ROWS);
+        HeapBytesVector strings = new HeapBytesVector(NUM_ROWS);
+        HeapDoubleVector doubles = new HeapDoubleVector(NUM_ROWS);
+        HeapBooleanVector booleans = new HeapBooleanVector(NUM_ROWS);
+        for (int i = 0; i < NUM_ROWS; i++) {
+            boolean isNull = random.nextInt(10) == 0;
+            if (isNull) {
+                ints.setNullAt(i);
+                longs.setNullAt(i);
+                strings.appendBytes(i, new byte[0], 0, 0);
+                strings.setNullAt(i);
+                doubles.setNullAt(i);
+                booleans.setNullAt(i);
+                continue;
+            }
+            ints.setInt(i, random.nextInt(-100, 100));
+            longs.setLong(i, random.nextLong(-100, 100));
+            byte[] bytes = STRINGS[random.nextInt(STRINGS.length)].getBytes(StandardCharsets.UTF_8);
+            strings.appendBytes(i, bytes, 0, bytes.length);
+            doubles.setDouble(i, random.nextInt(-100, 100) + 0.5);
+            booleans.setBoolean(i, random.nextBoolean());
+        }
+        VectorizedColumnBatch batch =
+                new VectorizedColumnBatch(
+                        new ColumnVector[] {ints, longs, strings, doubles, booleans});
+        batch.setNumRows(NUM_ROWS);
+        return batch;
+    }
+
+    /** A {@link Predicate} which only tests rows, batches are tested by the default method. */
+    private static class RowByRowPredicate implements Predicate {
+
+        private final Predicate predicate;
+
+        private RowByRowPredicate(Predicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Object[] values) {
+            return predicate.test(values);
+        }
+
+        @Override
+        public boolean test(long rowCount, FieldStats[] fieldStats) {
+            return predicate.test(rowCount, fieldStats);
+        }
+
+        @Override
+        public Optional<Predicate> negate() {
+            return predicate.negate();
+        }
+
+        @Override
+        public <T> T visit(PredicateVisitor<T> visitor) {
+            return predicate.visit(visitor);
+        }
+
+        @Override
+        public String toString() {
+            return predicate.toString();
+        }
+    }
+}
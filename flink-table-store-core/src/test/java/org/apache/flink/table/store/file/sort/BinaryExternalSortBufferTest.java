@@ -26,6 +26,7 @@ import org.apache.flink.table.store.data.serializer.BinaryRowSerializer;
 import org.apache.flink.table.store.file.disk.IOManager;
 import org.apache.flink.table.store.file.memory.HeapMemorySegmentPool;
 import org.apache.flink.table.store.file.memory.MemorySegmentPool;
+import org.apache.flink.table.store.file.memory.OffHeapMemorySegmentPool;
 import org.apache.flink.table.store.file.utils.MutableObjectIterator;
 
 import org.junit.jupiter.api.AfterEach;
@@ -186,6 +187,16 @@ public class BinaryExternalSortBufferTest {
         innerTestSpilling(createBuffer());
     }
 
+    @Test
+    public void testSpillingWithOffHeapMemory() throws Exception {
+        OffHeapMemorySegmentPool offHeapPool =
+                new OffHeapMemorySegmentPool(MEMORY_SIZE, MemorySegmentPool.DEFAULT_PAGE_SIZE);
+        this.memorySegmentPool = offHeapPool;
+        this.totalPages = memorySegmentPool.freePages();
+        innerTestSpilling(createBuffer());
+        offHeapPool.close();
+    }
+
     private void innerTestSpilling(BinaryExternalSortBuffer sorter) throws Exception {
         int size = 1000_000;
 
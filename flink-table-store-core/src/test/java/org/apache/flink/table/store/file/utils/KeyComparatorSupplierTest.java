@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.utils;
+
+import org.apache.flink.table.store.data.GenericRow;
+import org.apache.flink.table.store.data.InternalRow;
+import org.apache.flink.table.store.types.IntType;
+import org.apache.flink.table.store.types.RowType;
+import org.apache.flink.table.store.utils.InstantiationUtil;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link KeyComparatorSupplier}. */
+public class KeyComparatorSupplierTest {
+
+    @Test
+    public void testSerializeNormalizedKeyComparator() throws Exception {
+        Comparator<InternalRow> comparator =
+                new KeyComparatorSupplier(RowType.of(new IntType(false))).get();
+        assertThat(comparator).isInstanceOf(NormalizedKeyComparator.class);
+
+        NormalizedKeyComparator copy =
+                InstantiationUtil.clone((NormalizedKeyComparator) comparator);
+        assertThat(copy.normalizedKeyComputer()).isNotNull();
+        assertThat(copy.normalizedKeyComputer().getNumKeyBytes()).isGreaterThan(0);
+        assertThat(copy.compare(GenericRow.of(1), GenericRow.of(2))).isLessThan(0);
+        assertThat(copy.compare(GenericRow.of(2), GenericRow.of(2))).isEqualTo(0);
+    }
+}
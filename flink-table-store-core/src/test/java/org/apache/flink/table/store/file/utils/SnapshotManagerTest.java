@@ -18,12 +18,17 @@
 
 package org.apache.flink.table.store.file.utils;
 
+import org.apache.flink.table.store.file.Snapshot;
+import org.apache.flink.table.store.fs.FileIO;
 import org.apache.flink.table.store.fs.Path;
 import org.apache.flink.table.store.fs.local.LocalFileIO;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.util.Collections;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /** Tests for {@link SnapshotManager}. */
@@ -40,4 +45,72 @@ public class SnapshotManagerTest {
                     .isEqualTo(new Path(tempDir.toString() + "/snapshot/snapshot-" + i));
         }
     }
+
+    @Test
+    public void testEarlierThanTimeMills() throws IOException {
+        FileIO fileIO = LocalFileIO.create();
+        SnapshotManager snapshotManager = new SnapshotManager(fileIO, new Path(tempDir.toString()));
+        assertThat(snapshotManager.earlierThanTimeMills(1000)).isNull();
+        assertThat(snapshotManager.earlierOrEqualTimeMills(1000)).isNull();
+
+        // snapshots 3 to 9 are committed at 20, 30, 30, 40, 50, 60, 70
+        long[] times = {20, 30, 30, 40, 50, 60, 70};
+        for (int i = 0; i < times.length; i++) {
+            writeSnapshot(fileIO, snapshotManager, i + 3, times[i]);
+        }
+        snapshotManager.commitEarliestHint(3);
+
+        assertThat(snapshotManager.earlierThanTimeMills(10)).isEqualTo(2);
+        assertThat(snapshotManager.earlierThanTimeMills(20)).isEqualTo(2);
+        assertThat(snapshotManager.earlierThanTimeMills(30)).isEqualTo(3);
+        assertThat(snapshotManager.earlierThanTimeMills(35)).isEqualTo(5);
+        assertThat(snapshotManager.earlierThanTimeMills(70)).isEqualTo(8);
+        assertThat(snapshotManager.earlierThanTimeMills(100)).isEqualTo(9);
+
+        assertThat(snapshotManager.earlierOrEqualTimeMills(10)).isNull();
+        assertThat(snapshotManager.earlierOrEqualTimeMills(20)).isEqualTo(3);
+        assertThat(snapshotManager.earlierOrEqualTimeMills(30)).isEqualTo(5);
+        assertThat(snapshotManager.earlierOrEqualTimeMills(45)).isEqualTo(6);
+        assertThat(snapshotManager.earlierOrEqualTimeMills(70)).isEqualTo(9);
+        assertThat(snapshotManager.earlierOrEqualTimeMills(100)).isEqualTo(9);
+    }
+
+    @Test
+    public void testDeleteSnapshotEvictsCache() throws IOException {
+        FileIO fileIO = LocalFileIO.create();
+        SnapshotManager snapshotManager = new SnapshotManager(fileIO, new Path(tempDir.toString()));
+        writeSnapshot(fileIO, snapshotManager, 1, 10);
+        assertThat(snapshotManager.snapshot(1).timeMillis()).isEqualTo(10);
+
+        assertThat(snapshotManager.deleteSnapshot(1)).isTrue();
+        assertThat(snapshotManager.snapshotExists(1)).isFalse();
+        assertThat(snapshotManager.deleteSnapshot(1)).isFalse();
+
+        // a new snapshot with the same id must not be served from the cache
+        writeSnapshot(fileIO, snapshotManager, 1, 20);
+        assertThat(snapshotManager.snapshot(1).timeMillis()).isEqualTo(20);
+    }
+
+    private void writeSnapshot(
+            FileIO fileIO, SnapshotManager snapshotManager, long id, long timeMillis)
+            throws IOException {
+        Snapshot snapshot =
+                new Snapshot(
+                        id,
+                        0L,
+                        null,
+                        null,
+                        null,
+                        "user",
+                        id,
+                        Snapshot.CommitKind.APPEND,
+                        timeMillis,
+                        Collections.emptyMap(),
+                        null,
+                        null,
+                        null,
+                        null,
+                        null);
+        fileIO.writeFileUtf8(snapshotManager.snapshotPath(id), snapshot.toJson());
+    }
 }
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.metrics;
+
+import java.util.Map;
+
+/** A {@link MetricGroup} which collects registered gauges by name, sub groups are ignored. */
+public class TestMetricGroup implements MetricGroup {
+
+    private final Map<String, Gauge<?>> gauges;
+
+    public TestMetricGroup(Map<String, Gauge<?>> gauges) {
+        this.gauges = gauges;
+    }
+
+    @Override
+    public <T> void gauge(String name, Gauge<T> gauge) {
+        gauges.put(name, gauge);
+    }
+
+    @Override
+    public MetricGroup addGroup(String name) {
+        return this;
+    }
+}
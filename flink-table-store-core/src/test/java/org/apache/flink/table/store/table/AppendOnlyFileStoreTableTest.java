@@ -32,11 +32,14 @@ import org.apache.flink.table.store.file.schema.SchemaUtils;
 import org.apache.flink.table.store.file.schema.TableSchema;
 import org.apache.flink.table.store.fs.local.LocalFileIO;
 import org.apache.flink.table.store.options.Options;
+import org.apache.flink.table.store.reader.FileRecordIterator;
+import org.apache.flink.table.store.reader.RecordReader;
 import org.apache.flink.table.store.table.sink.StreamTableCommit;
 import org.apache.flink.table.store.table.sink.StreamTableWrite;
 import org.apache.flink.table.store.table.source.DataSplit;
 import org.apache.flink.table.store.table.source.Split;
 import org.apache.flink.table.store.table.source.TableRead;
+import org.apache.flink.table.store.utils.Pair;
 
 import org.junit.jupiter.api.Test;
 
@@ -263,6 +266,53 @@ public class AppendOnlyFileStoreTableTest extends FileStoreTableTestBase {
                                 .collect(Collectors.toList()));
     }
 
+    @Test
+    public void testReadFromPosition() throws Exception {
+        writeData();
+        FileStoreTable table = createFileStoreTable();
+        List<Split> splits =
+                toSplits(table.newSnapshotSplitReader().splits()).stream()
+                        .filter(split -> ((DataSplit) split).partition().equals(binaryRow(1)))
+                        .collect(Collectors.toList());
+        assertThat(splits).hasSize(1);
+        Split split = splits.get(0);
+        TableRead read = table.newRead();
+
+        List<Pair<Long, String>> records = readWithPositions(read.createReader(split));
+        assertThat(records.stream().map(Pair::getRight))
+                .containsExactly(
+                        "1|10|100|binary|varbinary|mapKey:mapVal|multiset",
+                        "1|11|101|binary|varbinary|mapKey:mapVal|multiset",
+                        "1|12|102|binary|varbinary|mapKey:mapVal|multiset",
+                        "1|11|101|binary|varbinary|mapKey:mapVal|multiset",
+                        "1|12|102|binary|varbinary|mapKey:mapVal|multiset");
+        // positions in the split continue across files
+        assertThat(records.stream().map(Pair::getLeft)).containsExactly(0L, 1L, 2L, 3L, 4L);
+
+        for (int i = 0; i < records.size(); i++) {
+            assertThat(readWithPositions(read.createReader(split, i + 1)))
+                    .isEqualTo(records.subList(i + 1, records.size()));
+        }
+    }
+
+    private List<Pair<Long, String>> readWithPositions(RecordReader<InternalRow> reader)
+            throws Exception {
+        List<Pair<Long, String>> records = new ArrayList<>();
+        RecordReader.RecordIterator<InternalRow> batch;
+        while ((batch = reader.readBatch()) != null) {
+            InternalRow row;
+            while ((row = batch.next()) != null) {
+                records.add(
+                        Pair.of(
+                                ((FileRecordIterator<InternalRow>) batch).returnedPosition(),
+                                BATCH_ROW_TO_STRING.apply(row)));
+            }
+            batch.releaseBatch();
+        }
+        reader.close();
+        return records;
+    }
+
     private void writeData() throws Exception {
         FileStoreTable table = createFileStoreTable();
         StreamTableWrite write = table.newWrite(commitUser);
@@ -62,8 +62,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -73,6 +75,8 @@ import java.util.stream.Collectors;
 import static org.apache.flink.table.store.CoreOptions.BUCKET;
 import static org.apache.flink.table.store.CoreOptions.BUCKET_KEY;
 import static org.apache.flink.table.store.CoreOptions.COMPACTION_MAX_FILE_NUM;
+import static org.apache.flink.table.store.CoreOptions.COMPACTION_SHARED_EXECUTOR;
+import static org.apache.flink.table.store.CoreOptions.COMPACTION_THREADS;
 import static org.apache.flink.table.store.CoreOptions.FILE_FORMAT;
 import static org.apache.flink.table.store.CoreOptions.SNAPSHOT_NUM_RETAINED_MAX;
 import static org.apache.flink.table.store.CoreOptions.SNAPSHOT_NUM_RETAINED_MIN;
@@ -369,6 +373,45 @@ public abstract class FileStoreTableTestBase {
         }
     }
 
+    @Test
+    public void testConcurrentCompactionAcrossBuckets() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(
+                        conf -> {
+                            conf.set(BUCKET, 4);
+                            conf.set(COMPACTION_THREADS, 4);
+                            conf.set(COMPACTION_SHARED_EXECUTOR, true);
+                            conf.set(COMPACTION_MAX_FILE_NUM, 5);
+                        });
+
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+        List<String> expected = new ArrayList<>();
+        Set<String> compactedBuckets = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 20; j++) {
+                int pt = j % 2 + 1;
+                int a = i * 100 + j;
+                write.write(rowData(pt, a, (long) a));
+                expected.add(pt + "|" + a + "|" + a + "|binary|varbinary|mapKey:mapVal|multiset");
+            }
+            List<CommitMessage> messages = write.prepareCommit(true, i);
+            for (CommitMessage message : messages) {
+                if (!((CommitMessageImpl) message).compactIncrement().compactAfter().isEmpty()) {
+                    compactedBuckets.add(message.partition() + "-" + message.bucket());
+                }
+            }
+            commit.commit(i, messages);
+        }
+        write.close();
+
+        // compactions of all buckets ran on the same pool
+        assertThat(compactedBuckets.size()).isGreaterThan(1);
+        List<Split> splits = toSplits(table.newSnapshotSplitReader().splits());
+        assertThat(getResult(table.newRead(), splits, BATCH_ROW_TO_STRING))
+                .containsExactlyInAnyOrderElementsOf(expected);
+    }
+
     @Test
     public void testCopyWithLatestSchema() throws Exception {
         FileStoreTable table =
@@ -57,13 +57,23 @@ public class WritePreemptMemoryTest extends FileStoreTableTestBase {
         testWritePreemptMemory(true);
     }
 
+    @Test
+    public void writeMultiplePartitionsOffHeap() throws Exception {
+        testWritePreemptMemory(false, conf -> conf.set(CoreOptions.WRITE_BUFFER_OFF_HEAP, true));
+    }
+
     @Override // this has been tested in ChangelogWithKeyFileStoreTableTest
     @Test
     public void testReadFilter() {}
 
     private void testWritePreemptMemory(boolean singlePartition) throws Exception {
+        testWritePreemptMemory(singlePartition, conf -> {});
+    }
+
+    private void testWritePreemptMemory(boolean singlePartition, Consumer<Options> configure)
+            throws Exception {
         // write
-        FileStoreTable table = createFileStoreTable();
+        FileStoreTable table = createFileStoreTable(configure);
         StreamTableWrite write = table.newWrite(commitUser);
         StreamTableCommit commit = table.newCommit(commitUser);
         Random random = new Random();
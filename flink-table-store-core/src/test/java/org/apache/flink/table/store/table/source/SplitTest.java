@@ -18,19 +18,25 @@
 
 package org.apache.flink.table.store.table.source;
 
+import org.apache.flink.table.store.data.Timestamp;
 import org.apache.flink.table.store.file.io.DataFileMeta;
 import org.apache.flink.table.store.file.io.DataFileTestDataGenerator;
+import org.apache.flink.table.store.file.stats.StatsTestUtils;
 import org.apache.flink.table.store.io.DataInputDeserializer;
 import org.apache.flink.table.store.io.DataOutputViewStreamWrapper;
+import org.apache.flink.table.store.utils.InstantiationUtil;
 
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
+import static org.apache.flink.table.store.file.io.DataFileTestUtils.row;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /** Test for {@link DataSplit}. */
@@ -49,6 +55,7 @@ public class SplitTest {
                         ThreadLocalRandom.current().nextLong(100),
                         data.partition,
                         data.bucket,
+                        ThreadLocalRandom.current().nextInt(10) + 1,
                         files,
                         false);
 
@@ -58,4 +65,58 @@ public class SplitTest {
         DataSplit newSplit = DataSplit.deserialize(new DataInputDeserializer(out.toByteArray()));
         assertThat(newSplit).isEqualTo(split);
     }
+
+    @Test
+    public void testJavaSerialization() throws Exception {
+        DataFileTestDataGenerator gen = DataFileTestDataGenerator.builder().build();
+        DataFileTestDataGenerator.Data data = gen.next();
+        DataSplit split =
+                new DataSplit(
+                        1L,
+                        data.partition,
+                        data.bucket,
+                        3,
+                        Collections.singletonList(data.meta),
+                        true,
+                        true);
+
+        byte[] bytes = InstantiationUtil.serializeObject(split);
+        Object newSplit = InstantiationUtil.deserializeObject(bytes, getClass().getClassLoader());
+        assertThat(newSplit).isEqualTo(split);
+    }
+
+    @Test
+    public void testJavaDeserializeWithoutTotalBuckets() throws Exception {
+        // serialized by the DataSplit of 0.3, which did not record the total buckets
+        DataSplit split;
+        try (InputStream in =
+                getClass().getClassLoader().getResourceAsStream("compatibility/datasplit-v2")) {
+            split = InstantiationUtil.deserializeObject(in, getClass().getClassLoader());
+        }
+
+        DataFileMeta file =
+                new DataFileMeta(
+                        "data-1.orc",
+                        1024,
+                        10,
+                        row(0),
+                        row(9),
+                        StatsTestUtils.newEmptyTableStats(),
+                        StatsTestUtils.newEmptyTableStats(),
+                        0,
+                        9,
+                        1,
+                        0,
+                        Collections.emptyList(),
+                        Timestamp.fromEpochMillis(1672531200000L));
+        assertThat(split)
+                .isEqualTo(
+                        new DataSplit(
+                                3L,
+                                row(1),
+                                2,
+                                DataSplit.UNKNOWN_TOTAL_BUCKETS,
+                                Collections.singletonList(file),
+                                false));
+    }
 }
@@ -82,6 +82,16 @@ public class FlinkConnectorOptions {
                                     + "By default, if this option is not defined, the planner will derive the parallelism "
                                     + "for each statement individually by also considering the global configuration.");
 
+    public static final ConfigOption<Integer> SCAN_SPLIT_PREFETCH_NUM =
+            ConfigOptions.key("scan.split-prefetch.num")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of assigned splits whose readers are opened in advance by a "
+                                    + "background thread while the current split is read. Each prefetched "
+                                    + "split holds at most its first batch in memory. "
+                                    + "Prefetching is disabled if it is 0 or the scan has a limit.");
+
     public static final ConfigOption<Boolean> STREAMING_READ_ATOMIC =
             ConfigOptions.key("streaming-read-atomic")
                     .booleanType()
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.connector;
+
+import org.apache.flink.table.store.metrics.Gauge;
+import org.apache.flink.table.store.metrics.MetricGroup;
+
+/** A {@link MetricGroup} which registers metrics to a Flink metric group. */
+public class FlinkMetricGroup implements MetricGroup {
+
+    private final org.apache.flink.metrics.MetricGroup metricGroup;
+
+    public FlinkMetricGroup(org.apache.flink.metrics.MetricGroup metricGroup) {
+        this.metricGroup = metricGroup;
+    }
+
+    @Override
+    public <T> void gauge(String name, Gauge<T> gauge) {
+        metricGroup.<T, org.apache.flink.metrics.Gauge<T>>gauge(name, gauge::getValue);
+    }
+
+    @Override
+    public MetricGroup addGroup(String name) {
+        return new FlinkMetricGroup(metricGroup.addGroup(name));
+    }
+}
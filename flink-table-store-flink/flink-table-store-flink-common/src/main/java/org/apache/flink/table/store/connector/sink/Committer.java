@@ -19,6 +19,7 @@
 
 package org.apache.flink.table.store.connector.sink;
 
+import org.apache.flink.metrics.MetricGroup;
 import org.apache.flink.table.store.file.manifest.ManifestCommittable;
 
 import java.io.IOException;
@@ -43,4 +44,7 @@ public interface Committer extends AutoCloseable {
     /** Commits the given {@link ManifestCommittable}. */
     void commit(List<ManifestCommittable> globalCommittables)
             throws IOException, InterruptedException;
+
+    /** Registers metrics of the underlying table commit to the given metric group. */
+    void registerMetrics(MetricGroup metricGroup);
 }
@@ -107,6 +107,7 @@ public class CommitterOperator extends AbstractStreamOperator<Committable>
                         context, "commit_user_state", String.class, initialCommitUser);
         // parallelism of commit operator is always 1, so commitUser will never be null
         committer = committerFactory.apply(commitUser);
+        committer.registerMetrics(getMetricGroup());
 
         committableStateManager.initializeState(context, committer);
     }
@@ -18,6 +18,8 @@
 
 package org.apache.flink.table.store.connector.sink;
 
+import org.apache.flink.metrics.MetricGroup;
+import org.apache.flink.table.store.connector.FlinkMetricGroup;
 import org.apache.flink.table.store.file.manifest.ManifestCommittable;
 import org.apache.flink.table.store.table.sink.CommitMessage;
 import org.apache.flink.table.store.table.sink.TableCommit;
@@ -76,6 +78,11 @@ public class StoreCommitter implements Committer {
         commit.commitMultiple(committables);
     }
 
+    @Override
+    public void registerMetrics(MetricGroup metricGroup) {
+        commit.withMetricGroup(new FlinkMetricGroup(metricGroup));
+    }
+
     @Override
     public void close() throws Exception {
         commit.close();
@@ -70,6 +70,7 @@ public class StoreCompactOperator extends PrepareCommitOperator {
         write =
                 storeSinkWriteProvider.provide(
                         table, context, getContainingTask().getEnvironment().getIOManager());
+        write.registerMetrics(getMetricGroup());
     }
 
     @Override
@@ -18,6 +18,7 @@
 
 package org.apache.flink.table.store.connector.sink;
 
+import org.apache.flink.metrics.MetricGroup;
 import org.apache.flink.runtime.io.disk.iomanager.IOManager;
 import org.apache.flink.runtime.state.StateInitializationContext;
 import org.apache.flink.runtime.state.StateSnapshotContext;
@@ -48,6 +49,9 @@ interface StoreSinkWrite {
 
     void close() throws Exception;
 
+    /** Registers metrics of the underlying table write to the given metric group. */
+    void registerMetrics(MetricGroup metricGroup);
+
     @FunctionalInterface
     interface Provider extends Serializable {
 
@@ -18,9 +18,11 @@
 
 package org.apache.flink.table.store.connector.sink;
 
+import org.apache.flink.metrics.MetricGroup;
 import org.apache.flink.runtime.io.disk.iomanager.IOManager;
 import org.apache.flink.runtime.state.StateInitializationContext;
 import org.apache.flink.runtime.state.StateSnapshotContext;
+import org.apache.flink.table.store.connector.FlinkMetricGroup;
 import org.apache.flink.table.store.data.BinaryRow;
 import org.apache.flink.table.store.data.InternalRow;
 import org.apache.flink.table.store.file.disk.IOManagerImpl;
@@ -130,6 +132,13 @@ public class StoreSinkWriteImpl implements StoreSinkWrite {
         // do nothing
     }
 
+    @Override
+    public void registerMetrics(MetricGroup metricGroup) {
+        if (write != null) {
+            write.withMetricGroup(new FlinkMetricGroup(metricGroup));
+        }
+    }
+
     @Override
     public void close() throws Exception {
         if (write != null) {
@@ -90,6 +90,7 @@ public class StoreWriteOperator extends PrepareCommitOperator {
         write =
                 storeSinkWriteProvider.provide(
                         table, context, getContainingTask().getEnvironment().getIOManager());
+        write.registerMetrics(getMetricGroup());
         if (logSinkFunction != null) {
             StreamingFunctionUtils.restoreFunctionState(context, logSinkFunction);
         }
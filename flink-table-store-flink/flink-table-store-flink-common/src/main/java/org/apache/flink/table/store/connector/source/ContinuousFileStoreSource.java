@@ -23,6 +23,7 @@ import org.apache.flink.api.connector.source.SourceReaderContext;
 import org.apache.flink.api.connector.source.SplitEnumerator;
 import org.apache.flink.api.connector.source.SplitEnumeratorContext;
 import org.apache.flink.table.store.file.predicate.Predicate;
+import org.apache.flink.table.store.options.Options;
 import org.apache.flink.table.store.table.DataTable;
 import org.apache.flink.table.store.table.source.StreamDataTableScan;
 import org.apache.flink.table.store.table.source.TableRead;
@@ -32,6 +33,7 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 
+import static org.apache.flink.table.store.connector.FlinkConnectorOptions.SCAN_SPLIT_PREFETCH_NUM;
 import static org.apache.flink.table.store.connector.FlinkConnectorOptions.STREAMING_READ_ATOMIC;
 
 /** Unbounded {@link FlinkSource} for reading records. It continuously monitors new snapshots. */
@@ -90,9 +92,13 @@ public class ContinuousFileStoreSource extends FlinkSource {
     @Override
     public FileStoreSourceReader<?> createSourceReader(
             SourceReaderContext context, TableRead read, @Nullable Long limit) {
-        return table.options().toConfiguration().get(STREAMING_READ_ATOMIC)
-                ? new FileStoreSourceReader<>(RecordsFunction.forSingle(), context, read, limit)
-                : new FileStoreSourceReader<>(RecordsFunction.forIterate(), context, read, limit);
+        Options options = table.options().toConfiguration();
+        int prefetchNum = options.get(SCAN_SPLIT_PREFETCH_NUM);
+        return options.get(STREAMING_READ_ATOMIC)
+                ? new FileStoreSourceReader<>(
+                        RecordsFunction.forSingle(), context, read, limit, prefetchNum)
+                : new FileStoreSourceReader<>(
+                        RecordsFunction.forIterate(), context, read, limit, prefetchNum);
     }
 
     private boolean isBounded() {
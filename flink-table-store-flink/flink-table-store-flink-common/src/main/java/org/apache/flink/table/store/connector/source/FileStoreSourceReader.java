@@ -38,8 +38,19 @@ public final class FileStoreSourceReader<T>
             SourceReaderContext readerContext,
             TableRead tableRead,
             @Nullable Long limit) {
+        this(recordsFunction, readerContext, tableRead, limit, 0);
+    }
+
+    public FileStoreSourceReader(
+            RecordsFunction<T> recordsFunction,
+            SourceReaderContext readerContext,
+            TableRead tableRead,
+            @Nullable Long limit,
+            int splitPrefetchNum) {
         super(
-                () -> new FileStoreSourceSplitReader<>(recordsFunction, tableRead, limit),
+                () ->
+                        new FileStoreSourceSplitReader<>(
+                                recordsFunction, tableRead, limit, splitPrefetchNum),
                 recordsFunction,
                 readerContext.getConfiguration(),
                 readerContext);
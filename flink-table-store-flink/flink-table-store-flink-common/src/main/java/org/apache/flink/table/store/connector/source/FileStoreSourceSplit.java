@@ -19,6 +19,7 @@
 package org.apache.flink.table.store.connector.source;
 
 import org.apache.flink.api.connector.source.SourceSplit;
+import org.apache.flink.connector.file.src.util.CheckpointedPosition;
 import org.apache.flink.table.store.table.source.Split;
 
 import java.util.Objects;
@@ -31,6 +32,13 @@ public class FileStoreSourceSplit implements SourceSplit {
 
     private final Split split;
 
+    /**
+     * The position in the split to start reading from, or {@link CheckpointedPosition#NO_OFFSET} if
+     * the reader of the split does not know the positions of records.
+     */
+    private final long offset;
+
+    /** The number of records to skip after the offset, or from the start if there is no offset. */
     private final long recordsToSkip;
 
     public FileStoreSourceSplit(String id, Split split) {
@@ -38,8 +46,13 @@ public class FileStoreSourceSplit implements SourceSplit {
     }
 
     public FileStoreSourceSplit(String id, Split split, long recordsToSkip) {
+        this(id, split, CheckpointedPosition.NO_OFFSET, recordsToSkip);
+    }
+
+    public FileStoreSourceSplit(String id, Split split, long offset, long recordsToSkip) {
         this.id = id;
         this.split = split;
+        this.offset = offset;
         this.recordsToSkip = recordsToSkip;
     }
 
@@ -47,6 +60,10 @@ public class FileStoreSourceSplit implements SourceSplit {
         return split;
     }
 
+    public long offset() {
+        return offset;
+    }
+
     public long recordsToSkip() {
         return recordsToSkip;
     }
@@ -60,6 +77,10 @@ public class FileStoreSourceSplit implements SourceSplit {
         return new FileStoreSourceSplit(id, split, recordsToSkip);
     }
 
+    public FileStoreSourceSplit updateWithPosition(long offset, long recordsToSkip) {
+        return new FileStoreSourceSplit(id, split, offset, recordsToSkip);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -71,11 +92,12 @@ public class FileStoreSourceSplit implements SourceSplit {
         FileStoreSourceSplit other = (FileStoreSourceSplit) o;
         return Objects.equals(id, other.id)
                 && Objects.equals(this.split, other.split)
+                && offset == other.offset
                 && recordsToSkip == other.recordsToSkip;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, split, recordsToSkip);
+        return Objects.hash(id, split, offset, recordsToSkip);
     }
 }
@@ -23,24 +23,44 @@ import org.apache.flink.connector.base.source.reader.splitreader.SplitReader;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitsChange;
 import org.apache.flink.connector.file.src.reader.BulkFormat;
+import org.apache.flink.connector.file.src.util.CheckpointedPosition;
 import org.apache.flink.connector.file.src.util.MutableRecordAndPosition;
 import org.apache.flink.connector.file.src.util.Pool;
 import org.apache.flink.connector.file.src.util.RecordAndPosition;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.store.connector.FlinkRowData;
 import org.apache.flink.table.store.data.InternalRow;
+import org.apache.flink.table.store.file.utils.ExecutorThreadFactory;
+import org.apache.flink.table.store.reader.FileRecordIterator;
 import org.apache.flink.table.store.reader.RecordReader;
 import org.apache.flink.table.store.reader.RecordReader.RecordIterator;
-import org.apache.flink.table.store.table.source.Split;
 import org.apache.flink.table.store.table.source.TableRead;
 
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
-/** The {@link SplitReader} implementation for the file store source. */
+/**
+ * The {@link SplitReader} implementation for the file store source.
+ *
+ * <p>If split prefetching is enabled, the readers of the next assigned splits are created and their
+ * first batches are read by a background thread while the current split is read, so the latency of
+ * opening files is hidden. All readers are then created by this thread, because {@link TableRead}
+ * is not thread safe.
+ *
+ * <p>If the reader of a split returns {@link FileRecordIterator}s, the position after each record
+ * is checkpointed as the offset, and a restored split is read from this position directly instead
+ * of skipping the records read before.
+ */
 public class FileStoreSourceSplitReader<T> implements SplitReader<T, FileStoreSourceSplit> {
 
     private final RecordsFunction<T> recordsFunction;
@@ -51,6 +71,13 @@ public class FileStoreSourceSplitReader<T> implements SplitReader<T, FileStoreSo
 
     private final Queue<FileStoreSourceSplit> splits;
 
+    private final int prefetchNum;
+
+    // prefetched readers of splits, keyed by split id
+    private final Map<String, Future<RecordReader<InternalRow>>> prefetchedReaders;
+
+    @Nullable private ExecutorService prefetchExecutor;
+
     private final Pool<FileStoreRecordIterator> pool;
 
     @Nullable private LazyRecordReader currentReader;
@@ -61,10 +88,21 @@ public class FileStoreSourceSplitReader<T> implements SplitReader<T, FileStoreSo
 
     public FileStoreSourceSplitReader(
             RecordsFunction<T> recordsFunction, TableRead tableRead, @Nullable Long limit) {
+        this(recordsFunction, tableRead, limit, 0);
+    }
+
+    public FileStoreSourceSplitReader(
+            RecordsFunction<T> recordsFunction,
+            TableRead tableRead,
+            @Nullable Long limit,
+            int prefetchNum) {
         this.recordsFunction = recordsFunction;
         this.tableRead = tableRead;
         this.limit = limit;
         this.splits = new LinkedList<>();
+        // readers are created lazily to improve performance for limit, so do not prefetch
+        this.prefetchNum = limit == null ? prefetchNum : 0;
+        this.prefetchedReaders = new HashMap<>();
         this.pool = new Pool<>(1);
         this.pool.add(new FileStoreRecordIterator());
     }
@@ -114,6 +152,9 @@ public class FileStoreSourceSplitReader<T> implements SplitReader<T, FileStoreSo
         }
 
         splits.addAll(splitsChange.splits());
+        if (currentReader != null) {
+            prefetchNextSplits();
+        }
     }
 
     @Override
@@ -122,9 +163,15 @@ public class FileStoreSourceSplitReader<T> implements SplitReader<T, FileStoreSo
     @Override
     public void close() throws Exception {
         if (currentReader != null) {
-            if (currentReader.lazyRecordReader != null) {
-                currentReader.lazyRecordReader.close();
-            }
+            currentReader.close();
+        }
+
+        for (Future<RecordReader<InternalRow>> future : prefetchedReaders.values()) {
+            closePrefetchedReader(future);
+        }
+        prefetchedReaders.clear();
+        if (prefetchExecutor != null) {
+            prefetchExecutor.shutdownNow();
         }
     }
 
@@ -139,7 +186,8 @@ public class FileStoreSourceSplitReader<T> implements SplitReader<T, FileStoreSo
         }
 
         currentSplitId = nextSplit.splitId();
-        currentReader = new LazyRecordReader(nextSplit.split());
+        currentReader = new LazyRecordReader(nextSplit, prefetchedReader(nextSplit));
+        prefetchNextSplits();
         currentNumRead = nextSplit.recordsToSkip();
         totalNumRead += currentNumRead;
         if (currentNumRead > 0) {
@@ -166,11 +214,74 @@ public class FileStoreSourceSplitReader<T> implements SplitReader<T, FileStoreSo
         }
     }
 
+    @Nullable
+    private Future<RecordReader<InternalRow>> prefetchedReader(FileStoreSourceSplit split) {
+        if (prefetchNum <= 0) {
+            return null;
+        }
+
+        Future<RecordReader<InternalRow>> future = prefetchedReaders.remove(split.splitId());
+        return future == null ? prefetch(split) : future;
+    }
+
+    private void prefetchNextSplits() {
+        if (prefetchNum <= 0) {
+            return;
+        }
+
+        Iterator<FileStoreSourceSplit> iterator = splits.iterator();
+        for (int i = 0; i < prefetchNum && iterator.hasNext(); i++) {
+            FileStoreSourceSplit split = iterator.next();
+            if (!prefetchedReaders.containsKey(split.splitId())) {
+                prefetchedReaders.put(split.splitId(), prefetch(split));
+            }
+        }
+    }
+
+    private Future<RecordReader<InternalRow>> prefetch(FileStoreSourceSplit split) {
+        if (prefetchExecutor == null) {
+            prefetchExecutor =
+                    Executors.newSingleThreadExecutor(
+                            new ExecutorThreadFactory(
+                                    Thread.currentThread().getName() + "-split-prefetch"));
+        }
+        return prefetchExecutor.submit(
+                () -> {
+                    RecordReader<InternalRow> reader = createReader(split);
+                    try {
+                        return new PrefetchedRecordReader(reader, reader.readBatch());
+                    } catch (Exception e) {
+                        reader.close();
+                        throw e;
+                    }
+                });
+    }
+
+    private RecordReader<InternalRow> createReader(FileStoreSourceSplit split) throws IOException {
+        return split.offset() == CheckpointedPosition.NO_OFFSET
+                ? tableRead.createReader(split.split())
+                : tableRead.createReader(split.split(), split.offset());
+    }
+
+    private static void closePrefetchedReader(Future<RecordReader<InternalRow>> future)
+            throws IOException {
+        if (future.cancel(false)) {
+            return;
+        }
+
+        try {
+            future.get().close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted");
+        } catch (ExecutionException ignored) {
+            // the reader has been closed by the failed prefetch
+        }
+    }
+
     private RecordsWithSplitIds<T> finishSplit() throws IOException {
         if (currentReader != null) {
-            if (currentReader.lazyRecordReader != null) {
-                currentReader.lazyRecordReader.close();
-            }
+            currentReader.close();
             currentReader = null;
         }
 
@@ -209,7 +320,15 @@ public class FileStoreSourceSplitReader<T> implements SplitReader<T, FileStoreSo
                 return null;
             }
 
-            recordAndPosition.setNext(new FlinkRowData(row));
+            if (iterator instanceof FileRecordIterator) {
+                // the restored reader starts after this record, no record needs to be skipped
+                recordAndPosition.set(
+                        new FlinkRowData(row),
+                        ((FileRecordIterator<InternalRow>) iterator).returnedPosition() + 1,
+                        0);
+            } else {
+                recordAndPosition.setNext(new FlinkRowData(row));
+            }
             currentNumRead++;
             totalNumRead++;
             return recordAndPosition;
@@ -225,19 +344,85 @@ public class FileStoreSourceSplitReader<T> implements SplitReader<T, FileStoreSo
     /** Lazy to create {@link RecordReader} to improve performance for limit. */
     private class LazyRecordReader {
 
-        private final Split split;
+        private final FileStoreSourceSplit split;
+
+        @Nullable private final Future<RecordReader<InternalRow>> prefetchedReader;
 
         private RecordReader<InternalRow> lazyRecordReader;
 
-        private LazyRecordReader(Split split) {
+        private LazyRecordReader(
+                FileStoreSourceSplit split,
+                @Nullable Future<RecordReader<InternalRow>> prefetchedReader) {
             this.split = split;
+            this.prefetchedReader = prefetchedReader;
         }
 
         public RecordReader<InternalRow> recordReader() throws IOException {
             if (lazyRecordReader == null) {
-                lazyRecordReader = tableRead.createReader(split);
+                lazyRecordReader =
+                        prefetchedReader == null ? createReader(split) : waitPrefetchedReader();
             }
             return lazyRecordReader;
         }
+
+        private RecordReader<InternalRow> waitPrefetchedReader() throws IOException {
+            try {
+                return prefetchedReader.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IOException(e.getCause());
+            }
+        }
+
+        private void close() throws IOException {
+            if (lazyRecordReader != null) {
+                lazyRecordReader.close();
+            } else if (prefetchedReader != null) {
+                closePrefetchedReader(prefetchedReader);
+            }
+        }
+    }
+
+    /** A {@link RecordReader} whose first batch has been read by the prefetch thread. */
+    private static class PrefetchedRecordReader implements RecordReader<InternalRow> {
+
+        private final RecordReader<InternalRow> reader;
+
+        @Nullable private RecordIterator<InternalRow> firstBatch;
+        private boolean firstBatchReturned;
+
+        private PrefetchedRecordReader(
+                RecordReader<InternalRow> reader,
+                @Nullable RecordIterator<InternalRow> firstBatch) {
+            this.reader = reader;
+            this.firstBatch = firstBatch;
+            this.firstBatchReturned = false;
+        }
+
+        @Nullable
+        @Override
+        public RecordIterator<InternalRow> readBatch() throws IOException {
+            if (!firstBatchReturned) {
+                firstBatchReturned = true;
+                RecordIterator<InternalRow> batch = firstBatch;
+                firstBatch = null;
+                return batch;
+            }
+            return reader.readBatch();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (firstBatch != null) {
+                firstBatch.releaseBatch();
+                firstBatch = null;
+            }
+            reader.close();
+        }
     }
 }
@@ -18,6 +18,7 @@
 
 package org.apache.flink.table.store.connector.source;
 
+import org.apache.flink.connector.file.src.util.CheckpointedPosition;
 import org.apache.flink.core.io.SimpleVersionedSerializer;
 import org.apache.flink.core.memory.DataInputViewStreamWrapper;
 import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
@@ -34,7 +35,7 @@ public class FileStoreSourceSplitSerializer
 
     @Override
     public int getVersion() {
-        return 1;
+        return 2;
     }
 
     @Override
@@ -44,6 +45,7 @@ public class FileStoreSourceSplitSerializer
         view.writeUTF(split.splitId());
         InstantiationUtil.serializeObject(view, split.split());
         view.writeLong(split.recordsToSkip());
+        view.writeLong(split.offset());
         return out.toByteArray();
     }
 
@@ -59,6 +61,8 @@ public class FileStoreSourceSplitSerializer
             throw new IOException(e);
         }
         long recordsToSkip = view.readLong();
-        return new FileStoreSourceSplit(splitId, split, recordsToSkip);
+        // splits of version 1 have no offset
+        long offset = version == 1 ? CheckpointedPosition.NO_OFFSET : view.readLong();
+        return new FileStoreSourceSplit(splitId, split, offset, recordsToSkip);
     }
 }
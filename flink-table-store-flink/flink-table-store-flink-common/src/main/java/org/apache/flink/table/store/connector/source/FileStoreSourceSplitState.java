@@ -18,38 +18,43 @@
 
 package org.apache.flink.table.store.connector.source;
 
-import org.apache.flink.connector.file.src.util.CheckpointedPosition;
 import org.apache.flink.connector.file.src.util.RecordAndPosition;
 import org.apache.flink.table.data.RowData;
 
-import static org.apache.flink.table.store.utils.Preconditions.checkArgument;
 import static org.apache.flink.table.store.utils.Preconditions.checkNotNull;
 
 /**
- * State of the reader, essentially a mutable version of the {@link FileStoreSourceSplit}. Has a
- * records-to-skip-count.
+ * State of the reader, essentially a mutable version of the {@link FileStoreSourceSplit}. Has an
+ * offset and a records-to-skip-count.
  */
 public final class FileStoreSourceSplitState {
 
     private final FileStoreSourceSplit split;
 
+    private long offset;
+
     private long recordsToSkip;
 
     public FileStoreSourceSplitState(FileStoreSourceSplit split) {
         this.split = checkNotNull(split);
+        this.offset = split.offset();
         this.recordsToSkip = split.recordsToSkip();
     }
 
     public void setPosition(RecordAndPosition<RowData> position) {
-        checkArgument(position.getOffset() == CheckpointedPosition.NO_OFFSET);
+        this.offset = position.getOffset();
         this.recordsToSkip = position.getRecordSkipCount();
     }
 
+    public long offset() {
+        return offset;
+    }
+
     public long recordsToSkip() {
         return recordsToSkip;
     }
 
     public FileStoreSourceSplit toSourceSplit() {
-        return split.updateWithRecordsToSkip(recordsToSkip);
+        return split.updateWithPosition(offset, recordsToSkip);
     }
 }
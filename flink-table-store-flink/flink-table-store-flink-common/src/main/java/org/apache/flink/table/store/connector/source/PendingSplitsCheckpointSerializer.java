@@ -41,7 +41,8 @@ public class PendingSplitsCheckpointSerializer
 
     @Override
     public int getVersion() {
-        return 1;
+        // splits are serialized with the same version
+        return 2;
     }
 
     @Override
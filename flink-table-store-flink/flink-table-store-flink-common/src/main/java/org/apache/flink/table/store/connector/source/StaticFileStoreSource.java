@@ -19,6 +19,7 @@
 package org.apache.flink.table.store.connector.source;
 
 import org.apache.flink.api.connector.source.Boundedness;
+import org.apache.flink.api.connector.source.SourceReaderContext;
 import org.apache.flink.api.connector.source.SplitEnumerator;
 import org.apache.flink.api.connector.source.SplitEnumeratorContext;
 import org.apache.flink.table.store.file.Snapshot;
@@ -27,12 +28,15 @@ import org.apache.flink.table.store.file.utils.SnapshotManager;
 import org.apache.flink.table.store.table.DataTable;
 import org.apache.flink.table.store.table.source.BatchDataTableScan;
 import org.apache.flink.table.store.table.source.DataTableScan;
+import org.apache.flink.table.store.table.source.TableRead;
 
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
 
+import static org.apache.flink.table.store.connector.FlinkConnectorOptions.SCAN_SPLIT_PREFETCH_NUM;
+
 /** Bounded {@link FlinkSource} for reading records. It does not monitor new snapshots. */
 public class StaticFileStoreSource extends FlinkSource {
 
@@ -67,6 +71,17 @@ public class StaticFileStoreSource extends FlinkSource {
         return Boundedness.BOUNDED;
     }
 
+    @Override
+    public FileStoreSourceReader<?> createSourceReader(
+            SourceReaderContext context, TableRead read, @Nullable Long limit) {
+        return new FileStoreSourceReader<>(
+                RecordsFunction.forSingle(),
+                context,
+                read,
+                limit,
+                table.options().toConfiguration().get(SCAN_SPLIT_PREFETCH_NUM));
+    }
+
     @Override
     public SplitEnumerator<FileStoreSourceSplit, PendingSplitsCheckpoint> restoreEnumerator(
             SplitEnumeratorContext<FileStoreSourceSplit> context,
@@ -93,6 +108,11 @@ public class StaticFileStoreSource extends FlinkSource {
         }
 
         Snapshot snapshot = snapshotId == null ? null : snapshotManager.snapshot(snapshotId);
-        return new StaticFileStoreSplitEnumerator(context, snapshot, splits);
+        return new StaticFileStoreSplitEnumerator(
+                context,
+                snapshot,
+                splits,
+                table.options().scanBucketPreserving(),
+                table.options().bucket());
     }
 }
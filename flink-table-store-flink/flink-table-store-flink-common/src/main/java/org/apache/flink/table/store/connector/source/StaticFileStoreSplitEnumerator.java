@@ -22,6 +22,10 @@ import org.apache.flink.api.connector.source.SplitEnumerator;
 import org.apache.flink.api.connector.source.SplitEnumeratorContext;
 import org.apache.flink.api.connector.source.SplitsAssignment;
 import org.apache.flink.table.store.file.Snapshot;
+import org.apache.flink.table.store.table.source.DataSplit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 
@@ -36,6 +40,8 @@ import java.util.Map;
 public class StaticFileStoreSplitEnumerator
         implements SplitEnumerator<FileStoreSourceSplit, PendingSplitsCheckpoint> {
 
+    private static final Logger LOG = LoggerFactory.getLogger(StaticFileStoreSplitEnumerator.class);
+
     private final SplitEnumeratorContext<FileStoreSourceSplit> context;
 
     @Nullable private final Snapshot snapshot;
@@ -46,17 +52,57 @@ public class StaticFileStoreSplitEnumerator
             SplitEnumeratorContext<FileStoreSourceSplit> context,
             @Nullable Snapshot snapshot,
             Collection<FileStoreSourceSplit> splits) {
+        this(context, snapshot, splits, false, -1);
+    }
+
+    /**
+     * Creates an enumerator which, if {@code bucketPreserving} is true, gives all splits of a
+     * bucket to the same reader. This only holds if every split was written with {@code numBuckets}
+     * buckets, otherwise (for example, after some partitions were rescaled) splits are assigned
+     * round-robin.
+     */
+    public StaticFileStoreSplitEnumerator(
+            SplitEnumeratorContext<FileStoreSourceSplit> context,
+            @Nullable Snapshot snapshot,
+            Collection<FileStoreSourceSplit> splits,
+            boolean bucketPreserving,
+            int numBuckets) {
         this.context = context;
         this.snapshot = snapshot;
-        this.pendingSplitAssignment = createSplitAssignment(splits, context.currentParallelism());
+        this.pendingSplitAssignment =
+                createSplitAssignment(
+                        splits,
+                        context.currentParallelism(),
+                        bucketPreserving && allSplitsHaveBuckets(splits, numBuckets));
+    }
+
+    private static boolean allSplitsHaveBuckets(
+            Collection<FileStoreSourceSplit> splits, int numBuckets) {
+        for (FileStoreSourceSplit split : splits) {
+            int totalBuckets = ((DataSplit) split.split()).totalBuckets();
+            if (totalBuckets != numBuckets) {
+                LOG.warn(
+                        "Split {} was written with {} buckets but the table has {} buckets, "
+                                + "splits will not be assigned by bucket.",
+                        split.splitId(),
+                        totalBuckets,
+                        numBuckets);
+                return false;
+            }
+        }
+        return true;
     }
 
     private static Map<Integer, List<FileStoreSourceSplit>> createSplitAssignment(
-            Collection<FileStoreSourceSplit> splits, int numReaders) {
+            Collection<FileStoreSourceSplit> splits, int numReaders, boolean bucketPreserving) {
         Map<Integer, List<FileStoreSourceSplit>> assignment = new HashMap<>();
         int i = 0;
         for (FileStoreSourceSplit split : splits) {
-            int task = i % numReaders;
+            // all splits of a bucket are given to the same task if bucket preserving
+            int task =
+                    bucketPreserving
+                            ? ((DataSplit) split.split()).bucket() % numReaders
+                            : i % numReaders;
             assignment.computeIfAbsent(task, k -> new ArrayList<>()).add(split);
             i++;
         }
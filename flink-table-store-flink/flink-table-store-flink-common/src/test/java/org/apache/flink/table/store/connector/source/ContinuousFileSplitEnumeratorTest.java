@@ -216,13 +216,13 @@ public class ContinuousFileSplitEnumeratorTest {
             int snapshotId, int bucket, List<DataFileMeta> files) {
         return new FileStoreSourceSplit(
                 UUID.randomUUID().toString(),
-                new DataSplit(snapshotId, row(1), bucket, files, true),
+                new DataSplit(snapshotId, row(1), bucket, 4, files, true),
                 0);
     }
 
     private static DataSplit createDataSplit(
             long snapshotId, int bucket, List<DataFileMeta> files) {
-        return new DataSplit(snapshotId, row(1), bucket, files, true);
+        return new DataSplit(snapshotId, row(1), bucket, 4, files, true);
     }
 
     private static class Builder {
@@ -79,7 +79,8 @@ public class FileStoreSourceSplitGeneratorTest {
                         false,
                         false,
                         Collections::singletonList,
-                        FileStoreScan.Plan.groupByPartFiles(plan.files(FileKind.ADD)));
+                        FileStoreScan.Plan.groupByPartFiles(plan.files(FileKind.ADD)),
+                        FileStoreScan.Plan.totalBucketsByPartition(plan.files(FileKind.ADD)));
         DataTableScan.DataFilePlan tableScanPlan = new DataTableScan.DataFilePlan(1L, scanSplits);
 
         List<FileStoreSourceSplit> splits =
@@ -346,6 +346,61 @@ public class FileStoreSourceSplitReaderTest {
         reader.close();
     }
 
+    @Test
+    public void testPrefetchSplits() throws Exception {
+        TestChangelogDataReadWrite rw = new TestChangelogDataReadWrite(tempDir.toString(), service);
+        FileStoreSourceSplitReader<RecordAndPosition<RowData>> reader =
+                new FileStoreSourceSplitReader<>(
+                        RecordsFunction.forIterate(), rw.createReadWithKey(), null, 2);
+
+        List<Tuple2<Long, Long>> input1 = kvs();
+        List<DataFileMeta> files1 = rw.writeFiles(row(1), 0, input1);
+        assignSplit(reader, newSourceSplit("id1", row(1), 0, files1));
+
+        List<Tuple2<Long, Long>> input2 = kvs();
+        List<DataFileMeta> files2 = rw.writeFiles(row(2), 1, input2);
+        assignSplit(reader, newSourceSplit("id2", row(2), 1, files2, 2));
+
+        RecordsWithSplitIds<RecordAndPosition<RowData>> records = reader.fetch();
+        assertRecords(
+                records,
+                null,
+                "id1",
+                0,
+                input1.stream().map(t -> t.f1).collect(Collectors.toList()));
+
+        // splits added after the current split is started are also prefetched
+        List<Tuple2<Long, Long>> input3 = kvs(6);
+        List<DataFileMeta> files3 = rw.writeFiles(row(3), 2, input3);
+        assignSplit(reader, newSourceSplit("id3", row(3), 2, files3));
+
+        records = reader.fetch();
+        assertRecords(records, "id1", "id1", 0, null);
+
+        records = reader.fetch();
+        assertRecords(
+                records,
+                null,
+                "id2",
+                2,
+                input2.stream().skip(2).map(t -> t.f1).collect(Collectors.toList()));
+
+        records = reader.fetch();
+        assertRecords(records, "id2", "id2", 0, null);
+
+        records = reader.fetch();
+        assertRecords(
+                records,
+                null,
+                "id3",
+                0,
+                input3.stream().map(t -> t.f1).collect(Collectors.toList()));
+
+        // a prefetched but unread split is closed with the reader
+        assignSplit(reader, newSourceSplit("id4", row(1), 0, files1));
+        reader.close();
+    }
+
     @Test
     public void testNoSplit() throws Exception {
         TestChangelogDataReadWrite rw = new TestChangelogDataReadWrite(tempDir.toString(), service);
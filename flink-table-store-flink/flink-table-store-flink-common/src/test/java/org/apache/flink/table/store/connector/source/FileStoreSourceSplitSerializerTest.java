@@ -18,16 +18,22 @@
 
 package org.apache.flink.table.store.connector.source;
 
+import org.apache.flink.connector.file.src.util.CheckpointedPosition;
 import org.apache.flink.core.io.SimpleVersionedSerialization;
 import org.apache.flink.table.store.data.BinaryRow;
+import org.apache.flink.table.store.data.Timestamp;
 import org.apache.flink.table.store.file.io.DataFileMeta;
 import org.apache.flink.table.store.file.stats.StatsTestUtils;
 import org.apache.flink.table.store.table.source.DataSplit;
+import org.apache.flink.table.store.utils.IOUtils;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.apache.flink.table.store.file.io.DataFileTestUtils.row;
@@ -56,6 +62,17 @@ public class FileStoreSourceSplitSerializerTest {
         assertSplitsEqual(split, deSerialized);
     }
 
+    @Test
+    public void serializeSplitWithOffset() throws Exception {
+        final FileStoreSourceSplit split =
+                newSourceSplit("id", row(1), 2, Arrays.asList(newFile(0), newFile(1)))
+                        .updateWithPosition(1024, 3);
+
+        final FileStoreSourceSplit deSerialized = serializeAndDeserialize(split);
+
+        assertSplitsEqual(split, deSerialized);
+    }
+
     @Test
     public void repeatedSerialization() throws Exception {
         final FileStoreSourceSplit split =
@@ -68,6 +85,24 @@ public class FileStoreSourceSplitSerializerTest {
         assertSplitsEqual(split, deSerialized);
     }
 
+    @Test
+    public void deserializeVersion1() throws Exception {
+        final FileStoreSourceSplit deSerialized = deserializeResource(1, "source-split-v1");
+
+        assertSplitsEqual(
+                new FileStoreSourceSplit(
+                        "id", newSplitOfOlderVersion(), CheckpointedPosition.NO_OFFSET, 29),
+                deSerialized);
+    }
+
+    @Test
+    public void deserializeVersion2WithoutTotalBuckets() throws Exception {
+        final FileStoreSourceSplit deSerialized = deserializeResource(2, "source-split-v2");
+
+        assertSplitsEqual(
+                new FileStoreSourceSplit("id", newSplitOfOlderVersion(), 1024, 29), deSerialized);
+    }
+
     // ------------------------------------------------------------------------
     //  test utils
     // ------------------------------------------------------------------------
@@ -118,7 +153,9 @@ public class FileStoreSourceSplitSerializerTest {
             boolean isIncremental,
             long recordsToSkip) {
         return new FileStoreSourceSplit(
-                id, new DataSplit(1L, partition, bucket, files, isIncremental), recordsToSkip);
+                id,
+                new DataSplit(1L, partition, bucket, bucket + 1, files, isIncremental),
+                recordsToSkip);
     }
 
     private static FileStoreSourceSplit serializeAndDeserialize(FileStoreSourceSplit split)
@@ -129,6 +166,44 @@ public class FileStoreSourceSplitSerializerTest {
         return SimpleVersionedSerialization.readVersionAndDeSerialize(serializer, bytes);
     }
 
+    /** The split which the resources of older versions in 'compatibility' were written with. */
+    private static DataSplit newSplitOfOlderVersion() {
+        DataFileMeta file =
+                new DataFileMeta(
+                        "data-1.orc",
+                        1024,
+                        10,
+                        row(0),
+                        row(9),
+                        StatsTestUtils.newEmptyTableStats(),
+                        StatsTestUtils.newEmptyTableStats(),
+                        0,
+                        9,
+                        1,
+                        0,
+                        Collections.emptyList(),
+                        Timestamp.fromEpochMillis(1672531200000L));
+        return new DataSplit(
+                3L,
+                row(1),
+                2,
+                DataSplit.UNKNOWN_TOTAL_BUCKETS,
+                Collections.singletonList(file),
+                false);
+    }
+
+    private static FileStoreSourceSplit deserializeResource(int version, String name)
+            throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in =
+                FileStoreSourceSplitSerializerTest.class
+                        .getClassLoader()
+                        .getResourceAsStream("compatibility/" + name)) {
+            IOUtils.copyBytes(in, out);
+        }
+        return new FileStoreSourceSplitSerializer().deserialize(version, out.toByteArray());
+    }
+
     static void assertSplitsEqual(FileStoreSourceSplit expected, FileStoreSourceSplit actual) {
         assertThat(actual).isEqualTo(expected);
     }
@@ -60,6 +60,18 @@ public class FileStoreSourceSplitStateTest {
         assertThat(state.toSourceSplit().recordsToSkip()).isEqualTo(7566L);
     }
 
+    @Test
+    public void testNewSplitTakesModifiedOffset() {
+        final FileStoreSourceSplit split = getTestSplit(456L);
+        final FileStoreSourceSplitState state = new FileStoreSourceSplitState(split);
+
+        state.setPosition(new RecordAndPosition<>(null, 1024L, 0L));
+
+        FileStoreSourceSplit resultSplit = state.toSourceSplit();
+        assertThat(resultSplit.offset()).isEqualTo(1024L);
+        assertThat(resultSplit.recordsToSkip()).isEqualTo(0L);
+    }
+
     // ------------------------------------------------------------------------
 
     private static FileStoreSourceSplit getTestSplit() {
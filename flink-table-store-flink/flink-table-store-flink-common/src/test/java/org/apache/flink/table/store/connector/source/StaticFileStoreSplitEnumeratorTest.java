@@ -19,6 +19,7 @@
 package org.apache.flink.table.store.connector.source;
 
 import org.apache.flink.connector.testutils.source.reader.TestingSplitEnumeratorContext;
+import org.apache.flink.table.store.table.source.DataSplit;
 
 import org.junit.jupiter.api.Test;
 
@@ -26,9 +27,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import static org.apache.flink.connector.testutils.source.reader.TestingSplitEnumeratorContext.SplitAssignmentState;
 import static org.apache.flink.table.store.connector.source.ContinuousFileSplitEnumeratorTest.createSnapshotSplit;
+import static org.apache.flink.table.store.file.mergetree.compact.MergeTreeCompactManagerTest.row;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /** Unit tests for the {@link StaticFileStoreSplitEnumerator}. */
@@ -93,6 +96,64 @@ public class StaticFileStoreSplitEnumeratorTest {
         assertThat(assignments.get(1).getAssignedSplits()).containsExactly(splits.get(1));
     }
 
+    @Test
+    public void testSplitAllocationBucketPreserving() {
+        final TestingSplitEnumeratorContext<FileStoreSourceSplit> context =
+                new TestingSplitEnumeratorContext<>(2);
+        context.registerReader(0, "test-host");
+        context.registerReader(1, "test-host");
+
+        List<FileStoreSourceSplit> splits = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            splits.add(createSnapshotSplit(i, i % 3, Collections.emptyList()));
+        }
+        StaticFileStoreSplitEnumerator enumerator =
+                new StaticFileStoreSplitEnumerator(context, null, splits, true, 4);
+
+        // test assign, bucket 0 and 2 to task 0, bucket 1 to task 1
+        enumerator.handleSplitRequest(0, "test-host");
+        enumerator.handleSplitRequest(1, "test-host");
+        Map<Integer, SplitAssignmentState<FileStoreSourceSplit>> assignments =
+                context.getSplitAssignments();
+        assertThat(assignments).containsOnlyKeys(0, 1);
+        assertThat(assignments.get(0).getAssignedSplits())
+                .containsExactly(splits.get(1), splits.get(2));
+        assertThat(assignments.get(1).getAssignedSplits())
+                .containsExactly(splits.get(0), splits.get(3));
+    }
+
+    @Test
+    public void testSplitAllocationBucketPreservingRescaled() {
+        final TestingSplitEnumeratorContext<FileStoreSourceSplit> context =
+                new TestingSplitEnumeratorContext<>(2);
+        context.registerReader(0, "test-host");
+        context.registerReader(1, "test-host");
+
+        // the last partition was rescaled from 4 buckets to 2 buckets
+        List<FileStoreSourceSplit> splits = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            splits.add(createSnapshotSplit(i, 0, Collections.emptyList()));
+        }
+        splits.add(
+                new FileStoreSourceSplit(
+                        UUID.randomUUID().toString(),
+                        new DataSplit(4, row(2), 0, 2, Collections.emptyList(), true),
+                        0));
+        StaticFileStoreSplitEnumerator enumerator =
+                new StaticFileStoreSplitEnumerator(context, null, splits, true, 4);
+
+        // bucket 0 of different bucket numbers holds different keys, falls back to round-robin
+        enumerator.handleSplitRequest(0, "test-host");
+        enumerator.handleSplitRequest(1, "test-host");
+        Map<Integer, SplitAssignmentState<FileStoreSourceSplit>> assignments =
+                context.getSplitAssignments();
+        assertThat(assignments).containsOnlyKeys(0, 1);
+        assertThat(assignments.get(0).getAssignedSplits())
+                .containsExactly(splits.get(0), splits.get(2));
+        assertThat(assignments.get(1).getAssignedSplits())
+                .containsExactly(splits.get(1), splits.get(3));
+    }
+
     @Test
     public void testSplitAllocationSomeEmpty() {
         final TestingSplitEnumeratorContext<FileStoreSourceSplit> context =
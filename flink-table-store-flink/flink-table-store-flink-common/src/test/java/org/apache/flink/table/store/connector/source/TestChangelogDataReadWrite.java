@@ -138,7 +138,8 @@ public class TestChangelogDataReadWrite {
                         DeduplicateMergeFunction.factory(),
                         ignore -> avro,
                         pathFactory,
-                        EXTRACTOR);
+                        EXTRACTOR,
+                        CoreOptions.SORT_ENGINE.defaultValue());
         return new KeyValueTableRead(read) {
             @Override
             public KeyValueTableRead withFilter(Predicate predicate) {
@@ -93,6 +93,12 @@ public class OrcReaderFactory implements FormatReaderFactory {
 
     @Override
     public OrcVectorizedReader createReader(FileIO fileIO, Path file) throws IOException {
+        return createReader(fileIO, file, 0);
+    }
+
+    @Override
+    public OrcVectorizedReader createReader(FileIO fileIO, Path file, long startPosition)
+            throws IOException {
         Pool<OrcReaderBatch> poolOfBatches = createPoolOfBatches(1);
         RecordReader orcReader =
                 createRecordReader(
@@ -103,7 +109,8 @@ public class OrcReaderFactory implements FormatReaderFactory {
                         fileIO,
                         file,
                         0,
-                        fileIO.getFileSize(file));
+                        fileIO.getFileSize(file),
+                        startPosition);
 
         return new OrcVectorizedReader(orcReader, poolOfBatches);
     }
@@ -176,12 +183,13 @@ public class OrcReaderFactory implements FormatReaderFactory {
             return orcVectorizedRowBatch;
         }
 
-        private RecordIterator<InternalRow> convertAndGetIterator(VectorizedRowBatch orcBatch) {
+        private RecordIterator<InternalRow> convertAndGetIterator(
+                VectorizedRowBatch orcBatch, long firstPosition) {
             // no copying from the ORC column vectors to the Flink columns vectors necessary,
             // because they point to the same data arrays internally design
             int batchSize = orcBatch.size;
             flinkColumnBatch.setNumRows(batchSize);
-            result.set(batchSize);
+            result.set(batchSize, firstPosition);
             return result;
         }
     }
@@ -199,7 +207,8 @@ public class OrcReaderFactory implements FormatReaderFactory {
      *
      * <p>The reader tracks its current position using ORC's <i>row numbers</i>. Each record in a
      * batch is addressed by the starting row number of the batch, plus the number of records to be
-     * skipped before.
+     * skipped before. Batches never span pruned row groups, so the rows of a batch have contiguous
+     * row numbers.
      */
     private static final class OrcVectorizedReader
             implements org.apache.flink.table.store.reader.RecordReader<InternalRow> {
@@ -218,12 +227,18 @@ public class OrcReaderFactory implements FormatReaderFactory {
             final OrcReaderBatch batch = getCachedEntry();
             final VectorizedRowBatch orcVectorBatch = batch.orcVectorizedRowBatch();
 
+            // Take the position before reading. After opening, seeking and reading each batch, the
+            // ORC reader advances to the next row to read, skipping row groups and stripes pruned
+            // by the search argument, so this is the row number of the first row of the batch.
+            // The row number after reading must not be used: it already skips the pruned row
+            // groups following the batch.
+            long firstPosition = orcReader.getRowNumber();
             if (!nextBatch(orcReader, orcVectorBatch)) {
                 batch.recycle();
                 return null;
             }
 
-            return batch.convertAndGetIterator(orcVectorBatch);
+            return batch.convertAndGetIterator(orcVectorBatch, firstPosition);
         }
 
         @Override
@@ -249,13 +264,18 @@ public class OrcReaderFactory implements FormatReaderFactory {
             FileIO fileIO,
             org.apache.flink.table.store.fs.Path path,
             long splitStart,
-            long splitLength)
+            long splitLength,
+            long startPosition)
             throws IOException {
         org.apache.orc.Reader orcReader = createReader(conf, fileIO, path);
 
-        // get offset and length for the stripes that start in the split
+        // get offset and length for the stripes that start in the split, no stripe is read if
+        // the start position is after all rows
         Pair<Long, Long> offsetAndLength =
-                getOffsetAndLengthForSplit(splitStart, splitLength, orcReader.getStripes());
+                startPosition < orcReader.getNumberOfRows()
+                        ? getOffsetAndLengthForSplit(
+                                splitStart, splitLength, orcReader.getStripes())
+                        : Pair.of(0L, 0L);
 
         // create ORC row reader configuration
         org.apache.orc.Reader.Options options =
@@ -282,6 +302,14 @@ public class OrcReaderFactory implements FormatReaderFactory {
 
         // create ORC row reader
         RecordReader orcRowsReader = orcReader.rows(options);
+        if (startPosition > 0 && startPosition < orcReader.getNumberOfRows()) {
+            try {
+                orcRowsReader.seekToRow(startPosition);
+            } catch (Exception e) {
+                orcRowsReader.close();
+                throw e;
+            }
+        }
 
         // assign ids
         schema.getId();
@@ -25,6 +25,8 @@ import org.apache.flink.table.store.format.FileStatsExtractor;
 import org.apache.flink.table.store.format.FormatReaderFactory;
 import org.apache.flink.table.store.format.FormatWriterFactory;
 import org.apache.flink.table.store.format.parquet.writer.RowDataParquetBuilder;
+import org.apache.flink.table.store.options.ConfigOption;
+import org.apache.flink.table.store.options.ConfigOptions;
 import org.apache.flink.table.store.options.Options;
 import org.apache.flink.table.store.types.RowType;
 import org.apache.flink.table.store.utils.Projection;
@@ -37,6 +39,14 @@ import static org.apache.flink.table.store.format.parquet.ParquetFileFormatFacto
 /** Parquet {@link FileFormat}. */
 public class ParquetFileFormat extends FileFormat {
 
+    public static final ConfigOption<Boolean> LATE_MATERIALIZATION_ENABLED =
+            ConfigOptions.key("read.late-materialization.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to evaluate pushed filters on their columns first, and only"
+                                    + " decode the other columns of batches with selected rows.");
+
     private final Options formatOptions;
 
     public ParquetFileFormat(Options formatOptions) {
@@ -53,7 +63,10 @@ public class ParquetFileFormat extends FileFormat {
     public FormatReaderFactory createReaderFactory(
             RowType type, int[][] projection, List<Predicate> filters) {
         return new ParquetReaderFactory(
-                getParquetConfiguration(formatOptions), Projection.of(projection).project(type));
+                getParquetConfiguration(formatOptions),
+                Projection.of(projection).project(type),
+                ParquetReaderFactory.BATCH_SIZE,
+                formatOptions.get(LATE_MATERIALIZATION_ENABLED) ? filters : null);
     }
 
     @Override
@@ -18,13 +18,20 @@
 
 package org.apache.flink.table.store.format.parquet;
 
+import org.apache.flink.table.store.annotation.VisibleForTesting;
 import org.apache.flink.table.store.data.InternalRow;
 import org.apache.flink.table.store.data.columnar.ColumnVector;
 import org.apache.flink.table.store.data.columnar.ColumnarRow;
 import org.apache.flink.table.store.data.columnar.ColumnarRowIterator;
 import org.apache.flink.table.store.data.columnar.VectorizedColumnBatch;
 import org.apache.flink.table.store.data.columnar.writable.WritableColumnVector;
+import org.apache.flink.table.store.file.predicate.CompoundPredicate;
+import org.apache.flink.table.store.file.predicate.LeafPredicate;
+import org.apache.flink.table.store.file.predicate.Predicate;
+import org.apache.flink.table.store.file.predicate.PredicateBuilder;
+import org.apache.flink.table.store.file.predicate.PredicateReplaceVisitor;
 import org.apache.flink.table.store.format.FormatReaderFactory;
+import org.apache.flink.table.store.format.parquet.reader.AbstractColumnReader;
 import org.apache.flink.table.store.format.parquet.reader.ColumnReader;
 import org.apache.flink.table.store.format.parquet.reader.ParquetDecimalVector;
 import org.apache.flink.table.store.format.parquet.reader.ParquetTimestampVector;
@@ -42,6 +49,7 @@ import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetInputFormat;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.schema.GroupType;
 import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.Type;
@@ -52,10 +60,13 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 
 import static org.apache.flink.table.store.format.parquet.reader.ParquetSplitReaderUtil.createColumnReader;
 import static org.apache.flink.table.store.format.parquet.reader.ParquetSplitReaderUtil.createWritableColumnVector;
@@ -64,6 +75,11 @@ import static org.apache.parquet.hadoop.UnmaterializableRecordCounter.BAD_RECORD
 /**
  * Parquet {@link FormatReaderFactory} that reads data from the file to {@link
  * VectorizedColumnBatch} in vectorized mode.
+ *
+ * <p>If filters are given and 'parquet.read.late-materialization.enabled' is set, columns
+ * referenced by the filters are read first and evaluated for each batch, other columns are only
+ * decoded for batches with at least one selected row, and only the selected rows are returned (late
+ * materialization).
  */
 public class ParquetReaderFactory implements FormatReaderFactory {
 
@@ -73,7 +89,7 @@ public class ParquetReaderFactory implements FormatReaderFactory {
 
     private static final String ALLOCATION_SIZE = "parquet.read.allocation.size";
 
-    private static final int BATCH_SIZE = 2048;
+    static final int BATCH_SIZE = 2048;
 
     private final Options conf;
     private final String[] projectedFields;
@@ -81,19 +97,97 @@ public class ParquetReaderFactory implements FormatReaderFactory {
     private final int batchSize;
     private final Set<Integer> unknownFieldsIndices = new HashSet<>();
 
+    /** Indices of projected fields referenced by {@link #filter}, they are read first. */
+    private final int[] filterFields;
+
+    /** Filter on the row of {@link #filterFields}, null if there is no filter to evaluate. */
+    @Nullable private final Predicate filter;
+
     public ParquetReaderFactory(Options formatConfig, RowType projectedType) {
         this(formatConfig, projectedType, BATCH_SIZE);
     }
 
     public ParquetReaderFactory(Options conf, RowType projectedType, int batchSize) {
+        this(conf, projectedType, batchSize, null);
+    }
+
+    /**
+     * Creates a reader factory which evaluates the given filters while reading and only decodes the
+     * other columns of selected rows, see {@link ParquetFileFormat#LATE_MATERIALIZATION_ENABLED}.
+     */
+    public ParquetReaderFactory(
+            Options conf, RowType projectedType, int batchSize, @Nullable List<Predicate> filters) {
         this.conf = conf;
         this.projectedFields = projectedType.getFieldNames().toArray(new String[0]);
         this.projectedTypes = projectedType.getFieldTypes().toArray(new DataType[0]);
         this.batchSize = batchSize;
+
+        List<Predicate> projectedFilters = new ArrayList<>();
+        if (filters != null) {
+            for (Predicate predicate : filters) {
+                predicate.visit(new ProjectedFieldMapping()).ifPresent(projectedFilters::add);
+            }
+        }
+        Set<Integer> referenced = new TreeSet<>();
+        projectedFilters.forEach(predicate -> collectFields(predicate, referenced));
+        this.filterFields = referenced.stream().mapToInt(Integer::intValue).toArray();
+        if (projectedFilters.isEmpty()) {
+            this.filter = null;
+        } else {
+            int[] fieldIdxMapping = new int[projectedFields.length];
+            Arrays.fill(fieldIdxMapping, -1);
+            for (int i = 0; i < filterFields.length; i++) {
+                fieldIdxMapping[filterFields[i]] = i;
+            }
+            this.filter =
+                    PredicateBuilder.transformFieldMapping(
+                                    PredicateBuilder.and(projectedFilters), fieldIdxMapping)
+                            .orElseThrow(IllegalStateException::new);
+        }
+    }
+
+    private static void collectFields(Predicate predicate, Set<Integer> fields) {
+        if (predicate instanceof CompoundPredicate) {
+            for (Predicate child : ((CompoundPredicate) predicate).children()) {
+                collectFields(child, fields);
+            }
+        } else {
+            fields.add(((LeafPredicate) predicate).index());
+        }
+    }
+
+    /**
+     * Maps fields of predicates to projected fields by name, as predicates may be created on the
+     * table schema instead of the schema of the file. Predicates on fields which are not projected
+     * or have different types can not be evaluated and are dropped.
+     */
+    private class ProjectedFieldMapping implements PredicateReplaceVisitor {
+
+        @Override
+        public Optional<Predicate> visit(LeafPredicate predicate) {
+            int index = Arrays.asList(projectedFields).indexOf(predicate.fieldName());
+            if (index < 0
+                    || !projectedTypes[index].copy(true).equals(predicate.type().copy(true))) {
+                return Optional.empty();
+            }
+            return Optional.of(
+                    new LeafPredicate(
+                            predicate.function(),
+                            predicate.type(),
+                            index,
+                            predicate.fieldName(),
+                            predicate.literals()));
+        }
     }
 
     @Override
     public ParquetReader createReader(FileIO fileIO, Path filePath) throws IOException {
+        return createReader(fileIO, filePath, 0);
+    }
+
+    @Override
+    public ParquetReader createReader(FileIO fileIO, Path filePath, long startPosition)
+            throws IOException {
         final long splitOffset = 0;
         final long splitLength = fileIO.getFileSize(filePath);
 
@@ -111,7 +205,23 @@ public class ParquetReaderFactory implements FormatReaderFactory {
 
         Pool<ParquetReaderBatch> poolOfBatches = createPoolOfBatches(requestedSchema);
 
-        return new ParquetReader(reader, requestedSchema, reader.getRecordCount(), poolOfBatches);
+        ParquetReader parquetReader =
+                new ParquetReader(reader, requestedSchema, reader.getRecordCount(), poolOfBatches);
+        if (startPosition > 0) {
+            try {
+                parquetReader.seek(startPosition);
+            } catch (Exception e) {
+                parquetReader.close();
+                throw e;
+            }
+        }
+        return parquetReader;
+    }
+
+    @VisibleForTesting
+    @Nullable
+    Predicate filter() {
+        return filter;
     }
 
     private void setReadOptions(ParquetReadOptions.Builder builder) {
@@ -293,29 +403,107 @@ public class ParquetReaderFactory implements FormatReaderFactory {
 
         /** Advances to the next batch of rows. Returns false if there are no more. */
         private boolean nextBatch(ParquetReaderBatch batch) throws IOException {
-            for (WritableColumnVector v : batch.writableVectors) {
-                v.reset();
+            while (true) {
+                for (WritableColumnVector v : batch.writableVectors) {
+                    v.reset();
+                }
+                batch.columnarBatch.setNumRows(0);
+                if (rowsReturned >= totalRowCount) {
+                    return false;
+                }
+                if (rowsReturned == totalCountLoadedSoFar) {
+                    readNextRowGroup();
+                }
+
+                int num = (int) Math.min(batchSize, totalCountLoadedSoFar - rowsReturned);
+                long firstPosition = rowsReturned;
+                rowsReturned += num;
+                if (filter == null) {
+                    for (int i = 0; i < columnReaders.length; ++i) {
+                        readColumn(i, num, batch);
+                    }
+                    batch.columnarBatch.setNumRows(num);
+                    batch.select(num, null, firstPosition);
+                    return true;
+                }
+
+                for (int i : filterFields) {
+                    readColumn(i, num, batch);
+                }
+                int numSelected = batch.evaluateFilter(num);
+                if (numSelected == 0) {
+                    // no row is selected, skip other columns of this batch without decoding
+                    for (int i = 0; i < columnReaders.length; ++i) {
+                        if (!batch.isFilterField[i]) {
+                            skipColumn(i, num, batch);
+                        }
+                    }
+                    continue;
+                }
+
+                for (int i = 0; i < columnReaders.length; ++i) {
+                    if (!batch.isFilterField[i]) {
+                        readColumn(i, num, batch);
+                    }
+                }
+                batch.columnarBatch.setNumRows(num);
+                batch.select(
+                        numSelected, numSelected == num ? null : batch.selected, firstPosition);
+                return true;
             }
-            batch.columnarBatch.setNumRows(0);
-            if (rowsReturned >= totalRowCount) {
-                return false;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void readColumn(int i, int num, ParquetReaderBatch batch) throws IOException {
+            if (columnReaders[i] == null) {
+                batch.writableVectors[i].fillWithNulls();
+            } else {
+                columnReaders[i].readToVector(num, batch.writableVectors[i]);
             }
-            if (rowsReturned == totalCountLoadedSoFar) {
-                readNextRowGroup();
+        }
+
+        private void skipColumn(int i, int num, ParquetReaderBatch batch) throws IOException {
+            if (columnReaders[i] instanceof AbstractColumnReader) {
+                ((AbstractColumnReader<?>) columnReaders[i]).skip(num);
+            } else if (columnReaders[i] != null) {
+                // nested columns can not be skipped, decode and discard them
+                readColumn(i, num, batch);
             }
+        }
 
-            int num = (int) Math.min(batchSize, totalCountLoadedSoFar - rowsReturned);
-            for (int i = 0; i < columnReaders.length; ++i) {
-                if (columnReaders[i] == null) {
-                    batch.writableVectors[i].fillWithNulls();
-                } else {
-                    //noinspection unchecked
-                    columnReaders[i].readToVector(num, batch.writableVectors[i]);
+        /**
+         * Moves to the row at the position. Row groups before the position are skipped without
+         * reading, only the rows before the position in its row group are skipped by decoders.
+         */
+        private void seek(long position) throws IOException {
+            for (BlockMetaData block : reader.getRowGroups()) {
+                if (totalCountLoadedSoFar + block.getRowCount() > position) {
+                    break;
                 }
+                reader.skipNextRowGroup();
+                totalCountLoadedSoFar += block.getRowCount();
+            }
+            rowsReturned = totalCountLoadedSoFar;
+            if (rowsReturned >= position) {
+                return;
+            }
+
+            readNextRowGroup();
+            ParquetReaderBatch batch = getCachedEntry();
+            try {
+                while (rowsReturned < position) {
+                    for (WritableColumnVector v : batch.writableVectors) {
+                        v.reset();
+                    }
+                    int num = (int) Math.min(batchSize, position - rowsReturned);
+                    for (int i = 0; i < columnReaders.length; ++i) {
+                        skipColumn(i, num, batch);
+                    }
+                    rowsReturned += num;
+                }
+            } finally {
+                batch.recycle();
             }
-            rowsReturned += num;
-            batch.columnarBatch.setNumRows(num);
-            return true;
         }
 
         private void readNextRowGroup() throws IOException {
@@ -369,7 +557,7 @@ public class ParquetReaderFactory implements FormatReaderFactory {
         return new ParquetReaderBatch(writableVectors, columnarBatch, recycler);
     }
 
-    private static class ParquetReaderBatch {
+    private class ParquetReaderBatch {
 
         private final WritableColumnVector[] writableVectors;
         protected final VectorizedColumnBatch columnarBatch;
@@ -377,6 +565,14 @@ public class ParquetReaderFactory implements FormatReaderFactory {
 
         private final ColumnarRowIterator result;
 
+        private final boolean[] isFilterField;
+        private final int[] selected;
+        @Nullable private final VectorizedColumnBatch filterBatch;
+
+        private int numSelected;
+        @Nullable private int[] selection;
+        private long firstPosition;
+
         protected ParquetReaderBatch(
                 WritableColumnVector[] writableVectors,
                 VectorizedColumnBatch columnarBatch,
@@ -385,6 +581,37 @@ public class ParquetReaderFactory implements FormatReaderFactory {
             this.columnarBatch = columnarBatch;
             this.recycler = recycler;
             this.result = new ColumnarRowIterator(new ColumnarRow(columnarBatch), this::recycle);
+
+            this.isFilterField = new boolean[writableVectors.length];
+            this.selected = new int[batchSize];
+            if (filter == null) {
+                this.filterBatch = null;
+            } else {
+                ColumnVector[] filterVectors = new ColumnVector[filterFields.length];
+                for (int i = 0; i < filterFields.length; i++) {
+                    isFilterField[filterFields[i]] = true;
+                    filterVectors[i] = columnarBatch.columns[filterFields[i]];
+                }
+                this.filterBatch = new VectorizedColumnBatch(filterVectors);
+            }
+        }
+
+        /**
+         * Evaluates the filter on the column vectors of the first {@code num} rows, returns the
+         * number of selected.
+         */
+        private int evaluateFilter(int num) {
+            for (int i = 0; i < num; i++) {
+                selected[i] = i;
+            }
+            filterBatch.setNumRows(num);
+            return filter.test(filterBatch, selected, num);
+        }
+
+        private void select(int numSelected, @Nullable int[] selection, long firstPosition) {
+            this.numSelected = numSelected;
+            this.selection = selection;
+            this.firstPosition = firstPosition;
         }
 
         public void recycle() {
@@ -392,7 +619,7 @@ public class ParquetReaderFactory implements FormatReaderFactory {
         }
 
         public RecordIterator<InternalRow> convertAndGetIterator() {
-            result.set(columnarBatch.getNumRows());
+            result.set(numSelected, selection, firstPosition);
             return result;
         }
     }
@@ -150,14 +150,7 @@ public abstract class AbstractColumnReader<VECTOR extends WritableColumnVector>
             // Compute the number of values we want to read in this page.
             int leftInPage = (int) (endOfPageValueCount - valuesRead);
             if (leftInPage == 0) {
-                DataPage page = pageReader.readPage();
-                if (page instanceof DataPageV1) {
-                    readPageV1((DataPageV1) page);
-                } else if (page instanceof DataPageV2) {
-                    readPageV2((DataPageV2) page);
-                } else {
-                    throw new RuntimeException("Unsupported page type: " + page.getClass());
-                }
+                readPage();
                 leftInPage = (int) (endOfPageValueCount - valuesRead);
             }
             int num = Math.min(readNumber, leftInPage);
@@ -194,6 +187,41 @@ public abstract class AbstractColumnReader<VECTOR extends WritableColumnVector>
         }
     }
 
+    /**
+     * Skips {@code skipNumber} values of this columnReader. Definition levels and dictionary ids
+     * are still consumed, but values are not decoded.
+     */
+    public final void skip(int skipNumber) throws IOException {
+        while (skipNumber > 0) {
+            int leftInPage = (int) (endOfPageValueCount - valuesRead);
+            if (leftInPage == 0) {
+                readPage();
+                leftInPage = (int) (endOfPageValueCount - valuesRead);
+            }
+            int num = Math.min(skipNumber, leftInPage);
+            int nonNulls = runLenDecoder.skipDefinitionLevels(num, maxDefLevel);
+            if (isCurrentPageDictionaryEncoded) {
+                dictionaryIdsDecoder.skipValues(nonNulls);
+            } else {
+                skipValues(nonNulls);
+            }
+
+            valuesRead += num;
+            skipNumber -= num;
+        }
+    }
+
+    private void readPage() throws IOException {
+        DataPage page = pageReader.readPage();
+        if (page instanceof DataPageV1) {
+            readPageV1((DataPageV1) page);
+        } else if (page instanceof DataPageV2) {
+            readPageV2((DataPageV2) page);
+        } else {
+            throw new RuntimeException("Unsupported page type: " + page.getClass());
+        }
+    }
+
     private void readPageV1(DataPageV1 page) throws IOException {
         this.pageValueCount = page.getValueCount();
         ValuesReader rlReader = page.getRlEncoding().getValuesReader(descriptor, REPETITION_LEVEL);
@@ -276,6 +304,14 @@ public abstract class AbstractColumnReader<VECTOR extends WritableColumnVector>
         }
     }
 
+    final void skipDataBuffer(long length) {
+        try {
+            dataInputStream.skipFully(length);
+        } catch (IOException e) {
+            throw new ParquetDecodingException("Failed to skip " + length + " bytes", e);
+        }
+    }
+
     /** After read a page, we may need some initialization. */
     protected void afterReadPage() {}
 
@@ -290,6 +326,9 @@ public abstract class AbstractColumnReader<VECTOR extends WritableColumnVector>
     /** Read batch from {@link #runLenDecoder} and {@link #dataInputStream}. */
     protected abstract void readBatch(int rowId, int num, VECTOR column);
 
+    /** Skips `num` non-null values from {@link #dataInputStream}. */
+    protected abstract void skipValues(int num);
+
     /**
      * Decode dictionary ids to data. From {@link #runLenDecoder} and {@link #dictionaryIdsDecoder}.
      */
@@ -58,6 +58,13 @@ public class BooleanColumnReader extends AbstractColumnReader<WritableBooleanVec
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    protected void skipValues(int num) {
+        for (int i = 0; i < num; i++) {
+            readBoolean();
+        }
+    }
+
     @Override
     protected void readBatch(int rowId, int num, WritableBooleanVector column) {
         int left = num;
@@ -35,6 +35,11 @@ public class ByteColumnReader extends AbstractColumnReader<WritableByteVector> {
         checkTypeName(PrimitiveType.PrimitiveTypeName.INT32);
     }
 
+    @Override
+    protected void skipValues(int num) {
+        skipDataBuffer(4L * num);
+    }
+
     @Override
     protected void readBatch(int rowId, int num, WritableByteVector column) {
         int left = num;
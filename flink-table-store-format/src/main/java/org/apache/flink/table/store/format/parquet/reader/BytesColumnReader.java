@@ -36,6 +36,13 @@ public class BytesColumnReader extends AbstractColumnReader<WritableBytesVector>
         checkTypeName(PrimitiveType.PrimitiveTypeName.BINARY);
     }
 
+    @Override
+    protected void skipValues(int num) {
+        for (int i = 0; i < num; i++) {
+            skipDataBuffer(readDataBuffer(4).getInt());
+        }
+    }
+
     @Override
     protected void readBatch(int rowId, int num, WritableBytesVector column) {
         int left = num;
@@ -36,6 +36,11 @@ public class DoubleColumnReader extends AbstractColumnReader<WritableDoubleVecto
         checkTypeName(PrimitiveType.PrimitiveTypeName.DOUBLE);
     }
 
+    @Override
+    protected void skipValues(int num) {
+        skipDataBuffer(8L * num);
+    }
+
     @Override
     protected void readBatch(int rowId, int num, WritableDoubleVector column) {
         int left = num;
@@ -44,6 +44,11 @@ public class FixedLenBytesColumnReader<VECTOR extends WritableColumnVector>
         this.precision = precision;
     }
 
+    @Override
+    protected void skipValues(int num) {
+        skipDataBuffer((long) descriptor.getPrimitiveType().getTypeLength() * num);
+    }
+
     @Override
     protected void readBatch(int rowId, int num, VECTOR column) {
         int bytesLen = descriptor.getPrimitiveType().getTypeLength();
@@ -36,6 +36,11 @@ public class FloatColumnReader extends AbstractColumnReader<WritableFloatVector>
         checkTypeName(PrimitiveType.PrimitiveTypeName.FLOAT);
     }
 
+    @Override
+    protected void skipValues(int num) {
+        skipDataBuffer(4L * num);
+    }
+
     @Override
     protected void readBatch(int rowId, int num, WritableFloatVector column) {
         int left = num;
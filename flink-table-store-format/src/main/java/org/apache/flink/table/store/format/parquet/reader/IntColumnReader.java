@@ -34,6 +34,11 @@ public class IntColumnReader extends AbstractColumnReader<WritableIntVector> {
         checkTypeName(PrimitiveType.PrimitiveTypeName.INT32);
     }
 
+    @Override
+    protected void skipValues(int num) {
+        skipDataBuffer(4L * num);
+    }
+
     @Override
     protected void readBatch(int rowId, int num, WritableIntVector column) {
         int left = num;
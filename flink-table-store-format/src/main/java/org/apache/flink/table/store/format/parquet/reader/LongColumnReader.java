@@ -35,6 +35,11 @@ public class LongColumnReader extends AbstractColumnReader<WritableLongVector> {
         checkTypeName(PrimitiveType.PrimitiveTypeName.INT64);
     }
 
+    @Override
+    protected void skipValues(int num) {
+        skipDataBuffer(8L * num);
+    }
+
     @Override
     protected void readBatch(int rowId, int num, WritableLongVector column) {
         int left = num;
@@ -193,6 +193,54 @@ final class RunLengthDecoder {
         }
     }
 
+    /**
+     * Skips {@code total} definition levels, returns the number of them equal to {@code level},
+     * that is the number of non-null values to skip in the data stream.
+     */
+    int skipDefinitionLevels(int total, int level) {
+        int nonNulls = 0;
+        int left = total;
+        while (left > 0) {
+            if (this.currentCount == 0) {
+                this.readNextGroup();
+            }
+            int n = Math.min(left, this.currentCount);
+            switch (mode) {
+                case RLE:
+                    if (currentValue == level) {
+                        nonNulls += n;
+                    }
+                    break;
+                case PACKED:
+                    for (int i = 0; i < n; ++i) {
+                        if (currentBuffer[currentBufferIdx++] == level) {
+                            nonNulls++;
+                        }
+                    }
+                    break;
+            }
+            left -= n;
+            currentCount -= n;
+        }
+        return nonNulls;
+    }
+
+    /** Skips {@code total} values, it is used to skip dictionary IDs. */
+    void skipValues(int total) {
+        int left = total;
+        while (left > 0) {
+            if (this.currentCount == 0) {
+                this.readNextGroup();
+            }
+            int n = Math.min(left, this.currentCount);
+            if (mode == MODE.PACKED) {
+                currentBufferIdx += n;
+            }
+            left -= n;
+            currentCount -= n;
+        }
+    }
+
     /** Reads the next varint encoded int. */
     private int readUnsignedVarInt() throws IOException {
         int value = 0;
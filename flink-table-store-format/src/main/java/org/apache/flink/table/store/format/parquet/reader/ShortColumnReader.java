@@ -35,6 +35,11 @@ public class ShortColumnReader extends AbstractColumnReader<WritableShortVector>
         checkTypeName(PrimitiveType.PrimitiveTypeName.INT32);
     }
 
+    @Override
+    protected void skipValues(int num) {
+        skipDataBuffer(4L * num);
+    }
+
     @Override
     protected void readBatch(int rowId, int num, WritableShortVector column) {
         int left = num;
@@ -59,6 +59,11 @@ public class TimestampColumnReader extends AbstractColumnReader<WritableTimestam
         return utcTimestamp;
     }
 
+    @Override
+    protected void skipValues(int num) {
+        skipDataBuffer(12L * num);
+    }
+
     @Override
     protected void readBatch(int rowId, int num, WritableTimestampVector column) {
         for (int i = 0; i < num; i++) {
@@ -22,14 +22,22 @@ import org.apache.flink.table.store.data.InternalRow;
 import org.apache.flink.table.store.format.orc.filter.OrcFilters;
 import org.apache.flink.table.store.fs.Path;
 import org.apache.flink.table.store.fs.local.LocalFileIO;
+import org.apache.flink.table.store.reader.FileRecordIterator;
 import org.apache.flink.table.store.reader.RecordReader;
 import org.apache.flink.table.store.types.DataType;
 import org.apache.flink.table.store.types.DataTypes;
 import org.apache.flink.table.store.types.DecimalType;
 import org.apache.flink.table.store.types.RowType;
 import org.apache.flink.table.store.utils.DecimalUtils;
+import org.apache.flink.table.store.utils.Pair;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hive.ql.exec.vector.LongColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
+import org.apache.hadoop.hive.ql.io.sarg.PredicateLeaf;
+import org.apache.orc.OrcFile;
+import org.apache.orc.TypeDescription;
+import org.apache.orc.Writer;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -38,10 +46,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -51,6 +61,8 @@ class OrcReaderFactoryTest {
     /** Small batch size for test more boundary conditions. */
     protected static final int BATCH_SIZE = 9;
 
+    private static final int ROW_INDEX_STRIDE = 1000;
+
     private static final RowType FLAT_FILE_TYPE =
             RowType.builder()
                     .fields(
@@ -76,6 +88,13 @@ class OrcReaderFactoryTest {
                     .fields(new DataType[] {new DecimalType(10, 5)}, new String[] {"_col0"})
                     .build();
 
+    private static final RowType GROUPED_FILE_TYPE =
+            RowType.builder()
+                    .fields(
+                            new DataType[] {DataTypes.BIGINT(), DataTypes.BIGINT()},
+                            new String[] {"id", "grp"})
+                    .build();
+
     private static Path flatFile;
     private static Path decimalFile;
 
@@ -166,6 +185,124 @@ class OrcReaderFactoryTest {
         assertThat(nullCount.get()).isEqualTo(2000);
     }
 
+    @Test
+    void testReadFromPosition() throws IOException {
+        OrcReaderFactory format = createFormat(DECIMAL_FILE_TYPE, new int[] {0});
+
+        List<Pair<Long, String>> records =
+                readWithPositions(
+                        createReader(format, decimalFile, 0), OrcReaderFactoryTest::decimal);
+        assertThat(records).hasSize(6000);
+        for (int i = 0; i < records.size(); i++) {
+            assertThat(records.get(i).getLeft()).isEqualTo(i);
+        }
+
+        // reading from the position after a returned row returns the remaining rows
+        for (int i : new int[] {0, BATCH_SIZE - 1, 4321, 5999}) {
+            assertThat(
+                            readWithPositions(
+                                    createReader(format, decimalFile, i + 1),
+                                    OrcReaderFactoryTest::decimal))
+                    .isEqualTo(records.subList(i + 1, records.size()));
+        }
+    }
+
+    @Test
+    void testReadFromPositionWithPrunedRowGroups(@TempDir java.nio.file.Path tmpDir)
+            throws IOException {
+        // 3 stripes of 5 row groups, the first 2 row groups of each stripe are pruned
+        Path file = writeGroupedFile(tmpDir.resolve("grouped.orc"), 3, 5);
+        OrcReaderFactory format =
+                createFormat(
+                        GROUPED_FILE_TYPE,
+                        new int[] {0, 1},
+                        Collections.singletonList(
+                                new OrcFilters.Not(
+                                        new OrcFilters.LessThan(
+                                                "grp", PredicateLeaf.Type.LONG, 2L))));
+
+        List<Pair<Long, Long>> records =
+                readWithPositions(createReader(format, file, 0), row -> row.getLong(0));
+        assertThat(records).hasSize(3 * 3 * ROW_INDEX_STRIDE);
+        for (Pair<Long, Long> record : records) {
+            // the id of each row is its row number
+            assertThat(record.getLeft()).isEqualTo(record.getRight());
+        }
+
+        // the last rows of stripes are followed by pruned row groups of the next stripe
+        for (int i : new int[] {0, 2999, 3000, 5999, 6000, 8998}) {
+            assertThat(
+                            readWithPositions(
+                                    createReader(format, file, records.get(i).getLeft() + 1),
+                                    row -> row.getLong(0)))
+                    .isEqualTo(records.subList(i + 1, records.size()));
+        }
+    }
+
+    /**
+     * Writes a file whose row with id {@code n} is the n-th row, and column grp is the index of the
+     * row group of the row in its stripe.
+     */
+    private static Path writeGroupedFile(java.nio.file.Path file, int numStripes, int numGroups)
+            throws IOException {
+        TypeDescription schema = TypeDescription.fromString("struct<id:bigint,grp:bigint>");
+        Writer writer =
+                OrcFile.createWriter(
+                        new org.apache.hadoop.fs.Path(file.toString()),
+                        OrcFile.writerOptions(new Configuration())
+                                .setSchema(schema)
+                                .rowIndexStride(ROW_INDEX_STRIDE));
+        VectorizedRowBatch batch = schema.createRowBatch(ROW_INDEX_STRIDE);
+        LongColumnVector id = (LongColumnVector) batch.cols[0];
+        LongColumnVector grp = (LongColumnVector) batch.cols[1];
+        long nextId = 0;
+        for (int stripe = 0; stripe < numStripes; stripe++) {
+            for (int group = 0; group < numGroups; group++) {
+                for (int i = 0; i < ROW_INDEX_STRIDE; i++) {
+                    id.vector[i] = nextId++;
+                    grp.vector[i] = group;
+                }
+                batch.size = ROW_INDEX_STRIDE;
+                writer.addRowBatch(batch);
+                batch.reset();
+            }
+            // finish the stripe
+            writer.writeIntermediateFooter();
+        }
+        writer.close();
+
+        assertThat(
+                        OrcFile.createReader(
+                                        new org.apache.hadoop.fs.Path(file.toString()),
+                                        OrcFile.readerOptions(new Configuration()))
+                                .getStripes())
+                .hasSize(numStripes);
+        return new Path(file.toString());
+    }
+
+    private static String decimal(InternalRow row) {
+        return row.isNullAt(0) ? null : row.getDecimal(0, 10, 5).toString();
+    }
+
+    private <T> List<Pair<Long, T>> readWithPositions(
+            RecordReader<InternalRow> reader, Function<InternalRow, T> converter)
+            throws IOException {
+        List<Pair<Long, T>> records = new ArrayList<>();
+        RecordReader.RecordIterator<InternalRow> batch;
+        while ((batch = reader.readBatch()) != null) {
+            InternalRow row;
+            while ((row = batch.next()) != null) {
+                records.add(
+                        Pair.of(
+                                ((FileRecordIterator<InternalRow>) batch).returnedPosition(),
+                                converter.apply(row)));
+            }
+            batch.releaseBatch();
+        }
+        reader.close();
+        return records;
+    }
+
     protected OrcReaderFactory createFormat(RowType formatType, int[] selectedFields) {
         return createFormat(formatType, selectedFields, new ArrayList<>());
     }
@@ -178,9 +315,9 @@ class OrcReaderFactoryTest {
                 new Configuration(), formatType, selectedFields, conjunctPredicates, BATCH_SIZE);
     }
 
-    private RecordReader<InternalRow> createReader(OrcReaderFactory format, Path split)
-            throws IOException {
-        return format.createReader(new LocalFileIO(), split);
+    private RecordReader<InternalRow> createReader(
+            OrcReaderFactory format, Path split, long startPosition) throws IOException {
+        return format.createReader(new LocalFileIO(), split, startPosition);
     }
 
     private void forEach(OrcReaderFactory format, Path file, Consumer<InternalRow> action)
@@ -18,14 +18,21 @@
 
 package org.apache.flink.table.store.format.parquet;
 
+import org.apache.flink.table.store.file.predicate.Predicate;
+import org.apache.flink.table.store.file.predicate.PredicateBuilder;
 import org.apache.flink.table.store.options.ConfigOption;
 import org.apache.flink.table.store.options.ConfigOptions;
 import org.apache.flink.table.store.options.Options;
+import org.apache.flink.table.store.types.IntType;
+import org.apache.flink.table.store.types.RowType;
 
 import org.apache.parquet.format.CompressionCodec;
 import org.apache.parquet.hadoop.ParquetOutputFormat;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.List;
+
 import static org.apache.flink.table.store.format.parquet.ParquetFileFormat.getParquetConfiguration;
 import static org.apache.flink.table.store.format.parquet.ParquetFileFormatFactory.IDENTIFIER;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -64,6 +71,26 @@ public class ParquetFileFormatTest {
         assertThat(getCompressionCodec(conf)).isEqualTo(lz4);
     }
 
+    @Test
+    public void testLateMaterialization() {
+        List<Predicate> filters =
+                Collections.singletonList(
+                        new PredicateBuilder(RowType.of(new IntType())).equal(0, 1));
+
+        Options conf = new Options();
+        assertThat(createReaderFactory(conf, filters).filter()).isNull();
+
+        conf.set(ParquetFileFormat.LATE_MATERIALIZATION_ENABLED, true);
+        assertThat(createReaderFactory(conf, filters).filter()).isNotNull();
+    }
+
+    private ParquetReaderFactory createReaderFactory(Options conf, List<Predicate> filters) {
+        ParquetFileFormat parquet = new ParquetFileFormatFactory().create(conf);
+        return (ParquetReaderFactory)
+                parquet.createReaderFactory(
+                        RowType.of(new IntType()), new int[][] {new int[] {0}}, filters);
+    }
+
     private String getCompressionCodec(Options conf) {
         Options formatOptions = conf.removePrefix(IDENTIFIER + ".");
         ParquetFileFormat parquet = new ParquetFileFormatFactory().create(formatOptions);
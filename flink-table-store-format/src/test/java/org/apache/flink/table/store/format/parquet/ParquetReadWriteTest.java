@@ -25,11 +25,14 @@ import org.apache.flink.table.store.data.GenericMap;
 import org.apache.flink.table.store.data.GenericRow;
 import org.apache.flink.table.store.data.InternalRow;
 import org.apache.flink.table.store.data.Timestamp;
+import org.apache.flink.table.store.file.predicate.Predicate;
+import org.apache.flink.table.store.file.predicate.PredicateBuilder;
 import org.apache.flink.table.store.format.FormatWriter;
 import org.apache.flink.table.store.format.parquet.writer.RowDataParquetBuilder;
 import org.apache.flink.table.store.fs.Path;
 import org.apache.flink.table.store.fs.local.LocalFileIO;
 import org.apache.flink.table.store.options.Options;
+import org.apache.flink.table.store.reader.FileRecordIterator;
 import org.apache.flink.table.store.reader.RecordReader;
 import org.apache.flink.table.store.types.ArrayType;
 import org.apache.flink.table.store.types.BigIntType;
@@ -52,6 +55,8 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import javax.annotation.Nullable;
+
 import java.io.File;
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -59,6 +64,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -281,6 +287,85 @@ public class ParquetReadWriteTest {
                 });
     }
 
+    @ParameterizedTest
+    @MethodSource("parameters")
+    void testReadWithFilter(int rowGroupSize) throws IOException {
+        int number = 10000;
+        List<Integer> values = new ArrayList<>(number);
+        for (int i = 0; i < number; i++) {
+            values.add(i % 10 == 0 ? null : i);
+        }
+        List<InternalRow> rows = values.stream().map(this::newRow).collect(Collectors.toList());
+        Path testPath = createTempParquetFile(folder, rows, rowGroupSize);
+
+        // whole batches are filtered out by the int range, and a single row is selected by the
+        // string equality in other batches
+        PredicateBuilder builder = new PredicateBuilder(ROW_TYPE);
+        List<Predicate> filters =
+                Collections.singletonList(
+                        PredicateBuilder.or(
+                                builder.between(4, 2100, 2900),
+                                builder.equal(0, BinaryString.fromString("7777"))));
+        List<Integer> expected =
+                values.stream()
+                        .filter(v -> v != null && ((v >= 2100 && v <= 2900) || v == 7777))
+                        .collect(Collectors.toList());
+
+        int len = testReadingFile(expected, testPath, filters);
+        assertThat(len).isEqualTo(expected.size());
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameters")
+    void testReadFromPosition(int rowGroupSize) throws IOException {
+        int number = 10000;
+        List<Integer> values = new ArrayList<>(number);
+        for (int i = 0; i < number; i++) {
+            values.add(i % 10 == 0 ? null : i);
+        }
+        List<InternalRow> rows = values.stream().map(this::newRow).collect(Collectors.toList());
+        Path testPath = createTempParquetFile(folder, rows, rowGroupSize);
+
+        PredicateBuilder builder = new PredicateBuilder(ROW_TYPE);
+        List<Predicate> filters =
+                Collections.singletonList(
+                        PredicateBuilder.or(
+                                builder.between(4, 2100, 2900),
+                                builder.equal(0, BinaryString.fromString("7777"))));
+        for (List<Predicate> readFilters : Arrays.asList(null, filters)) {
+            ParquetReaderFactory format =
+                    new ParquetReaderFactory(new Options(), ROW_TYPE, 500, readFilters);
+
+            // the position of a returned row is its index in the file
+            List<Long> positions = readPositions(format.createReader(new LocalFileIO(), testPath));
+            for (long position : positions) {
+                if (values.get((int) position) != null) {
+                    assertThat(values.get((int) position)).isEqualTo((int) position);
+                }
+            }
+
+            // reading from the position after a returned row returns the remaining rows
+            for (int i : new int[] {0, positions.size() / 3, positions.size() - 1}) {
+                long start = positions.get(i) + 1;
+                assertThat(readPositions(format.createReader(new LocalFileIO(), testPath, start)))
+                        .isEqualTo(positions.subList(i + 1, positions.size()));
+            }
+        }
+    }
+
+    private List<Long> readPositions(RecordReader<InternalRow> reader) throws IOException {
+        List<Long> positions = new ArrayList<>();
+        RecordReader.RecordIterator<InternalRow> batch;
+        while ((batch = reader.readBatch()) != null) {
+            while (batch.next() != null) {
+                positions.add(((FileRecordIterator<InternalRow>) batch).returnedPosition());
+            }
+            batch.releaseBatch();
+        }
+        reader.close();
+        return positions;
+    }
+
     private void innerTestTypes(File folder, List<Integer> records, int rowGroupSize)
             throws IOException {
         List<InternalRow> rows = records.stream().map(this::newRow).collect(Collectors.toList());
@@ -308,7 +393,14 @@ public class ParquetReadWriteTest {
     }
 
     private int testReadingFile(List<Integer> expected, Path path) throws IOException {
-        ParquetReaderFactory format = new ParquetReaderFactory(new Options(), ROW_TYPE, 500);
+        return testReadingFile(expected, path, null);
+    }
+
+    private int testReadingFile(
+            List<Integer> expected, Path path, @Nullable List<Predicate> filters)
+            throws IOException {
+        ParquetReaderFactory format =
+                new ParquetReaderFactory(new Options(), ROW_TYPE, 500, filters);
 
         // validate java serialization
         try {
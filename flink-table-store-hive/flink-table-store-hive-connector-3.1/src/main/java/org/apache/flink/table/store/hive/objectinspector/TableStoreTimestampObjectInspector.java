@@ -19,6 +19,7 @@
 package org.apache.flink.table.store.hive.objectinspector;
 
 import org.apache.hadoop.hive.common.type.Timestamp;
+import org.apache.hadoop.hive.ql.exec.vector.TimestampColumnVector;
 import org.apache.hadoop.hive.serde2.io.TimestampWritableV2;
 import org.apache.hadoop.hive.serde2.objectinspector.primitive.AbstractPrimitiveJavaObjectInspector;
 import org.apache.hadoop.hive.serde2.objectinspector.primitive.TimestampObjectInspector;
@@ -32,6 +33,17 @@ public class TableStoreTimestampObjectInspector extends AbstractPrimitiveJavaObj
         super(TypeInfoFactory.timestampTypeInfo);
     }
 
+    /**
+     * Sets the timestamp into row {@code i} of the vector, the same timestamp is seen by Hive as
+     * returned by {@link #getPrimitiveJavaObject}.
+     */
+    public static void setVector(
+            TimestampColumnVector vector,
+            int i,
+            org.apache.flink.table.store.data.Timestamp timestamp) {
+        vector.set(i, new java.sql.Timestamp(timestamp.getMillisecond()));
+    }
+
     @Override
     public Timestamp getPrimitiveJavaObject(Object o) {
         return o == null
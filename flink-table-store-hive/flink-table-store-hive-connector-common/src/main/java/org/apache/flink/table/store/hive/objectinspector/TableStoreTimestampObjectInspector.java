@@ -20,6 +20,7 @@ package org.apache.flink.table.store.hive.objectinspector;
 
 import org.apache.flink.table.store.data.Timestamp;
 
+import org.apache.hadoop.hive.ql.exec.vector.TimestampColumnVector;
 import org.apache.hadoop.hive.serde2.io.TimestampWritable;
 import org.apache.hadoop.hive.serde2.objectinspector.primitive.AbstractPrimitiveJavaObjectInspector;
 import org.apache.hadoop.hive.serde2.objectinspector.primitive.TimestampObjectInspector;
@@ -33,6 +34,14 @@ public class TableStoreTimestampObjectInspector extends AbstractPrimitiveJavaObj
         super(TypeInfoFactory.timestampTypeInfo);
     }
 
+    /**
+     * Sets the timestamp into row {@code i} of the vector, the same timestamp is seen by Hive as
+     * returned by {@link #getPrimitiveJavaObject}.
+     */
+    public static void setVector(TimestampColumnVector vector, int i, Timestamp timestamp) {
+        vector.set(i, timestamp.toSQLTimestamp());
+    }
+
     @Override
     public java.sql.Timestamp getPrimitiveJavaObject(Object o) {
         return o == null ? null : ((Timestamp) o).toSQLTimestamp();
@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.mapred;
+
+import org.apache.flink.table.store.data.DataGetters;
+import org.apache.flink.table.store.data.InternalArray;
+import org.apache.flink.table.store.data.InternalMap;
+import org.apache.flink.table.store.data.columnar.BooleanColumnVector;
+import org.apache.flink.table.store.data.columnar.ByteColumnVector;
+import org.apache.flink.table.store.data.columnar.BytesColumnVector.Bytes;
+import org.apache.flink.table.store.data.columnar.FloatColumnVector;
+import org.apache.flink.table.store.data.columnar.IntColumnVector;
+import org.apache.flink.table.store.data.columnar.ShortColumnVector;
+import org.apache.flink.table.store.hive.objectinspector.TableStoreTimestampObjectInspector;
+import org.apache.flink.table.store.types.ArrayType;
+import org.apache.flink.table.store.types.DataType;
+import org.apache.flink.table.store.types.DecimalType;
+import org.apache.flink.table.store.types.MapType;
+
+import org.apache.hadoop.hive.common.type.HiveDecimal;
+import org.apache.hadoop.hive.ql.exec.vector.BytesColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.ColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.DecimalColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.DoubleColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.ListColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.LongColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.MapColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.TimestampColumnVector;
+
+import javax.annotation.Nullable;
+
+import static org.apache.flink.table.store.utils.TypeUtils.timestampPrecision;
+
+/**
+ * Writes table store data into Hive {@link ColumnVector}s. Values of the same types are seen by
+ * Hive as returned by the object inspectors in {@code hive/objectinspector}.
+ */
+public class HiveColumnVectorWriter {
+
+    private HiveColumnVectorWriter() {}
+
+    /**
+     * Copies rows of a table store column vector into the first {@code num} rows of a Hive column
+     * vector. Row {@code i} of the Hive vector is row {@code selected[start + i]} of the table
+     * store vector, or row {@code start + i} if {@code selected} is null. Strings and binaries are
+     * referenced instead of copied, so they are only valid until the table store batch is released.
+     *
+     * <p>Returns false if the type is not atomic, in which case nothing is written and values
+     * should be written one by one with {@link #write}.
+     */
+    public static boolean copyColumn(
+            org.apache.flink.table.store.data.columnar.ColumnVector from,
+            DataType type,
+            @Nullable int[] selected,
+            int start,
+            int num,
+            ColumnVector to) {
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case DATE:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+            case CHAR:
+            case VARCHAR:
+            case BINARY:
+            case VARBINARY:
+                break;
+            default:
+                return false;
+        }
+
+        for (int i = 0; i < num; i++) {
+            int rowId = selected == null ? start + i : selected[start + i];
+            if (from.isNullAt(rowId)) {
+                to.noNulls = false;
+                to.isNull[i] = true;
+                continue;
+            }
+            switch (type.getTypeRoot()) {
+                case BOOLEAN:
+                    ((LongColumnVector) to).vector[i] =
+                            ((BooleanColumnVector) from).getBoolean(rowId) ? 1 : 0;
+                    break;
+                case TINYINT:
+                    ((LongColumnVector) to).vector[i] = ((ByteColumnVector) from).getByte(rowId);
+                    break;
+                case SMALLINT:
+                    ((LongColumnVector) to).vector[i] = ((ShortColumnVector) from).getShort(rowId);
+                    break;
+                case INTEGER:
+                case DATE:
+                    ((LongColumnVector) to).vector[i] = ((IntColumnVector) from).getInt(rowId);
+                    break;
+                case BIGINT:
+                    ((LongColumnVector) to).vector[i] =
+                            ((org.apache.flink.table.store.data.columnar.LongColumnVector) from)
+                                    .getLong(rowId);
+                    break;
+                case FLOAT:
+                    ((DoubleColumnVector) to).vector[i] =
+                            ((FloatColumnVector) from).getFloat(rowId);
+                    break;
+                case DOUBLE:
+                    ((DoubleColumnVector) to).vector[i] =
+                            ((org.apache.flink.table.store.data.columnar.DoubleColumnVector) from)
+                                    .getDouble(rowId);
+                    break;
+                default:
+                    Bytes bytes =
+                            ((org.apache.flink.table.store.data.columnar.BytesColumnVector) from)
+                                    .getBytes(rowId);
+                    ((BytesColumnVector) to).setRef(i, bytes.data, bytes.offset, bytes.len);
+            }
+        }
+        return true;
+    }
+
+    /** Writes field {@code pos} of {@code from} into row {@code i} of the Hive column vector. */
+    public static void write(DataGetters from, int pos, DataType type, ColumnVector to, int i) {
+        if (from.isNullAt(pos)) {
+            to.noNulls = false;
+            to.isNull[i] = true;
+            return;
+        }
+
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+                ((LongColumnVector) to).vector[i] = from.getBoolean(pos) ? 1 : 0;
+                break;
+            case TINYINT:
+                ((LongColumnVector) to).vector[i] = from.getByte(pos);
+                break;
+            case SMALLINT:
+                ((LongColumnVector) to).vector[i] = from.getShort(pos);
+                break;
+            case INTEGER:
+            case DATE:
+                ((LongColumnVector) to).vector[i] = from.getInt(pos);
+                break;
+            case BIGINT:
+                ((LongColumnVector) to).vector[i] = from.getLong(pos);
+                break;
+            case FLOAT:
+                ((DoubleColumnVector) to).vector[i] = from.getFloat(pos);
+                break;
+            case DOUBLE:
+                ((DoubleColumnVector) to).vector[i] = from.getDouble(pos);
+                break;
+            case CHAR:
+            case VARCHAR:
+                byte[] string = from.getString(pos).toBytes();
+                ((BytesColumnVector) to).setRef(i, string, 0, string.length);
+                break;
+            case BINARY:
+            case VARBINARY:
+                byte[] binary = from.getBinary(pos);
+                ((BytesColumnVector) to).setRef(i, binary, 0, binary.length);
+                break;
+            case DECIMAL:
+                DecimalType decimalType = (DecimalType) type;
+                ((DecimalColumnVector) to)
+                        .set(
+                                i,
+                                HiveDecimal.create(
+                                        from.getDecimal(
+                                                        pos,
+                                                        decimalType.getPrecision(),
+                                                        decimalType.getScale())
+                                                .toBigDecimal()));
+                break;
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                TableStoreTimestampObjectInspector.setVector(
+                        (TimestampColumnVector) to,
+                        i,
+                        from.getTimestamp(pos, timestampPrecision(type)));
+                break;
+            case ARRAY:
+                writeArray(
+                        from.getArray(pos),
+                        ((ArrayType) type).getElementType(),
+                        (ListColumnVector) to,
+                        i);
+                break;
+            case MAP:
+                writeMap(from.getMap(pos), (MapType) type, (MapColumnVector) to, i);
+                break;
+            default:
+                throw new UnsupportedOperationException("Unsupported type: " + type);
+        }
+    }
+
+    private static void writeArray(
+            InternalArray array, DataType elementType, ListColumnVector to, int i) {
+        int offset = to.childCount;
+        int size = array.size();
+        to.offsets[i] = offset;
+        to.lengths[i] = size;
+        to.childCount += size;
+        to.child.ensureSize(to.childCount, true);
+        for (int j = 0; j < size; j++) {
+            write(array, j, elementType, to.child, offset + j);
+        }
+    }
+
+    private static void writeMap(InternalMap map, MapType type, MapColumnVector to, int i) {
+        int offset = to.childCount;
+        int size = map.size();
+        to.offsets[i] = offset;
+        to.lengths[i] = size;
+        to.childCount += size;
+        to.keys.ensureSize(to.childCount, true);
+        to.values.ensureSize(to.childCount, true);
+        InternalArray keys = map.keyArray();
+        InternalArray values = map.valueArray();
+        for (int j = 0; j < size; j++) {
+            write(keys, j, type.getKeyType(), to.keys, offset + j);
+            write(values, j, type.getValueType(), to.values, offset + j);
+        }
+    }
+}
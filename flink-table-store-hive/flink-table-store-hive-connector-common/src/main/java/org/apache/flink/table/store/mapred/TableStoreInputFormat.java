@@ -31,6 +31,8 @@ import org.apache.flink.table.store.table.FileStoreTableFactory;
 import org.apache.flink.table.store.table.source.DataTableScan;
 import org.apache.flink.table.store.table.source.ReadBuilder;
 
+import org.apache.hadoop.hive.ql.exec.Utilities;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatchCtx;
 import org.apache.hadoop.hive.ql.io.sarg.ConvertAstToSearchArg;
 import org.apache.hadoop.hive.ql.io.sarg.SearchArgument;
 import org.apache.hadoop.hive.serde2.ColumnProjectionUtils;
@@ -40,6 +42,8 @@ import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.mapred.RecordReader;
 import org.apache.hadoop.mapred.Reporter;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Optional;
@@ -47,8 +51,12 @@ import java.util.Optional;
 /**
  * {@link InputFormat} for table store. It divides all files into {@link InputSplit}s (one split per
  * bucket) and creates {@link RecordReader} for each split.
+ *
+ * <p>If the query is vectorized, {@link TableStoreVectorizedRecordReader}s are created instead,
+ * which return {@link org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch}es.
  */
-public class TableStoreInputFormat implements InputFormat<Void, RowDataContainer> {
+public class TableStoreInputFormat
+        implements InputFormat<Void, RowDataContainer>, TableStoreVectorizedInputFormatInterface {
 
     @Override
     public InputSplit[] getSplits(JobConf jobConf, int numSplits) {
@@ -60,6 +68,7 @@ public class TableStoreInputFormat implements InputFormat<Void, RowDataContainer
                 .toArray(TableStoreInputSplit[]::new);
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public RecordReader<Void, RowDataContainer> getRecordReader(
             InputSplit inputSplit, JobConf jobConf, Reporter reporter) throws IOException {
@@ -67,6 +76,16 @@ public class TableStoreInputFormat implements InputFormat<Void, RowDataContainer
         TableStoreInputSplit split = (TableStoreInputSplit) inputSplit;
         ReadBuilder readBuilder = table.newReadBuilder();
         createPredicate(table.schema(), jobConf).ifPresent(readBuilder::withFilter);
+        VectorizedRowBatchCtx batchCtx = getVectorizedRowBatchCtx(jobConf);
+        if (batchCtx != null) {
+            return (RecordReader)
+                    new TableStoreVectorizedRecordReader(
+                            readBuilder,
+                            split,
+                            table.schema().fieldNames(),
+                            Arrays.asList(getSelectedColumns(jobConf)),
+                            batchCtx);
+        }
         return new TableStoreRecordReader(
                 readBuilder,
                 split,
@@ -95,6 +114,15 @@ public class TableStoreInputFormat implements InputFormat<Void, RowDataContainer
         return converter.convert();
     }
 
+    /** Returns the batch context if the query reads this input format in vectorized mode. */
+    @Nullable
+    private VectorizedRowBatchCtx getVectorizedRowBatchCtx(JobConf jobConf) {
+        VectorizedRowBatchCtx batchCtx = Utilities.getVectorizedRowBatchCtx(jobConf);
+        return batchCtx != null && Utilities.getMapWork(jobConf).getUseVectorizedInputFileFormat()
+                ? batchCtx
+                : null;
+    }
+
     private String[] getSelectedColumns(JobConf jobConf) {
         // when using tez engine or when same table is joined multiple times,
         // it is possible that some selected columns are duplicated
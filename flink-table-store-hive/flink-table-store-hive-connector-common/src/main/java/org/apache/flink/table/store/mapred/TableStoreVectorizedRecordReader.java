@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.mapred;
+
+import org.apache.flink.table.store.data.InternalRow;
+import org.apache.flink.table.store.data.columnar.ColumnarRow;
+import org.apache.flink.table.store.data.columnar.ColumnarRowIterator;
+import org.apache.flink.table.store.data.columnar.VectorizedColumnBatch;
+import org.apache.flink.table.store.table.source.ReadBuilder;
+import org.apache.flink.table.store.types.DataType;
+
+import org.apache.hadoop.hive.ql.exec.vector.ColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatchCtx;
+import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.mapred.RecordReader;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link RecordReader} for table store used by vectorized Hive queries. Fills {@link
+ * VectorizedRowBatch}es column by column from the {@link VectorizedColumnBatch}es of the ORC or
+ * Parquet readers when the rows are not merged, otherwise row by row.
+ *
+ * <p>Each {@link VectorizedRowBatch} is filled from a single batch of the table store reader, which
+ * is released when the next {@link VectorizedRowBatch} is requested.
+ */
+public class TableStoreVectorizedRecordReader
+        implements RecordReader<NullWritable, VectorizedRowBatch> {
+
+    private final org.apache.flink.table.store.reader.RecordReader<InternalRow> reader;
+    private final VectorizedRowBatchCtx batchCtx;
+    private final DataType[] types;
+    // column of the vectorized row batch for each read field
+    private final int[] columns;
+    private final long splitLength;
+
+    private org.apache.flink.table.store.reader.RecordReader.RecordIterator<InternalRow> iterator;
+    private ColumnarRow columnarRow;
+    // number of rows of the current iterator which have been written to batches
+    private int numReadRows;
+    private boolean iteratorEnd;
+
+    private float progress;
+
+    public TableStoreVectorizedRecordReader(
+            ReadBuilder readBuilder,
+            TableStoreInputSplit split,
+            List<String> columnNames,
+            List<String> selectedColumns,
+            VectorizedRowBatchCtx batchCtx)
+            throws IOException {
+        if (!columnNames.equals(selectedColumns)) {
+            readBuilder.withProjection(
+                    selectedColumns.stream().mapToInt(columnNames::indexOf).toArray());
+        }
+        List<String> batchColumnNames = Arrays.asList(batchCtx.getRowColumnNames());
+
+        this.reader = readBuilder.newRead().createReader(split.split());
+        this.batchCtx = batchCtx;
+        this.types = readBuilder.readType().getFieldTypes().toArray(new DataType[0]);
+        this.columns = selectedColumns.stream().mapToInt(batchColumnNames::indexOf).toArray();
+        this.splitLength = split.getLength();
+        this.progress = 0;
+    }
+
+    @Override
+    public boolean next(NullWritable key, VectorizedRowBatch batch) throws IOException {
+        batch.reset();
+        while (true) {
+            if (iterator != null && iteratorEnd) {
+                iterator.releaseBatch();
+                iterator = null;
+            }
+            if (iterator == null) {
+                iterator = reader.readBatch();
+                if (iterator == null) {
+                    progress = 1;
+                    return false;
+                }
+                numReadRows = 0;
+                iteratorEnd = false;
+            }
+
+            int size =
+                    iterator instanceof ColumnarRowIterator
+                            ? writeColumns((ColumnarRowIterator) iterator, batch)
+                            : writeRows(batch);
+            if (size > 0) {
+                batch.size = size;
+                return true;
+            }
+        }
+    }
+
+    private int writeColumns(ColumnarRowIterator rows, VectorizedRowBatch batch) {
+        int num = Math.min(rows.numRows() - numReadRows, batch.getMaxSize());
+        VectorizedColumnBatch columnBatch = rows.batch();
+        for (int j = 0; j < columns.length; j++) {
+            ColumnVector to = batch.cols[columns[j]];
+            if (!HiveColumnVectorWriter.copyColumn(
+                    columnBatch.columns[j], types[j], rows.selected(), numReadRows, num, to)) {
+                if (columnarRow == null) {
+                    columnarRow = new ColumnarRow();
+                }
+                columnarRow.setVectorizedColumnBatch(columnBatch);
+                int[] selected = rows.selected();
+                for (int i = 0; i < num; i++) {
+                    columnarRow.setRowId(
+                            selected == null ? numReadRows + i : selected[numReadRows + i]);
+                    HiveColumnVectorWriter.write(columnarRow, j, types[j], to, i);
+                }
+            }
+        }
+        numReadRows += num;
+        iteratorEnd = numReadRows == rows.numRows();
+        return num;
+    }
+
+    private int writeRows(VectorizedRowBatch batch) throws IOException {
+        int size = 0;
+        while (size < batch.getMaxSize()) {
+            InternalRow row = iterator.next();
+            if (row == null) {
+                iteratorEnd = true;
+                break;
+            }
+            for (int j = 0; j < columns.length; j++) {
+                HiveColumnVectorWriter.write(row, j, types[j], batch.cols[columns[j]], size);
+            }
+            size++;
+        }
+        numReadRows += size;
+        return size;
+    }
+
+    @Override
+    public NullWritable createKey() {
+        return NullWritable.get();
+    }
+
+    @Override
+    public VectorizedRowBatch createValue() {
+        return batchCtx.createVectorizedRowBatch();
+    }
+
+    @Override
+    public long getPos() throws IOException {
+        return (long) (splitLength * getProgress());
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (iterator != null) {
+            iterator.releaseBatch();
+            iterator = null;
+        }
+        reader.close();
+    }
+
+    @Override
+    public float getProgress() throws IOException {
+        // currently the value of progress is either 0 or 1
+        // only when the reading finishes will this be set to 1
+        return progress;
+    }
+}
@@ -593,6 +593,74 @@ public class TableStoreHiveStorageHandlerITCase {
         Assert.assertEquals(expected, actual);
     }
 
+    @Test
+    public void testReadVectorized() throws Exception {
+        List<InternalRow> data = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            data.add(
+                    GenericRow.of(
+                            i % 3,
+                            (long) i,
+                            i % 100 == 0 ? null : BinaryString.fromString("s" + i % 4),
+                            (long) i * 10));
+        }
+        RowType rowType =
+                RowType.of(
+                        new DataType[] {
+                            DataTypes.INT(),
+                            DataTypes.BIGINT(),
+                            DataTypes.STRING(),
+                            DataTypes.BIGINT()
+                        },
+                        new String[] {"a", "b", "c", "d"});
+        String path = folder.newFolder().toURI().toString();
+        Options conf = new Options();
+        conf.set(CoreOptions.PATH, path);
+        conf.set(CoreOptions.BUCKET, 2);
+        conf.set(CoreOptions.FILE_FORMAT, "parquet");
+        conf.set(CoreOptions.WRITE_MODE, WriteMode.APPEND_ONLY);
+        String appendOnlyTable =
+                writeData(
+                        FileStoreTestUtils.createFileStoreTable(
+                                conf, rowType, Collections.emptyList(), Collections.emptyList()),
+                        path,
+                        data);
+        String pkTable =
+                createChangelogExternalTable(
+                        rowType, Collections.emptyList(), Collections.singletonList("b"), data);
+
+        hiveShell.execute("SET hive.vectorized.execution.enabled=true");
+        try {
+            for (String tableName : Arrays.asList(appendOnlyTable, pkTable)) {
+                Assert.assertTrue(
+                        String.join(
+                                        "\n",
+                                        hiveShell.executeQuery(
+                                                "EXPLAIN SELECT a, sum(d) FROM "
+                                                        + tableName
+                                                        + " GROUP BY a"))
+                                .contains("Execution mode: vectorized"));
+
+                List<String> actual =
+                        hiveShell.executeQuery(
+                                "SELECT a, sum(d), count(c) FROM "
+                                        + tableName
+                                        + " GROUP BY a ORDER BY a");
+                Assert.assertEquals(
+                        Arrays.asList("0\t14985000\t990", "1\t14995000\t990", "2\t15005000\t990"),
+                        actual);
+
+                actual =
+                        hiveShell.executeQuery(
+                                "SELECT c, b FROM " + tableName + " WHERE b > 2995 ORDER BY b");
+                Assert.assertEquals(
+                        Arrays.asList("s0\t2996", "s1\t2997", "s2\t2998", "s3\t2999"), actual);
+            }
+        } finally {
+            hiveShell.execute("SET hive.vectorized.execution.enabled=false");
+        }
+    }
+
     private String createChangelogExternalTable(
             RowType rowType,
             List<String> partitionKeys,
@@ -58,6 +58,7 @@ public class TableStoreInputSplitTest {
                                 ThreadLocalRandom.current().nextLong(100),
                                 wantedPartition,
                                 0,
+                                1,
                                 generated.stream()
                                         .filter(d -> d.partition.equals(wantedPartition))
                                         .map(d -> d.meta)
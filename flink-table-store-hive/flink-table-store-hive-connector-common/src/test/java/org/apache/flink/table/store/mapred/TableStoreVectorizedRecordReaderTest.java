@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.mapred;
+
+import org.apache.flink.table.store.CoreOptions;
+import org.apache.flink.table.store.FileStoreTestUtils;
+import org.apache.flink.table.store.data.BinaryString;
+import org.apache.flink.table.store.data.Decimal;
+import org.apache.flink.table.store.data.GenericArray;
+import org.apache.flink.table.store.data.GenericRow;
+import org.apache.flink.table.store.file.WriteMode;
+import org.apache.flink.table.store.hive.HiveTypeUtils;
+import org.apache.flink.table.store.options.Options;
+import org.apache.flink.table.store.table.FileStoreTable;
+import org.apache.flink.table.store.table.sink.StreamTableCommit;
+import org.apache.flink.table.store.table.sink.StreamTableWrite;
+import org.apache.flink.table.store.table.source.DataSplit;
+import org.apache.flink.table.store.types.DataType;
+import org.apache.flink.table.store.types.DataTypes;
+import org.apache.flink.table.store.types.RowKind;
+import org.apache.flink.table.store.types.RowType;
+
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatchCtx;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link TableStoreVectorizedRecordReader}. */
+public class TableStoreVectorizedRecordReaderTest {
+
+    @TempDir java.nio.file.Path tempDir;
+    private String commitUser;
+
+    @BeforeEach
+    public void beforeEach() {
+        commitUser = UUID.randomUUID().toString();
+    }
+
+    @Test
+    public void testAppendOnly() throws Exception {
+        Options conf = new Options();
+        conf.set(CoreOptions.PATH, tempDir.toString());
+        conf.set(CoreOptions.FILE_FORMAT, "parquet");
+        conf.set(CoreOptions.WRITE_MODE, WriteMode.APPEND_ONLY);
+        FileStoreTable table =
+                FileStoreTestUtils.createFileStoreTable(
+                        conf,
+                        RowType.of(
+                                new DataType[] {
+                                    DataTypes.INT(),
+                                    DataTypes.STRING(),
+                                    DataTypes.DECIMAL(10, 2),
+                                    DataTypes.ARRAY(DataTypes.INT())
+                                },
+                                new String[] {"a", "b", "c", "d"}),
+                        Collections.emptyList(),
+                        Collections.emptyList());
+
+        // more rows than a vectorized row batch
+        int numRows = VectorizedRowBatch.DEFAULT_SIZE * 2 + 10;
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < numRows; i++) {
+            if (i % 10 == 0) {
+                write.write(GenericRow.of(i, null, null, null));
+                expected.add(i + "|null|null|null");
+            } else {
+                write.write(
+                        GenericRow.of(
+                                i,
+                                BinaryString.fromString("s" + i),
+                                Decimal.fromBigDecimal(BigDecimal.valueOf(i, 2), 10, 2),
+                                new GenericArray(new int[] {i, i + 1})));
+                expected.add(
+                        String.format(
+                                "%d|\"s%d\"|%s|[%d, %d]",
+                                i, i, BigDecimal.valueOf(i, 2).toPlainString(), i, i + 1));
+            }
+        }
+        commit.commit(0, write.prepareCommit(true, 0));
+
+        assertThat(read(table, table.schema().fieldNames())).isEqualTo(expected);
+    }
+
+    @Test
+    public void testPkWithProjection() throws Exception {
+        Options conf = new Options();
+        conf.set(CoreOptions.PATH, tempDir.toString());
+        conf.set(CoreOptions.FILE_FORMAT, "avro");
+        FileStoreTable table =
+                FileStoreTestUtils.createFileStoreTable(
+                        conf,
+                        RowType.of(
+                                new DataType[] {
+                                    DataTypes.BIGINT(), DataTypes.STRING(), DataTypes.DOUBLE()
+                                },
+                                new String[] {"a", "b", "c"}),
+                        Collections.emptyList(),
+                        Collections.singletonList("a"));
+
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+        write.write(GenericRow.of(1L, BinaryString.fromString("Hi"), 1.0));
+        write.write(GenericRow.of(2L, BinaryString.fromString("Hello"), 2.0));
+        write.write(GenericRow.of(3L, BinaryString.fromString("World"), null));
+        write.write(GenericRow.of(1L, BinaryString.fromString("Hi again"), 1.5));
+        write.write(GenericRow.ofKind(RowKind.DELETE, 2L, BinaryString.fromString("Hello"), 2.0));
+        commit.commit(0, write.prepareCommit(true, 0));
+
+        Set<String> actual = new HashSet<>(read(table, Arrays.asList("c", "a")));
+        assertThat(actual).containsExactlyInAnyOrder("1.5|1", "null|3");
+    }
+
+    private List<String> read(FileStoreTable table, List<String> selectedColumns) throws Exception {
+        List<String> columnNames = table.schema().fieldNames();
+        VectorizedRowBatchCtx batchCtx =
+                new VectorizedRowBatchCtx(
+                        columnNames.toArray(new String[0]),
+                        table.schema().logicalRowType().getFieldTypes().stream()
+                                .map(HiveTypeUtils::logicalTypeToTypeInfo)
+                                .toArray(TypeInfo[]::new),
+                        null,
+                        0,
+                        new String[0]);
+
+        List<String> result = new ArrayList<>();
+        for (DataSplit split : table.newScan().plan().splits) {
+            TableStoreVectorizedRecordReader reader =
+                    new TableStoreVectorizedRecordReader(
+                            table.newReadBuilder(),
+                            new TableStoreInputSplit(tempDir.toString(), split),
+                            columnNames,
+                            selectedColumns,
+                            batchCtx);
+            VectorizedRowBatch batch = reader.createValue();
+            while (reader.next(reader.createKey(), batch)) {
+                assertThat(batch.size).isLessThanOrEqualTo(batch.getMaxSize());
+                for (int i = 0; i < batch.size; i++) {
+                    StringBuilder builder = new StringBuilder();
+                    for (String column : selectedColumns) {
+                        if (builder.length() > 0) {
+                            builder.append("|");
+                        }
+                        batch.cols[columnNames.indexOf(column)].stringifyValue(builder, i);
+                    }
+                    result.add(builder.toString());
+                }
+            }
+            reader.close();
+        }
+        return result;
+    }
+}
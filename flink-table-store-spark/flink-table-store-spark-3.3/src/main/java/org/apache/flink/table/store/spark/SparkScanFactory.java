@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.spark;
+
+import org.apache.flink.table.store.CoreOptions;
+import org.apache.flink.table.store.file.predicate.Predicate;
+import org.apache.flink.table.store.table.FileStoreTable;
+import org.apache.flink.table.store.table.Table;
+import org.apache.flink.table.store.table.source.ReadBuilder;
+
+import org.apache.spark.sql.connector.read.Scan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Creates the {@link Scan} built by {@link SparkScanBuilder}. Spark 3.3 only accepts key grouped
+ * partitioning reported by scans, so this creates {@link SparkRFScan} instead of {@link
+ * SparkBucketScan}.
+ */
+public class SparkScanFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SparkScanFactory.class);
+
+    public static Scan create(Table table, ReadBuilder readBuilder, List<Predicate> predicates) {
+        if (table instanceof FileStoreTable
+                && ((FileStoreTable) table).options().scanBucketPreserving()) {
+            LOG.warn(
+                    "Option '{}' is not supported by Spark 3.3, the table is read as without it.",
+                    CoreOptions.SCAN_BUCKET_PRESERVING.key());
+        }
+        return new SparkRFScan(table, readBuilder, predicates);
+    }
+}
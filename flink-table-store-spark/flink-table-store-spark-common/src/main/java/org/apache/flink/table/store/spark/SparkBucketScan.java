@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.spark;
+
+import org.apache.flink.table.store.file.predicate.Predicate;
+import org.apache.flink.table.store.table.FileStoreTable;
+import org.apache.flink.table.store.table.source.DataSplit;
+import org.apache.flink.table.store.table.source.ReadBuilder;
+import org.apache.flink.table.store.table.source.Split;
+
+import org.apache.spark.sql.connector.read.InputPartition;
+import org.apache.spark.sql.connector.read.SupportsReportPartitioning;
+import org.apache.spark.sql.connector.read.partitioning.ClusteredDistribution;
+import org.apache.spark.sql.connector.read.partitioning.Distribution;
+import org.apache.spark.sql.connector.read.partitioning.Partitioning;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.apache.flink.table.store.utils.Preconditions.checkState;
+
+/**
+ * A {@link SparkRFScan} reading each bucket in one input partition, which holds the splits of the
+ * bucket in all partitions. The rows with the same bucket keys are in the same bucket, so the scan
+ * reports that its output is clustered by the bucket keys, and Spark does not shuffle the output
+ * for aggregations by the bucket keys.
+ *
+ * <p>The number of input partitions is always the bucket number, so that it is kept after runtime
+ * filtering as required by Spark. The reported partitioning is only supported by Spark 3.2, Spark
+ * 3.3 requires key grouped partitioning instead.
+ *
+ * <p>A bucket of one bucket number holds other keys than the same bucket of another bucket number,
+ * so this scan can only be used if all splits were written with the bucket number of the table, see
+ * {@link #isBucketed()}.
+ */
+public class SparkBucketScan extends SparkRFScan implements SupportsReportPartitioning {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SparkBucketScan.class);
+
+    private final int numBuckets;
+    private final List<String> bucketKeys;
+
+    public SparkBucketScan(
+            FileStoreTable table, ReadBuilder readBuilder, List<Predicate> predicates) {
+        super(table, readBuilder, predicates);
+        this.numBuckets = table.options().bucket();
+        this.bucketKeys = table.schema().logicalBucketKeyType().getFieldNames();
+    }
+
+    /**
+     * Whether all splits were written with the bucket number of the table. Otherwise (for example,
+     * after some partitions were rescaled) the splits can not be grouped by bucket.
+     */
+    public boolean isBucketed() {
+        for (Split split : splits()) {
+            int totalBuckets = ((DataSplit) split).totalBuckets();
+            if (totalBuckets != numBuckets) {
+                LOG.info(
+                        "Partition {} was written with {} buckets but the table has {} buckets, "
+                                + "falling back to not reading by bucket.",
+                        ((DataSplit) split).partition(),
+                        totalBuckets,
+                        numBuckets);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected InputPartition[] inputPartitions() {
+        List<List<Split>> bucketSplits = new ArrayList<>(numBuckets);
+        for (int i = 0; i < numBuckets; i++) {
+            bucketSplits.add(new ArrayList<>());
+        }
+        for (Split split : splits()) {
+            DataSplit dataSplit = (DataSplit) split;
+            // the table may be rescaled after planning, when planning again with runtime filters
+            checkState(
+                    dataSplit.totalBuckets() == numBuckets,
+                    "Split of partition %s was written with %s buckets, but the scan reads %s buckets.",
+                    dataSplit.partition(),
+                    dataSplit.totalBuckets(),
+                    numBuckets);
+            bucketSplits.get(dataSplit.bucket()).add(split);
+        }
+        return bucketSplits.stream().map(SparkInputPartition::new).toArray(InputPartition[]::new);
+    }
+
+    @Override
+    public Partitioning outputPartitioning() {
+        return new Partitioning() {
+            @Override
+            public int numPartitions() {
+                return numBuckets;
+            }
+
+            @Override
+            public boolean satisfy(Distribution distribution) {
+                return distribution instanceof ClusteredDistribution
+                        && Arrays.asList(((ClusteredDistribution) distribution).clusteredColumns)
+                                .containsAll(bucketKeys);
+            }
+        };
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.spark;
+
+import org.apache.flink.table.store.data.columnar.BooleanColumnVector;
+import org.apache.flink.table.store.data.columnar.ByteColumnVector;
+import org.apache.flink.table.store.data.columnar.BytesColumnVector;
+import org.apache.flink.table.store.data.columnar.ColumnVector;
+import org.apache.flink.table.store.data.columnar.DecimalColumnVector;
+import org.apache.flink.table.store.data.columnar.DoubleColumnVector;
+import org.apache.flink.table.store.data.columnar.FloatColumnVector;
+import org.apache.flink.table.store.data.columnar.IntColumnVector;
+import org.apache.flink.table.store.data.columnar.LongColumnVector;
+import org.apache.flink.table.store.data.columnar.ShortColumnVector;
+import org.apache.flink.table.store.data.columnar.TimestampColumnVector;
+import org.apache.flink.table.store.types.DataType;
+import org.apache.flink.table.store.types.DataTypeRoot;
+import org.apache.flink.table.store.types.RowType;
+
+import org.apache.spark.sql.types.Decimal;
+import org.apache.spark.sql.vectorized.ColumnarArray;
+import org.apache.spark.sql.vectorized.ColumnarMap;
+import org.apache.spark.unsafe.types.UTF8String;
+
+import javax.annotation.Nullable;
+
+import static org.apache.flink.table.store.utils.TypeUtils.timestampPrecision;
+
+/**
+ * A Spark {@link org.apache.spark.sql.vectorized.ColumnVector} which reads values from a table
+ * store {@link ColumnVector} without copying. If {@code selected} is not null, row {@code i} of
+ * this vector is row {@code selected[i]} of the table store vector.
+ *
+ * <p>Only atomic types are supported, see {@link #isSupported}.
+ */
+public class SparkColumnVector extends org.apache.spark.sql.vectorized.ColumnVector {
+
+    private final ColumnVector vector;
+    private final DataType type;
+    @Nullable private final int[] selected;
+    private final int numRows;
+
+    public SparkColumnVector(
+            ColumnVector vector, DataType type, @Nullable int[] selected, int numRows) {
+        super(SparkTypeUtils.fromFlinkType(type));
+        this.vector = vector;
+        this.type = type;
+        this.selected = selected;
+        this.numRows = numRows;
+    }
+
+    /** Whether all fields of the row type can be read by {@link SparkColumnVector}s. */
+    public static boolean isSupported(RowType rowType) {
+        for (DataType type : rowType.getFieldTypes()) {
+            switch (type.getTypeRoot()) {
+                case CHAR:
+                case VARCHAR:
+                case BOOLEAN:
+                case BINARY:
+                case VARBINARY:
+                case DECIMAL:
+                case TINYINT:
+                case SMALLINT:
+                case INTEGER:
+                case BIGINT:
+                case FLOAT:
+                case DOUBLE:
+                case DATE:
+                case TIMESTAMP_WITHOUT_TIME_ZONE:
+                case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private int rowId(int rowId) {
+        return selected == null ? rowId : selected[rowId];
+    }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public boolean hasNull() {
+        return numNulls() > 0;
+    }
+
+    @Override
+    public int numNulls() {
+        int numNulls = 0;
+        for (int i = 0; i < numRows; i++) {
+            if (vector.isNullAt(rowId(i))) {
+                numNulls++;
+            }
+        }
+        return numNulls;
+    }
+
+    @Override
+    public boolean isNullAt(int rowId) {
+        return vector.isNullAt(rowId(rowId));
+    }
+
+    @Override
+    public boolean getBoolean(int rowId) {
+        return ((BooleanColumnVector) vector).getBoolean(rowId(rowId));
+    }
+
+    @Override
+    public byte getByte(int rowId) {
+        return ((ByteColumnVector) vector).getByte(rowId(rowId));
+    }
+
+    @Override
+    public short getShort(int rowId) {
+        return ((ShortColumnVector) vector).getShort(rowId(rowId));
+    }
+
+    @Override
+    public int getInt(int rowId) {
+        return ((IntColumnVector) vector).getInt(rowId(rowId));
+    }
+
+    @Override
+    public long getLong(int rowId) {
+        if (type.getTypeRoot() == DataTypeRoot.TIMESTAMP_WITHOUT_TIME_ZONE
+                || type.getTypeRoot() == DataTypeRoot.TIMESTAMP_WITH_LOCAL_TIME_ZONE) {
+            return SparkInternalRow.fromFlink(
+                    ((TimestampColumnVector) vector)
+                            .getTimestamp(rowId(rowId), timestampPrecision(type)));
+        }
+        return ((LongColumnVector) vector).getLong(rowId(rowId));
+    }
+
+    @Override
+    public float getFloat(int rowId) {
+        return ((FloatColumnVector) vector).getFloat(rowId(rowId));
+    }
+
+    @Override
+    public double getDouble(int rowId) {
+        return ((DoubleColumnVector) vector).getDouble(rowId(rowId));
+    }
+
+    @Override
+    public Decimal getDecimal(int rowId, int precision, int scale) {
+        if (isNullAt(rowId)) {
+            return null;
+        }
+        return SparkInternalRow.fromFlink(
+                ((DecimalColumnVector) vector).getDecimal(rowId(rowId), precision, scale));
+    }
+
+    @Override
+    public UTF8String getUTF8String(int rowId) {
+        if (isNullAt(rowId)) {
+            return null;
+        }
+        BytesColumnVector.Bytes bytes = ((BytesColumnVector) vector).getBytes(rowId(rowId));
+        return UTF8String.fromBytes(bytes.data, bytes.offset, bytes.len);
+    }
+
+    @Override
+    public byte[] getBinary(int rowId) {
+        if (isNullAt(rowId)) {
+            return null;
+        }
+        return ((BytesColumnVector) vector).getBytes(rowId(rowId)).getBytes();
+    }
+
+    @Override
+    public ColumnarArray getArray(int rowId) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ColumnarMap getMap(int ordinal) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public org.apache.spark.sql.vectorized.ColumnVector getChild(int ordinal) {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -22,18 +22,25 @@ import org.apache.flink.table.store.table.source.Split;
 
 import org.apache.spark.sql.connector.read.InputPartition;
 
-/** A Spark {@link InputPartition} for table store. */
+import java.util.Collections;
+import java.util.List;
+
+/** A Spark {@link InputPartition} for table store, its splits are read one by one. */
 public class SparkInputPartition implements InputPartition {
 
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
-    private final Split split;
+    private final List<Split> splits;
 
     public SparkInputPartition(Split split) {
-        this.split = split;
+        this(Collections.singletonList(split));
+    }
+
+    public SparkInputPartition(List<Split> splits) {
+        this.splits = splits;
     }
 
-    public Split split() {
-        return split;
+    public List<Split> splits() {
+        return splits;
     }
 }
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.spark;
+
+import org.apache.flink.table.store.file.predicate.Predicate;
+import org.apache.flink.table.store.file.schema.TableSchema;
+import org.apache.flink.table.store.table.FileStoreTable;
+import org.apache.flink.table.store.table.SupportsPartition;
+import org.apache.flink.table.store.table.Table;
+import org.apache.flink.table.store.table.source.ReadBuilder;
+
+import org.apache.spark.sql.connector.expressions.FieldReference;
+import org.apache.spark.sql.connector.expressions.NamedReference;
+import org.apache.spark.sql.connector.read.SupportsRuntimeFiltering;
+import org.apache.spark.sql.sources.Filter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link SparkScan} supporting runtime filtering, so that dynamic partition pruning can prune
+ * partitions, and files by the statistics of the bucket keys. It is only available since Spark 3.2.
+ */
+public class SparkRFScan extends SparkScan implements SupportsRuntimeFiltering {
+
+    private final List<Predicate> predicates;
+
+    public SparkRFScan(Table table, ReadBuilder readBuilder, List<Predicate> predicates) {
+        super(table, readBuilder);
+        this.predicates = predicates;
+    }
+
+    @Override
+    public NamedReference[] filterAttributes() {
+        Set<String> filterFields = new LinkedHashSet<>();
+        if (table instanceof SupportsPartition) {
+            filterFields.addAll(((SupportsPartition) table).partitionKeys());
+        }
+        if (table instanceof FileStoreTable) {
+            TableSchema schema = ((FileStoreTable) table).schema();
+            List<String> bucketKeys = schema.originalBucketKeys();
+            filterFields.addAll(bucketKeys.isEmpty() ? schema.trimmedPrimaryKeys() : bucketKeys);
+        }
+
+        // attributes must be resolved by the read schema
+        List<String> readFields = readBuilder.readType().getFieldNames();
+        return filterFields.stream()
+                .filter(readFields::contains)
+                .map(FieldReference::apply)
+                .toArray(NamedReference[]::new);
+    }
+
+    @Override
+    public void filter(Filter[] filters) {
+        SparkFilterConverter converter = new SparkFilterConverter(table.rowType());
+        List<Predicate> runtimePredicates = new ArrayList<>(predicates);
+        for (Filter filter : filters) {
+            try {
+                runtimePredicates.add(converter.convert(filter));
+            } catch (UnsupportedOperationException ignore) {
+            }
+        }
+
+        if (runtimePredicates.size() > predicates.size()) {
+            readBuilder.withFilter(runtimePredicates);
+            // plan again with runtime filters
+            splits = null;
+        }
+    }
+}
@@ -18,38 +18,66 @@
 package org.apache.flink.table.store.spark;
 
 import org.apache.flink.table.store.data.InternalRow;
+import org.apache.flink.table.store.data.columnar.ColumnarRowIterator;
+import org.apache.flink.table.store.data.columnar.VectorizedColumnBatch;
+import org.apache.flink.table.store.file.mergetree.compact.ConcatRecordReader;
 import org.apache.flink.table.store.reader.RecordReader;
 import org.apache.flink.table.store.reader.RecordReaderIterator;
 import org.apache.flink.table.store.table.source.ReadBuilder;
+import org.apache.flink.table.store.table.source.Split;
+import org.apache.flink.table.store.table.source.TableRead;
+import org.apache.flink.table.store.types.RowType;
 
 import org.apache.spark.sql.connector.read.InputPartition;
 import org.apache.spark.sql.connector.read.PartitionReader;
 import org.apache.spark.sql.connector.read.PartitionReaderFactory;
+import org.apache.spark.sql.vectorized.ColumnVector;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
 
-/** A Spark {@link PartitionReaderFactory} for table store. */
+/**
+ * A Spark {@link PartitionReaderFactory} for table store. If columnar reads are enabled, the
+ * batches of the ORC or Parquet readers are returned to Spark as {@link ColumnarBatch}es backed by
+ * {@link SparkColumnVector}s, so that values are not copied row by row.
+ */
 public class SparkReaderFactory implements PartitionReaderFactory {
 
     private static final long serialVersionUID = 1L;
 
     private final ReadBuilder readBuilder;
+    private final boolean columnar;
 
     public SparkReaderFactory(ReadBuilder readBuilder) {
+        this(readBuilder, false);
+    }
+
+    public SparkReaderFactory(ReadBuilder readBuilder, boolean columnar) {
         this.readBuilder = readBuilder;
+        this.columnar = columnar;
     }
 
-    @Override
-    public PartitionReader<org.apache.spark.sql.catalyst.InternalRow> createReader(
-            InputPartition partition) {
-        RecordReader<InternalRow> reader;
+    private RecordReader<InternalRow> createTableReader(InputPartition partition) {
+        TableRead read = readBuilder.newRead();
+        List<ConcatRecordReader.ReaderSupplier<InternalRow>> readers = new ArrayList<>();
+        for (Split split : ((SparkInputPartition) partition).splits()) {
+            readers.add(() -> read.createReader(split));
+        }
         try {
-            reader = readBuilder.newRead().createReader(((SparkInputPartition) partition).split());
+            return ConcatRecordReader.create(readers);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
-        RecordReaderIterator<InternalRow> iterator = new RecordReaderIterator<>(reader);
+    }
+
+    @Override
+    public PartitionReader<org.apache.spark.sql.catalyst.InternalRow> createReader(
+            InputPartition partition) {
+        RecordReaderIterator<InternalRow> iterator =
+                new RecordReaderIterator<>(createTableReader(partition));
         SparkInternalRow row = new SparkInternalRow(readBuilder.readType());
         return new PartitionReader<org.apache.spark.sql.catalyst.InternalRow>() {
 
@@ -77,4 +105,73 @@ public class SparkReaderFactory implements PartitionReaderFactory {
             }
         };
     }
+
+    @Override
+    public boolean supportColumnarReads(InputPartition partition) {
+        return columnar;
+    }
+
+    @Override
+    public PartitionReader<ColumnarBatch> createColumnarReader(InputPartition partition) {
+        RecordReader<InternalRow> reader = createTableReader(partition);
+        RowType readType = readBuilder.readType();
+        return new PartitionReader<ColumnarBatch>() {
+
+            private RecordReader.RecordIterator<InternalRow> iterator;
+            private ColumnarBatch batch;
+
+            @Override
+            public boolean next() throws IOException {
+                releaseBatch();
+                while ((iterator = reader.readBatch()) != null) {
+                    if (!(iterator instanceof ColumnarRowIterator)) {
+                        throw new IllegalStateException(
+                                "Columnar reads are enabled but the reader returns a "
+                                        + iterator.getClass().getName()
+                                        + ". This is a bug.");
+                    }
+                    ColumnarRowIterator rows = (ColumnarRowIterator) iterator;
+                    if (rows.numRows() > 0) {
+                        batch = toSparkBatch(rows, readType);
+                        return true;
+                    }
+                    releaseBatch();
+                }
+                return false;
+            }
+
+            @Override
+            public ColumnarBatch get() {
+                return batch;
+            }
+
+            private void releaseBatch() {
+                if (iterator != null) {
+                    iterator.releaseBatch();
+                    iterator = null;
+                }
+                batch = null;
+            }
+
+            @Override
+            public void close() throws IOException {
+                releaseBatch();
+                reader.close();
+            }
+        };
+    }
+
+    private static ColumnarBatch toSparkBatch(ColumnarRowIterator rows, RowType readType) {
+        VectorizedColumnBatch batch = rows.batch();
+        ColumnVector[] vectors = new ColumnVector[readType.getFieldCount()];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] =
+                    new SparkColumnVector(
+                            batch.columns[i],
+                            readType.getTypeAt(i),
+                            rows.selected(),
+                            rows.numRows());
+        }
+        return new ColumnarBatch(vectors, rows.numRows());
+    }
 }
@@ -18,6 +18,13 @@
 
 package org.apache.flink.table.store.spark;
 
+import org.apache.flink.table.store.file.io.DataFileMeta;
+import org.apache.flink.table.store.file.io.DataFilePathFactory;
+import org.apache.flink.table.store.format.orc.OrcFileFormatFactory;
+import org.apache.flink.table.store.format.parquet.ParquetFileFormatFactory;
+import org.apache.flink.table.store.table.AppendOnlyFileStoreTable;
+import org.apache.flink.table.store.table.Table;
+import org.apache.flink.table.store.table.source.DataSplit;
 import org.apache.flink.table.store.table.source.ReadBuilder;
 import org.apache.flink.table.store.table.source.Split;
 
@@ -27,23 +34,22 @@ import org.apache.spark.sql.connector.read.PartitionReaderFactory;
 import org.apache.spark.sql.connector.read.Scan;
 import org.apache.spark.sql.connector.read.Statistics;
 import org.apache.spark.sql.connector.read.SupportsReportStatistics;
+import org.apache.spark.sql.internal.SQLConf;
 import org.apache.spark.sql.types.StructType;
 
 import java.util.List;
 import java.util.OptionalLong;
 
-/**
- * A Spark {@link Scan} for table store.
- *
- * <p>TODO Introduce a SparkRFScan to implement SupportsRuntimeFiltering.
- */
+/** A Spark {@link Scan} for table store. */
 public class SparkScan implements Scan, SupportsReportStatistics {
 
-    private final ReadBuilder readBuilder;
+    protected final Table table;
+    protected final ReadBuilder readBuilder;
 
-    private List<Split> splits;
+    protected List<Split> splits;
 
-    public SparkScan(ReadBuilder readBuilder) {
+    public SparkScan(Table table, ReadBuilder readBuilder) {
+        this.table = table;
         this.readBuilder = readBuilder;
     }
 
@@ -63,18 +69,20 @@ public class SparkScan implements Scan, SupportsReportStatistics {
         return new Batch() {
             @Override
             public InputPartition[] planInputPartitions() {
-                return splits().stream()
-                        .map(SparkInputPartition::new)
-                        .toArray(InputPartition[]::new);
+                return inputPartitions();
             }
 
             @Override
             public PartitionReaderFactory createReaderFactory() {
-                return new SparkReaderFactory(readBuilder);
+                return new SparkReaderFactory(readBuilder, supportsColumnarReads());
             }
         };
     }
 
+    protected InputPartition[] inputPartitions() {
+        return splits().stream().map(SparkInputPartition::new).toArray(InputPartition[]::new);
+    }
+
     protected List<Split> splits() {
         if (splits == null) {
             this.splits = readBuilder.newScan().plan().splits();
@@ -82,16 +90,65 @@ public class SparkScan implements Scan, SupportsReportStatistics {
         return splits;
     }
 
+    /**
+     * Columnar reads are supported if all rows come directly from the batches of ORC or Parquet
+     * readers, that is, the table is append-only, all files are ORC or Parquet files written with
+     * the current schema, and all read fields are of atomic types.
+     */
+    protected boolean supportsColumnarReads() {
+        if (!(table instanceof AppendOnlyFileStoreTable)
+                || !SparkColumnVector.isSupported(readBuilder.readType())) {
+            return false;
+        }
+        long schemaId = ((AppendOnlyFileStoreTable) table).schema().id();
+        for (Split split : splits()) {
+            for (DataFileMeta file : ((DataSplit) split).files()) {
+                String format = DataFilePathFactory.formatIdentifier(file.fileName());
+                if (file.schemaId() != schemaId
+                        || !(format.equals(OrcFileFormatFactory.IDENTIFIER)
+                                || format.equals(ParquetFileFormatFactory.IDENTIFIER))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Estimates the size by the sizes of the files to read, scaled by the compression factor and
+     * the ratio of the read fields to all fields, like Spark does for its file sources. Falls back
+     * to the default size of rows if the splits do not contain files.
+     */
     @Override
     public Statistics estimateStatistics() {
         long rowCount = 0L;
+        long fileSize = 0L;
+        boolean hasFiles = true;
 
         for (Split split : splits()) {
             rowCount += split.rowCount();
+            if (split instanceof DataSplit) {
+                for (DataFileMeta file : ((DataSplit) split).files()) {
+                    fileSize += file.fileSize();
+                }
+            } else {
+                hasFiles = false;
+            }
         }
 
         final long numRows = rowCount;
-        final long sizeInBytes = readSchema().defaultSize() * numRows;
+        final long sizeInBytes;
+        if (hasFiles) {
+            int rowSize = SparkTypeUtils.fromFlinkRowType(table.rowType()).defaultSize();
+            sizeInBytes =
+                    (long)
+                            (SQLConf.get().fileCompressionFactor()
+                                    * fileSize
+                                    / rowSize
+                                    * readSchema().defaultSize());
+        } else {
+            sizeInBytes = readSchema().defaultSize() * numRows;
+        }
 
         return new Statistics() {
             @Override
@@ -80,7 +80,9 @@ public class SparkScanBuilder
 
     @Override
     public Scan build() {
-        return new SparkScan(
-                table.newReadBuilder().withFilter(predicates).withProjection(projectedFields));
+        return SparkScanFactory.create(
+                table,
+                table.newReadBuilder().withFilter(predicates).withProjection(projectedFields),
+                predicates);
     }
 }
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.spark;
+
+import org.apache.flink.table.store.file.predicate.Predicate;
+import org.apache.flink.table.store.table.FileStoreTable;
+import org.apache.flink.table.store.table.Table;
+import org.apache.flink.table.store.table.source.ReadBuilder;
+
+import org.apache.spark.sql.connector.read.Scan;
+
+import java.util.List;
+
+/**
+ * Creates the {@link Scan} built by {@link SparkScanBuilder}. The modules of other Spark versions
+ * override this class with the scans supported by their versions.
+ */
+public class SparkScanFactory {
+
+    public static Scan create(Table table, ReadBuilder readBuilder, List<Predicate> predicates) {
+        if (table instanceof FileStoreTable
+                && ((FileStoreTable) table).options().scanBucketPreserving()) {
+            SparkBucketScan scan =
+                    new SparkBucketScan((FileStoreTable) table, readBuilder, predicates);
+            if (scan.isBucketed()) {
+                return scan;
+            }
+        }
+        return new SparkRFScan(table, readBuilder, predicates);
+    }
+}
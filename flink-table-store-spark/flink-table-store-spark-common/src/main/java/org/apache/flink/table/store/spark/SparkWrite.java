@@ -26,16 +26,27 @@ import org.apache.flink.table.store.table.sink.BatchWriteBuilder;
 import org.apache.flink.table.store.table.sink.CommitMessage;
 import org.apache.flink.table.store.table.sink.InnerTableCommit;
 
-import org.apache.spark.api.java.function.Function;
-import org.apache.spark.api.java.function.Function2;
+import org.apache.spark.HashPartitioner;
+import org.apache.spark.api.java.function.FlatMapFunction;
+import org.apache.spark.api.java.function.PairFunction;
 import org.apache.spark.sql.Row;
 import org.apache.spark.sql.connector.write.V1Write;
 import org.apache.spark.sql.sources.InsertableRelation;
 
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 
-/** Spark {@link V1Write}, it is required to use v1 write for grouping by bucket. */
+import scala.Tuple2;
+
+/**
+ * Spark {@link V1Write}, it is required to use v1 write for grouping by bucket.
+ *
+ * <p>Rows are shuffled by their partition and bucket, so that each bucket of a partition is written
+ * by exactly one task. Each task streams its rows into a single {@link BatchTableWrite}, and only
+ * the {@link CommitMessage}s are collected to the driver.
+ */
 public class SparkWrite implements V1Write {
 
     private final Table table;
@@ -54,12 +65,14 @@ public class SparkWrite implements V1Write {
             }
 
             BatchWriteBuilder writeBuilder = table.newBatchWriteBuilder();
+            int numPartitions = data.sparkSession().sessionState().conf().numShufflePartitions();
             List<CommitMessage> committables =
                     data.toJavaRDD()
-                            .groupBy(new ComputeBucket(writeBuilder))
-                            .mapValues(new WriteRecords(writeBuilder))
+                            .mapToPair(new ComputeBucket(writeBuilder))
+                            .partitionBy(new HashPartitioner(numPartitions))
                             .values()
-                            .reduce(new ListConcat<>());
+                            .mapPartitions(new WriteRecords(writeBuilder))
+                            .collect();
             try (BatchTableCommit tableCommit =
                     ((InnerTableCommit) writeBuilder.newCommit()).withLock(lockFactory.create())) {
                 tableCommit.commit(committables);
@@ -69,7 +82,8 @@ public class SparkWrite implements V1Write {
         };
     }
 
-    private static class ComputeBucket implements Function<Row, Integer> {
+    /** Keys each row by the hash of its partition and bucket. */
+    private static class ComputeBucket implements PairFunction<Row, Integer, Row> {
 
         private final BatchWriteBuilder writeBuilder;
 
@@ -87,12 +101,15 @@ public class SparkWrite implements V1Write {
         }
 
         @Override
-        public Integer call(Row row) {
-            return computer().getBucket(new SparkRow(writeBuilder.rowType(), row));
+        public Tuple2<Integer, Row> call(Row row) {
+            SparkRow sparkRow = new SparkRow(writeBuilder.rowType(), row);
+            int key =
+                    Objects.hash(computer().getBucket(sparkRow), computer().getPartition(sparkRow));
+            return new Tuple2<>(key, row);
         }
     }
 
-    private static class WriteRecords implements Function<Iterable<Row>, List<CommitMessage>> {
+    private static class WriteRecords implements FlatMapFunction<Iterator<Row>, CommitMessage> {
 
         private final BatchWriteBuilder writeBuilder;
 
@@ -101,24 +118,17 @@ public class SparkWrite implements V1Write {
         }
 
         @Override
-        public List<CommitMessage> call(Iterable<Row> iterables) throws Exception {
+        public Iterator<CommitMessage> call(Iterator<Row> rows) throws Exception {
+            if (!rows.hasNext()) {
+                return Collections.emptyIterator();
+            }
+
             try (BatchTableWrite write = writeBuilder.newWrite()) {
-                for (Row row : iterables) {
-                    write.write(new SparkRow(writeBuilder.rowType(), row));
+                while (rows.hasNext()) {
+                    write.write(new SparkRow(writeBuilder.rowType(), rows.next()));
                 }
-                return write.prepareCommit();
+                return write.prepareCommit().iterator();
             }
         }
     }
-
-    private static class ListConcat<T> implements Function2<List<T>, List<T>, List<T>> {
-
-        @Override
-        public List<T> call(List<T> v1, List<T> v2) {
-            List<T> ret = new ArrayList<>();
-            ret.addAll(v1);
-            ret.addAll(v2);
-            return ret;
-        }
-    }
 }
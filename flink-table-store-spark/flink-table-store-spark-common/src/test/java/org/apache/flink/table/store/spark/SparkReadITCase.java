@@ -35,6 +35,11 @@ import org.apache.spark.sql.Row;
 import org.apache.spark.sql.catalyst.analysis.NamespaceAlreadyExistsException;
 import org.apache.spark.sql.catalyst.analysis.NoSuchNamespaceException;
 import org.apache.spark.sql.catalyst.analysis.TableAlreadyExistsException;
+import org.apache.spark.sql.connector.read.Statistics;
+import org.apache.spark.sql.sources.EqualTo;
+import org.apache.spark.sql.sources.Filter;
+import org.apache.spark.sql.types.DataTypes;
+import org.apache.spark.sql.types.StructType;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
@@ -119,6 +124,161 @@ public class SparkReadITCase extends SparkReadTestBase {
         innerTestNestedTypeFilterPushDown(spark.table("tablestore.default.t2"));
     }
 
+    @Test
+    public void testColumnarRead() {
+        spark.sql(
+                "CREATE TABLE tablestore.default.testColumnarRead ("
+                        + "a INT, b BIGINT, c STRING, d DECIMAL(10, 2), e TIMESTAMP) TBLPROPERTIES "
+                        + "('write-mode' = 'append-only', 'file.format' = 'parquet')");
+        writeTable(
+                "testColumnarRead",
+                "(1, 10L, 'AAA', 1.10, TIMESTAMP '2023-01-01 00:00:01')",
+                "(2, null, 'BBB', null, TIMESTAMP '2023-01-01 00:00:02')",
+                "(3, 30L, null, 3.30, null)");
+        writeTable("testColumnarRead", "(4, 40L, 'DDD', 4.40, TIMESTAMP '2023-01-01 00:00:04')");
+
+        Dataset<Row> dataset = spark.table("tablestore.default.testColumnarRead");
+        assertThat(dataset.queryExecution().executedPlan().toString()).contains("ColumnarToRow");
+        assertThat(dataset.orderBy("a").collectAsList().toString())
+                .isEqualTo(
+                        "[[1,10,AAA,1.10,2023-01-01 00:00:01.0], [2,null,BBB,null,2023-01-01 00:00:02.0], "
+                                + "[3,30,null,3.30,null], [4,40,DDD,4.40,2023-01-01 00:00:04.0]]");
+        assertThat(
+                        dataset.filter("b > 10")
+                                .select("c", "a")
+                                .orderBy("a")
+                                .collectAsList()
+                                .toString())
+                .isEqualTo("[[null,3], [DDD,4]]");
+
+        // nested types are read row by row
+        Dataset<Row> nested = spark.table("tablestore.default.t2");
+        assertThat(nested.queryExecution().executedPlan().toString())
+                .doesNotContain("ColumnarToRow");
+    }
+
+    @Test
+    public void testStatistics() {
+        spark.sql(
+                "CREATE TABLE tablestore.default.testStatistics ("
+                        + "a INT, b BIGINT, c STRING, p STRING) PARTITIONED BY (p) "
+                        + "TBLPROPERTIES ('file.format' = 'avro')");
+        writeTable("testStatistics", "(1, 10L, 'AAA', 'x')", "(2, 20L, 'BBB', 'y')");
+        writeTable("testStatistics", "(3, 30L, 'CCC', 'y')");
+        long fileSizeOfY =
+                spark.sql(
+                                "SELECT SUM(file_size_in_bytes) FROM "
+                                        + "tablestore.default.`testStatistics$files` WHERE partition = '[y]'")
+                        .collectAsList()
+                        .get(0)
+                        .getLong(0);
+
+        SparkScanBuilder scanBuilder =
+                new SparkScanBuilder(
+                        FileStoreTableFactory.create(
+                                LocalFileIO.create(),
+                                new Path(warehousePath, "default.db/testStatistics")));
+        scanBuilder.pushFilters(new Filter[] {new EqualTo("p", "y")});
+        scanBuilder.pruneColumns(new StructType().add("a", DataTypes.IntegerType));
+        Statistics statistics = ((SparkScan) scanBuilder.build()).estimateStatistics();
+
+        assertThat(statistics.numRows().getAsLong()).isEqualTo(2L);
+        // (a INT) is 4 bytes of the default size 52 of (a INT, b BIGINT, c STRING, p STRING)
+        assertThat(statistics.sizeInBytes().getAsLong()).isEqualTo((long) (fileSizeOfY / 52.0 * 4));
+    }
+
+    @Test
+    public void testRuntimeFiltering() {
+        spark.sql(
+                "CREATE TABLE tablestore.default.testRuntimeFiltering ("
+                        + "a INT, p STRING) PARTITIONED BY (p) "
+                        + "TBLPROPERTIES ('file.format' = 'avro')");
+        writeTable(
+                "testRuntimeFiltering",
+                "(1, 'x')",
+                "(2, 'y')",
+                "(3, 'y')",
+                "(4, 'z')",
+                "(5, 'z')",
+                "(6, 'z')");
+        spark.sql(
+                "CREATE TABLE tablestore.default.testRuntimeFilteringDim (p STRING, name STRING)");
+        writeTable("testRuntimeFilteringDim", "('x', 'AAA')", "('z', 'BBB')");
+
+        Dataset<Row> dataset =
+                spark.sql(
+                        "SELECT f.a FROM tablestore.default.testRuntimeFiltering f "
+                                + "JOIN tablestore.default.testRuntimeFilteringDim d "
+                                + "ON f.p = d.p WHERE d.name = 'BBB'");
+        assertThat(dataset.collectAsList().stream().map(r -> r.getInt(0)).sorted())
+                .containsExactly(4, 5, 6);
+        assertThat(dataset.queryExecution().executedPlan().toString())
+                .contains("dynamicpruningexpression");
+    }
+
+    @Test
+    public void testBucketPreserving() {
+        spark.sql(
+                "CREATE TABLE tablestore.default.testBucketPreserving ("
+                        + "k INT NOT NULL, v INT, p STRING NOT NULL) PARTITIONED BY (p) "
+                        + "TBLPROPERTIES ('primary-key' = 'p,k', 'bucket' = '3', "
+                        + "'file.format' = 'avro', 'scan.bucket-preserving' = 'true')");
+        writeTable(
+                "testBucketPreserving",
+                "(1, 10, 'x')",
+                "(2, 20, 'x')",
+                "(1, 30, 'y')",
+                "(3, 40, 'y')",
+                "(4, 50, 'y')");
+
+        Dataset<Row> dataset =
+                spark.sql(
+                        "SELECT k, SUM(v) FROM tablestore.default.testBucketPreserving GROUP BY k");
+        assertThat(dataset.queryExecution().executedPlan().toString()).doesNotContain("Exchange");
+        assertThat(dataset.orderBy("k").collectAsList().toString())
+                .isEqualTo("[[1,40], [2,20], [3,40], [4,50]]");
+
+        // not clustered by v
+        dataset =
+                spark.sql(
+                        "SELECT v, COUNT(*) FROM tablestore.default.testBucketPreserving GROUP BY v");
+        assertThat(dataset.queryExecution().executedPlan().toString()).contains("Exchange");
+        assertThat(dataset.collectAsList()).hasSize(5);
+    }
+
+    @Test
+    public void testBucketPreservingRescaled() {
+        spark.sql(
+                "CREATE TABLE tablestore.default.testBucketPreservingRescaled ("
+                        + "k INT NOT NULL, v INT, p STRING NOT NULL) PARTITIONED BY (p) "
+                        + "TBLPROPERTIES ('primary-key' = 'p,k', 'bucket' = '3', "
+                        + "'file.format' = 'avro', 'scan.bucket-preserving' = 'true')");
+        writeTable("testBucketPreservingRescaled", "(1, 10, 'x')", "(2, 20, 'x')");
+
+        // partition 'y' is written with 4 buckets, bucket 0 of 3 and 4 buckets hold other keys
+        spark.sql(
+                "ALTER TABLE tablestore.default.testBucketPreservingRescaled "
+                        + "SET TBLPROPERTIES ('bucket' = '4')");
+        writeTable("testBucketPreservingRescaled", "(1, 30, 'y')", "(3, 40, 'y')", "(4, 50, 'y')");
+
+        Dataset<Row> dataset =
+                spark.sql(
+                        "SELECT k, SUM(v) FROM tablestore.default.testBucketPreservingRescaled "
+                                + "GROUP BY k");
+        assertThat(dataset.queryExecution().executedPlan().toString()).contains("Exchange");
+        assertThat(dataset.orderBy("k").collectAsList().toString())
+                .isEqualTo("[[1,40], [2,20], [3,40], [4,50]]");
+
+        // only partition 'y' is read, which has the bucket number of the table
+        dataset =
+                spark.sql(
+                        "SELECT k, SUM(v) FROM tablestore.default.testBucketPreservingRescaled "
+                                + "WHERE p = 'y' GROUP BY k");
+        assertThat(dataset.queryExecution().executedPlan().toString()).doesNotContain("Exchange");
+        assertThat(dataset.orderBy("k").collectAsList().toString())
+                .isEqualTo("[[1,30], [3,40], [4,50]]");
+    }
+
     @Test
     public void testDefaultNamespace() {
         spark.sql("USE tablestore");
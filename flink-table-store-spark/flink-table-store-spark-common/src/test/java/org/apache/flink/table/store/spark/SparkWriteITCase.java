@@ -98,6 +98,30 @@ public class SparkWriteITCase {
         assertThat(rows.toString()).isEqualTo("[]");
     }
 
+    @Test
+    public void testWriteBucketsInParallel() {
+        spark.sql(
+                "CREATE TABLE T (a INT, b INT, c STRING) PARTITIONED BY (a) TBLPROPERTIES"
+                        + " ('primary-key'='a,b', 'bucket'='4', 'file.format'='avro')");
+        spark.sql(
+                        "INSERT INTO T SELECT COALESCE(CAST(id % 3 AS INT), 0), CAST(id AS INT),"
+                                + " CAST(id AS STRING) FROM range(0, 10000, 1, 8)")
+                .collectAsList();
+
+        List<Row> rows = spark.sql("SELECT COUNT(*), SUM(b) FROM T").collectAsList();
+        assertThat(rows.toString()).isEqualTo("[[10000,49995000]]");
+
+        // each bucket of a partition is written by only one task
+        rows =
+                spark.sql(
+                                "SELECT partition, bucket, COUNT(*) FROM `T$files`"
+                                        + " GROUP BY partition, bucket HAVING COUNT(*) > 1")
+                        .collectAsList();
+        assertThat(rows).isEmpty();
+        rows = spark.sql("SELECT COUNT(*) FROM `T$files`").collectAsList();
+        assertThat(rows.toString()).isEqualTo("[[12]]");
+    }
+
     @Test
     public void testDeleteWhereNonePk() {
         spark.sql(